@@ -0,0 +1,194 @@
+package com.stock.dashboard.backend.bench;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.stock.dashboard.backend.home.dto.RecommendationsResponse;
+import com.stock.dashboard.backend.home.dto.RecommendedItemResponse;
+import com.stock.dashboard.backend.home.vo.HomeResponseVO;
+import com.stock.dashboard.backend.home.vo.HomeTickerVO;
+import com.stock.dashboard.backend.home.vo.NewsItemVO;
+import com.stock.dashboard.backend.home.vo.RecommendationStatus;
+import com.stock.dashboard.backend.market.dto.DailyCandleDTO;
+import com.stock.dashboard.backend.market.twelvedata.dto.SparklinePoint;
+import com.stock.dashboard.backend.portfolio.dto.PortfolioResponse;
+import com.stock.dashboard.backend.portfolio.dto.PositionResponse;
+import com.stock.dashboard.backend.portfolio.dto.SummaryResponse;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * JSON vs CBOR 응답 인코딩 비교
+ * - 인코딩 시간: JMH 결과 (us/op)
+ * - 응답 바이트 수: @Setup 에서 한 번 출력
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseSerializationBenchmark {
+
+    private final ObjectMapper json = new ObjectMapper();
+    private final ObjectMapper cbor = new CBORMapper();
+
+    private HomeResponseVO home;
+    private PortfolioResponse portfolio;
+    private List<DailyCandleDTO> candles;
+
+    @Setup
+    public void setUp() throws Exception {
+        Random rnd = new Random(42);
+        home = sampleHome(rnd);
+        portfolio = samplePortfolio(rnd);
+        candles = sampleCandles(rnd, 90);
+
+        report("home", home);
+        report("portfolio", portfolio);
+        report("candles(90d)", candles);
+    }
+
+    @Benchmark
+    public byte[] homeJson() throws Exception {
+        return json.writeValueAsBytes(home);
+    }
+
+    @Benchmark
+    public byte[] homeCbor() throws Exception {
+        return cbor.writeValueAsBytes(home);
+    }
+
+    @Benchmark
+    public byte[] portfolioJson() throws Exception {
+        return json.writeValueAsBytes(portfolio);
+    }
+
+    @Benchmark
+    public byte[] portfolioCbor() throws Exception {
+        return cbor.writeValueAsBytes(portfolio);
+    }
+
+    @Benchmark
+    public byte[] candlesJson() throws Exception {
+        return json.writeValueAsBytes(candles);
+    }
+
+    @Benchmark
+    public byte[] candlesCbor() throws Exception {
+        return cbor.writeValueAsBytes(candles);
+    }
+
+    private void report(String name, Object value) throws Exception {
+        int jsonBytes = json.writeValueAsBytes(value).length;
+        int cborBytes = cbor.writeValueAsBytes(value).length;
+        System.out.printf("[bytes] %-14s json=%6d cbor=%6d (%.1f%%)%n",
+                name, jsonBytes, cborBytes, 100.0 * cborBytes / jsonBytes);
+    }
+
+    private static HomeResponseVO sampleHome(Random rnd) {
+        List<HomeTickerVO> tickers = new ArrayList<>();
+        for (String s : List.of("AAPL", "TSLA", "NVDA", "AMZN")) {
+            tickers.add(HomeTickerVO.builder()
+                    .symbol(s)
+                    .price(100 + rnd.nextDouble() * 300)
+                    .change(rnd.nextGaussian() * 3)
+                    .changePercent(rnd.nextGaussian())
+                    .sparkline(randomWalk(rnd, 30))
+                    .build());
+        }
+
+        List<RecommendedItemResponse> items = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            List<Double> closes = randomWalk(rnd, 30);
+            List<SparklinePoint> points = new ArrayList<>();
+            for (int j = 0; j < closes.size(); j++) points.add(new SparklinePoint(j, closes.get(j)));
+            items.add(new RecommendedItemResponse("SYM" + i, closes.get(closes.size() - 1), rnd.nextGaussian(), points,
+                    "/api/market/sparkline.svg?symbol=SYM" + i + "&v=0123456789abcdef"));
+        }
+
+        List<NewsItemVO> news = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            news.add(NewsItemVO.builder()
+                    .headline("Headline number " + i + " about markets and earnings")
+                    .source("Reuters")
+                    .datetime(1_700_000_000_000L + i * 60_000L)
+                    .url("https://example.com/news/" + i)
+                    .summary("Short summary text for benchmark item " + i)
+                    .image("https://example.com/img/" + i + ".jpg")
+                    .build());
+        }
+
+        return HomeResponseVO.builder()
+                .tickers(tickers)
+                .recommendations(new RecommendationsResponse(items, 10))
+                .news(news)
+                .usdKrw(1380.5)
+                .recommendationStatus(RecommendationStatus.READY)
+                .recommendationUpdatedAt(1_700_000_000_000L)
+                .recommendationVersion("20250101")
+                .build();
+    }
+
+    private static PortfolioResponse samplePortfolio(Random rnd) {
+        List<PositionResponse> positions = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            positions.add(new PositionResponse(
+                    "SYM" + i,
+                    1 + rnd.nextInt(100),
+                    money(rnd, 6), money(rnd, 6),
+                    money(rnd, 2), money(rnd, 2), money(rnd, 2), money(rnd, 2)
+            ));
+        }
+        SummaryResponse summary = new SummaryResponse(
+                money(rnd, 2), money(rnd, 2), money(rnd, 2), money(rnd, 2),
+                money(rnd, 2), money(rnd, 2),
+                money(rnd, 2), money(rnd, 0), money(rnd, 0),
+                money(rnd, 0), money(rnd, 0)
+        );
+        return new PortfolioResponse(positions, summary, List.of());
+    }
+
+    private static List<DailyCandleDTO> sampleCandles(Random rnd, int days) {
+        List<DailyCandleDTO> out = new ArrayList<>();
+        LocalDate d = LocalDate.of(2025, 1, 2);
+        double close = 150;
+        for (int i = 0; i < days; i++) {
+            double open = close;
+            close = Math.max(1, close + rnd.nextGaussian() * 2);
+            out.add(DailyCandleDTO.builder()
+                    .date(d.plusDays(i).toString())
+                    .open(open)
+                    .high(Math.max(open, close) + rnd.nextDouble())
+                    .low(Math.min(open, close) - rnd.nextDouble())
+                    .close(close)
+                    .volume(1_000_000L + rnd.nextInt(50_000_000))
+                    .build());
+        }
+        return out;
+    }
+
+    private static List<Double> randomWalk(Random rnd, int n) {
+        List<Double> out = new ArrayList<>();
+        double v = 100 + rnd.nextDouble() * 100;
+        for (int i = 0; i < n; i++) {
+            v = Math.max(1, v + rnd.nextGaussian() * 2);
+            out.add(v);
+        }
+        return out;
+    }
+
+    private static BigDecimal money(Random rnd, int scale) {
+        return BigDecimal.valueOf(rnd.nextDouble() * 10_000).setScale(scale, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,10 @@
+package com.stock.dashboard.backend.alert;
+
+/**
+ * 발동 조건은 "교차"가 아니라 "상태" 기준 (경계값 포함)
+ * - 등록할 때 이미 조건을 만족하면 다음 시세에서 바로 발동
+ */
+public enum AlertDirection {
+    ABOVE, // 가격 >= threshold 가 되면 발동
+    BELOW  // 가격 <= threshold 가 되면 발동
+}
@@ -0,0 +1,5 @@
+package com.stock.dashboard.backend.alert;
+
+public enum AlertStatus {
+    ACTIVE, TRIGGERED, CANCELLED
+}
@@ -0,0 +1,75 @@
+package com.stock.dashboard.backend.alert;
+
+import com.stock.dashboard.backend.model.User;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(
+        name = "PRICE_ALERTS",
+        indexes = {
+                @Index(name = "idx_price_alerts_user", columnList = "USER_ID, STATUS"),
+                @Index(name = "idx_price_alerts_status_symbol", columnList = "STATUS, SYMBOL")
+        }
+)
+@Getter
+@NoArgsConstructor
+public class PriceAlert {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "ALERT_ID")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "USER_ID", nullable = false)
+    private User user;
+
+    @Column(name = "SYMBOL", nullable = false, length = 20)
+    private String symbol;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "DIRECTION", nullable = false, length = 10)
+    private AlertDirection direction;
+
+    @Column(name = "THRESHOLD_USD", nullable = false, precision = 19, scale = 6)
+    private BigDecimal thresholdUsd;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "STATUS", nullable = false, length = 10)
+    private AlertStatus status;
+
+    @Column(name = "CREATED_AT", nullable = false)
+    private LocalDateTime createdAt;
+
+    // 발동 시점/가격 (한 번 발동하면 TRIGGERED, 재등록은 새 알림으로)
+    @Column(name = "TRIGGERED_AT")
+    private LocalDateTime triggeredAt;
+
+    @Column(name = "TRIGGERED_PRICE_USD", precision = 19, scale = 6)
+    private BigDecimal triggeredPriceUsd;
+
+    public static PriceAlert of(
+            User user,
+            String symbol,
+            AlertDirection direction,
+            BigDecimal thresholdUsd
+    ) {
+        PriceAlert a = new PriceAlert();
+        a.user = user;
+        a.symbol = symbol;
+        a.direction = direction;
+        a.thresholdUsd = thresholdUsd;
+        a.status = AlertStatus.ACTIVE;
+        a.createdAt = LocalDateTime.now();
+        return a;
+    }
+
+    public void cancel() {
+        this.status = AlertStatus.CANCELLED;
+    }
+}
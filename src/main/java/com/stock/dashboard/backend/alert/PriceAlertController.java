@@ -0,0 +1,43 @@
+package com.stock.dashboard.backend.alert;
+
+import com.stock.dashboard.backend.alert.dto.CreatePriceAlertRequest;
+import com.stock.dashboard.backend.alert.dto.PriceAlertResponse;
+import com.stock.dashboard.backend.security.model.CustomUserDetails;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/alerts")
+@SecurityRequirement(name = "BearerAuth")
+public class PriceAlertController {
+
+    private final PriceAlertService priceAlertService;
+
+    @PostMapping
+    public PriceAlertResponse create(
+            @AuthenticationPrincipal CustomUserDetails principal,
+            @RequestBody CreatePriceAlertRequest req
+    ) {
+        return priceAlertService.create(principal.getUser(), req);
+    }
+
+    @GetMapping
+    public List<PriceAlertResponse> list(@AuthenticationPrincipal CustomUserDetails principal) {
+        return priceAlertService.getActiveAlerts(principal.getId());
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> cancel(
+            @AuthenticationPrincipal CustomUserDetails principal,
+            @PathVariable Long id
+    ) {
+        priceAlertService.cancel(principal.getId(), id);
+        return ResponseEntity.noContent().build();
+    }
+}
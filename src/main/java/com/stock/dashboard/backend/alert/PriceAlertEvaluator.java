@@ -0,0 +1,32 @@
+package com.stock.dashboard.backend.alert;
+
+import com.stock.dashboard.backend.event.OnQuoteUpdatedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 새 시세가 캐시에 써질 때마다 해당 심볼의 알림만 범위 조회
+ * - 요청 스레드에서 동기로 돌지만, 발동 안 되면 skip-list 탐색 2번이 전부
+ * - 발동된 알림의 DB 반영/메일은 notifier 에서 비동기
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PriceAlertEvaluator {
+
+    private final PriceAlertIndex priceAlertIndex;
+    private final PriceAlertNotifier priceAlertNotifier;
+
+    @EventListener
+    public void onQuoteUpdated(OnQuoteUpdatedEvent event) {
+        List<PriceAlertRow> crossed = priceAlertIndex.pollCrossed(event.getSymbol(), event.getPrice());
+        if (crossed.isEmpty()) return;
+
+        log.info("[ALERT] crossed symbol={}, price={}, count={}", event.getSymbol(), event.getPrice(), crossed.size());
+        priceAlertNotifier.notifyTriggered(event.getSymbol(), event.getPrice(), crossed);
+    }
+}
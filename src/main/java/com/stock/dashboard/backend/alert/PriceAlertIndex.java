@@ -0,0 +1,166 @@
+package com.stock.dashboard.backend.alert;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Supplier;
+
+/**
+ * 활성 가격 알림 인메모리 인덱스
+ *
+ * - 심볼별로 ABOVE / BELOW 두 개의 정렬 구조(threshold, alertId 순)
+ * - 새 시세 p 가 들어오면
+ *   ABOVE: threshold <= p 인 구간 (headMap)
+ *   BELOW: threshold >= p 인 구간 (tailMap)
+ *   만 잘라서 꺼냄 → O(log n + k), 발동 안 되는 알림은 건드리지 않음
+ * - 꺼낸 알림은 즉시 인덱스에서 제거 (one-shot)
+ * - DB가 원본이고, 이 인덱스는 언제든 DB에서 재구성 가능한 사본
+ * - 재구성 중(DB 조회 ~ 교체 사이)에 들어온 add/remove 는 기록해 뒀다가 새 맵에 다시 적용
+ *   (조회 시점 스냅샷에 없는 방금 등록된 알림이 교체로 사라지지 않도록)
+ */
+@Slf4j
+@Component
+public class PriceAlertIndex {
+
+    // 재구성 시 통째로 교체 (요청 스레드는 항상 완성된 맵만 봄)
+    private volatile Map<String, SymbolBook> books = new ConcurrentHashMap<>();
+
+    // add/remove 와 맵 교체를 직렬화 (pending 은 재구성 중에만 non-null)
+    private final Object mutationLock = new Object();
+    private List<Mutation> pending;
+
+    public void add(PriceAlertRow row) {
+        if (!indexable(row)) return;
+
+        synchronized (mutationLock) {
+            put(books, row);
+            if (pending != null) pending.add(new Mutation(row, true));
+        }
+    }
+
+    public void remove(PriceAlertRow row) {
+        if (!indexable(row)) return;
+
+        synchronized (mutationLock) {
+            delete(books, row);
+            if (pending != null) pending.add(new Mutation(row, false));
+        }
+    }
+
+    /**
+     * ✅ 가격 p 에서 발동하는 알림만 꺼내고 인덱스에서 제거
+     * - 같은 알림을 두 스레드가 동시에 꺼내지 않도록 remove 성공한 것만 반환
+     */
+    public List<PriceAlertRow> pollCrossed(String symbol, double price) {
+        SymbolBook book = books.get(symbol);
+        if (book == null || Double.isNaN(price) || price <= 0) return List.of();
+
+        List<PriceAlertRow> out = new ArrayList<>();
+        drain(book.above, book.above.headMap(new Key(price, Long.MAX_VALUE), true), out);
+        drain(book.below, book.below.tailMap(new Key(price, Long.MIN_VALUE), true), out);
+        return out;
+    }
+
+    /**
+     * DB 기준으로 통째로 재구성 (다른 인스턴스에서 추가/취소된 알림 반영)
+     * - loader(DB 조회)를 부르기 전부터 add/remove 를 기록 → 스냅샷 이후 변경이 빠지지 않음
+     */
+    public synchronized void rebuild(Supplier<? extends Collection<PriceAlertRow>> loader) {
+        synchronized (mutationLock) {
+            pending = new ArrayList<>();
+        }
+
+        try {
+            Collection<PriceAlertRow> rows = loader.get();
+
+            Map<String, SymbolBook> next = new ConcurrentHashMap<>();
+            for (PriceAlertRow row : rows) {
+                if (indexable(row)) put(next, row);
+            }
+
+            int replayed;
+            synchronized (mutationLock) {
+                for (Mutation m : pending) {
+                    if (m.added()) put(next, m.row());
+                    else delete(next, m.row());
+                }
+                replayed = pending.size();
+                books = next;
+            }
+            log.info("[ALERT] index rebuilt. symbols={}, alerts={}, replayed={}", next.size(), rows.size(), replayed);
+        } finally {
+            synchronized (mutationLock) {
+                pending = null;
+            }
+        }
+    }
+
+    public void rebuild(Collection<PriceAlertRow> rows) {
+        rebuild(() -> rows);
+    }
+
+    public int size() {
+        int n = 0;
+        for (SymbolBook b : books.values()) n += b.above.size() + b.below.size();
+        return n;
+    }
+
+    private static boolean indexable(PriceAlertRow row) {
+        return row != null && row.id() != null && row.thresholdUsd() != null;
+    }
+
+    private static void put(Map<String, SymbolBook> target, PriceAlertRow row) {
+        Key key = new Key(row.thresholdUsd().doubleValue(), row.id());
+        SymbolBook book = target.computeIfAbsent(row.symbol(), s -> new SymbolBook());
+
+        if (row.direction() == AlertDirection.ABOVE) {
+            book.above.put(key, row);
+        } else {
+            book.below.put(key, row);
+        }
+    }
+
+    private static void delete(Map<String, SymbolBook> target, PriceAlertRow row) {
+        SymbolBook book = target.get(row.symbol());
+        if (book == null) return;
+
+        Key key = new Key(row.thresholdUsd().doubleValue(), row.id());
+        book.above.remove(key);
+        book.below.remove(key);
+    }
+
+    private static void drain(
+            ConcurrentSkipListMap<Key, PriceAlertRow> source,
+            NavigableMap<Key, PriceAlertRow> range,
+            List<PriceAlertRow> out
+    ) {
+        for (Map.Entry<Key, PriceAlertRow> e : range.entrySet()) {
+            if (source.remove(e.getKey()) != null) {
+                out.add(e.getValue());
+            }
+        }
+    }
+
+    private static final class SymbolBook {
+        private final ConcurrentSkipListMap<Key, PriceAlertRow> above = new ConcurrentSkipListMap<>();
+        private final ConcurrentSkipListMap<Key, PriceAlertRow> below = new ConcurrentSkipListMap<>();
+    }
+
+    private record Mutation(PriceAlertRow row, boolean added) {}
+
+    // 같은 threshold 가 여러 개일 수 있어서 alertId 로 tie-break
+    private record Key(double threshold, long id) implements Comparable<Key> {
+        @Override
+        public int compareTo(Key o) {
+            int c = Double.compare(threshold, o.threshold);
+            return c != 0 ? c : Long.compare(id, o.id);
+        }
+    }
+}
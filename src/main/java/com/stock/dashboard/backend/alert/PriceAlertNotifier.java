@@ -0,0 +1,66 @@
+package com.stock.dashboard.backend.alert;
+
+import com.stock.dashboard.backend.service.ResendEmailClient;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 발동된 알림 전달 (비동기)
+ * - DB에서 ACTIVE → TRIGGERED 확정에 성공한 것만 메일 발송
+ * - 메일 실패는 로그만 남김 (알림 상태는 이미 TRIGGERED)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PriceAlertNotifier {
+
+    private final PriceAlertService priceAlertService;
+    private final ResendEmailClient resendEmailClient;
+
+    @Async
+    public void notifyTriggered(String symbol, double price, List<PriceAlertRow> rows) {
+        List<PriceAlert> claimed;
+        try {
+            claimed = priceAlertService.claimTriggered(rows, price);
+        } catch (Exception e) {
+            log.warn("[ALERT] claim failed symbol={}, count={}", symbol, rows.size(), e);
+            return;
+        }
+
+        for (PriceAlert alert : claimed) {
+            String email = alert.getUser().getEmail();
+            if (email == null || email.isBlank()) continue;
+
+            try {
+                resendEmailClient.sendHtml(email, subject(alert), html(alert, price));
+            } catch (Exception e) {
+                log.warn("[ALERT] email failed alertId={}", alert.getId(), e);
+            }
+        }
+    }
+
+    private static String subject(PriceAlert alert) {
+        String dir = alert.getDirection() == AlertDirection.ABOVE ? "이상" : "이하";
+        return "[Stock Dashboard] " + alert.getSymbol() + " $" + alert.getThresholdUsd().stripTrailingZeros().toPlainString() + " " + dir + " 도달";
+    }
+
+    private static String html(PriceAlert alert, double price) {
+        String dir = alert.getDirection() == AlertDirection.ABOVE ? "이상" : "이하";
+        return """
+                <div style="font-family:sans-serif">
+                  <h3>%s 가격 알림</h3>
+                  <p>설정하신 조건(<b>$%s %s</b>)에 도달했습니다.</p>
+                  <p>현재가: <b>$%.2f</b></p>
+                </div>
+                """.formatted(
+                alert.getSymbol(),
+                alert.getThresholdUsd().stripTrailingZeros().toPlainString(),
+                dir,
+                price
+        );
+    }
+}
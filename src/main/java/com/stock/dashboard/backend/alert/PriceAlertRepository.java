@@ -0,0 +1,46 @@
+package com.stock.dashboard.backend.alert;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface PriceAlertRepository extends JpaRepository<PriceAlert, Long> {
+
+    List<PriceAlert> findByUser_IdAndStatusOrderByCreatedAtDesc(Long userId, AlertStatus status);
+
+    long countByUser_IdAndStatus(Long userId, AlertStatus status);
+
+    Optional<PriceAlert> findByIdAndUser_Id(Long id, Long userId);
+
+    // ✅ 인덱스 적재용: 엔티티/User 로딩 없이 필요한 컬럼만
+    @Query("""
+        SELECT new com.stock.dashboard.backend.alert.PriceAlertRow(
+            a.id, a.symbol, a.direction, a.thresholdUsd
+        )
+        FROM PriceAlert a
+        WHERE a.status = com.stock.dashboard.backend.alert.AlertStatus.ACTIVE
+    """)
+    List<PriceAlertRow> findActiveRows();
+
+    // ✅ 발동 확정: ACTIVE 인 것만 TRIGGERED 로 (여러 인스턴스가 동시에 평가해도 1번만 성공)
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        UPDATE PriceAlert a
+        SET a.status = com.stock.dashboard.backend.alert.AlertStatus.TRIGGERED,
+            a.triggeredAt = :at,
+            a.triggeredPriceUsd = :price
+        WHERE a.id = :id
+          AND a.status = com.stock.dashboard.backend.alert.AlertStatus.ACTIVE
+    """)
+    int markTriggered(@Param("id") Long id, @Param("price") BigDecimal price, @Param("at") LocalDateTime at);
+
+    @Query("SELECT a FROM PriceAlert a JOIN FETCH a.user WHERE a.id IN :ids")
+    List<PriceAlert> findWithUserByIdIn(@Param("ids") Collection<Long> ids);
+}
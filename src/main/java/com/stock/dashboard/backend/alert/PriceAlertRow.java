@@ -0,0 +1,17 @@
+package com.stock.dashboard.backend.alert;
+
+import java.math.BigDecimal;
+
+/**
+ * 인메모리 인덱스에 올리는 최소 정보 (JPQL constructor projection)
+ */
+public record PriceAlertRow(
+        Long id,
+        String symbol,
+        AlertDirection direction,
+        BigDecimal thresholdUsd
+) {
+    public static PriceAlertRow from(PriceAlert a) {
+        return new PriceAlertRow(a.getId(), a.getSymbol(), a.getDirection(), a.getThresholdUsd());
+    }
+}
@@ -0,0 +1,141 @@
+package com.stock.dashboard.backend.alert;
+
+import com.stock.dashboard.backend.alert.dto.CreatePriceAlertRequest;
+import com.stock.dashboard.backend.alert.dto.PriceAlertResponse;
+import com.stock.dashboard.backend.exception.BadRequestException;
+import com.stock.dashboard.backend.exception.NotFoundException;
+import com.stock.dashboard.backend.model.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PriceAlertService {
+
+    private final PriceAlertRepository priceAlertRepository;
+    private final PriceAlertIndex priceAlertIndex;
+
+    @Value("${alert.max-active-per-user:50}")
+    private int maxActivePerUser;
+
+    /**
+     * ✅ 알림 등록
+     * - 등록 시점 가격이 이미 조건을 만족해도(ABOVE 인데 현재가 >= threshold 등) 거부하지 않음
+     *   → 다음 시세 틱에서 바로 발동 ("지금 이 가격 이상/이하이면 알려줘" 의미)
+     */
+    @Transactional
+    public PriceAlertResponse create(User user, CreatePriceAlertRequest req) {
+        validate(req);
+
+        long active = priceAlertRepository.countByUser_IdAndStatus(user.getId(), AlertStatus.ACTIVE);
+        if (active >= maxActivePerUser) {
+            throw new BadRequestException("활성 알림은 최대 " + maxActivePerUser + "개까지 등록할 수 있습니다.");
+        }
+
+        PriceAlert alert = priceAlertRepository.save(PriceAlert.of(
+                user,
+                req.getSymbol().trim().toUpperCase(),
+                req.getDirection(),
+                req.getThresholdUsd()
+        ));
+
+        // ✅ 커밋된 뒤에만 인덱스에 올림 (롤백된 알림이 발동되는 일 방지)
+        PriceAlertRow row = PriceAlertRow.from(alert);
+        afterCommit(() -> priceAlertIndex.add(row));
+
+        return PriceAlertResponse.from(alert);
+    }
+
+    @Transactional(readOnly = true)
+    public List<PriceAlertResponse> getActiveAlerts(Long userId) {
+        return priceAlertRepository
+                .findByUser_IdAndStatusOrderByCreatedAtDesc(userId, AlertStatus.ACTIVE)
+                .stream()
+                .map(PriceAlertResponse::from)
+                .toList();
+    }
+
+    @Transactional
+    public void cancel(Long userId, Long alertId) {
+        PriceAlert alert = priceAlertRepository.findByIdAndUser_Id(alertId, userId)
+                .orElseThrow(() -> new NotFoundException("알림을 찾을 수 없습니다. id=" + alertId));
+
+        if (alert.getStatus() != AlertStatus.ACTIVE) return;
+
+        alert.cancel();
+
+        PriceAlertRow row = PriceAlertRow.from(alert);
+        afterCommit(() -> priceAlertIndex.remove(row));
+    }
+
+    /**
+     * ✅ 발동 확정: ACTIVE → TRIGGERED 조건부 업데이트에 성공한 알림만 (user 포함) 반환
+     * - 여러 인스턴스가 같은 알림을 꺼내도 메일은 한 번만 나감
+     */
+    @Transactional
+    public List<PriceAlert> claimTriggered(List<PriceAlertRow> rows, double price) {
+        BigDecimal priceUsd = BigDecimal.valueOf(price);
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Long> claimed = new ArrayList<>();
+        for (PriceAlertRow row : rows) {
+            if (priceAlertRepository.markTriggered(row.id(), priceUsd, now) == 1) {
+                claimed.add(row.id());
+            }
+        }
+        if (claimed.isEmpty()) return List.of();
+
+        return priceAlertRepository.findWithUserByIdIn(claimed);
+    }
+
+    /**
+     * ✅ 부팅 시 + 주기적으로 DB 기준 인덱스 재구성
+     * - 다른 인스턴스에서 등록/취소된 알림도 이 주기 안에 반영됨
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${alert.index-rebuild-ms:300000}", initialDelayString = "${alert.index-rebuild-ms:300000}")
+    public void rebuildIndex() {
+        try {
+            priceAlertIndex.rebuild(priceAlertRepository::findActiveRows);
+        } catch (Exception e) {
+            log.warn("[ALERT] index rebuild failed. keep current size={}", priceAlertIndex.size(), e);
+        }
+    }
+
+    private void validate(CreatePriceAlertRequest req) {
+        if (req == null) throw new BadRequestException("요청이 비었습니다.");
+        if (!StringUtils.hasText(req.getSymbol())) throw new BadRequestException("symbol 필수");
+        if (req.getDirection() == null) throw new BadRequestException("direction 필수");
+
+        if (req.getThresholdUsd() == null || req.getThresholdUsd().compareTo(BigDecimal.ZERO) <= 0)
+            throw new BadRequestException("thresholdUsd는 0 초과");
+    }
+
+    private static void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,13 @@
+package com.stock.dashboard.backend.alert.dto;
+
+import com.stock.dashboard.backend.alert.AlertDirection;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+@Data
+public class CreatePriceAlertRequest {
+    private String symbol;
+    private AlertDirection direction; // ABOVE/BELOW
+    private BigDecimal thresholdUsd;  // 0 초과
+}
@@ -0,0 +1,32 @@
+package com.stock.dashboard.backend.alert.dto;
+
+import com.stock.dashboard.backend.alert.AlertDirection;
+import com.stock.dashboard.backend.alert.AlertStatus;
+import com.stock.dashboard.backend.alert.PriceAlert;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record PriceAlertResponse(
+        Long id,
+        String symbol,
+        AlertDirection direction,
+        BigDecimal thresholdUsd,
+        AlertStatus status,
+        LocalDateTime createdAt,
+        LocalDateTime triggeredAt,
+        BigDecimal triggeredPriceUsd
+) {
+    public static PriceAlertResponse from(PriceAlert a) {
+        return new PriceAlertResponse(
+                a.getId(),
+                a.getSymbol(),
+                a.getDirection(),
+                a.getThresholdUsd(),
+                a.getStatus(),
+                a.getCreatedAt(),
+                a.getTriggeredAt(),
+                a.getTriggeredPriceUsd()
+        );
+    }
+}
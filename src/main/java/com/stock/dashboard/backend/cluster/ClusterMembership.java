@@ -0,0 +1,141 @@
+package com.stock.dashboard.backend.cluster;
+
+import com.stock.dashboard.backend.leader.LeaderElection;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 클러스터 멤버십 + 심볼 샤드 (Redis ZSET heartbeat + 일관 해시 링)
+ *
+ * - cluster:v1:members  member=nodeId, score=마지막 heartbeat(ms, Redis 서버 시각)
+ * - heartbeat 마다: 내 점수 갱신 → member-ttl 넘게 조용한 노드 제거 → 멤버가 바뀌었으면 링 재구성
+ *   (Lua 한 번으로 처리, 시각은 Redis TIME → 노드 간 시계가 어긋나도 살아 있는 노드를 지우지 않음)
+ * - 모든 노드가 같은 멤버 목록으로 같은 링을 만들므로 심볼 주인은 합의 없이 일치
+ * - 노드 합류/이탈 시 그 노드 몫의 심볼만 이동 (ConsistentHashRing)
+ * - 나 혼자면 전부 내 몫 / Redis 를 못 읽으면 잠깐은 기존 링 유지, max-heartbeat-failures 번 연속 실패하면 나만 있는 링으로
+ *   (그쯤이면 다른 노드도 member-ttl 이 지나 나를 지웠거나 똑같이 혼자가 됨 → 갱신이 멈추지 않음)
+ * - heartbeat 는 CoordinationScheduler 전용 스레드에서 (긴 @Scheduled 작업에 밀려 member-ttl 을 넘기지 않게)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClusterMembership {
+
+    private static final String MEMBERS_KEY = "cluster:v1:members";
+
+    // KEYS: members / ARGV: nodeId, member-ttl(ms) → 살아 있는 멤버 목록
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> HEARTBEAT_SCRIPT;
+    static {
+        HEARTBEAT_SCRIPT = new DefaultRedisScript<>();
+        HEARTBEAT_SCRIPT.setResultType(List.class);
+        HEARTBEAT_SCRIPT.setScriptText(
+                "local t = redis.call('time') " +
+                        "local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000) " +
+                        "redis.call('zadd', KEYS[1], now, ARGV[1]) " +
+                        "redis.call('zremrangebyscore', KEYS[1], '-inf', now - tonumber(ARGV[2])) " +
+                        "return redis.call('zrange', KEYS[1], 0, -1)"
+        );
+    }
+
+    private final StringRedisTemplate redis;
+    private final LeaderElection leaderElection;
+
+    @Value("${cluster.member-ttl-ms:10000}")
+    private long memberTtlMs;
+
+    @Value("${cluster.vnodes:256}")
+    private int vnodes;
+
+    // 연속 실패 허용 횟수 (기본: member-ttl / heartbeat 주기)
+    @Value("${cluster.max-heartbeat-failures:5}")
+    private int maxHeartbeatFailures;
+
+    private volatile ConsistentHashRing ring = null;
+
+    // heartbeat 는 한 스레드에서만 돌므로 volatile 이면 충분
+    private volatile int consecutiveFailures = 0;
+
+    /**
+     * cluster.heartbeat-ms 주기로 CoordinationScheduler 가 호출
+     */
+    public void heartbeat() {
+        List<String> alive;
+        try {
+            alive = aliveMembers();
+        } catch (Exception e) {
+            int failures = ++consecutiveFailures;
+            log.warn("[CLUSTER] heartbeat failed node={} failures={} ex={} msg={}",
+                    nodeId(), failures, e.getClass().getSimpleName(), e.getMessage());
+            // 짧은 끊김은 기존 링 유지, 길어지면 전부 내 몫 (Redis 복구 후 다음 heartbeat 에서 재구성)
+            if (failures >= maxHeartbeatFailures) rebuild(List.of(nodeId()));
+            return;
+        }
+
+        consecutiveFailures = 0;
+        List<String> members = (alive == null) ? new ArrayList<>() : new ArrayList<>(alive);
+        if (!members.contains(nodeId())) members.add(nodeId());
+        rebuild(members);
+    }
+
+    private void rebuild(List<String> members) {
+        ConsistentHashRing current = ring;
+        List<String> sorted = members.stream().sorted().toList();
+        if (current == null || !current.nodes().equals(sorted)) {
+            ring = new ConsistentHashRing(sorted, vnodes);
+            log.info("[CLUSTER] members changed node={} members={}", nodeId(), sorted);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> aliveMembers() {
+        return (List<String>) redis.execute(HEARTBEAT_SCRIPT, List.of(MEMBERS_KEY), nodeId(), String.valueOf(memberTtlMs));
+    }
+
+    // 정상 종료 시 바로 빠짐 → 다른 노드가 다음 heartbeat 에 내 몫을 가져감
+    @PreDestroy
+    public void leave() {
+        try {
+            redis.opsForZSet().remove(MEMBERS_KEY, nodeId());
+        } catch (Exception e) {
+            log.warn("[CLUSTER] leave failed node={}", nodeId(), e);
+        }
+    }
+
+    public String nodeId() {
+        return leaderElection.nodeId();
+    }
+
+    public List<String> members() {
+        ConsistentHashRing r = ring;
+        return r == null ? List.of(nodeId()) : r.nodes();
+    }
+
+    /**
+     * symbol 이 이 노드 몫인지
+     */
+    public boolean owns(String symbol) {
+        ConsistentHashRing r = ring;
+        if (r == null || r.isEmpty()) return true;
+        return nodeId().equals(r.owner(symbol.trim().toUpperCase()));
+    }
+
+    /**
+     * symbols 중 이 노드 몫만 (순서 유지)
+     */
+    public List<String> ownedOf(Collection<String> symbols) {
+        List<String> out = new ArrayList<>();
+        for (String s : symbols) {
+            if (s != null && !s.isBlank() && owns(s)) out.add(s);
+        }
+        return out;
+    }
+}
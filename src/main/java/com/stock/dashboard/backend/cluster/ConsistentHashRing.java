@@ -0,0 +1,87 @@
+package com.stock.dashboard.backend.cluster;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 일관 해시 링 (불변)
+ *
+ * - 노드마다 가상 노드 vnodes 개를 링에 뿌림 → 노드 수가 적어도 심볼이 고르게 나뉨
+ * - 키는 시계 방향으로 처음 만나는 가상 노드의 주인에게
+ * - 노드가 들어오거나 나가도 그 노드 구간의 키만 이동 (나머지 노드 사이에선 이동 없음)
+ * - 조회는 정렬된 long[] 이진 탐색 (TreeMap 대비 박싱/포인터 추적 없음)
+ */
+public final class ConsistentHashRing {
+
+    private final long[] points;
+    private final String[] owners;
+    private final List<String> nodes;
+
+    public ConsistentHashRing(Collection<String> nodes, int vnodes) {
+        this.nodes = nodes.stream().distinct().sorted().toList();
+
+        int n = this.nodes.size() * vnodes;
+        long[] hashes = new long[n];
+        int[] ownerIdx = new int[n];
+        int k = 0;
+        for (int i = 0; i < this.nodes.size(); i++) {
+            String node = this.nodes.get(i);
+            for (int v = 0; v < vnodes; v++) {
+                hashes[k] = hash(node + "#" + v);
+                ownerIdx[k] = i;
+                k++;
+            }
+        }
+
+        // 해시 기준 정렬 (같은 해시면 노드 이름순 → 모든 노드가 같은 링을 만듦)
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) order[i] = i;
+        Arrays.sort(order, (a, b) -> {
+            int c = Long.compare(hashes[a], hashes[b]);
+            return c != 0 ? c : Integer.compare(ownerIdx[a], ownerIdx[b]);
+        });
+
+        this.points = new long[n];
+        this.owners = new String[n];
+        for (int i = 0; i < n; i++) {
+            points[i] = hashes[order[i]];
+            owners[i] = this.nodes.get(ownerIdx[order[i]]);
+        }
+    }
+
+    public List<String> nodes() {
+        return nodes;
+    }
+
+    public boolean isEmpty() {
+        return points.length == 0;
+    }
+
+    /**
+     * key 의 주인 노드 (노드가 없으면 null)
+     */
+    public String owner(String key) {
+        if (points.length == 0) return null;
+        int i = Arrays.binarySearch(points, hash(key));
+        if (i < 0) i = -i - 1;
+        if (i == points.length) i = 0;
+        return owners[i];
+    }
+
+    // FNV-1a 64 + splitmix64 마무리 (짧은 심볼 문자열도 링 전체에 고르게)
+    static long hash(String s) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : s.getBytes(StandardCharsets.UTF_8)) {
+            h ^= (b & 0xff);
+            h *= 0x100000001b3L;
+        }
+        h ^= (h >>> 30);
+        h *= 0xbf58476d1ce4e5b9L;
+        h ^= (h >>> 27);
+        h *= 0x94d049bb133111ebL;
+        h ^= (h >>> 31);
+        return h;
+    }
+}
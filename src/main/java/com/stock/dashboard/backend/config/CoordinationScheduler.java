@@ -0,0 +1,73 @@
+package com.stock.dashboard.backend.config;
+
+import com.stock.dashboard.backend.cluster.ClusterMembership;
+import com.stock.dashboard.backend.leader.LeaderElection;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 리더 lease 연장 / 클러스터 heartbeat 전용 스케줄러
+ *
+ * - @Scheduled 기본 스케줄러는 캐시 갱신/추천/스크리너 같은 긴 작업과 공유
+ *   → 하나가 늘어지면 lease(15s) 연장이나 heartbeat(member-ttl 10s)가 밀려 리더가 뒤집히고 링이 흔들림
+ * - 짧고 주기가 생명인 작업만 별도 스레드에서 고정 간격으로 돌림 (작업마다 스레드 하나 → 서로도 안 막음)
+ * - Executor 타입 빈으로 노출하지 않음 (@Async/@Scheduled 기본 executor 자동구성을 건드리지 않기 위해)
+ */
+@Slf4j
+@Component
+public class CoordinationScheduler {
+
+    private final LeaderElection leaderElection;
+    private final ClusterMembership clusterMembership;
+    private final long leaderPollMs;
+    private final long heartbeatMs;
+    private final ScheduledThreadPoolExecutor pool;
+
+    public CoordinationScheduler(
+            LeaderElection leaderElection,
+            ClusterMembership clusterMembership,
+            @Value("${leader.poll-ms:1000}") long leaderPollMs,
+            @Value("${cluster.heartbeat-ms:2000}") long heartbeatMs
+    ) {
+        this.leaderElection = leaderElection;
+        this.clusterMembership = clusterMembership;
+        this.leaderPollMs = leaderPollMs;
+        this.heartbeatMs = heartbeatMs;
+
+        AtomicInteger seq = new AtomicInteger();
+        this.pool = new ScheduledThreadPoolExecutor(2, r -> {
+            Thread t = new Thread(r, "coord-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @PostConstruct
+    public void start() {
+        every("leader", leaderPollMs, leaderElection::tick);
+        every("heartbeat", heartbeatMs, clusterMembership::heartbeat);
+    }
+
+    private void every(String name, long delayMs, Runnable task) {
+        // 예외가 새면 ScheduledExecutor 가 이후 실행을 조용히 멈추므로 여기서 삼킴
+        pool.scheduleWithFixedDelay(() -> {
+            try {
+                task.run();
+            } catch (Throwable e) {
+                log.warn("[COORD] {} task failed ex={} msg={}", name, e.getClass().getSimpleName(), e.getMessage());
+            }
+        }, 0, delayMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+}
@@ -0,0 +1,98 @@
+package com.stock.dashboard.backend.config;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 외부 API 캐시 채우기용 bounded 스레드 풀
+ *
+ * - 스레드 수/큐 길이 상한 → 요청이 몰려도 upstream 동시 호출 수가 고정
+ * - 큐가 차면 거절 (실패한 future 반환) → 호출 스레드에서 동기로 돌며 호출 측 deadline 을 넘기는 일 없음
+ *   · 호출 측은 이미 실패/타임아웃을 "못 채움"으로 처리하므로 그대로 부분 응답
+ * - Executor 타입 빈으로 노출하지 않음 (@Async 기본 executor 자동구성을 건드리지 않기 위해)
+ */
+@Slf4j
+@Component
+public class FetchExecutor {
+
+    private final ThreadPoolExecutor pool;
+
+    public FetchExecutor(
+            @Value("${fetch.executor.threads:8}") int threads,
+            @Value("${fetch.executor.queue:200}") int queue
+    ) {
+        AtomicInteger seq = new AtomicInteger();
+        this.pool = new ThreadPoolExecutor(
+                threads, threads,
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queue),
+                r -> {
+                    Thread t = new Thread(r, "fetch-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.pool.allowCoreThreadTimeOut(true);
+    }
+
+    public <T> CompletableFuture<T> supply(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, pool);
+        } catch (RejectedExecutionException e) {
+            log.warn("[FETCH] pool saturated. rejected task active={} queued={}", pool.getActiveCount(), pool.getQueue().size());
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * ✅ deadline(System.nanoTime 기준)까지 futures 가 끝나길 기다림 (늦거나 실패한 건 호출 측에서 getNow 로 거름)
+     * - 이 풀의 작업 안에서 부르지 말 것 (풀 스레드가 같은 풀 작업을 기다리면 고갈)
+     * - 반환: 마감 전에 전부 끝났는지
+     */
+    public boolean awaitUntil(Collection<? extends CompletableFuture<?>> futures, long deadlineNanos) {
+        if (futures.isEmpty()) return true;
+
+        long remaining = deadlineNanos - System.nanoTime();
+        if (remaining <= 0) return futures.stream().allMatch(CompletableFuture::isDone);
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(remaining, TimeUnit.NANOSECONDS);
+            return true;
+        } catch (ExecutionException e) {
+            return true; // 전부 끝남 (일부 실패)
+        } catch (TimeoutException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public static long deadlineAfter(long budgetMs) {
+        return System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(budgetMs);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+        try {
+            if (!pool.awaitTermination(5, TimeUnit.SECONDS)) pool.shutdownNow();
+        } catch (InterruptedException e) {
+            pool.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
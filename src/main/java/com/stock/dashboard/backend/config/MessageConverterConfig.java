@@ -0,0 +1,29 @@
+package com.stock.dashboard.backend.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * ✅ 바이너리 응답(CBOR) 컨텐츠 협상
+ * - Accept: application/cbor 일 때만 CBOR로 내려감 (기본은 JSON 그대로)
+ * - 스키마는 기존 DTO/record 그대로 사용 (MarketSummaryVO, DailyCandleDTO, HomeResponseVO, PortfolioResponse 등)
+ * - double/BigDecimal을 문자열 변환 없이 바이너리로 쓰기 때문에 인코딩 비용/바이트 수가 줄어든다
+ *
+ * Boot가 주입하는 Jackson2ObjectMapperBuilder(프로토타입)를 써서
+ * JSON과 동일한 모듈/설정(JavaTimeModule, 파라미터 이름 등)을 공유한다.
+ */
+@Configuration
+public class MessageConverterConfig {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(
+                builder.createXmlMapper(false)
+                        .factory(new CBORFactory())
+                        .build()
+        );
+    }
+}
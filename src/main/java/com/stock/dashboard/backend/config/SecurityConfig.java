@@ -149,6 +149,8 @@ public class SecurityConfig {
                         .requestMatchers("/api/auth/oauth/**").permitAll()
                         .requestMatchers("/", "/health").permitAll()
                         .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+                        // 운영 정보 (homeschedule 등): 관리자만
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
 
                         // 인증 이후 접근 가능한 API
                         .requestMatchers("/api/secure/**").authenticated()
@@ -1,25 +1,52 @@
 package com.stock.dashboard.backend.controller;
 
-import com.stock.dashboard.backend.market.bok.BokExchangeRateService;
+import com.stock.dashboard.backend.exception.BadRequestException;
 import com.stock.dashboard.backend.market.bok.FxRateResponse;
+import com.stock.dashboard.backend.market.bok.UsdKrwRateService;
+import com.stock.dashboard.backend.market.columnar.ColumnarFormat;
+import com.stock.dashboard.backend.market.correlation.CorrelationService;
+import com.stock.dashboard.backend.market.dto.ColumnarCandlesResponse;
+import com.stock.dashboard.backend.market.dto.ColumnarMarketSummaryResponse;
+import com.stock.dashboard.backend.market.dto.CorrelationResponse;
 import com.stock.dashboard.backend.market.dto.DailyCandleDTO;
+import com.stock.dashboard.backend.market.dto.IntradayCandlesResponse;
 import com.stock.dashboard.backend.market.dto.MarketSummaryResponse;
+import com.stock.dashboard.backend.market.dto.NewsPageResponse;
+import com.stock.dashboard.backend.market.dto.NewsSearchResponse;
+import com.stock.dashboard.backend.market.dto.ScreenerResponse;
+import com.stock.dashboard.backend.market.export.CandleArrowExportService;
+import com.stock.dashboard.backend.market.intraday.IntradayTickStore;
+import com.stock.dashboard.backend.market.movers.MoversService;
+import com.stock.dashboard.backend.market.news.NewsService;
+import com.stock.dashboard.backend.market.screener.ScreenerService;
+import com.stock.dashboard.backend.market.sparkline.SparklineSvgService;
 import com.stock.dashboard.backend.market.service.MarketCandleService;
 import com.stock.dashboard.backend.market.service.MarketRealtimePriceService;
 import com.stock.dashboard.backend.market.service.MarketSummaryFacadeService;
 import com.stock.dashboard.backend.model.vo.MarketSummaryVO;
+import com.stock.dashboard.backend.security.model.CustomUserDetails;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.client.RestClient;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/market")
@@ -28,8 +55,15 @@ public class MarketController {
 
     private final MarketCandleService marketCandleService;
     private final MarketRealtimePriceService marketRealtimePriceService;
-    private  final BokExchangeRateService bokExchangeRateService;
+    private final UsdKrwRateService usdKrwRateService;
     private final MarketSummaryFacadeService marketSummaryFacadeService;
+    private final CandleArrowExportService candleArrowExportService;
+    private final IntradayTickStore intradayTickStore;
+    private final CorrelationService correlationService;
+    private final ScreenerService screenerService;
+    private final MoversService moversService;
+    private final SparklineSvgService sparklineSvgService;
+    private final NewsService newsService;
 
     // 한국은행 Open API 키
     @Value("${bok.api-key}")
@@ -48,13 +82,158 @@ public class MarketController {
 
     /**
      * ✅ 개별 종목 일봉 캔들
+     * - ?format=columnar 또는 Accept: application/vnd.stock.columnar+json 이면 병렬 배열 응답
      */
     @GetMapping("/candles/daily")
-    public List<DailyCandleDTO> getDailyCandles(
+    public ResponseEntity<?> getDailyCandles(
             @RequestParam String symbol,
-            @RequestParam(defaultValue = "90") int days
+            @RequestParam(defaultValue = "90") int days,
+            @RequestParam(required = false) String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept
     ) {
-        return marketCandleService.getDailyCandles(symbol, days);
+        List<DailyCandleDTO> candles = marketCandleService.getDailyCandles(symbol, days);
+
+        if (ColumnarFormat.isRequested(format, accept)) {
+            return ColumnarFormat.ok(ColumnarCandlesResponse.from(symbol, candles));
+        }
+        return ResponseEntity.ok(candles);
+    }
+
+    /**
+     * ✅ 인트라데이 미니 차트 (1분/5분봉)
+     * - 서버가 받아둔 실시간 시세 틱을 집계 → upstream 추가 호출 없음
+     * - 틱이 없으면 빈 bars
+     */
+    @GetMapping("/candles/intraday")
+    public IntradayCandlesResponse getIntradayCandles(
+            @RequestParam String symbol,
+            @RequestParam(defaultValue = "1min") String interval
+    ) {
+        int minutes = switch (interval) {
+            case "1min" -> 1;
+            case "5min" -> 5;
+            default -> throw new BadRequestException("interval은 1min 또는 5min 입니다.");
+        };
+
+        String s = symbol.trim().toUpperCase();
+        return new IntradayCandlesResponse(s, interval, intradayTickStore.getBars(s, minutes));
+    }
+
+    /**
+     * ✅ 종목 간 상관계수 행렬 (일간 로그수익률, 공통 거래일 기준)
+     * - days 상한은 일봉 캐시 길이(90일)에 맞춰 잘림
+     * - 일봉 캐시에 있는 심볼만 계산 (업스트림 호출 없음, 미스는 unavailableSymbols)
+     */
+    @GetMapping("/correlation")
+    public CorrelationResponse getCorrelation(
+            @RequestParam String symbols,
+            @RequestParam(defaultValue = "60") int days
+    ) {
+        return correlationService.getCorrelation(symbols, days);
+    }
+
+    /**
+     * ✅ 유니버스 스크리너 (메모리 스냅샷 스캔, upstream 호출 없음)
+     * - filters: price>10,changePct<=-2,volume>=1000000,momentum30d>5
+     * - sort: -volume (내림차순) / price (오름차순)
+     */
+    @GetMapping("/screener")
+    public ScreenerResponse screen(
+            @RequestParam(required = false) String filters,
+            @RequestParam(required = false) String sort,
+            @RequestParam(defaultValue = "50") int limit
+    ) {
+        return screenerService.screen(filters, sort, limit);
+    }
+
+    /**
+     * ✅ 상승/하락/거래량 상위 (미리 직렬화된 스냅샷, 최대 1초 지연)
+     */
+    @GetMapping("/movers")
+    public ResponseEntity<byte[]> getMovers() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(moversService.getMoversJson());
+    }
+
+    /**
+     * ✅ 그룹별 히트맵 (미리 직렬화된 스냅샷, 최대 1초 지연)
+     */
+    @GetMapping("/heatmap")
+    public ResponseEntity<byte[]> getHeatmap() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(moversService.getHeatmapJson());
+    }
+
+    /**
+     * ✅ 뉴스 (최신순, cursor 페이지)
+     * - symbol 없으면 시장 전체(general), 있으면 종목 뉴스
+     * - Redis 캐시에서 읽고, 업스트림은 주기적으로 증분 조회만
+     */
+    @GetMapping("/news")
+    public NewsPageResponse getNews(
+            @RequestParam(required = false) String symbol,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        return newsService.getNews(symbol, cursor, size);
+    }
+
+    /**
+     * ✅ 뉴스 검색 (headline/summary, 모든 단어 포함, 최신순)
+     * - 캐시된 뉴스의 인메모리 역색인 (외부 검색엔진 없음)
+     */
+    @GetMapping("/news/search")
+    public NewsSearchResponse searchNews(
+            @RequestParam String q,
+            @RequestParam(required = false) String symbol,
+            @RequestParam(required = false) Integer size
+    ) {
+        return newsService.search(q, symbol, size);
+    }
+
+    /**
+     * ✅ 스파크라인 SVG (서버 렌더링)
+     * - v(데이터 해시)가 현재 내용과 같으면 immutable 1년 캐시, 아니면 짧게 + ETag
+     */
+    @GetMapping("/sparkline.svg")
+    public ResponseEntity<byte[]> getSparklineSvg(
+            @RequestParam String symbol,
+            @RequestParam(defaultValue = "0") int days,
+            @RequestParam(required = false) String v,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        return svgResponse(sparklineSvgService.single(symbol, days), v, ifNoneMatch);
+    }
+
+    /**
+     * ✅ 여러 종목 스파크라인 sprite (<use href="...#spark-AAPL"/>)
+     */
+    @GetMapping("/sparkline-sprite.svg")
+    public ResponseEntity<byte[]> getSparklineSprite(
+            @RequestParam String symbols,
+            @RequestParam(defaultValue = "0") int days,
+            @RequestParam(required = false) String v,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        return svgResponse(sparklineSvgService.sprite(symbols, days), v, ifNoneMatch);
+    }
+
+    private static ResponseEntity<byte[]> svgResponse(SparklineSvgService.Svg svg, String v, String ifNoneMatch) {
+        String etag = "\"" + svg.hash() + "\"";
+        CacheControl cache = svg.hash().equals(v)
+                ? CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable()
+                : CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic();
+
+        if (etag.equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cache).build();
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.valueOf("image/svg+xml"))
+                .eTag(etag)
+                .cacheControl(cache)
+                .body(svg.body());
     }
 
     /**
@@ -65,22 +244,65 @@ public class MarketController {
      */
     /**
      * ✅ 원/달러 환율 (한국은행 ECOS)
+     * - 캐시 값만 반환 (갱신은 FxRateRefreshScheduler)
      */
 
     @GetMapping("/fx/usd-krw")
     public FxRateResponse getUsdKrw() {
-        return new FxRateResponse("USD", "KRW", bokExchangeRateService.getUsdKrwRate());
+        return new FxRateResponse("USD", "KRW", usdKrwRateService.getCachedRate());
     }
 
 
 
     @GetMapping("/summary")
-    public ResponseEntity<MarketSummaryResponse> getSummary(
+    public ResponseEntity<?> getSummary(
             @RequestParam String symbol,
-            @RequestParam(defaultValue = "90") int days
+            @RequestParam(defaultValue = "90") int days,
+            @RequestParam(required = false) String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept
     ) {
-        return ResponseEntity.ok(marketSummaryFacadeService.getSummary(symbol, days));
+        MarketSummaryResponse res = marketSummaryFacadeService.getSummary(symbol, days);
+
+        if (ColumnarFormat.isRequested(format, accept)) {
+            return ColumnarFormat.ok(ColumnarMarketSummaryResponse.from(symbol, res));
+        }
+        return ResponseEntity.ok(res);
     }
 
+    /**
+     * ✅ 다종목 일봉 bulk export (Arrow IPC stream)
+     * - chunk(심볼 묶음)마다 record batch 1개를 바로 흘려보냄 → 메모리 일정
+     * - compression=gzip 이면 스트림 전체를 gzip 프레이밍 (Content-Encoding: gzip)
+     * - 비로그인 요청은 캐시에 있는 심볼만 (업스트림 호출 없음)
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportCandles(
+            @AuthenticationPrincipal CustomUserDetails principal,
+            @RequestParam String symbols,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "none") String compression
+    ) {
+        List<String> symbolList = candleArrowExportService.parseSymbols(symbols);
+        boolean gzip = "gzip".equalsIgnoreCase(compression);
+        boolean allowUpstream = principal != null;
+
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream gz = new GZIPOutputStream(out, 64 * 1024);
+                candleArrowExportService.writeArrowStream(symbolList, from, to, allowUpstream, gz);
+                gz.finish();
+            } else {
+                candleArrowExportService.writeArrowStream(symbolList, from, to, allowUpstream, out);
+            }
+        };
 
+        ResponseEntity.BodyBuilder res = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(CandleArrowExportService.MEDIA_TYPE_VALUE))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"candles.arrows\"");
+        if (gzip) {
+            res.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return res.body(body);
+    }
 }
@@ -0,0 +1,28 @@
+package com.stock.dashboard.backend.event;
+
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 이 인스턴스가 리더 lease 를 새로 잡은 직후 발행 (LeaderElection)
+ * - 기동 직후 첫 선출, 장애 조치(failover) 모두 포함 → 리더 전용 워밍업은 여기서
+ * - 스케줄러 스레드에서 동기로 돌기 때문에 무거운 작업은 비동기로 넘길 것
+ */
+public class OnLeadershipAcquiredEvent extends ApplicationEvent {
+
+    private final String nodeId;
+    private final long fencingToken;
+
+    public OnLeadershipAcquiredEvent(Object source, String nodeId, long fencingToken) {
+        super(source);
+        this.nodeId = nodeId;
+        this.fencingToken = fencingToken;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public long getFencingToken() {
+        return fencingToken;
+    }
+}
@@ -0,0 +1,40 @@
+package com.stock.dashboard.backend.event;
+
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 외부 API에서 새 시세를 받아 캐시에 쓴 직후 발행되는 이벤트
+ * - 캐시 hit/stale 폴백에서는 발행하지 않음 (새 값이 아님)
+ * - 리스너는 요청 스레드에서 동기로 돌기 때문에 가벼운 작업만 할 것
+ */
+public class OnQuoteUpdatedEvent extends ApplicationEvent {
+
+    private final String symbol;
+    private final double price;
+    private final double changePercent;
+    private final long updatedAtMs;
+
+    public OnQuoteUpdatedEvent(Object source, String symbol, double price, double changePercent) {
+        super(source);
+        this.symbol = symbol;
+        this.price = price;
+        this.changePercent = changePercent;
+        this.updatedAtMs = System.currentTimeMillis();
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+
+    public double getPrice() {
+        return price;
+    }
+
+    public double getChangePercent() {
+        return changePercent;
+    }
+
+    public long getUpdatedAtMs() {
+        return updatedAtMs;
+    }
+}
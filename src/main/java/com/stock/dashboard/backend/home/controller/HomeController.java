@@ -1,12 +1,22 @@
 package com.stock.dashboard.backend.home.controller;
 
+import com.stock.dashboard.backend.home.dto.ColumnarRecommendationsResponse;
 import com.stock.dashboard.backend.home.dto.RecommendationsResponse;
 
+import com.stock.dashboard.backend.home.service.HomeCacheStore;
 import com.stock.dashboard.backend.home.service.HomeService;
 import com.stock.dashboard.backend.home.service.RecommendationPoolService;
+import com.stock.dashboard.backend.home.vo.ColumnarHomeResponseVO;
 import com.stock.dashboard.backend.home.vo.HomeResponseVO;
+import com.stock.dashboard.backend.market.columnar.ColumnarFormat;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -17,18 +27,107 @@ import org.springframework.web.bind.annotation.RestController;
 public class HomeController {
 
     private final HomeService homeService;
-  private final RecommendationPoolService recommendationPoolService;
+    private final RecommendationPoolService recommendationPoolService;
 
     @GetMapping("/recommendations")
-    public RecommendationsResponse recommendations(
+    public ResponseEntity<?> recommendations(
             @RequestParam(defaultValue = "0") int offset,
-            @RequestParam(required = false) String v
+            @RequestParam(required = false) String v,
+            @RequestParam(required = false) String format,
+            @RequestParam(defaultValue = "points") String sparkline,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept
     ) {
-        return recommendationPoolService.getRecommendationsFromPool(v, offset);
+        RecommendationsResponse res = recommendationPoolService.getRecommendationsFromPool(v, offset);
+
+        // ✅ sparkline=url: 포인트 대신 SVG URL 만 (응답 크기 감소)
+        if ("url".equalsIgnoreCase(sparkline)) {
+            res = res.withoutSparklinePoints();
+        }
+
+        // ✅ opt-in 컬럼형 (스파크라인 {index, close} 반복 제거)
+        if (ColumnarFormat.isRequested(format, accept)) {
+            return ColumnarFormat.ok(ColumnarRecommendationsResponse.from(res));
+        }
+        return ResponseEntity.ok(res);
     }
 
+    /**
+     * ✅ 홈
+     * - 기본 JSON 은 스냅샷 교체 때 미리 직렬화/압축해 둔 바이트를 그대로 반환 (ETag, 304)
+     * - 컬럼형(opt-in)만 요청 시 변환
+     * - Accept: application/cbor 면 미리 만든 JSON 대신 캐시된 HomeResponseVO 를 CBOR 컨버터로 직렬화
+     */
     @GetMapping
-    public HomeResponseVO getHome() {
-        return homeService.getHome();
+    public ResponseEntity<?> getHome(
+            @RequestParam(required = false) String format,
+            @RequestParam(defaultValue = "points") String sparkline,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        // ✅ sparkline=url: 포인트 대신 SVG URL 만 (응답 크기 감소)
+        boolean urlOnly = "url".equalsIgnoreCase(sparkline);
+
+        if (ColumnarFormat.isRequested(format, accept)) {
+            HomeResponseVO home = homeService.getHome();
+            if (urlOnly) home = home.withoutSparklinePoints();
+            return ColumnarFormat.ok(ColumnarHomeResponseVO.from(home));
+        }
+
+        if (acceptsCbor(accept)) {
+            HomeResponseVO home = homeService.getHome();
+            if (urlOnly) home = home.withoutSparklinePoints();
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_CBOR)
+                    .cacheControl(CacheControl.noCache())
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING)
+                    .body(home);
+        }
+
+        HomeCacheStore.Rendered rendered = homeService.getRenderedHome(urlOnly);
+        boolean gzip = acceptsGzip(acceptEncoding);
+        String etag = gzip ? rendered.gzipEtag() : rendered.etag();
+
+        if (rendered.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder res = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            return res.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(rendered.gzip());
+        }
+        return res.body(rendered.json());
+    }
+
+    // 구체 타입으로 application/cbor 를 명시했을 때만 (q=0 제외, */* 는 JSON)
+    private static boolean acceptsCbor(String accept) {
+        if (accept == null || accept.isBlank()) return false;
+        try {
+            for (MediaType mt : MediaType.parseMediaTypes(accept)) {
+                if (MediaType.APPLICATION_CBOR.equalsTypeAndSubtype(mt) && mt.getQualityValue() > 0) return true;
+            }
+        } catch (Exception ignored) {
+            // 잘못된 Accept 는 기본 JSON
+        }
+        return false;
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) return false;
+        for (String part : acceptEncoding.split(",")) {
+            String[] kv = part.trim().split(";");
+            if (!kv[0].trim().equalsIgnoreCase("gzip")) continue;
+            // gzip;q=0 은 거부
+            return !(kv.length > 1 && kv[1].trim().replace(" ", "").equals("q=0"));
+        }
+        return false;
     }
 }
@@ -0,0 +1,41 @@
+package com.stock.dashboard.backend.home.dto;
+
+import com.stock.dashboard.backend.market.columnar.ColumnarFormat;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 추천 목록 컬럼형 응답
+ * - sparklines[i]는 symbols[i]의 종가 배열 (index는 배열 위치 그대로)
+ */
+public record ColumnarRecommendationsResponse(
+        List<String> symbols,
+        double[] prices,
+        double[] changeRates,
+        double[][] sparklines,
+        Integer nextOffset
+) {
+    public static ColumnarRecommendationsResponse from(RecommendationsResponse res) {
+        List<RecommendedItemResponse> items =
+                (res == null || res.items() == null) ? List.of() : res.items();
+
+        int n = items.size();
+        List<String> symbols = new ArrayList<>(n);
+        double[] prices = new double[n];
+        double[] changeRates = new double[n];
+        double[][] sparklines = new double[n][];
+
+        for (int i = 0; i < n; i++) {
+            RecommendedItemResponse it = items.get(i);
+            symbols.add(it.symbol());
+            prices[i] = it.price() == null ? 0d : it.price();
+            changeRates[i] = it.changeRate() == null ? 0d : it.changeRate();
+            sparklines[i] = ColumnarFormat.closes(it.sparkline());
+        }
+
+        return new ColumnarRecommendationsResponse(
+                symbols, prices, changeRates, sparklines,
+                res == null ? null : res.nextOffset()
+        );
+    }
+}
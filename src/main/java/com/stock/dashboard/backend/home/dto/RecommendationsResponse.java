@@ -5,4 +5,10 @@ import java.util.List;
 public record RecommendationsResponse(
         List<RecommendedItemResponse> items,
         Integer nextOffset
-) {}
+) {
+    public RecommendationsResponse withoutSparklinePoints() {
+        List<RecommendedItemResponse> stripped = items == null ? null
+                : items.stream().map(RecommendedItemResponse::withoutSparklinePoints).toList();
+        return new RecommendationsResponse(stripped, nextOffset);
+    }
+}
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.stock.dashboard.backend.home.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.stock.dashboard.backend.market.twelvedata.dto.SparklinePoint;
 import java.util.List;
 
@@ -7,5 +8,12 @@ public record RecommendedItemResponse(
         String symbol,
         Double price,
         Double changeRate,
-        List<SparklinePoint> sparkline
-) {}
+        // sparkline=url 요청이면 null (응답에서 생략)
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        List<SparklinePoint> sparkline,
+        String sparklineUrl // 서버 렌더링 SVG (데이터 해시 포함, immutable 캐시)
+) {
+    public RecommendedItemResponse withoutSparklinePoints() {
+        return new RecommendedItemResponse(symbol, price, changeRate, null, sparklineUrl);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,162 @@
+package com.stock.dashboard.backend.home.recommendation.pool;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stock.dashboard.backend.home.dto.RecommendationsResponse;
+import com.stock.dashboard.backend.home.dto.RecommendedItemResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 추천 페이지 materialize 저장소 (version 별, 풀과 같은 48시간)
+ *
+ * - {v}:items     HASH  symbol → 검증 끝난 항목 JSON (HSETNX → 한 번 쓰면 고정, 페이지 내용이 결정적)
+ * - {v}:rejected  HASH  symbol → 검증 실패 횟수 (스파크라인 없음)
+ * - {v}:page:{i}  STRING i 번째 페이지 JSON (RecommendationsResponse 그대로)
+ * - {v}:complete  풀이 다 찼고 모든 심볼이 판정됨 → 마지막 페이지까지 확정
+ */
+@Repository
+@RequiredArgsConstructor
+public class RecommendationPageRepository {
+
+    private static final String PREFIX = "home:rec:pages:";
+    private static final Duration TTL = Duration.ofHours(48);
+
+    private final StringRedisTemplate redis;
+    private final ObjectMapper objectMapper;
+
+    private String itemsKey(String v)           { return PREFIX + v + ":items"; }
+    private String rejectedKey(String v)        { return PREFIX + v + ":rejected"; }
+    private String pageKey(String v, int index) { return PREFIX + v + ":page:" + index; }
+    private String completeKey(String v)        { return PREFIX + v + ":complete"; }
+
+    public void putItem(String v, RecommendedItemResponse item) {
+        try {
+            redis.opsForHash().putIfAbsent(itemsKey(v), item.symbol(), objectMapper.writeValueAsString(item));
+            redis.expire(itemsKey(v), TTL);
+        } catch (Exception e) {
+            throw new IllegalStateException("recommendation item write failed symbol=" + item.symbol(), e);
+        }
+    }
+
+    /**
+     * 검증 실패 기록, 누적 횟수 반환
+     */
+    public long reject(String v, String symbol) {
+        Long n = redis.opsForHash().increment(rejectedKey(v), symbol, 1);
+        redis.expire(rejectedKey(v), TTL);
+        return n == null ? 0 : n;
+    }
+
+    /**
+     * 저장된 항목 (없는 심볼은 결과에서 빠짐)
+     */
+    public Map<String, RecommendedItemResponse> items(String v) {
+        Map<Object, Object> raw = redis.opsForHash().entries(itemsKey(v));
+        Map<String, RecommendedItemResponse> out = new HashMap<>();
+        for (Map.Entry<Object, Object> e : raw.entrySet()) {
+            try {
+                out.put(e.getKey().toString(), objectMapper.readValue(e.getValue().toString(), RecommendedItemResponse.class));
+            } catch (Exception ignore) {
+                // 깨진 값은 미판정 취급 → 다시 materialize
+            }
+        }
+        return out;
+    }
+
+    /**
+     * 실패 횟수가 minFailures 이상인 심볼
+     */
+    public Set<String> rejected(String v, int minFailures) {
+        Map<Object, Object> raw = redis.opsForHash().entries(rejectedKey(v));
+        Set<String> out = new HashSet<>();
+        for (Map.Entry<Object, Object> e : raw.entrySet()) {
+            try {
+                if (Long.parseLong(e.getValue().toString()) >= minFailures) out.add(e.getKey().toString());
+            } catch (Exception ignore) {
+            }
+        }
+        return out;
+    }
+
+    /**
+     * 페이지 저장 (키마다 SET … PX 를 파이프라인 1회로 → TTL 없는 키가 남지 않음)
+     * - complete 마커는 페이지 뒤에 써서, 마커가 보이면 페이지도 있음
+     */
+    public void savePages(String v, List<RecommendationsResponse> pages, boolean complete) {
+        try {
+            Map<String, String> values = new LinkedHashMap<>();
+            for (int i = 0; i < pages.size(); i++) {
+                values.put(pageKey(v, i), objectMapper.writeValueAsString(pages.get(i)));
+            }
+            if (complete) values.put(completeKey(v), "1");
+            if (values.isEmpty()) return;
+
+            Expiration ttl = Expiration.from(TTL);
+            redis.executePipelined((RedisCallback<Object>) connection -> {
+                for (Map.Entry<String, String> e : values.entrySet()) {
+                    connection.stringCommands().set(
+                            e.getKey().getBytes(StandardCharsets.UTF_8),
+                            e.getValue().getBytes(StandardCharsets.UTF_8),
+                            ttl,
+                            RedisStringCommands.SetOption.upsert());
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            throw new IllegalStateException("recommendation pages write failed version=" + v, e);
+        }
+    }
+
+    /**
+     * i 번째 페이지 (GET 1회), 아직 없으면 null
+     */
+    public RecommendationsResponse page(String v, int index) {
+        String json = redis.opsForValue().get(pageKey(v, index));
+        if (json == null) return null;
+        try {
+            return objectMapper.readValue(json, RecommendationsResponse.class);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    public boolean isComplete(String v) {
+        return Boolean.TRUE.equals(redis.hasKey(completeKey(v)));
+    }
+
+    /**
+     * 풀 순서대로 검증 통과 항목만 (판정 안 된 심볼을 만나면 거기서 멈춤 → 순서가 바뀌지 않음)
+     * - 반환: (항목, 풀 전체가 판정됐는지)
+     */
+    public Resolved resolvedPrefix(String v, List<String> poolSymbols, int minFailures) {
+        Map<String, RecommendedItemResponse> items = items(v);
+        Set<String> rejected = rejected(v, minFailures);
+
+        List<RecommendedItemResponse> out = new ArrayList<>();
+        for (String s : poolSymbols) {
+            RecommendedItemResponse item = items.get(s);
+            if (item != null) {
+                out.add(item);
+            } else if (!rejected.contains(s)) {
+                return new Resolved(out, false);
+            }
+        }
+        return new Resolved(out, true);
+    }
+
+    public record Resolved(List<RecommendedItemResponse> items, boolean allResolved) {}
+}
@@ -0,0 +1,63 @@
+package com.stock.dashboard.backend.home.recommendation.service;
+
+import com.stock.dashboard.backend.exception.TwelveDataRateLimitException;
+import com.stock.dashboard.backend.home.service.HomeRecommendationProperties;
+import com.stock.dashboard.backend.leader.LeaderOnly;
+import com.stock.dashboard.backend.market.service.MarketCandleService;
+import com.stock.dashboard.backend.market.twelvedata.service.StockCatalogService;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 오늘 후보 창 일봉 캐시 사전 채움 (랭킹 입력)
+ *
+ * - 일봉 캐시는 다음 일봉 확정 시각(dailyBarTtl)에 만료 → 랭킹 회차의 보충(rank-fetch-per-run)만으로는 창을 다 못 채움
+ * - 리더 한 대가 주기마다 후보 창에서 캐시 없는 심볼만 회차당 per-run 개까지 순차 조회 (TwelveData)
+ *   → 만료 후 (candidatePool / per-run) 회차면 창 전체가 다시 채워짐
+ * - rate limit 맞으면 이번 회차 중단
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CandidateCandlePrewarmer {
+
+    private final StockCatalogService stockCatalogService;
+    private final MarketCandleService marketCandleService;
+    private final HomeRecommendationProperties properties;
+
+    @Value("${home.recommend.candle-prewarm-per-run:6}")
+    private int perRun;
+
+    @LeaderOnly
+    @Scheduled(fixedDelayString = "${home.recommend.candle-prewarm-ms:60000}", initialDelayString = "${home.recommend.candle-prewarm-ms:60000}")
+    public void prewarm() {
+        try {
+            List<String> candidates = stockCatalogService.getCandidatePool(properties.getCandidatePool());
+            if (candidates.isEmpty() || perRun <= 0) return;
+
+            Set<String> cached = marketCandleService.getCachedDailyCandles(candidates).keySet();
+            int missing = candidates.size() - cached.size();
+            if (missing <= 0) return;
+
+            int calls = 0;
+            try {
+                for (String s : candidates) {
+                    if (calls >= perRun) break;
+                    if (cached.contains(s)) continue;
+                    marketCandleService.getDailyCandles(s, marketCandleService.maxDays());
+                    calls++;
+                }
+            } catch (TwelveDataRateLimitException e) {
+                log.info("[POOL] candle prewarm rate limited. stop this round. calls={}", calls);
+            }
+            log.info("[POOL] candle prewarm window={} missing={} fetched={}", candidates.size(), missing, calls);
+        } catch (Exception e) {
+            log.warn("[POOL] candle prewarm failed ex={} msg={}", e.getClass().getSimpleName(), e.getMessage());
+        }
+    }
+}
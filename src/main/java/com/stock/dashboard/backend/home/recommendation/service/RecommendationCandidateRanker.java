@@ -0,0 +1,231 @@
+package com.stock.dashboard.backend.home.recommendation.service;
+
+import com.stock.dashboard.backend.config.FetchExecutor;
+import com.stock.dashboard.backend.home.service.HomeRecommendationProperties;
+import com.stock.dashboard.backend.market.dto.DailyCandleDTO;
+import com.stock.dashboard.backend.market.service.MarketCandleService;
+import com.stock.dashboard.backend.market.twelvedata.service.StockCatalogService;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 추천 후보 랭킹 (랜덤 셔플 대신 거래대금/모멘텀/변동성 점수 순)
+ *
+ * - 1) 오늘 후보 창(candidatePool)에서 일봉 캐시 없는 심볼을 회차당 rank-fetch-per-run 개까지 보충
+ *      (창 전체는 CandidateCandlePrewarmer 가 리더에서 분 단위로 채움, 일봉 캐시는 날마다 만료되므로 커버리지는 오늘 창 + 그날 조회된 심볼)
+ * - 2) 유니버스 전체 일봉 캐시를 MGET 청크 단위로 병렬 스캔 (FetchExecutor, 외부 호출 없음)
+ * - 3) 최근 평균 거래대금 상위 volumeTop 개만 남김 (유동성 필터)
+ * - 4) 그 안에서 모멘텀/거래대금/변동성 z-score 가중합 → 상위 k 개 (크기 k 최소 힙, 전체 정렬 없음)
+ * - 리필(백그라운드)에서만 호출, 결과는 rank-cache-ms 동안 재사용 → 요청 경로 작업량은 그대로
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecommendationCandidateRanker {
+
+    private static final int MGET_CHUNK = 500;
+    private static final int MOMENTUM_DAYS = 30;
+    private static final int VOLUME_DAYS = 20;
+
+    private final StockCatalogService stockCatalogService;
+    private final MarketCandleService marketCandleService;
+    private final FetchExecutor fetchExecutor;
+    private final HomeRecommendationProperties properties;
+
+    @Value("${home.recommend.rank-fetch-per-run:4}")
+    private int fetchPerRun;
+
+    @Value("${home.recommend.rank-budget-ms:5000}")
+    private long budgetMs;
+
+    @Value("${home.recommend.rank-cache-ms:600000}")
+    private long cacheMs;
+
+    @Value("${home.recommend.rank.momentum-weight:1.0}")
+    private double momentumWeight;
+
+    @Value("${home.recommend.rank.volume-weight:0.5}")
+    private double volumeWeight;
+
+    @Value("${home.recommend.rank.volatility-weight:0.5}")
+    private double volatilityWeight;
+
+    private volatile List<String> lastRanked = List.of();
+    private volatile long lastRankedAtMs;
+
+    /**
+     * 점수 순 상위 심볼 (최대 volumeTop 개), 캐시가 비어 있으면 빈 리스트
+     */
+    public List<String> ranked() {
+        List<String> cached = lastRanked;
+        if (!cached.isEmpty() && System.currentTimeMillis() - lastRankedAtMs < cacheMs) return cached;
+
+        List<String> universe = stockCatalogService.getUniverseSymbols();
+        if (universe.isEmpty()) return List.of();
+
+        long deadline = FetchExecutor.deadlineAfter(budgetMs);
+        int filled = fillMisses(stockCatalogService.getCandidatePool(properties.getCandidatePool()), deadline);
+
+        List<Features> all = scan(universe, deadline);
+        List<Features> liquid = topK(all, properties.getVolumeTop(),
+                Comparator.comparingDouble(Features::logDollarVolume).thenComparing(Features::symbol, Comparator.reverseOrder()));
+        List<Scored> scored = topK(score(liquid, momentumWeight, volumeWeight, volatilityWeight), liquid.size(),
+                Comparator.comparingDouble(Scored::score).thenComparing(Scored::symbol, Comparator.reverseOrder()));
+
+        List<String> out = scored.stream().map(Scored::symbol).toList();
+        log.info("[POOL] ranked universe={} cached={} liquid={} filled={} top={}",
+                universe.size(), all.size(), liquid.size(), filled, out.stream().limit(10).toList());
+
+        if (!out.isEmpty()) {
+            lastRanked = out;
+            lastRankedAtMs = System.currentTimeMillis();
+        }
+        return out;
+    }
+
+    // 후보 창에서 일봉 캐시 없는 심볼만, 상한 개수까지 병렬로 (rate limit 이면 그 심볼만 실패 → 다음 회차)
+    private int fillMisses(List<String> candidates, long deadlineNanos) {
+        if (candidates.isEmpty() || fetchPerRun <= 0) return 0;
+
+        Set<String> cached = marketCandleService.getCachedDailyCandles(candidates).keySet();
+        List<CompletableFuture<List<DailyCandleDTO>>> futures = candidates.stream()
+                .filter(s -> !cached.contains(s))
+                .limit(fetchPerRun)
+                .map(s -> fetchExecutor.supply(() -> marketCandleService.getDailyCandles(s, marketCandleService.maxDays())))
+                .toList();
+        if (futures.isEmpty()) return 0;
+
+        fetchExecutor.awaitUntil(futures, deadlineNanos);
+        return (int) futures.stream().filter(f -> f.isDone() && !f.isCompletedExceptionally()).count();
+    }
+
+    // 청크별 MGET + 디코딩 + 지표 계산을 병렬로, 마감까지 끝난 청크만 사용
+    private List<Features> scan(List<String> universe, long deadlineNanos) {
+        List<CompletableFuture<List<Features>>> futures = new ArrayList<>();
+        for (int from = 0; from < universe.size(); from += MGET_CHUNK) {
+            List<String> chunk = universe.subList(from, Math.min(universe.size(), from + MGET_CHUNK));
+            futures.add(fetchExecutor.supply(() -> featuresOf(marketCandleService.getCachedDailyCandles(chunk))));
+        }
+        fetchExecutor.awaitUntil(futures, deadlineNanos);
+
+        List<Features> out = new ArrayList<>();
+        for (CompletableFuture<List<Features>> f : futures) {
+            if (f.isDone() && !f.isCompletedExceptionally()) out.addAll(f.join());
+        }
+        return out;
+    }
+
+    private List<Features> featuresOf(Map<String, List<DailyCandleDTO>> candles) {
+        List<Features> out = new ArrayList<>();
+        for (Map.Entry<String, List<DailyCandleDTO>> e : candles.entrySet()) {
+            Features f = features(e.getKey(), e.getValue());
+            if (f != null) out.add(f);
+        }
+        return out;
+    }
+
+    /**
+     * 일봉 → 지표 (모멘텀 계산할 만큼 일봉이 없거나 가격이 이상하면 null)
+     * - logDollarVolume: 최근 VOLUME_DAYS 평균 거래대금(close*volume)의 log
+     * - momentum: MOMENTUM_DAYS 거래일 수익률
+     * - volatility: 최근 VOLUME_DAYS 일간 로그수익률 표준편차
+     */
+    static Features features(String symbol, List<DailyCandleDTO> candles) {
+        if (candles == null || candles.size() <= MOMENTUM_DAYS) return null;
+        int n = candles.size();
+
+        double last = candles.get(n - 1).getClose();
+        double base = candles.get(n - 1 - MOMENTUM_DAYS).getClose();
+        if (last <= 0 || base <= 0) return null;
+
+        int from = n - Math.min(VOLUME_DAYS, n - 1);
+        double dollarVolume = 0;
+        double sum = 0, sumSq = 0;
+        for (int i = from; i < n; i++) {
+            DailyCandleDTO c = candles.get(i);
+            double prev = candles.get(i - 1).getClose();
+            if (c.getClose() <= 0 || prev <= 0) return null;
+
+            dollarVolume += c.getClose() * c.getVolume();
+            double r = Math.log(c.getClose() / prev);
+            sum += r;
+            sumSq += r * r;
+        }
+        int m = n - from;
+        double mean = sum / m;
+        double volatility = Math.sqrt(Math.max(0, sumSq / m - mean * mean));
+
+        return new Features(symbol, Math.log1p(dollarVolume / m), last / base - 1, volatility);
+    }
+
+    /**
+     * 후보들 사이 z-score 가중합 (모멘텀↑, 거래대금↑, 변동성↓)
+     */
+    static List<Scored> score(List<Features> features, double momentumWeight, double volumeWeight, double volatilityWeight) {
+        int n = features.size();
+        double[] momentum = new double[n];
+        double[] volume = new double[n];
+        double[] volatility = new double[n];
+        for (int i = 0; i < n; i++) {
+            momentum[i] = features.get(i).momentum();
+            volume[i] = features.get(i).logDollarVolume();
+            volatility[i] = features.get(i).volatility();
+        }
+        zScore(momentum);
+        zScore(volume);
+        zScore(volatility);
+
+        List<Scored> out = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            double s = momentumWeight * momentum[i] + volumeWeight * volume[i] - volatilityWeight * volatility[i];
+            out.add(new Scored(features.get(i).symbol(), s));
+        }
+        return out;
+    }
+
+    private static void zScore(double[] xs) {
+        int n = xs.length;
+        if (n == 0) return;
+        double mean = 0;
+        for (double x : xs) mean += x;
+        mean /= n;
+        double var = 0;
+        for (double x : xs) var += (x - mean) * (x - mean);
+        double sd = Math.sqrt(var / n);
+        for (int i = 0; i < n; i++) xs[i] = sd > 0 ? (xs[i] - mean) / sd : 0;
+    }
+
+    /**
+     * 상위 k 개를 내림차순으로 (크기 k 최소 힙: O(n log k))
+     */
+    static <T> List<T> topK(List<T> items, int k, Comparator<T> order) {
+        if (k <= 0 || items.isEmpty()) return List.of();
+
+        PriorityQueue<T> heap = new PriorityQueue<>(Math.min(k, items.size()) + 1, order);
+        for (T it : items) {
+            if (heap.size() < k) {
+                heap.add(it);
+            } else if (order.compare(it, heap.peek()) > 0) {
+                heap.poll();
+                heap.add(it);
+            }
+        }
+
+        List<T> out = new ArrayList<>(heap);
+        out.sort(order.reversed());
+        return out;
+    }
+
+    record Features(String symbol, double logDollarVolume, double momentum, double volatility) {}
+
+    record Scored(String symbol, double score) {}
+}
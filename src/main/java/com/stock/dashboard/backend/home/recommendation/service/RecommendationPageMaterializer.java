@@ -0,0 +1,187 @@
+package com.stock.dashboard.backend.home.recommendation.service;
+
+import com.stock.dashboard.backend.cluster.ClusterMembership;
+import com.stock.dashboard.backend.config.FetchExecutor;
+import com.stock.dashboard.backend.exception.TwelveDataRateLimitException;
+import com.stock.dashboard.backend.home.dto.RecommendationsResponse;
+import com.stock.dashboard.backend.home.dto.RecommendedItemResponse;
+import com.stock.dashboard.backend.home.recommendation.pool.RecommendationPageRepository;
+import com.stock.dashboard.backend.home.recommendation.pool.RecommendationPoolRepository;
+import com.stock.dashboard.backend.home.service.HomeRecommendationProperties;
+import com.stock.dashboard.backend.market.service.MarketRealtimePriceService;
+import com.stock.dashboard.backend.market.sparkline.SparklineSvgService;
+import com.stock.dashboard.backend.market.twelvedata.dto.SparklinePoint;
+import com.stock.dashboard.backend.market.twelvedata.service.SparklineService;
+import com.stock.dashboard.backend.model.vo.MarketSummaryVO;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 추천 페이지 미리 만들기 (요청 경로에서 시세/스파크라인 호출 없음)
+ *
+ * - resolve: 풀 심볼마다 시세 + 스파크라인으로 항목을 만들어 검증 (빈 스파크라인 확정/시세 예외면 실패, 2번 실패하면 제외)
+ *   · 주기 실행은 일관 해시 링에서 내 몫 심볼만 (ClusterMembership) / 리필 직후·콜드 요청은 전부
+ *   · TwelveData rate limit / FetchExecutor 포화 / 스파크라인 락 경합·조회 예외 (또는 마감까지 못 끝낸 것)는
+ *     미판정으로 남겨 다음 회차에 재시도
+ * - assemble: 풀 순서대로 검증 통과 항목을 pageSize 씩 잘라 페이지 JSON 저장
+ *   · 판정 안 된 심볼 앞까지만 → 이미 만든 페이지 내용은 바뀌지 않음 (여러 노드가 동시에 써도 같은 값)
+ *   · 풀이 다 차고 모두 판정되면 마지막(덜 찬) 페이지까지 확정
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecommendationPageMaterializer {
+
+    private static final int MAX_FAILURES = 2;
+
+    private final RecommendationPoolRepository poolRepository;
+    private final RecommendationPageRepository pageRepository;
+    private final MarketRealtimePriceService marketRealtimePriceService;
+    private final SparklineService sparklineService;
+    private final SparklineSvgService sparklineSvgService;
+    private final FetchExecutor fetchExecutor;
+    private final ClusterMembership clusterMembership;
+    private final HomeRecommendationProperties properties;
+
+    @Value("${home.recommend.materialize-budget-ms:10000}")
+    private long budgetMs;
+
+    @Scheduled(fixedDelayString = "${home.recommend.materialize-ms:30000}", initialDelayString = "${home.recommend.materialize-ms:30000}")
+    public void materializeToday() {
+        try {
+            String today = poolRepository.todayVersion();
+            if (poolRepository.size(today) > 0) {
+                materialize(today, true, FetchExecutor.deadlineAfter(budgetMs));
+            }
+        } catch (Exception e) {
+            log.warn("[POOL] materialize failed ex={} msg={}", e.getClass().getSimpleName(), e.getMessage());
+        }
+    }
+
+    /**
+     * 리필 직후 (리필 스레드에서)
+     */
+    public void materializeAfterRefill(String version) {
+        try {
+            materialize(version, false, FetchExecutor.deadlineAfter(budgetMs));
+        } catch (Exception e) {
+            log.warn("[POOL] materialize after refill failed version={} ex={}", version, e.getClass().getSimpleName());
+        }
+    }
+
+    /**
+     * resolve(deadline 까지) → assemble. 풀 순서대로 확정된 항목 반환
+     */
+    public RecommendationPageRepository.Resolved materialize(String version, boolean ownedOnly, long deadlineNanos) {
+        List<String> pool = poolRepository.range(version, 0, poolRepository.size(version));
+        if (pool.isEmpty()) return new RecommendationPageRepository.Resolved(List.of(), false);
+
+        if (pageRepository.isComplete(version)) {
+            return pageRepository.resolvedPrefix(version, pool, MAX_FAILURES);
+        }
+
+        resolve(version, pool, ownedOnly, deadlineNanos);
+        return assemble(version, pool);
+    }
+
+    private void resolve(String version, List<String> pool, boolean ownedOnly, long deadlineNanos) {
+        Map<String, RecommendedItemResponse> done = pageRepository.items(version);
+        Set<String> rejected = pageRepository.rejected(version, MAX_FAILURES);
+
+        List<String> todo = pool.stream().filter(s -> !done.containsKey(s) && !rejected.contains(s)).toList();
+        if (ownedOnly) todo = clusterMembership.ownedOf(todo);
+        if (todo.isEmpty()) return;
+
+        List<CompletableFuture<RecommendedItemResponse>> futures = todo.stream()
+                .map(sym -> fetchExecutor.supply(() -> buildItem(sym)))
+                .toList();
+
+        // 타임아웃/실패는 항목별로 처리
+        fetchExecutor.awaitUntil(futures, deadlineNanos);
+
+        for (int i = 0; i < todo.size(); i++) {
+            String sym = todo.get(i);
+            CompletableFuture<RecommendedItemResponse> f = futures.get(i);
+            if (!f.isDone()) continue;
+
+            try {
+                RecommendedItemResponse item = f.join();
+                if (item != null) pageRepository.putItem(version, item);
+                else pageRepository.reject(version, sym);
+
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause() == null ? e : e.getCause();
+                if (cause instanceof TwelveDataRateLimitException || cause instanceof RejectedExecutionException
+                        || cause instanceof SparklineDeferredException) {
+                    // 종목 문제가 아님 (rate limit / FetchExecutor 포화 / 스파크라인 락 경합·일시 오류) → 미판정, 다음 회차에
+                    log.warn("[POOL] materialize deferred. symbol={} ex={} msg={}", sym, cause.getClass().getSimpleName(), cause.getMessage());
+                } else {
+                    // 상장폐지/4xx/파싱 오류 등도 실패로 누적 → 판정 안 된 채 남아 resolvedPrefix 가 멈추지 않게
+                    long failures = pageRepository.reject(version, sym);
+                    log.info("[POOL] materialize failed symbol={} failures={} ex={} msg={}",
+                            sym, failures, cause.getClass().getSimpleName(), cause.getMessage());
+                }
+            }
+        }
+    }
+
+    private RecommendationPageRepository.Resolved assemble(String version, List<String> pool) {
+        RecommendationPageRepository.Resolved r = pageRepository.resolvedPrefix(version, pool, MAX_FAILURES);
+        boolean complete = r.allResolved() && pool.size() >= properties.getPoolTarget();
+        int pageSize = properties.getPageSize();
+
+        List<RecommendedItemResponse> items = r.items();
+        int n = items.size();
+        List<RecommendationsResponse> pages = new ArrayList<>();
+        for (int from = 0; from + pageSize <= n; from += pageSize) {
+            int to = from + pageSize;
+            boolean last = complete && to == n;
+            pages.add(new RecommendationsResponse(List.copyOf(items.subList(from, to)), last ? null : to));
+        }
+        // 확정됐으면 덜 찬 마지막 페이지(또는 빈 풀의 빈 페이지)도
+        if (complete && (n % pageSize != 0 || n == 0)) {
+            pages.add(new RecommendationsResponse(List.copyOf(items.subList(n - n % pageSize, n)), null));
+        }
+
+        pageRepository.savePages(version, pages, complete);
+        if (complete) log.info("[POOL] pages complete version={} items={} pages={}", version, n, pages.size());
+        return r;
+    }
+
+    private RecommendedItemResponse buildItem(String symbol) {
+        if (symbol == null || symbol.isBlank()) return null;
+        String sym = symbol.trim().toUpperCase();
+
+        MarketSummaryVO quote = marketRealtimePriceService.getRealtimePrice(sym);
+
+        // 빈 시리즈를 확실히 받았을 때만 실패(null), 락 경합/일시 오류는 미판정
+        SparklineService.Fetched fetched = sparklineService.fetchSparkline(sym);
+        if (fetched.status() == SparklineService.Status.DEFERRED) throw new SparklineDeferredException(sym);
+        List<SparklinePoint> sparkline = fetched.points();
+        if (sparkline.isEmpty()) return null;
+
+        return new RecommendedItemResponse(
+                sym,
+                quote.getPrice(),
+                quote.getChangePercent(),
+                sparkline,
+                sparklineSvgService.urlFor(sym, sparkline)
+        );
+    }
+
+    private static final class SparklineDeferredException extends RuntimeException {
+        SparklineDeferredException(String symbol) {
+            super("sparkline not resolved yet symbol=" + symbol);
+        }
+    }
+}
@@ -1,18 +1,16 @@
 package com.stock.dashboard.backend.home.recommendation.service;
 
 import com.stock.dashboard.backend.home.recommendation.pool.RecommendationPoolRepository;
-import com.stock.dashboard.backend.market.twelvedata.dto.TwelveDataStockItem;
+import com.stock.dashboard.backend.home.service.HomeRecommendationProperties;
 import com.stock.dashboard.backend.market.twelvedata.service.StockCatalogService;
 import jakarta.annotation.PostConstruct;
 import java.time.Instant;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
@@ -23,21 +21,17 @@ public class RecommendationPoolRefillService {
 
     private final RecommendationPoolRepository poolRepository;
     private final StockCatalogService stockCatalogService;
+    private final RecommendationPageMaterializer pageMaterializer;
+    private final RecommendationCandidateRanker candidateRanker;
+    private final HomeRecommendationProperties properties;
 
-    private static final int POOL_TARGET = 20;
     private static final int REFILL_BATCH = 5;
 
-    @Value("${home.recommend.candidate-pool:120}")
-    private int candidatePool;
-
-    @Value("${home.recommend.max-attempts:200}")
-    private int maxAttempts;
-
     @Async
     public void warmUpFillToTargetAsync(String version) {
         for (int i = 0; i < 10; i++) {
             int size = poolRepository.size(version);
-            if (size >= POOL_TARGET) {
+            if (size >= properties.getPoolTarget()) {
                 log.info("[POOL] warm-up done. size={}", size);
                 return;
             }
@@ -55,12 +49,12 @@ public class RecommendationPoolRefillService {
 
         try {
             int currentSize = poolRepository.size(version);
-            if (currentSize >= POOL_TARGET) return;
+            if (currentSize >= properties.getPoolTarget()) return;
 
-            int need = Math.min(REFILL_BATCH, POOL_TARGET - currentSize);
+            int need = Math.min(REFILL_BATCH, properties.getPoolTarget() - currentSize);
             log.info("[POOL] warm-up refill start. need={}", need);
 
-            List<String> symbols = pickSymbols(need);
+            List<String> symbols = pickSymbols(version, need);
 
             int added = poolRepository.addAllUnique(version, symbols);
             poolRepository.updateLastRunAt(version, now);
@@ -69,6 +63,8 @@ public class RecommendationPoolRefillService {
         } finally {
             poolRepository.unlock(version);
         }
+        // 새 심볼 페이지 미리 만들기 (락 밖에서)
+        pageMaterializer.materializeAfterRefill(version);
     }
 
     @Async
@@ -81,47 +77,46 @@ public class RecommendationPoolRefillService {
             if (!poolRepository.isCooldownPassed(version, now)) return;
 
             int currentSize = poolRepository.size(version);
-            if (currentSize >= POOL_TARGET) return;
+            if (currentSize >= properties.getPoolTarget()) return;
 
-            int need = Math.min(REFILL_BATCH, POOL_TARGET - currentSize);
+            int need = Math.min(REFILL_BATCH, properties.getPoolTarget() - currentSize);
 
-            List<String> symbols = pickSymbols(need);
+            List<String> symbols = pickSymbols(version, need);
 
             poolRepository.addAllUnique(version, symbols);
             poolRepository.updateLastRunAt(version, now);
         } finally {
             poolRepository.unlock(version);
         }
+        pageMaterializer.materializeAfterRefill(version);
     }
 
-    private List<String> pickSymbols(int need) {
+    /**
+     * 랭킹 순으로 풀에 아직 없는 심볼 need 개
+     * - 랭킹이 모자라면(일봉 캐시 콜드) 오늘 후보 창 순서 → 그래도 모자라면 fallbackSymbols
+     */
+    private List<String> pickSymbols(String version, int need) {
         int target = Math.max(0, need);
         if (target == 0) return List.of();
 
-        List<TwelveDataStockItem> pool = stockCatalogService.getCandidatePool(candidatePool);
-        if (pool == null || pool.isEmpty()) return List.of();
-
-        List<TwelveDataStockItem> shuffled = new ArrayList<>(pool);
-        Collections.shuffle(shuffled);
-
+        Set<String> used = new HashSet<>(poolRepository.range(version, 0, poolRepository.size(version)));
         List<String> out = new ArrayList<>();
-        Set<String> used = new HashSet<>();
-        int attempts = 0;
 
-        for (TwelveDataStockItem it : shuffled) {
-            if (out.size() >= target) break;
-            if (attempts >= maxAttempts) break;
+        take(candidateRanker.ranked(), target, used, out);
+        if (out.size() < target) take(stockCatalogService.getCandidatePool(properties.getCandidatePool()), target, used, out);
+        if (out.size() < target) take(properties.getFallbackSymbols(), target, used, out);
 
-            attempts++;
+        return out;
+    }
 
-            String sym = (it == null) ? null : it.getSymbol();
+    private void take(List<String> source, int target, Set<String> used, List<String> out) {
+        for (String sym : source) {
+            if (out.size() >= target) return;
             if (!isSafeCommonStockSymbol(sym)) continue;
 
             String upper = sym.trim().toUpperCase();
             if (used.add(upper)) out.add(upper);
         }
-
-        return out;
     }
 
     private boolean isSafeCommonStockSymbol(String symbol) {
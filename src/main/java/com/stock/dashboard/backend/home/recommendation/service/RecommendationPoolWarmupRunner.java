@@ -1,12 +1,16 @@
 package com.stock.dashboard.backend.home.recommendation.service;
 
+import com.stock.dashboard.backend.event.OnLeadershipAcquiredEvent;
 import com.stock.dashboard.backend.home.recommendation.pool.RecommendationPoolRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
+/**
+ * 추천 풀 워밍업
+ * - 리더가 된 인스턴스만 (기동 직후 첫 선출 + failover 시) → 레플리카 수만큼 업스트림 호출이 늘지 않음
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
@@ -15,7 +19,7 @@ public class RecommendationPoolWarmupRunner {
     private final RecommendationPoolRepository poolRepository;
     private final RecommendationPoolRefillService refillService;
 
-    @EventListener(ApplicationReadyEvent.class)
+    @EventListener(OnLeadershipAcquiredEvent.class)
     public void warmUp() {
         try {
             String version = poolRepository.todayVersion();
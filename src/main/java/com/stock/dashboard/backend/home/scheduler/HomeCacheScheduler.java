@@ -1,50 +1,88 @@
 package com.stock.dashboard.backend.home.scheduler;
 
+import com.stock.dashboard.backend.home.scheduler.HomeRefreshPlanner.Task;
 import com.stock.dashboard.backend.home.service.HomeService;
-import com.stock.dashboard.backend.home.service.RecommendationPoolService;
-import jakarta.annotation.PostConstruct;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
 import org.springframework.stereotype.Component;
 
+/**
+ * 홈 캐시 갱신 스케줄
+ *
+ * - 티커/뉴스/전체 리빌드: 고정 cron 대신 HomeRefreshPlanner 가 미국 장 캘린더로 다음 실행 시각 계산
+ *   (서머타임/조기 폐장/휴장 반영, 개장·마감 전후 촘촘, 장외 드물게, jitter)
+ * - 추천: 풀 version 비교만 하므로 고정 주기
+ * - 예정/최근 실행은 /actuator/homeschedule (HomeScheduleEndpoint)
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
-public class HomeCacheScheduler {
+public class HomeCacheScheduler implements SchedulingConfigurer {
 
     private final HomeService homeService;
-    private final RecommendationPoolService poolService;
+    private final HomeRefreshPlanner planner;
 
-    @PostConstruct
-    public void init() {
-        try {
-//            poolService.refreshPool();
-            // homeService.refreshHomeCache();  // 부팅 시에는 막기
-            log.info("Home cache refresh (init)");
-        } catch (Exception e) {
-            log.warn("Home cache refresh failed (init).", e);
+    private final Map<Task, TaskState> states = new ConcurrentHashMap<>();
+
+    public record TaskState(Instant lastRunAt, Instant nextRunAt) {}
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        for (Task task : Task.values()) {
+            registrar.addTriggerTask(
+                    () -> run(task),
+                    ctx -> {
+                        Instant now = Instant.now();
+                        Instant next = planner.next(task, now);
+                        TaskState prev = states.get(task);
+                        states.put(task, new TaskState(prev == null ? null : prev.lastRunAt(), next));
+                        return next;
+                    }
+            );
         }
     }
 
-    @Scheduled(cron = "0 0,30 0-6,23 * * *", zone = "Asia/Seoul")
-    public void refreshDuringMarketHours() {
+    private void run(Task task) {
+        Instant now = Instant.now();
+        TaskState prev = states.get(task);
+        states.put(task, new TaskState(now, prev == null ? null : prev.nextRunAt()));
+
         try {
-//            poolService.refreshPool();
-            homeService.refreshHomeCache();
-            log.info("Home cache refresh (market hours)");
+            switch (task) {
+                case TICKERS -> homeService.refreshTickers(planner.cadence(task, now));
+                case NEWS -> homeService.refreshNews(planner.cadence(task, now));
+                case FULL -> {
+                    homeService.refreshHomeCache();
+                    log.info("Home cache refresh (full, phase={})", planner.phase(now));
+                }
+            }
         } catch (Exception e) {
-            log.warn("Home cache refresh failed (market hours). Keep last success.", e);
+            log.warn("Home {} refresh failed. Keep last success.", task.name().toLowerCase(), e);
         }
     }
 
-    @Scheduled(cron = "0 0 9,15 * * *", zone = "Asia/Seoul")
-    public void refreshOffHours() {
+    @Scheduled(fixedDelayString = "${home.refresh.reco-check-ms:60000}", initialDelayString = "${home.refresh.reco-check-ms:60000}")
+    public void refreshRecommendations() {
         try {
-//            poolService.refreshPool();
-            homeService.refreshHomeCache();
+            homeService.refreshRecommendations();
         } catch (Exception e) {
-            log.warn("Home cache refresh failed (off hours). Keep last success.", e);
+            log.warn("Home recommendations refresh failed. Keep last success.", e);
         }
     }
+
+    /**
+     * 작업별 최근/다음 실행 (actuator 용)
+     */
+    public Map<Task, TaskState> states() {
+        Map<Task, TaskState> out = new EnumMap<>(Task.class);
+        out.putAll(states);
+        return out;
+    }
 }
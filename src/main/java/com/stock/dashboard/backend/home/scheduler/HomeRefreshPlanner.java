@@ -0,0 +1,193 @@
+package com.stock.dashboard.backend.home.scheduler;
+
+import com.stock.dashboard.backend.market.calendar.UsMarketCalendar;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 홈 갱신 시각 계산 (미국 정규장 캘린더 기준)
+ *
+ * - 구간(Phase)마다 주기가 다름: 개장/마감 전후는 촘촘하게, 장외/휴장은 드물게
+ * - 다음 실행이 구간 경계를 넘으면 경계 직후로 당김 → 개장 직후 바로 갱신
+ * - 주기에 ±jitter 를 섞어 여러 인스턴스가 같은 순간에 몰리지 않게
+ * - 서머타임/조기 폐장/휴장은 UsMarketCalendar 가 처리
+ */
+@Component
+@RequiredArgsConstructor
+public class HomeRefreshPlanner {
+
+    private static final LocalTime PRE_MARKET = LocalTime.of(4, 0);
+    private static final LocalTime AFTER_HOURS_END = LocalTime.of(20, 0);
+
+    private static final Duration OPENING_BEFORE = Duration.ofMinutes(15);
+    private static final Duration OPENING_AFTER = Duration.ofMinutes(30);
+    private static final Duration CLOSING_BEFORE = Duration.ofMinutes(15);
+    // 종가 확정 + 일봉 확정(마감 + 30분)까지
+    private static final Duration CLOSING_AFTER = Duration.ofMinutes(30);
+
+    // 전체 리빌드(안전망): 개장 직전 / 일봉 확정 직후
+    private static final Duration FULL_BEFORE_OPEN = Duration.ofMinutes(5);
+    private static final Duration FULL_AFTER_CLOSE = Duration.ofMinutes(35);
+
+    private final UsMarketCalendar calendar;
+
+    // 티커 주기는 "보는 사람이 있을 때" 업스트림 예산 (HomeService.refreshTickers: 요청이 없으면 캐시만 읽음)
+    @Value("${home.schedule.tickers.dense-ms:10000}")
+    private long tickersDenseMs = 10_000L;
+
+    @Value("${home.schedule.tickers.regular-ms:30000}")
+    private long tickersRegularMs = 30_000L;
+
+    @Value("${home.schedule.tickers.extended-ms:300000}")
+    private long tickersExtendedMs = 300_000L;
+
+    @Value("${home.schedule.tickers.closed-ms:1800000}")
+    private long tickersClosedMs = 1_800_000L;
+
+    @Value("${home.schedule.news.active-ms:120000}")
+    private long newsActiveMs = 120_000L;
+
+    @Value("${home.schedule.news.extended-ms:300000}")
+    private long newsExtendedMs = 300_000L;
+
+    @Value("${home.schedule.news.closed-ms:1800000}")
+    private long newsClosedMs = 1_800_000L;
+
+    // 0.1 → 주기의 ±10%
+    @Value("${home.schedule.jitter-ratio:0.1}")
+    private double jitterRatio = 0.1;
+
+    public enum Phase { PRE_MARKET, OPENING, REGULAR, CLOSING, AFTER_HOURS, CLOSED }
+
+    public enum Task { TICKERS, NEWS, FULL }
+
+    public Phase phase(Instant now) {
+        LocalDate d = now.atZone(UsMarketCalendar.NEW_YORK).toLocalDate();
+        if (!calendar.isTradingDay(d)) return Phase.CLOSED;
+
+        List<Instant> b = boundaries(d);
+        if (now.isBefore(b.get(0))) return Phase.CLOSED;
+        if (now.isBefore(b.get(1))) return Phase.PRE_MARKET;
+        if (now.isBefore(b.get(2))) return Phase.OPENING;
+        if (now.isBefore(b.get(3))) return Phase.REGULAR;
+        if (now.isBefore(b.get(4))) return Phase.CLOSING;
+        if (now.isBefore(b.get(5))) return Phase.AFTER_HOURS;
+        return Phase.CLOSED;
+    }
+
+    /**
+     * 지금 구간의 주기 (FULL 은 고정 시각이라 다음 실행까지 남은 시간)
+     */
+    public Duration cadence(Task task, Instant now) {
+        if (task == Task.FULL) return Duration.between(now, nextFullRebuild(now));
+        return Duration.ofMillis(cadenceMs(task, phase(now)));
+    }
+
+    /**
+     * 다음 실행 시각 (jitter 포함)
+     */
+    public Instant next(Task task, Instant now) {
+        return next(task, now, ThreadLocalRandom.current().nextDouble());
+    }
+
+    /**
+     * u: [0, 1) 난수 (0.5 면 jitter 없음)
+     */
+    public Instant next(Task task, Instant now, double u) {
+        if (task == Task.FULL) {
+            // 고정 시각 뒤로만 흔듦 (개장 전 안전망이 개장 후로 밀리지 않게 최대 1분)
+            return nextFullRebuild(now).plusMillis((long) (u * Math.min(60_000L, 600_000L * jitterRatio)));
+        }
+
+        long interval = cadenceMs(task, phase(now));
+        Instant planned = now.plusMillis(Math.max(1_000L, Math.round(interval * (1 + jitterRatio * (2 * u - 1)))));
+
+        // 구간 경계를 넘으면 경계 직후로 (새 구간 주기의 jitter 만큼만 뒤로)
+        Instant boundary = nextBoundary(now);
+        if (boundary.isBefore(planned)) {
+            long nextInterval = cadenceMs(task, phase(boundary));
+            return boundary.plusMillis((long) (u * nextInterval * jitterRatio));
+        }
+        return planned;
+    }
+
+    /**
+     * actuator 미리보기용: jitter 없이 앞으로 count 번의 실행 시각
+     */
+    public List<Instant> preview(Task task, Instant from, int count) {
+        List<Instant> out = new ArrayList<>(count);
+        Instant t = from;
+        for (int i = 0; i < count; i++) {
+            t = next(task, t, 0.5);
+            out.add(t);
+        }
+        return out;
+    }
+
+    public Instant nextFullRebuild(Instant now) {
+        LocalDate d = now.atZone(UsMarketCalendar.NEW_YORK).toLocalDate();
+        while (true) {
+            if (calendar.isTradingDay(d)) {
+                Instant beforeOpen = calendar.sessionOpen(d).toInstant().minus(FULL_BEFORE_OPEN);
+                if (beforeOpen.isAfter(now)) return beforeOpen;
+                Instant afterClose = calendar.sessionClose(d).toInstant().plus(FULL_AFTER_CLOSE);
+                if (afterClose.isAfter(now)) return afterClose;
+            }
+            d = d.plusDays(1);
+        }
+    }
+
+    /**
+     * now 이후 가장 가까운 구간 경계
+     */
+    public Instant nextBoundary(Instant now) {
+        LocalDate d = now.atZone(UsMarketCalendar.NEW_YORK).toLocalDate();
+        while (true) {
+            if (calendar.isTradingDay(d)) {
+                for (Instant b : boundaries(d)) {
+                    if (b.isAfter(now)) return b;
+                }
+            }
+            d = d.plusDays(1);
+        }
+    }
+
+    private long cadenceMs(Task task, Phase phase) {
+        if (task == Task.NEWS) {
+            return switch (phase) {
+                case OPENING, REGULAR, CLOSING -> newsActiveMs;
+                case PRE_MARKET, AFTER_HOURS -> newsExtendedMs;
+                case CLOSED -> newsClosedMs;
+            };
+        }
+        return switch (phase) {
+            case OPENING, CLOSING -> tickersDenseMs;
+            case REGULAR -> tickersRegularMs;
+            case PRE_MARKET, AFTER_HOURS -> tickersExtendedMs;
+            case CLOSED -> tickersClosedMs;
+        };
+    }
+
+    // 거래일 d 의 구간 경계: 프리마켓 시작, 개장 구간 시작/끝, 마감 구간 시작/끝, 애프터마켓 끝
+    private List<Instant> boundaries(LocalDate d) {
+        ZonedDateTime open = calendar.sessionOpen(d);
+        ZonedDateTime close = calendar.sessionClose(d);
+        return List.of(
+                d.atTime(PRE_MARKET).atZone(UsMarketCalendar.NEW_YORK).toInstant(),
+                open.minus(OPENING_BEFORE).toInstant(),
+                open.plus(OPENING_AFTER).toInstant(),
+                close.minus(CLOSING_BEFORE).toInstant(),
+                close.plus(CLOSING_AFTER).toInstant(),
+                d.atTime(AFTER_HOURS_END).atZone(UsMarketCalendar.NEW_YORK).toInstant()
+        );
+    }
+}
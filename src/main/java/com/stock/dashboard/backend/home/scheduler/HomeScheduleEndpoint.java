@@ -0,0 +1,67 @@
+package com.stock.dashboard.backend.home.scheduler;
+
+import com.stock.dashboard.backend.home.scheduler.HomeRefreshPlanner.Task;
+import com.stock.dashboard.backend.market.calendar.UsMarketCalendar;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * ✅ /actuator/homeschedule
+ * - 현재 장 구간, 작업별 주기/최근·다음 실행, 앞으로의 실행 예정(jitter 제외)
+ * - 내부 운영 정보: local 프로필에서만 웹 노출, prod 는 health 만 (application-*.properties)
+ * - 노출돼도 JWT 로 ROLE_ADMIN 인 사용자만 (SecurityConfig, JwtAuthenticationFilter 는 /actuator/health 만 건너뜀)
+ */
+@Component
+@Endpoint(id = "homeschedule")
+@RequiredArgsConstructor
+public class HomeScheduleEndpoint {
+
+    private static final int PREVIEW_COUNT = 10;
+
+    private final HomeCacheScheduler scheduler;
+    private final HomeRefreshPlanner planner;
+    private final UsMarketCalendar calendar;
+
+    public record TaskView(long cadenceMs, Instant lastRunAt, Instant nextRunAt, List<Instant> upcoming) {}
+
+    public record ScheduleView(
+            Instant now,
+            HomeRefreshPlanner.Phase phase,
+            boolean marketOpen,
+            Instant nextOpen,
+            Instant nextPhaseChange,
+            Map<Task, TaskView> tasks
+    ) {}
+
+    @ReadOperation
+    public ScheduleView schedule() {
+        Instant now = Instant.now();
+        Map<Task, HomeCacheScheduler.TaskState> states = scheduler.states();
+
+        Map<Task, TaskView> tasks = new LinkedHashMap<>();
+        for (Task task : Task.values()) {
+            HomeCacheScheduler.TaskState s = states.get(task);
+            tasks.put(task, new TaskView(
+                    planner.cadence(task, now).toMillis(),
+                    s == null ? null : s.lastRunAt(),
+                    s == null ? null : s.nextRunAt(),
+                    planner.preview(task, now, task == Task.FULL ? 3 : PREVIEW_COUNT)
+            ));
+        }
+
+        return new ScheduleView(
+                now,
+                planner.phase(now),
+                calendar.isOpen(now),
+                calendar.nextOpen(now),
+                planner.nextBoundary(now),
+                tasks
+        );
+    }
+}
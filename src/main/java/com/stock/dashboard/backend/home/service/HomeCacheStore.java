@@ -1,29 +1,145 @@
 package com.stock.dashboard.backend.home.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stock.dashboard.backend.home.dto.RecommendationsResponse;
+import com.stock.dashboard.backend.home.dto.RecommendedItemResponse;
+import com.stock.dashboard.backend.home.vo.HomeResponseVO;
 import com.stock.dashboard.backend.home.vo.HomeSnapshot;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
 import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+/**
+ * 홈 스냅샷 보관소
+ *
+ * - 스냅샷 교체 시점에 /api/home 응답을 한 번만 직렬화(JSON) + gzip + ETag 계산
+ * - 요청마다는 미리 만든 바이트를 그대로 내려주거나 304 → 요청당 매핑/직렬화 비용 없음
+ * - sparkline=url 변형도 같이 만들어 둠
+ * - version: Redis 에 공유된 스냅샷 버전 (HomeSnapshotSync), 로컬 전용이면 0
+ */
 @Component
+@RequiredArgsConstructor
 public class HomeCacheStore {
 
-    private final AtomicReference<HomeSnapshot> homeCache = new AtomicReference<>();
+    private final ObjectMapper objectMapper;
+    private final HomeRecommendationProperties properties;
+
+    private final AtomicReference<Entry> homeCache = new AtomicReference<>();
 
     @Getter
     private volatile Instant lastSuccessAt = null;
 
+    private record Entry(long version, HomeSnapshot snapshot, HomeResponseVO response, Rendered full, Rendered urlOnly) {}
+
+    /**
+     * 미리 렌더링된 응답 (identity / gzip 각각 strong ETag)
+     */
+    public record Rendered(String etag, String gzipEtag, byte[] json, byte[] gzip) {
+
+        /**
+         * If-None-Match 가 이 응답(어느 인코딩이든)을 가리키면 true
+         */
+        public boolean matches(String ifNoneMatch) {
+            if (ifNoneMatch == null || ifNoneMatch.isBlank()) return false;
+            for (String raw : ifNoneMatch.split(",")) {
+                String tag = raw.trim();
+                if (tag.equals("*")) return true;
+                if (tag.startsWith("W/")) tag = tag.substring(2);
+                if (tag.equals(etag) || tag.equals(gzipEtag)) return true;
+            }
+            return false;
+        }
+    }
+
     public HomeSnapshot get() {
-        return homeCache.get();
+        Entry e = homeCache.get();
+        return e == null ? null : e.snapshot();
+    }
+
+    public long version() {
+        Entry e = homeCache.get();
+        return e == null ? -1L : e.version();
+    }
+
+    public HomeResponseVO getResponse() {
+        Entry e = homeCache.get();
+        return e == null ? null : e.response();
+    }
+
+    public Rendered getRendered(boolean sparklineUrlOnly) {
+        Entry e = homeCache.get();
+        if (e == null) return null;
+        return sparklineUrlOnly ? e.urlOnly() : e.full();
     }
 
-    public void set(HomeSnapshot snapshot) {
-        homeCache.set(snapshot);
+    /**
+     * 스냅샷 교체 (렌더링은 교체 전에 끝냄 → 읽는 쪽은 항상 완성된 바이트만 봄)
+     */
+    public void set(HomeSnapshot snapshot, long version) {
+        HomeResponseVO response = toResponse(snapshot);
+        Entry entry = new Entry(
+                version,
+                snapshot,
+                response,
+                render(response),
+                render(response.withoutSparklinePoints())
+        );
+        homeCache.set(entry);
         lastSuccessAt = Instant.now();
     }
 
     public boolean hasValue() {
         return homeCache.get() != null;
     }
+
+    /**
+     * 스냅샷 → /api/home 응답 (추천은 홈용 목록을 page0 형태로)
+     */
+    public HomeResponseVO toResponse(HomeSnapshot snap) {
+        List<RecommendedItemResponse> all = (snap.getRecommendationItems() == null) ? List.of() : snap.getRecommendationItems();
+        int end = Math.min(all.size(), properties.getPageSize());
+
+        // 홈은 5개만이니까 nextOffset은 UI 힌트 용도
+        RecommendationsResponse recoPage0 = new RecommendationsResponse(all.subList(0, end), end > 0 ? end : null);
+
+        return HomeResponseVO.builder()
+                .tickers(snap.getTickers())
+                .news(snap.getNews())
+                .recommendations(recoPage0)
+
+                // 홈/더보기 일치용 version
+                .recommendationVersion(snap.getRecommendationVersion())
+                .recommendationStatus(snap.getRecommendationStatus())
+                .recommendationUpdatedAt(snap.getRecommendationUpdatedAt())
+
+                .build();
+    }
+
+    public Rendered render(HomeResponseVO response) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(response);
+            String hash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(json), 0, 12);
+            return new Rendered("\"" + hash + "\"", "\"" + hash + "-gz\"", json, gzip(json));
+        } catch (Exception e) {
+            throw new IllegalStateException("home response render failed", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] raw) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream(raw.length / 4 + 64);
+        // 한 번만 압축하므로 최고 압축률
+        try (GZIPOutputStream gz = new GZIPOutputStream(bos) {{ def.setLevel(Deflater.BEST_COMPRESSION); }}) {
+            gz.write(raw);
+        }
+        return bos.toByteArray();
+    }
 }
@@ -20,10 +20,17 @@ public class HomeRecommendationProperties {
     private int poolSize = 8;
     private int cacheTtlSeconds = 60;
 
-    private int homeSize = 8;
-    private int pageSize = 20;
+    // 홈에 노출할 추천 개수
+    private int homeSize = 5;
 
-    private int candidatePool = 60;
+    // 더보기 페이지 크기 (materialize 페이지 / 홈 캐시 / 풀 조회 공통)
+    private int pageSize = 10;
+
+    // 풀 목표 크기: 리필은 여기까지 채우고, 페이지는 여기까지 찼을 때 확정
+    private int poolTarget = 20;
+
+    // 오늘 후보 창 크기 (랭킹용 일봉 캐시 채움 / 랭킹 부족 시 폴백)
+    private int candidatePool = 120;
     private long deadlineMs = 1200;
     private int maxAttempts = 2;
 
@@ -1,26 +1,32 @@
 package com.stock.dashboard.backend.home.service;
 
-import com.stock.dashboard.backend.home.dto.RecommendationsResponse;
+import com.stock.dashboard.backend.config.FetchExecutor;
 import com.stock.dashboard.backend.home.dto.RecommendedItemResponse;
 import com.stock.dashboard.backend.home.vo.HomeResponseVO;
 import com.stock.dashboard.backend.home.vo.HomeSnapshot;
 import com.stock.dashboard.backend.home.vo.HomeTickerVO;
 import com.stock.dashboard.backend.home.vo.NewsItemVO;
 import com.stock.dashboard.backend.home.vo.RecommendationStatus;
-import com.stock.dashboard.backend.market.client.FinnhubClient;
-import com.stock.dashboard.backend.market.dto.FinnhubNewsItemDTO;
+import com.stock.dashboard.backend.leader.LeaderOnly;
+import com.stock.dashboard.backend.market.news.NewsService;
 import com.stock.dashboard.backend.market.service.MarketRealtimePriceService;
+import com.stock.dashboard.backend.market.sparkline.SparklineSvgService;
 import com.stock.dashboard.backend.market.twelvedata.dto.SparklinePoint;
 import com.stock.dashboard.backend.market.twelvedata.service.SparklineService;
 import com.stock.dashboard.backend.model.vo.MarketSummaryVO;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Comparator;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -33,33 +39,62 @@ public class HomeService {
 
     private final MarketRealtimePriceService marketRealtimePriceService;
     private final SparklineService sparklineService;
-    private final FinnhubClient finnhubClient;
+    private final SparklineSvgService sparklineSvgService;
+    private final NewsService newsService;
 
     private final HomeCacheStore homeCacheStore;
+    private final HomeSnapshotSync homeSnapshotSync;
     private final RecommendationPoolService recommendationPoolService;
+    private final FetchExecutor fetchExecutor;
+    private final HomeRecommendationProperties recommendProperties;
 
     @Value("${home.symbols:AAPL,TSLA,NVDA,AMZN}")
     private String symbolsCsv;
 
-    @Value("${home.news-category:general}")
-    private String newsCategory;
-
     @Value("${home.news-limit:10}")
     private int newsLimit;
 
-    @Value("${home.recommend.page-size:10}")
-    private int pageSize;
+    // 구성요소별 예산 / 추천 확인 주기 (티커/뉴스 주기는 HomeRefreshPlanner 가 캘린더로 계산)
+    @Value("${home.refresh.tickers-budget-ms:800}")
+    private long tickersBudgetMs;
+
+    @Value("${home.refresh.reco-check-ms:60000}")
+    private long recoCheckMs;
 
-    @Value("${home.recommend.home-size:5}")
-    private int homeSize;
+    // 같은 version 인데 풀이 아직 BUILDING 이면 (고정 심볼로 채운 상태) 이 간격으로만 재시도
+    @Value("${home.refresh.reco-building-retry-ms:600000}")
+    private long recoBuildingRetryMs;
+
+    private record RecoResult(List<RecommendedItemResponse> items, RecommendationStatus status, String version) {}
 
     // 1) 외부 API 호출은 여기서만 함 (스케줄러가 호출)
+    // - 전체 리빌드: 콜드 스타트/안전망. 평소에는 아래 구성요소별 갱신이 스냅샷을 최신으로 유지
+    // - 리더 인스턴스만 (@LeaderOnly), 그 안에서도 리빌드 락을 잡은 인스턴스만 빌드 → Redis 공유, 나머지는 알림 받아 교체 (HomeSnapshotSync)
+    @LeaderOnly
     public void refreshHomeCache() {
-        HomeSnapshot fresh = buildSnapshot();
-        homeCacheStore.set(fresh);
+        String token = homeSnapshotSync.tryAcquireRebuild();
+        if (token == null) {
+            log.info("Home cache refresh skipped. another instance is (or just was) rebuilding.");
+            return;
+        }
 
-        log.info("Home cache refreshed. snapshotId={}, tickers={}, news={}, recoHome={}, recoStatus={}, recoVer={}",
+        HomeSnapshot fresh;
+        try {
+            fresh = buildSnapshot();
+        } catch (RuntimeException e) {
+            homeSnapshotSync.releaseRebuild(token);
+            throw e;
+        }
+        long version = homeSnapshotSync.update(current -> fresh);
+        if (version < 0) {
+            homeSnapshotSync.releaseRebuild(token);
+            log.warn("Home cache refresh not published. snapshotId={}", fresh.getSnapshotId());
+            return;
+        }
+
+        log.info("Home cache refreshed. snapshotId={}, version={}, tickers={}, news={}, recoHome={}, recoStatus={}, recoVer={}",
                 fresh.getSnapshotId(),
+                version,
                 fresh.getTickers() == null ? 0 : fresh.getTickers().size(),
                 fresh.getNews() == null ? 0 : fresh.getNews().size(),
                 fresh.getRecommendationItems() == null ? 0 : fresh.getRecommendationItems().size(),
@@ -68,34 +103,159 @@ public class HomeService {
         );
     }
 
-    // 2) /api/home : 캐시 기반 반환 (추천은 홈용 5개)
-    public HomeResponseVO getHome() {
-        HomeSnapshot snap = getOrBuildSnapshotSafe();
+    /**
+     * 구성요소 갱신: 티커 (시세/스파크라인)
+     * - 최근 tickers-idle-ms 안에 /api/home 요청이 있었을 때만 업스트림까지 (getRealtimePrice: fresh 캐시가 없을 때만 Finnhub)
+     *   · 장중 dense 주기(10초)면 홈 심볼 수 × 분당 6회까지 Finnhub 호출 → 보는 사람이 없으면 이 비용을 쓰지 않음
+     * - 그 외엔 캐시만 (시세 MGET + 스파크라인 MGET, 업스트림 호출 없음) → 다른 경로(prewarm/관심종목)가 채운 값만 반영
+     * - 값이 그대로면 발행 안 함
+     * - cadence: 스케줄러의 현재 주기 (인스턴스 간 throttle 기준)
+     */
+    @LeaderOnly
+    public void refreshTickers(Duration cadence) {
+        refreshComponent("tickers", cadence, () -> {
+            List<String> symbols = homeSymbols();
+            Map<String, CompletableFuture<HomeTickerVO>> futures;
+            if (homeSnapshotSync.requestedRecently()) {
+                futures = startTickers(symbols);
+                fetchExecutor.awaitUntil(futures.values(), FetchExecutor.deadlineAfter(tickersBudgetMs));
+            } else {
+                futures = cachedTickers(symbols);
+            }
+
+            return current -> {
+                List<HomeTickerVO> tickers = collectTickers(futures, current);
+                if (sameTickers(tickers, current.getTickers())) return current;
+                return touch(current.toBuilder())
+                        .tickers(tickers)
+                        .tickersUpdatedAt(System.currentTimeMillis())
+                        .build();
+            };
+        });
+    }
+
+    /**
+     * 구성요소 갱신: 뉴스
+     * - NewsService 가 증분 조회(throttle) 후 캐시에서 최신순으로 읽음 → 새 기사가 있을 때만 발행
+     */
+    @LeaderOnly
+    public void refreshNews(Duration cadence) {
+        refreshComponent("news", cadence, () -> {
+            CompletableFuture<List<NewsItemVO>> future = fetchExecutor.supply(this::buildNewsSafe);
+            fetchExecutor.awaitUntil(List.of(future), FetchExecutor.deadlineAfter(recommendProperties.getDeadlineMs()));
+
+            return current -> {
+                List<NewsItemVO> news = collectNews(future, current);
+                if (sameNews(news, current.getNews())) return current;
+                return touch(current.toBuilder())
+                        .news(news)
+                        .newsUpdatedAt(System.currentTimeMillis())
+                        .build();
+            };
+        });
+    }
+
+    /**
+     * 구성요소 갱신: 추천
+     * - 풀 version 이 바뀌었을 때 다시 만듦, 아직 BUILDING(풀 채우는 중)이면 느린 주기로 재시도
+     * - 평소엔 version 비교 한 번
+     */
+    @LeaderOnly
+    public void refreshRecommendations() {
+        HomeSnapshot snap = homeCacheStore.get();
+        String version = recommendationPoolService.currentVersion();
+        boolean sameVersion = snap != null && version != null && version.equals(snap.getRecommendationVersion());
+        if (sameVersion && snap.getRecommendationStatus() == RecommendationStatus.READY) return;
+
+        String component = sameVersion ? "reco-building" : "reco";
+        refreshComponent(component, Duration.ofMillis(sameVersion ? recoBuildingRetryMs : recoCheckMs), () -> {
+            long deadline = FetchExecutor.deadlineAfter(recommendProperties.getDeadlineMs());
+            CompletableFuture<RecoResult> future = startRecommendations(version, homeSymbols(), deadline);
+            fetchExecutor.awaitUntil(List.of(future), deadline);
+
+            return current -> {
+                RecoResult reco = collectRecommendations(future, current);
+                return touch(current.toBuilder())
+                        .recommendationItems(reco.items())
+                        .recommendationVersion(reco.version())
+                        .recommendationStatus(reco.status())
+                        .recommendationUpdatedAt(System.currentTimeMillis())
+                        .build();
+            };
+        });
+    }
+
+    /**
+     * 구성요소 갱신 공통
+     * - 스냅샷이 아직 없으면 전체 리빌드
+     * - interval 동안 한 인스턴스만 빌드 (HomeSnapshotSync throttle), 빌드는 락 밖에서
+     * - 결과는 쓰기 락 안에서 최신 스냅샷에 해당 구성요소만 덮어써 발행 → 로컬은 AtomicReference 교체
+     */
+    private void refreshComponent(String component, Duration cadence, Supplier<UnaryOperator<HomeSnapshot>> build) {
+        if (homeCacheStore.get() == null && !homeSnapshotSync.loadIntoLocal()) {
+            refreshHomeCache();
+            return;
+        }
+        // 다음 주기(jitter 포함) 전에 풀리도록 80% 로
+        if (!homeSnapshotSync.tryStartComponent(component, Duration.ofMillis(Math.max(1_000L, cadence.toMillis() * 8 / 10)))) {
+            return;
+        }
 
-        // 홈/더보기 일치용 version
-        String version = snap.getRecommendationVersion();
+        UnaryOperator<HomeSnapshot> merge = build.get();
+        long version = homeSnapshotSync.update(current -> current == null ? null : merge.apply(current));
+        if (version >= 0) {
+            log.info("Home snapshot component refreshed. component={}, version={}", component, version);
+        }
+    }
 
-        RecommendationsResponse recoPage0 = toRecoPage0FromHomeList(snap.getRecommendationItems());
+    // 2) /api/home : 캐시 기반 반환 (추천은 홈용 5개)
+    public HomeResponseVO getHome() {
+        homeSnapshotSync.markRequested();
+        HomeResponseVO cached = homeCacheStore.getResponse();
+        if (cached != null) return cached;
+        return homeCacheStore.toResponse(getOrBuildSnapshotSafe());
+    }
 
-        return HomeResponseVO.builder()
-                .tickers(snap.getTickers())
-                .news(snap.getNews())
-                .recommendations(recoPage0)
+    /**
+     * ✅ /api/home 기본(JSON) 응답: 스냅샷 교체 때 미리 만든 JSON/gzip 바이트 + ETag
+     */
+    public HomeCacheStore.Rendered getRenderedHome(boolean sparklineUrlOnly) {
+        homeSnapshotSync.markRequested();
+        HomeCacheStore.Rendered rendered = homeCacheStore.getRendered(sparklineUrlOnly);
+        if (rendered != null) return rendered;
 
-                .recommendationVersion(version)
-                .recommendationStatus(snap.getRecommendationStatus())
-                .recommendationUpdatedAt(snap.getRecommendationUpdatedAt())
+        // 캐시가 비어 있으면 빌드 시도 → 그래도 없으면(빌드 실패) 빈 스냅샷을 즉석 렌더링
+        HomeSnapshot snap = getOrBuildSnapshotSafe();
+        rendered = homeCacheStore.getRendered(sparklineUrlOnly);
+        if (rendered != null) return rendered;
 
-                .build();
+        HomeResponseVO res = homeCacheStore.toResponse(snap);
+        return homeCacheStore.render(sparklineUrlOnly ? res.withoutSparklinePoints() : res);
     }
 
     private HomeSnapshot getOrBuildSnapshotSafe() {
         HomeSnapshot cached = homeCacheStore.get();
         if (cached != null) return cached;
 
+        // 다른 인스턴스가 만든 공유 스냅샷이 있으면 그걸 사용
+        if (homeSnapshotSync.loadIntoLocal()) return homeCacheStore.get();
+
         try {
-            HomeSnapshot fresh = buildSnapshot();
-            homeCacheStore.set(fresh);
+            // 공유 스냅샷도 없을 때만 빌드 (동시에 여러 인스턴스가 빌드하지 않게 락)
+            String token = homeSnapshotSync.tryAcquireRebuild();
+            if (token == null) throw new IllegalStateException("home snapshot is being built by another instance");
+
+            HomeSnapshot fresh;
+            try {
+                fresh = buildSnapshot();
+            } catch (RuntimeException e) {
+                homeSnapshotSync.releaseRebuild(token);
+                throw e;
+            }
+            if (homeSnapshotSync.update(current -> fresh) < 0) {
+                homeSnapshotSync.releaseRebuild(token);
+                throw new IllegalStateException("home snapshot publish failed");
+            }
             return fresh;
         } catch (Exception e) {
             log.warn("Home cache empty and snapshot build failed. returning empty snapshot.", e);
@@ -116,100 +276,205 @@ public class HomeService {
         }
     }
 
+    /**
+     * 스냅샷 전체 빌드 (fan-out)
+     * - 티커(시세/스파크라인), 뉴스는 FetchExecutor 에서 먼저 시작, 추천은 이 스레드에서 조립 → 한 번의 deadline 까지만 대기
+     * - 마감을 못 맞췄거나 실패한 구성요소는 직전 스냅샷 값 유지 (늦은 작업은 계속 돌며 캐시를 채움)
+     */
     private HomeSnapshot buildSnapshot() {
         long nowMs = System.currentTimeMillis();
+        long deadline = FetchExecutor.deadlineAfter(recommendProperties.getDeadlineMs());
+        HomeSnapshot prev = homeCacheStore.get();
 
-        List<String> symbols = Arrays.stream(symbolsCsv.split(","))
-                .map(String::trim)
-                .filter(s -> !s.isBlank())
-                .distinct()
-                .toList();
+        List<String> symbols = homeSymbols();
 
-        List<HomeTickerVO> tickers = symbols.stream()
-                .map(this::buildTickerSafe)
-                .filter(Objects::nonNull)
-                .toList();
-
-        List<NewsItemVO> news = buildNewsSafe();
+        Map<String, CompletableFuture<HomeTickerVO>> tickerFutures = startTickers(symbols);
+        CompletableFuture<List<NewsItemVO>> newsFuture = fetchExecutor.supply(this::buildNewsSafe);
 
         // 홈/더보기 일치용 version을 "스냅샷에 고정"한다.
-        String version = recommendationPoolService.currentVersion();
+        CompletableFuture<RecoResult> recoFuture = startRecommendations(recommendationPoolService.currentVersion(), symbols, deadline);
 
-        // 풀에서 version 기준으로 홈 5개 추출
-        List<RecommendedItemResponse> fromPool = recommendationPoolService.getRecommendationsForHome(version);
-        List<RecommendedItemResponse> recoHome = (fromPool == null) ? List.of() : fromPool;
+        List<CompletableFuture<?>> all = new ArrayList<>(tickerFutures.values());
+        all.add(newsFuture);
+        all.add(recoFuture);
+        fetchExecutor.awaitUntil(all, deadline);
 
-        RecommendationStatus status = (recoHome.size() >= homeSize)
-                ? RecommendationStatus.READY
-                : RecommendationStatus.BUILDING;
-
-        if (status == RecommendationStatus.BUILDING) {
-            // 풀 부족이면 홈 UX 깨지지 않게 고정 심볼로 부족분 채워서 5개 보장
-            recoHome = fillHomeRecommendationsWithFixedSymbols(recoHome, symbols, homeSize);
-        }
+        RecoResult reco = collectRecommendations(recoFuture, prev);
 
         return HomeSnapshot.builder()
                 .snapshotId(String.valueOf(nowMs))
                 .generatedAt(Instant.now())
-                .tickers(tickers)
-                .news(news)
-
-                .recommendationItems(recoHome)
-                .recommendationVersion(version)
-                .recommendationStatus(status)
+                .tickers(collectTickers(tickerFutures, prev))
+                .tickersUpdatedAt(nowMs)
+                .news(collectNews(newsFuture, prev))
+                .newsUpdatedAt(nowMs)
+
+                .recommendationItems(reco.items())
+                .recommendationVersion(reco.version())
+                .recommendationStatus(reco.status())
                 .recommendationUpdatedAt(nowMs)
 
                 .build();
     }
 
-    private RecommendationsResponse toRecoPage0FromHomeList(List<RecommendedItemResponse> homeList) {
-        List<RecommendedItemResponse> all = (homeList == null) ? List.of() : homeList;
-        int end = Math.min(all.size(), pageSize);
+    // 구성요소만 바뀌어도 스냅샷 id/생성 시각은 새로 (ETag, HomeSnapshotSync 의 최신 판단 기준)
+    private static HomeSnapshot.HomeSnapshotBuilder touch(HomeSnapshot.HomeSnapshotBuilder b) {
+        return b.snapshotId(String.valueOf(System.currentTimeMillis())).generatedAt(Instant.now());
+    }
+
+    private List<String> homeSymbols() {
+        return Arrays.stream(symbolsCsv.split(","))
+                .map(String::trim)
+                .filter(s -> !s.isBlank())
+                .distinct()
+                .toList();
+    }
+
+    private Map<String, CompletableFuture<HomeTickerVO>> startTickers(List<String> symbols) {
+        Map<String, CompletableFuture<HomeTickerVO>> futures = new LinkedHashMap<>();
+        for (String s : symbols) futures.put(s, buildTickerAsync(s));
+        return futures;
+    }
 
-        List<RecommendedItemResponse> items = all.subList(0, end);
+    // 티커: 심볼별로 새 값 → 없으면 직전 값
+    private List<HomeTickerVO> collectTickers(Map<String, CompletableFuture<HomeTickerVO>> futures, HomeSnapshot prev) {
+        Map<String, HomeTickerVO> prevTickers = new LinkedHashMap<>();
+        if (prev != null && prev.getTickers() != null) {
+            prev.getTickers().forEach(t -> prevTickers.put(t.getSymbol(), t));
+        }
+        List<HomeTickerVO> tickers = new ArrayList<>(futures.size());
+        int stale = 0;
+        for (Map.Entry<String, CompletableFuture<HomeTickerVO>> e : futures.entrySet()) {
+            HomeTickerVO t = e.getValue().getNow(null);
+            if (t == null) {
+                stale++;
+                t = prevTickers.get(e.getKey());
+            }
+            if (t != null) tickers.add(t);
+        }
+        if (stale > 0) log.warn("Home tickers: {} stale symbol(s), kept previous values", stale);
+        return tickers;
+    }
 
-        // 홈은 5개만이니까 nextOffset은 UI 힌트 용도
-        Integer nextOffset = end > 0 ? end : null;
+    private List<NewsItemVO> collectNews(CompletableFuture<List<NewsItemVO>> future, HomeSnapshot prev) {
+        List<NewsItemVO> news = future.getNow(List.of());
+        if (news.isEmpty() && prev != null && prev.getNews() != null) {
+            log.warn("Home news: stale, kept previous values");
+            return prev.getNews();
+        }
+        return news;
+    }
 
-        return new RecommendationsResponse(items, nextOffset);
+    private RecoResult collectRecommendations(CompletableFuture<RecoResult> future, HomeSnapshot prev) {
+        RecoResult reco = future.getNow(null);
+        if (reco != null) return reco;
+
+        if (prev != null && prev.getRecommendationItems() != null && !prev.getRecommendationItems().isEmpty()) {
+            log.warn("Home recommendations: stale, kept previous values");
+            return new RecoResult(prev.getRecommendationItems(), prev.getRecommendationStatus(), prev.getRecommendationVersion());
+        }
+        return new RecoResult(List.of(), RecommendationStatus.BUILDING, recommendationPoolService.currentVersion());
+    }
+
+    private static boolean sameTickers(List<HomeTickerVO> a, List<HomeTickerVO> b) {
+        if (a == null || b == null || a.size() != b.size()) return false;
+        for (int i = 0; i < a.size(); i++) {
+            HomeTickerVO x = a.get(i);
+            HomeTickerVO y = b.get(i);
+            if (!Objects.equals(x.getSymbol(), y.getSymbol())
+                    || x.getPrice() != y.getPrice()
+                    || x.getChange() != y.getChange()
+                    || x.getChangePercent() != y.getChangePercent()
+                    || !Objects.equals(x.getSparklineUrl(), y.getSparklineUrl())) {
+                return false;
+            }
+        }
+        return true;
     }
 
-    private HomeTickerVO buildTickerSafe(String symbol) {
+    private static boolean sameNews(List<NewsItemVO> a, List<NewsItemVO> b) {
+        if (a == null || b == null || a.size() != b.size()) return false;
+        for (int i = 0; i < a.size(); i++) {
+            if (!Objects.equals(a.get(i).getUrl(), b.get(i).getUrl())
+                    || a.get(i).getDatetime() != b.get(i).getDatetime()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 추천 조립은 호출 스레드에서 (풀 페이지 GET 1회, 콜드면 materialize 가 deadline 까지 FetchExecutor 작업을 기다림)
+     * - FetchExecutor 작업 안에서 같은 풀의 작업을 기다리지 않게 → 티커/뉴스 작업 뒤에 밀려 굶거나 풀 스레드가 막히는 일 없음
+     * - 풀이 부족할 때 고정 심볼 보충만 FetchExecutor 로 (기다리지 않고 future 로 반환)
+     */
+    private CompletableFuture<RecoResult> startRecommendations(String version, List<String> fixedSymbols, long deadlineNanos) {
+        int homeSize = recommendProperties.getHomeSize();
+
+        List<RecommendedItemResponse> recoHome;
         try {
-            MarketSummaryVO p = marketRealtimePriceService.getRealtimePrice(symbol);
-            List<SparklinePoint> sparklinePoints = sparklineService.getSparklineOnly(symbol);
-            List<Double> sparkline = sparklinePoints.stream().map(SparklinePoint::getClose).toList();
-
-            return HomeTickerVO.builder()
-                    .symbol(symbol)
-                    .name(null)
-                    .price(p.getPrice())
-                    .change(p.getChange())
-                    .changePercent(p.getChangePercent())
-                    .sparkline(sparkline)
-                    .build();
+            // 풀에서 version 기준으로 홈 5개 추출
+            List<RecommendedItemResponse> fromPool = recommendationPoolService.getRecommendationsForHome(version, deadlineNanos);
+            recoHome = (fromPool == null) ? List.of() : fromPool;
         } catch (Exception e) {
-            log.warn("Home ticker build failed: symbol={}", symbol, e);
-            return null;
+            log.warn("Home recommendations build failed: version={}", version, e);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        if (recoHome.size() >= homeSize) {
+            return CompletableFuture.completedFuture(new RecoResult(recoHome, RecommendationStatus.READY, version));
         }
+        // 풀 부족이면 홈 UX 깨지지 않게 고정 심볼로 부족분 채워서 5개 보장
+        return fillHomeRecommendationsWithFixedSymbols(recoHome, fixedSymbols, homeSize)
+                .thenApply(items -> new RecoResult(items, RecommendationStatus.BUILDING, version))
+                .exceptionally(e -> {
+                    log.warn("Home recommendations build failed: version={}", version, e);
+                    return null;
+                });
+    }
+
+    // 시세/스파크라인을 각각 병렬로 → 둘 다 오면 티커 (실패 시 null)
+    private CompletableFuture<HomeTickerVO> buildTickerAsync(String symbol) {
+        CompletableFuture<MarketSummaryVO> quote = fetchExecutor.supply(() -> marketRealtimePriceService.getRealtimePrice(symbol));
+        CompletableFuture<List<SparklinePoint>> spark = fetchExecutor.supply(() -> sparklineService.getSparklineOnly(symbol));
+
+        return quote.thenCombine(spark, (p, sparklinePoints) -> toTicker(symbol, p, sparklinePoints))
+                .exceptionally(e -> {
+                    log.warn("Home ticker build failed: symbol={}", symbol, e);
+                    return null;
+                });
     }
 
+    // 캐시만으로 티커 (시세 MGET + 스파크라인 MGET, 둘 중 하나라도 없으면 null → 직전 값 유지)
+    private Map<String, CompletableFuture<HomeTickerVO>> cachedTickers(List<String> symbols) {
+        Map<String, MarketSummaryVO> quotes = marketRealtimePriceService.getCachedQuotes(symbols);
+        Map<String, List<SparklinePoint>> sparks = sparklineService.getCachedSparklines(symbols);
+
+        Map<String, CompletableFuture<HomeTickerVO>> out = new LinkedHashMap<>();
+        for (String s : symbols) {
+            MarketSummaryVO q = quotes.get(s.toUpperCase());
+            List<SparklinePoint> sp = sparks.get(s);
+            out.put(s, CompletableFuture.completedFuture(q == null || sp == null ? null : toTicker(s, q, sp)));
+        }
+        return out;
+    }
+
+    private HomeTickerVO toTicker(String symbol, MarketSummaryVO p, List<SparklinePoint> sparklinePoints) {
+        return HomeTickerVO.builder()
+                .symbol(symbol)
+                .name(null)
+                .price(p.getPrice())
+                .change(p.getChange())
+                .changePercent(p.getChangePercent())
+                .sparkline(sparklinePoints.stream().map(SparklinePoint::getClose).toList())
+                .sparklineUrl(sparklineSvgService.urlFor(symbol, sparklinePoints))
+                .build();
+    }
+
+    // 뉴스 캐시(ZSET)에서 최신순으로 읽음 (업스트림은 NewsService 가 증분 조회)
     private List<NewsItemVO> buildNewsSafe() {
         try {
-            List<FinnhubNewsItemDTO> items = finnhubClient.getMarketNews(newsCategory);
-
-            return items.stream()
-                    .sorted(Comparator.comparingLong(FinnhubNewsItemDTO::getDatetime).reversed())
-                    .limit(newsLimit)
-                    .map(n -> NewsItemVO.builder()
-                            .headline(n.getHeadline())
-                            .source(n.getSource())
-                            .datetime(n.getDatetime() * 1000L)
-                            .url(n.getUrl())
-                            .summary(n.getSummary())
-                            .image(n.getImage())
-                            .build())
-                    .toList();
+            return newsService.latestGeneral(newsLimit);
         } catch (Exception e) {
             return List.of();
         }
@@ -219,8 +484,9 @@ public class HomeService {
      * 홈 추천 5개 보장용 fallback
      * - 풀에서 일부만 나왔을 때, home.symbols(고정 심볼)로 부족분을 채운다.
      * - 이미 있는 심볼은 중복 제거한다.
+     * - 후보 심볼은 병렬로 만들고, 고정 심볼 순서대로 부족분만큼 채운다.
      */
-    private List<RecommendedItemResponse> fillHomeRecommendationsWithFixedSymbols(
+    private CompletableFuture<List<RecommendedItemResponse>> fillHomeRecommendationsWithFixedSymbols(
             List<RecommendedItemResponse> base,
             List<String> fixedSymbols,
             int targetSize
@@ -235,34 +501,46 @@ public class HomeService {
             }
         }
 
-        if (fixedSymbols == null || fixedSymbols.isEmpty()) {
-            return out.size() > targetSize ? out.subList(0, targetSize) : out;
+        if (fixedSymbols == null || fixedSymbols.isEmpty() || out.size() >= targetSize) {
+            return CompletableFuture.completedFuture(out.size() > targetSize ? out.subList(0, targetSize) : out);
         }
 
+        List<CompletableFuture<RecommendedItemResponse>> candidates = new ArrayList<>();
         for (String s : fixedSymbols) {
-            if (out.size() >= targetSize) break;
             if (s == null || s.isBlank()) continue;
 
             String sym = s.trim().toUpperCase();
-            if (used.contains(sym)) continue;
+            if (!used.add(sym)) continue;
 
-            try {
-                MarketSummaryVO quote = marketRealtimePriceService.getRealtimePrice(sym);
-                List<SparklinePoint> sparkline = sparklineService.getSparklineOnly(sym);
-                if (sparkline == null || sparkline.isEmpty()) continue;
-
-                out.add(new RecommendedItemResponse(
-                        sym,
-                        quote.getPrice(),
-                        quote.getChangePercent(),
-                        sparkline
-                ));
-                used.add(sym);
-            } catch (Exception e) {
-                log.debug("fill home reco skip symbol={} ex={}", sym, e.getClass().getSimpleName());
-            }
+            candidates.add(fetchExecutor.supply(() -> buildFixedItem(sym))
+                    .exceptionally(e -> {
+                        log.debug("fill home reco skip symbol={} ex={}", sym, e.getClass().getSimpleName());
+                        return null;
+                    }));
         }
 
-        return out.size() > targetSize ? out.subList(0, targetSize) : out;
+        return CompletableFuture.allOf(candidates.toArray(new CompletableFuture[0]))
+                .thenApply(ignored -> {
+                    for (CompletableFuture<RecommendedItemResponse> c : candidates) {
+                        if (out.size() >= targetSize) break;
+                        RecommendedItemResponse r = c.join();
+                        if (r != null) out.add(r);
+                    }
+                    return out.size() > targetSize ? out.subList(0, targetSize) : out;
+                });
+    }
+
+    private RecommendedItemResponse buildFixedItem(String sym) {
+        MarketSummaryVO quote = marketRealtimePriceService.getRealtimePrice(sym);
+        List<SparklinePoint> sparkline = sparklineService.getSparklineOnly(sym);
+        if (sparkline == null || sparkline.isEmpty()) return null;
+
+        return new RecommendedItemResponse(
+                sym,
+                quote.getPrice(),
+                quote.getChangePercent(),
+                sparkline,
+                sparklineSvgService.urlFor(sym, sparkline)
+        );
     }
 }
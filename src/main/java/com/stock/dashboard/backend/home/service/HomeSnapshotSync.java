@@ -0,0 +1,266 @@
+package com.stock.dashboard.backend.home.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stock.dashboard.backend.home.vo.HomeSnapshot;
+import com.stock.dashboard.backend.leader.LeaderElection;
+import com.stock.dashboard.backend.market.cache.RedisStringCache;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.UnaryOperator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 홈 스냅샷 Redis 공유 (모든 인스턴스가 같은 스냅샷을 서빙)
+ *
+ * - 빌드한 인스턴스가 {version, snapshot} 을 Redis 에 저장하고 채널로 version 을 알림
+ * - 다른 인스턴스는 알림을 받으면(또는 기동 시) Redis 에서 읽어 로컬 HomeCacheStore 교체
+ * - 리빌드는 락을 잡은 한 인스턴스만 (락은 성공 시 풀지 않음 → TTL 동안 중복 리빌드 방지)
+ * - 구성요소(티커/뉴스/추천) 갱신은 쓰기 락 안에서 최신 공유본에 해당 필드만 덮어써 발행 (update)
+ * - 발행은 리더 fencing token 으로 보호: 이미 더 큰 토큰으로 쓴 적 있으면 거절 (lease 를 잃은 옛 리더의 늦은 쓰기)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HomeSnapshotSync implements MessageListener {
+
+    private static final String DATA_KEY = "home:snapshot:v1:data";
+    private static final String SEQ_KEY = "home:snapshot:v1:seq";
+    private static final String LOCK_KEY = "home:snapshot:v1:rebuild-lock";
+    private static final String WRITE_LOCK_KEY = "home:snapshot:v1:write-lock";
+    private static final String COMPONENT_KEY_PREFIX = "home:snapshot:v1:component:";
+    private static final String FENCE_KEY = "home:snapshot:v1:fence";
+    private static final String CHANNEL = "home:snapshot:v1:changed";
+    private static final String DEMAND_KEY = "home:snapshot:v1:requested";
+
+    // 요청 표시는 인스턴스당 이 간격에 한 번만 Redis 에 씀 (요청마다 SET 하지 않게)
+    private static final long DEMAND_MARK_INTERVAL_MS = 5_000L;
+
+    // 스냅샷은 30분 주기 → 한 번 놓쳐도 버틸 만큼
+    private static final Duration DATA_TTL = Duration.ofHours(24);
+
+    // 쓰기 락은 로드 → 병합 → 발행 동안만 (구성요소 빌드는 락 밖에서)
+    private static final Duration WRITE_LOCK_TTL = Duration.ofSeconds(10);
+    private static final long WRITE_LOCK_WAIT_MS = 2_000L;
+    private static final long WRITE_LOCK_POLL_MS = 50L;
+
+    // KEYS: seq, data, fence / ARGV: fencing token(0 = 리더였던 적 없음, 검사 안 함), snapshot JSON, TTL(초)
+    // version 은 INCR 결과라 Published JSON 을 스크립트 안에서 조립
+    private static final DefaultRedisScript<Long> PUBLISH_SCRIPT;
+    static {
+        PUBLISH_SCRIPT = new DefaultRedisScript<>();
+        PUBLISH_SCRIPT.setResultType(Long.class);
+        PUBLISH_SCRIPT.setScriptText(
+                "local t = tonumber(ARGV[1]) " +
+                        "local f = tonumber(redis.call('get', KEYS[3]) or '0') " +
+                        "if t > 0 and t < f then return -1 end " +
+                        "if t > f then redis.call('set', KEYS[3], ARGV[1]) end " +
+                        "local v = redis.call('incr', KEYS[1]) " +
+                        "redis.call('set', KEYS[2], '{\"version\":' .. v .. ',\"snapshot\":' .. ARGV[2] .. '}', 'EX', ARGV[3]) " +
+                        "return v"
+        );
+    }
+
+    private final StringRedisTemplate redis;
+    private final RedisStringCache redisStringCache;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final HomeCacheStore homeCacheStore;
+    private final ObjectMapper objectMapper;
+    private final LeaderElection leaderElection;
+
+    @Value("${home.snapshot.rebuild-lock-seconds:120}")
+    private long rebuildLockSeconds;
+
+    // 마지막 /api/home 요청 후 이 시간 동안은 "보는 사람 있음" (티커 업스트림 갱신 여부)
+    @Value("${home.refresh.tickers-idle-ms:120000}")
+    private long demandIdleMs;
+
+    private volatile long demandMarkedAtMs = 0L;
+
+    public record Published(long version, HomeSnapshot snapshot) {}
+
+    /**
+     * 기동 시: 구독 등록 + 공유 스냅샷으로 로컬 캐시 예열 (첫 요청부터 warm)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+        if (loadIntoLocal()) {
+            log.info("[HOME] snapshot loaded from redis. version={}", homeCacheStore.version());
+        }
+    }
+
+    /**
+     * 리빌드 락 (성공하면 토큰, 다른 인스턴스가 잡고 있으면 null)
+     */
+    public String tryAcquireRebuild() {
+        String token = UUID.randomUUID().toString();
+        Boolean ok = redisStringCache.setIfAbsent(LOCK_KEY, token, Duration.ofSeconds(rebuildLockSeconds));
+        return Boolean.TRUE.equals(ok) ? token : null;
+    }
+
+    // 빌드 실패 시에만 해제 (다른 인스턴스가 바로 재시도할 수 있게)
+    public void releaseRebuild(String token) {
+        redisStringCache.deleteIfValueMatches(LOCK_KEY, token);
+    }
+
+    /**
+     * /api/home 요청 표시 (인스턴스 간 공유, TTL = tickers-idle-ms)
+     * - 요청 경로에서 부름 → 인스턴스당 DEMAND_MARK_INTERVAL_MS 에 한 번만 SET, 실패해도 무시
+     */
+    public void markRequested() {
+        long now = System.currentTimeMillis();
+        if (now - demandMarkedAtMs < DEMAND_MARK_INTERVAL_MS) return;
+        demandMarkedAtMs = now;
+        try {
+            redisStringCache.set(DEMAND_KEY, String.valueOf(now), Duration.ofMillis(demandIdleMs));
+        } catch (Exception e) {
+            log.debug("[HOME] demand mark failed ex={}", e.getClass().getSimpleName());
+        }
+    }
+
+    /**
+     * 최근 tickers-idle-ms 안에 어느 인스턴스든 /api/home 요청이 있었는지 (Redis 를 못 읽으면 있었다고 봄)
+     */
+    public boolean requestedRecently() {
+        try {
+            return redisStringCache.get(DEMAND_KEY) != null;
+        } catch (Exception e) {
+            return true;
+        }
+    }
+
+    /**
+     * 구성요소 갱신 throttle (인스턴스 간 공유)
+     * - interval 동안 한 인스턴스만 true → 인스턴스 수와 무관하게 업스트림 호출량 일정
+     */
+    public boolean tryStartComponent(String component, Duration interval) {
+        return Boolean.TRUE.equals(redisStringCache.setIfAbsent(COMPONENT_KEY_PREFIX + component, "1", interval));
+    }
+
+    /**
+     * 구성요소 하나만 바꾼 스냅샷 발행 (copy-on-write)
+     * - 쓰기 락 안에서 Redis 최신본을 먼저 로드한 뒤 change 적용 → 다른 구성요소의 동시 갱신을 덮어쓰지 않음
+     * - change 에는 현재 스냅샷(없으면 null)이 들어옴. null 또는 같은 스냅샷을 돌려주면 변경 없음 → 발행 안 함
+     * - 전체 리빌드도 이 경로로 교체 (빌드 중에 발행된 구성요소 갱신과 순서 보장)
+     * - 발행한 version 반환 (적용 안 했으면 -1)
+     */
+    public long update(UnaryOperator<HomeSnapshot> change) {
+        String token = acquireWriteLock();
+        if (token == null) {
+            log.info("[HOME] snapshot update skipped. write lock busy.");
+            return -1L;
+        }
+        try {
+            loadIntoLocal();
+            HomeSnapshot current = homeCacheStore.get();
+            HomeSnapshot next = change.apply(current);
+            if (next == null || next == current) return -1L;
+
+            long version = publish(next);
+            if (version < 0) return -1L;
+            homeCacheStore.set(next, version);
+            return version;
+        } finally {
+            redisStringCache.deleteIfValueMatches(WRITE_LOCK_KEY, token);
+        }
+    }
+
+    private String acquireWriteLock() {
+        String token = UUID.randomUUID().toString();
+        long waitUntil = System.currentTimeMillis() + WRITE_LOCK_WAIT_MS;
+        while (true) {
+            if (Boolean.TRUE.equals(redisStringCache.setIfAbsent(WRITE_LOCK_KEY, token, WRITE_LOCK_TTL))) return token;
+            if (System.currentTimeMillis() >= waitUntil) return null;
+            try {
+                Thread.sleep(WRITE_LOCK_POLL_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Redis 에 저장 + 변경 알림. 저장된 version 반환
+     * - Redis 실패 시 0 → 로컬 전용
+     * - fencing 으로 거절되면 -1 → 로컬에도 반영하지 않음
+     */
+    public long publish(HomeSnapshot snapshot) {
+        try {
+            long token = leaderElection.fencingToken();
+            Long version = redis.execute(
+                    PUBLISH_SCRIPT,
+                    List.of(SEQ_KEY, DATA_KEY, FENCE_KEY),
+                    String.valueOf(token),
+                    objectMapper.writeValueAsString(snapshot),
+                    String.valueOf(DATA_TTL.toSeconds())
+            );
+            long v = version == null ? 0L : version;
+            if (v < 0) {
+                log.warn("[HOME] snapshot publish rejected. stale fencing token={}", token);
+                return -1L;
+            }
+
+            redis.convertAndSend(CHANNEL, String.valueOf(v));
+            return v;
+        } catch (Exception e) {
+            log.warn("[HOME] snapshot publish failed. serving local only.", e);
+            return 0L;
+        }
+    }
+
+    /**
+     * Redis 의 스냅샷이 로컬보다 새것이면 로컬 교체
+     * - version 이 같으면 skip, 다르면 생성 시각으로 판단 (Redis 초기화로 seq 가 되감겨도 따라감)
+     */
+    public boolean loadIntoLocal() {
+        try {
+            String json = redisStringCache.get(DATA_KEY);
+            if (json == null || json.isBlank()) return false;
+
+            Published p = objectMapper.readValue(json, Published.class);
+            if (p.snapshot() == null || p.version() == homeCacheStore.version()) return false;
+
+            HomeSnapshot local = homeCacheStore.get();
+            if (local != null && local.getGeneratedAt() != null && p.snapshot().getGeneratedAt() != null
+                    && !p.snapshot().getGeneratedAt().isAfter(local.getGeneratedAt())) {
+                return false;
+            }
+
+            homeCacheStore.set(p.snapshot(), p.version());
+            return true;
+        } catch (Exception e) {
+            log.warn("[HOME] snapshot load from redis failed.", e);
+            return false;
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        long version;
+        try {
+            version = Long.parseLong(new String(message.getBody(), StandardCharsets.UTF_8));
+        } catch (Exception e) {
+            return;
+        }
+        // 내가 발행한 버전이면 이미 로컬에 있음
+        if (version == homeCacheStore.version()) return;
+
+        if (loadIntoLocal()) {
+            log.info("[HOME] snapshot updated from redis. version={}", homeCacheStore.version());
+        }
+    }
+}
@@ -1,16 +1,17 @@
 package com.stock.dashboard.backend.home.service;
 
-import com.stock.dashboard.backend.exception.TwelveDataRateLimitException;
+import com.stock.dashboard.backend.config.FetchExecutor;
 import com.stock.dashboard.backend.home.dto.RecommendedItemResponse;
 import com.stock.dashboard.backend.home.dto.RecommendationsResponse;
+import com.stock.dashboard.backend.home.recommendation.pool.RecommendationPageRepository;
 import com.stock.dashboard.backend.home.recommendation.pool.RecommendationPoolRepository;
+import com.stock.dashboard.backend.home.recommendation.service.RecommendationPageMaterializer;
 import com.stock.dashboard.backend.home.recommendation.service.RecommendationPoolRefillService;
 import com.stock.dashboard.backend.market.service.MarketRealtimePriceService;
-import com.stock.dashboard.backend.market.twelvedata.dto.SparklinePoint;
-import com.stock.dashboard.backend.market.twelvedata.service.SparklineService;
 import com.stock.dashboard.backend.model.vo.MarketSummaryVO;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,15 +25,11 @@ public class RecommendationPoolService {
 
     private final RecommendationPoolRepository poolRepository;
     private final RecommendationPoolRefillService refillService;
+    private final RecommendationPageRepository pageRepository;
+    private final RecommendationPageMaterializer pageMaterializer;
 
     private final MarketRealtimePriceService marketRealtimePriceService;
-    private final SparklineService sparklineService;
-
-    @Value("${home.recommend.page-size:10}")
-    private int pageSize;
-
-    @Value("${home.recommend.pool-target:20}")
-    private int poolTarget;
+    private final HomeRecommendationProperties properties;
 
     @Value("${home.recommend.refill-trigger-threshold:10}")
     private int refillTriggerThreshold;
@@ -53,27 +50,34 @@ public class RecommendationPoolService {
      * - version을 지정하면, 그 version에서만 페이지를 읽는다 (홈과 더보기 일치 목적)
      *
      * 동작 요약:
-     * - total <= 0 이거나 start >= total 이면 빈 결과 + (today 부족 시) refill 트리거
+     * - 페이지는 리필/주기 작업이 미리 만들어 둠 (RecommendationPageMaterializer) → 여기선 GET 1회
+     * - 시세만 캐시(MGET)에서 최신 값으로 덮어씀, 스파크라인은 일봉 기준이라 그대로
+     * - offset 은 "검증 통과 항목" 기준 (nextOffset 을 그대로 넘기면 됨), 페이지는 항상 pageSize 만큼 (마지막 제외)
+     * - 아직 안 만들어진 페이지(콜드)만 이 요청에서 deadline-ms 까지 당겨서 만들고, 그래도 모자라면 만든 만큼만
      * - version이 today면 부족할 때 refill 트리거
-     * - 스파크라인/시세 변환 실패가 있을 수 있어 pageSize를 채우기 위해 max 3*pageSize까지 스캔
-     * - TwelveData rate limit 맞으면 즉시 중단하고 nextOffset을 유지(재시도 유도)
      */
     public RecommendationsResponse getRecommendationsFromPool(String version, int offset) {
+        return getRecommendationsFromPool(version, offset, FetchExecutor.deadlineAfter(properties.getDeadlineMs()));
+    }
+
+    /**
+     * deadlineNanos: 콜드 페이지를 당겨 만들 때 기다릴 마감 (System.nanoTime 기준, 홈 스냅샷 빌드는 스냅샷 마감을 그대로 넘김)
+     */
+    public RecommendationsResponse getRecommendationsFromPool(String version, int offset, long deadlineNanos) {
 
         int start = Math.max(0, offset);
         String v = (version == null || version.isBlank()) ? currentVersion() : version;
 
         // 버전 total
         int total = poolRepository.size(v);
-        log.info("[POOL DEBUG] version={} total={} offset={}", v, total, offset);
 
         // todaySize는 refill 트리거 판단에만 사용
         String today = poolRepository.todayVersion();
         int todaySize = poolRepository.size(today);
 
-        if (total <= 0 || start >= total) {
+        if (total <= 0) {
             // today가 비어있거나 부족하면 리필 트리거 (백그라운드)
-            if (todaySize < poolTarget) {
+            if (todaySize < properties.getPoolTarget()) {
                 triggerRefillIfNeeded(today, todaySize);
             }
             return new RecommendationsResponse(List.of(), null);
@@ -84,50 +88,42 @@ public class RecommendationPoolService {
             triggerRefillIfNeeded(today, todaySize);
         }
 
-        List<RecommendedItemResponse> items = new ArrayList<>();
-        int cursor = start;
-        boolean hitRateLimit = false;
+        int pageSize = properties.getPageSize();
+        RecommendationsResponse page = pageRepository.page(v, start / pageSize);
+        if (page == null) {
+            RecommendationPageRepository.Resolved resolved = pageMaterializer.materialize(v, false, deadlineNanos);
 
-        // 변환 실패(스파크라인 없음/quote 실패) 때문에 pageSize가 덜 채워질 수 있어서
-        // "조금 더" 읽어서 채우는 방식 (최대 3번 * pageSize)
-        int maxScan = Math.min(total, start + pageSize * 3);
-
-        while (cursor < maxScan && items.size() < pageSize && !hitRateLimit) {
-            int fetch = Math.min(pageSize, maxScan - cursor);
-            List<String> symbols = poolRepository.range(v, cursor, fetch);
-
-            if (symbols.isEmpty()) break;
-
-            for (String sym : symbols) {
-                if (items.size() >= pageSize) break;
-
-                try {
-                    RecommendedItemResponse r = buildItemSafe(sym);
-                    if (r != null) items.add(r);
+            page = pageRepository.page(v, start / pageSize);
+            if (page == null) page = partialPage(resolved, start);
+        }
+        return withCachedQuotes(page);
+    }
 
-                } catch (TwelveDataRateLimitException e) {
-                    hitRateLimit = true;
-                    log.warn("[POOL] read stop due to rate limit. symbol={} msg={}", sym, e.getMessage());
-                    break;
+    // 아직 한 페이지가 안 찬 구간: 확정된 만큼만 (판정이 끝나지 않았으면 이어서 읽을 수 있게 nextOffset 유지)
+    private RecommendationsResponse partialPage(RecommendationPageRepository.Resolved resolved, int start) {
+        List<RecommendedItemResponse> all = resolved.items();
+        if (start >= all.size()) return new RecommendationsResponse(List.of(), resolved.allResolved() ? null : start);
 
-                } catch (Exception e) {
-                    log.debug("[POOL] read skip symbol={} ex={} msg={}",
-                            sym, e.getClass().getSimpleName(), e.getMessage());
-                }
-            }
+        List<RecommendedItemResponse> items = all.subList(start, Math.min(all.size(), start + properties.getPageSize()));
+        int next = start + items.size();
+        return new RecommendationsResponse(items, (next < all.size() || !resolved.allResolved()) ? next : null);
+    }
 
-            // 실제로 range()가 돌려준 개수만큼 전진
-            cursor += symbols.size();
-        }
+    // 시세만 최신 캐시 값으로 (fresh → stale MGET, 외부 호출 없음)
+    private RecommendationsResponse withCachedQuotes(RecommendationsResponse page) {
+        if (page.items() == null || page.items().isEmpty()) return page;
 
-        Integer nextOffset = (cursor < total && !items.isEmpty()) ? cursor : null;
+        Map<String, MarketSummaryVO> quotes = marketRealtimePriceService.getCachedQuotes(
+                page.items().stream().map(RecommendedItemResponse::symbol).toList());
+        if (quotes.isEmpty()) return page;
 
-        // rate limit이면 nextOffset은 유지해도 되지만, UX상 “잠깐 뒤 재시도”가 맞으니 cursor 남겨둠
-        if (hitRateLimit && cursor < total) {
-            nextOffset = cursor;
+        List<RecommendedItemResponse> patched = new ArrayList<>(page.items().size());
+        for (RecommendedItemResponse r : page.items()) {
+            MarketSummaryVO q = quotes.get(r.symbol());
+            patched.add(q == null ? r : new RecommendedItemResponse(
+                    r.symbol(), q.getPrice(), q.getChangePercent(), r.sparkline(), r.sparklineUrl()));
         }
-
-        return new RecommendationsResponse(items, nextOffset);
+        return new RecommendationsResponse(patched, page.nextOffset());
     }
 
     /**
@@ -143,11 +139,15 @@ public class RecommendationPoolService {
      * - version을 받아서 홈과 더보기의 "세트"를 일치시키기 위함
      */
     public List<RecommendedItemResponse> getRecommendationsForHome(String version) {
-        RecommendationsResponse page0 = getRecommendationsFromPool(version, 0);
+        return getRecommendationsForHome(version, FetchExecutor.deadlineAfter(properties.getDeadlineMs()));
+    }
+
+    public List<RecommendedItemResponse> getRecommendationsForHome(String version, long deadlineNanos) {
+        RecommendationsResponse page0 = getRecommendationsFromPool(version, 0, deadlineNanos);
         List<RecommendedItemResponse> items =
                 (page0 == null || page0.items() == null) ? List.of() : page0.items();
 
-        int end = Math.min(5, items.size());
+        int end = Math.min(properties.getHomeSize(), items.size());
         return items.subList(0, end);
     }
 
@@ -165,21 +165,4 @@ public class RecommendationPoolService {
             refillService.refillAsync(todayVersion);
         }
     }
-
-    private RecommendedItemResponse buildItemSafe(String symbol) {
-        if (symbol == null || symbol.isBlank()) return null;
-        String sym = symbol.trim().toUpperCase();
-
-        MarketSummaryVO quote = marketRealtimePriceService.getRealtimePrice(sym);
-
-        List<SparklinePoint> sparkline = sparklineService.getSparklineOnly(sym);
-        if (sparkline == null || sparkline.isEmpty()) return null;
-
-        return new RecommendedItemResponse(
-                sym,
-                quote.getPrice(),
-                quote.getChangePercent(),
-                sparkline
-        );
-    }
 }
@@ -0,0 +1,66 @@
+package com.stock.dashboard.backend.home.vo;
+
+import com.stock.dashboard.backend.home.dto.ColumnarRecommendationsResponse;
+import com.stock.dashboard.backend.market.columnar.ColumnarFormat;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * /api/home 컬럼형 응답
+ * - tickers/추천의 스파크라인을 병렬 배열로 내려준다
+ * - 뉴스는 문자열 위주라 기존 구조 유지
+ */
+public record ColumnarHomeResponseVO(
+        Tickers tickers,
+        ColumnarRecommendationsResponse recommendations,
+        List<NewsItemVO> news,
+        Double usdKrw,
+        RecommendationStatus recommendationStatus,
+        Long recommendationUpdatedAt,
+        String recommendationVersion
+) {
+    public record Tickers(
+            List<String> symbols,
+            List<String> names,
+            double[] prices,
+            double[] changes,
+            double[] changePercents,
+            double[][] sparklines
+    ) {
+        public static Tickers from(List<HomeTickerVO> tickers) {
+            List<HomeTickerVO> list = (tickers == null) ? List.of() : tickers;
+
+            int n = list.size();
+            List<String> symbols = new ArrayList<>(n);
+            List<String> names = new ArrayList<>(n);
+            double[] prices = new double[n];
+            double[] changes = new double[n];
+            double[] changePercents = new double[n];
+            double[][] sparklines = new double[n][];
+
+            for (int i = 0; i < n; i++) {
+                HomeTickerVO t = list.get(i);
+                symbols.add(t.getSymbol());
+                names.add(t.getName());
+                prices[i] = t.getPrice();
+                changes[i] = t.getChange();
+                changePercents[i] = t.getChangePercent();
+                sparklines[i] = ColumnarFormat.toArray(t.getSparkline());
+            }
+
+            return new Tickers(symbols, names, prices, changes, changePercents, sparklines);
+        }
+    }
+
+    public static ColumnarHomeResponseVO from(HomeResponseVO home) {
+        return new ColumnarHomeResponseVO(
+                Tickers.from(home.getTickers()),
+                ColumnarRecommendationsResponse.from(home.getRecommendations()),
+                home.getNews(),
+                home.getUsdKrw(),
+                home.getRecommendationStatus(),
+                home.getRecommendationUpdatedAt(),
+                home.getRecommendationVersion()
+        );
+    }
+}
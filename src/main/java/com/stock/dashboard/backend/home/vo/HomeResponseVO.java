@@ -25,4 +25,19 @@ public class HomeResponseVO {
     private Long recommendationUpdatedAt;
 
     private String recommendationVersion;
+
+    /**
+     * 스파크라인 포인트를 빼고 URL 만 남긴 사본 (sparkline=url)
+     */
+    public HomeResponseVO withoutSparklinePoints() {
+        return HomeResponseVO.builder()
+                .tickers(tickers == null ? null : tickers.stream().map(HomeTickerVO::withoutSparklinePoints).toList())
+                .recommendations(recommendations == null ? null : recommendations.withoutSparklinePoints())
+                .news(news)
+                .usdKrw(usdKrw)
+                .recommendationStatus(recommendationStatus)
+                .recommendationUpdatedAt(recommendationUpdatedAt)
+                .recommendationVersion(recommendationVersion)
+                .build();
+    }
 }
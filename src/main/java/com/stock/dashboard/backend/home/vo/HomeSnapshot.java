@@ -7,15 +7,22 @@ import java.time.Instant;
 import java.util.List;
 import lombok.Builder;
 import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
 
+// Redis 공유(HomeSnapshotSync)용 JSON 역직렬화는 builder 로
+// 구성요소별 갱신은 toBuilder 로 해당 필드만 바꾼 새 스냅샷을 만듦 (copy-on-write)
 @Value
-@Builder
+@Builder(toBuilder = true)
+@Jacksonized
 public class HomeSnapshot {
     String snapshotId;
     Instant generatedAt;
 
     List<HomeTickerVO> tickers;
+    Long tickersUpdatedAt;
+
     List<NewsItemVO> news;
+    Long newsUpdatedAt;
 
     // 핵심: 추천은 전체를 스냅샷에 저장
     List<RecommendedItemResponse> recommendationItems;
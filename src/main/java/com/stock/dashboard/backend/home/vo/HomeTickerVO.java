@@ -1,5 +1,6 @@
 package com.stock.dashboard.backend.home.vo;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.*;
 
 import java.util.List;
@@ -15,5 +16,11 @@ public class HomeTickerVO {
     private double price;
     private double change;
     private double changePercent;
-    private List<Double> sparkline; // 미니 차트용 (예: 최근 30일 종가)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<Double> sparkline; // 미니 차트용 (예: 최근 30일 종가), sparkline=url 이면 null
+    private String sparklineUrl;    // 서버 렌더링 SVG (데이터 해시 포함, immutable 캐시)
+
+    public HomeTickerVO withoutSparklinePoints() {
+        return new HomeTickerVO(symbol, name, price, change, changePercent, null, sparklineUrl);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,164 @@
+package com.stock.dashboard.backend.leader;
+
+import com.stock.dashboard.backend.event.OnLeadershipAcquiredEvent;
+import jakarta.annotation.PreDestroy;
+import java.net.InetAddress;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis lease 기반 리더 선출 (백그라운드 작업은 리더 한 대만)
+ *
+ * - lease 키에 "{nodeId}:{fencingToken}" 을 SET NX PX 로 잡고, 리더는 주기적으로 PEXPIRE 연장
+ * - fencingToken: 리더가 될 때마다 INCR 로 증가 → 공유 저장소는 더 작은 토큰의 쓰기를 거절 (HomeSnapshotSync)
+ * - 로컬 판단은 마지막 연장 시각 + lease - 여유 까지만 리더로 봄 (Redis 가 끊겨도 lease 넘겨서 리더 행세 안 함)
+ * - 팔로워는 poll 주기마다 lease 가 비었는지 확인 → 리더가 죽으면 lease 만료 후 poll 한 번 안에 교체
+ * - 정상 종료 시 lease 반납 → 즉시 교체
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LeaderElection {
+
+    private static final String LEASE_KEY = "leader:v1:lease";
+    private static final String FENCE_KEY = "leader:v1:fence";
+
+    private static final DefaultRedisScript<Long> RENEW_SCRIPT;
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT;
+    static {
+        RENEW_SCRIPT = new DefaultRedisScript<>();
+        RENEW_SCRIPT.setResultType(Long.class);
+        RENEW_SCRIPT.setScriptText(
+                "if redis.call('get', KEYS[1]) == ARGV[1] then " +
+                        "  return redis.call('pexpire', KEYS[1], ARGV[2]) " +
+                        "else " +
+                        "  return 0 " +
+                        "end"
+        );
+
+        RELEASE_SCRIPT = new DefaultRedisScript<>();
+        RELEASE_SCRIPT.setResultType(Long.class);
+        RELEASE_SCRIPT.setScriptText(
+                "if redis.call('get', KEYS[1]) == ARGV[1] then " +
+                        "  return redis.call('del', KEYS[1]) " +
+                        "else " +
+                        "  return 0 " +
+                        "end"
+        );
+    }
+
+    private final StringRedisTemplate redis;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${leader.lease-ms:15000}")
+    private long leaseMs;
+
+    // 리더 연장 주기 (lease 의 1/3 정도)
+    @Value("${leader.renew-ms:5000}")
+    private long renewMs;
+
+    private final String nodeId = hostName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+
+    private volatile String leaseValue = null;
+    private volatile long validUntilNanos = 0L;
+    private volatile long lastRenewNanos = 0L;
+
+    // 마지막으로 받은 토큰 (리더를 잃어도 유지 → 늦은 쓰기도 이 토큰으로 거절됨), 리더였던 적 없으면 0
+    private volatile long fencingToken = 0L;
+
+    public boolean isLeader() {
+        return leaseValue != null && System.nanoTime() < validUntilNanos;
+    }
+
+    public long fencingToken() {
+        return fencingToken;
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 리더: renew-ms 마다 연장 / 팔로워: poll 마다 빈 lease 획득 시도
+     * - leader.poll-ms 주기로 CoordinationScheduler 가 호출 (긴 @Scheduled 작업에 밀리지 않게 전용 스레드)
+     */
+    public void tick() {
+        try {
+            if (leaseValue != null) {
+                if (System.nanoTime() - lastRenewNanos >= TimeUnit.MILLISECONDS.toNanos(renewMs)) renew();
+            } else {
+                tryAcquire();
+            }
+        } catch (Exception e) {
+            // Redis 장애: 상태는 그대로 두고 validUntil 이 지나면 자연히 리더 아님
+            log.warn("[LEADER] tick failed node={} ex={} msg={}", nodeId, e.getClass().getSimpleName(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void release() {
+        String value = leaseValue;
+        if (value == null) return;
+        leaseValue = null;
+        try {
+            redis.execute(RELEASE_SCRIPT, List.of(LEASE_KEY), value);
+            log.info("[LEADER] lease released node={} token={}", nodeId, fencingToken);
+        } catch (Exception e) {
+            log.warn("[LEADER] lease release failed node={}", nodeId, e);
+        }
+    }
+
+    private void tryAcquire() {
+        if (Boolean.TRUE.equals(redis.hasKey(LEASE_KEY))) return;
+
+        long started = System.nanoTime();
+        Long token = redis.opsForValue().increment(FENCE_KEY);
+        if (token == null) return;
+
+        String value = nodeId + ":" + token;
+        Boolean ok = redis.opsForValue().setIfAbsent(LEASE_KEY, value, leaseMs, TimeUnit.MILLISECONDS);
+        if (!Boolean.TRUE.equals(ok)) return;
+
+        fencingToken = token;
+        markValid(started);
+        leaseValue = value;
+
+        log.info("[LEADER] acquired node={} token={}", nodeId, token);
+        eventPublisher.publishEvent(new OnLeadershipAcquiredEvent(this, nodeId, token));
+    }
+
+    private void renew() {
+        String value = leaseValue;
+        long started = System.nanoTime();
+        Long res = redis.execute(RENEW_SCRIPT, List.of(LEASE_KEY), value, String.valueOf(leaseMs));
+        if (res != null && res > 0) {
+            markValid(started);
+            return;
+        }
+        // 만료 후 다른 노드가 가져감
+        leaseValue = null;
+        log.warn("[LEADER] lost node={} token={}", nodeId, fencingToken);
+    }
+
+    // 요청 보내기 전 시각 기준 + 10% 여유 (Redis 쪽 만료보다 항상 먼저 리더 아님)
+    private void markValid(long startedNanos) {
+        lastRenewNanos = startedNanos;
+        validUntilNanos = startedNanos + TimeUnit.MILLISECONDS.toNanos(leaseMs * 9 / 10);
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "node";
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.stock.dashboard.backend.leader;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 리더 인스턴스에서만 실행 (LeaderOnlyAspect)
+ * - 팔로워에서는 호출을 건너뜀 → void 메서드(스케줄 작업/워밍업)에만 붙일 것
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface LeaderOnly {
+}
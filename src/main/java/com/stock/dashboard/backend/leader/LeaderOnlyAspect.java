@@ -0,0 +1,26 @@
+package com.stock.dashboard.backend.leader;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class LeaderOnlyAspect {
+
+    private final LeaderElection leaderElection;
+
+    @Around("@annotation(com.stock.dashboard.backend.leader.LeaderOnly)")
+    public Object runOnLeader(ProceedingJoinPoint pjp) throws Throwable {
+        if (!leaderElection.isLeader()) {
+            log.debug("[LEADER] skip {} (follower node={})", pjp.getSignature().toShortString(), leaderElection.nodeId());
+            return null;
+        }
+        return pjp.proceed();
+    }
+}
@@ -9,9 +9,15 @@ import org.springframework.web.client.RestTemplate;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * 한국은행 ECOS 환율 API 클라이언트 (네트워크 호출 전용)
+ * - 요청 경로에서는 직접 쓰지 말고 UsdKrwRateService(캐시)를 사용할 것
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -24,18 +30,39 @@ public class BokExchangeRateService {
 
     private static final DateTimeFormatter FMT = DateTimeFormatter.BASIC_ISO_DATE;
 
+    // ECOS 한 번 조회 최대 row 수 (1/N 페이지 파라미터)
+    private static final int MAX_ROWS = 10000;
+
     /**
-     * USD/KRW 환율 조회 (한국은행 ECOS)
+     * 최근 영업일 환율 + 기준일 (한국은행 ECOS)
      * - 공휴일/주말/발표 전: "최근 영업일" 값 반환
      */
-    public Double getUsdKrwRate() {
+    public FxRatePoint getLatestUsdKrw() {
         // ✅ 오늘 데이터가 없을 수 있으니 최근 범위를 조회
         LocalDate end = LocalDate.now();
         LocalDate start = end.minusDays(14);
 
+        List<FxRatePoint> rows = fetchUsdKrwSeries(start, end);
+
+        // ✅ 공휴일/주말/업데이트 전이면 row가 비거나 없을 수 있음
+        if (rows.isEmpty()) {
+            throw new IllegalStateException("최근 기간 내 환율 데이터가 비어 있습니다. (휴일/업데이트 지연 가능)");
+        }
+
+        // ✅ 날짜 오름차순 정렬했으니 마지막 = 가장 최근 영업일
+        return rows.get(rows.size() - 1);
+    }
+
+    /**
+     * 기간 USD/KRW 일별 시리즈 (ECOS range 쿼리 1회)
+     * - 날짜 오름차순, 값 없는 row는 제외
+     */
+    @SuppressWarnings("unchecked")
+    public List<FxRatePoint> fetchUsdKrwSeries(LocalDate start, LocalDate end) {
         String url = String.format(
-                "https://ecos.bok.or.kr/api/StatisticSearch/%s/json/kr/1/100/731Y001/D/%s/%s/0000001",
+                "https://ecos.bok.or.kr/api/StatisticSearch/%s/json/kr/1/%d/731Y001/D/%s/%s/0000001",
                 apiKey,
+                MAX_ROWS,
                 start.format(FMT),
                 end.format(FMT)
         );
@@ -53,27 +80,33 @@ public class BokExchangeRateService {
             Map<String, Object> statisticSearch = (Map<String, Object>) response.get("StatisticSearch");
 
             // ✅ ECOS 에러 응답 방어 (키 문제/요청 파라미터 오류 등)
+            // - 데이터 없음(INFO-200)도 여기로 옴 → 빈 리스트
             if (statisticSearch == null) {
+                if (isNoData(response)) return List.of();
                 log.error("[BOK] Error response body: {}", response);
                 throw new IllegalStateException("한국은행 환율 데이터를 가져오지 못했습니다.");
             }
 
             List<Map<String, Object>> rows = (List<Map<String, Object>>) statisticSearch.get("row");
-
-            // ✅ 공휴일/주말/업데이트 전이면 row가 비거나 없을 수 있음
-            if (rows == null || rows.isEmpty()) {
-                throw new IllegalStateException("최근 기간 내 환율 데이터가 비어 있습니다. (휴일/업데이트 지연 가능)");
+            if (rows == null || rows.isEmpty()) return List.of();
+
+            List<FxRatePoint> out = new ArrayList<>(rows.size());
+            for (Map<String, Object> row : rows) {
+                Object time = row.get("TIME");
+                Object value = row.get("DATA_VALUE");
+                if (time == null || value == null) continue;
+
+                try {
+                    LocalDate date = LocalDate.parse(String.valueOf(time), FMT);
+                    double rate = Double.parseDouble(String.valueOf(value).replace(",", ""));
+                    if (rate > 0) out.add(new FxRatePoint(date, rate));
+                } catch (Exception e) {
+                    log.debug("[BOK] skip row time={} value={}", time, value);
+                }
             }
 
-            // ✅ 마지막 row = 가장 최근 영업일 데이터일 확률이 가장 높음
-            Map<String, Object> lastRow = rows.get(rows.size() - 1);
-            Object value = lastRow.get("DATA_VALUE");
-
-            if (value == null) {
-                throw new IllegalStateException("환율 DATA_VALUE가 없습니다.");
-            }
-
-            return Double.parseDouble(String.valueOf(value));
+            out.sort(Comparator.comparing(FxRatePoint::date));
+            return out;
 
         } catch (RestClientResponseException e) {
             // HTTP 상태코드/응답 바디 로그
@@ -85,4 +118,11 @@ public class BokExchangeRateService {
             throw e;
         }
     }
+
+    @SuppressWarnings("unchecked")
+    private boolean isNoData(Map<String, Object> response) {
+        Object result = response.get("RESULT");
+        if (!(result instanceof Map<?, ?> m)) return false;
+        return "INFO-200".equals(String.valueOf(((Map<String, Object>) m).get("CODE")));
+    }
 }
@@ -0,0 +1,11 @@
+package com.stock.dashboard.backend.market.bok;
+
+import java.time.LocalDate;
+
+/**
+ * ECOS 일별 환율 1건 (기준일, 매매기준율)
+ */
+public record FxRatePoint(
+        LocalDate date,
+        double rate
+) {}
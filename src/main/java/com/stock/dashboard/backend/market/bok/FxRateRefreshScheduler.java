@@ -0,0 +1,81 @@
+package com.stock.dashboard.backend.market.bok;
+
+import com.stock.dashboard.backend.leader.LeaderOnly;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * USD/KRW 환율 갱신 스케줄
+ * - ECOS 일별 환율은 영업일 중 갱신되므로 평일 몇 번만 갱신하면 충분
+ * - 부팅 시: Redis last-good 로드 후 한 번 갱신 시도 + 히스토리 로드(없으면 bulk 적재)
+ * - 환율 값이 아직 없으면(부팅 갱신 실패 등) 다음 발표 시각까지 기다리지 않고 짧은 주기로 재시도
+ * - 히스토리 확장은 리더만, 모든 노드가 주기적으로 Redis 블록을 다시 읽어 반영
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FxRateRefreshScheduler {
+
+    private final UsdKrwRateService usdKrwRateService;
+    private final UsdKrwRateHistory usdKrwRateHistory;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            usdKrwRateService.loadFromRedis();
+            usdKrwRateService.refresh(false);
+        } catch (Exception e) {
+            log.warn("[FX] warm-up failed. server will continue.", e);
+        }
+
+        try {
+            usdKrwRateHistory.loadOrBootstrap();
+        } catch (Exception e) {
+            log.warn("[FX-HISTORY] warm-up failed. server will continue.", e);
+        }
+    }
+
+    // ECOS 발표 시점 기준 (평일 오전/점심/장 마감 후/저녁)
+    @Scheduled(cron = "0 5 9,12,16,20 * * MON-FRI", zone = "Asia/Seoul")
+    public void refreshOnPublication() {
+        usdKrwRateService.refresh(false);
+    }
+
+    // 다른 인스턴스가 갱신 중이라 락을 놓쳤으면 그 결과를 곧바로 채택 (대기 중일 때만 Redis 읽음)
+    @Scheduled(fixedDelayString = "${market.fx.recheck-ms:5000}", initialDelayString = "${market.fx.recheck-ms:5000}")
+    public void adoptSharedRate() {
+        usdKrwRateService.adoptSharedIfPending();
+    }
+
+    // 메모리에 환율이 없는 동안만 ECOS 재시도 (값이 채워지면 no-op)
+    @Scheduled(fixedDelayString = "${market.fx.empty-retry-ms:60000}", initialDelayString = "${market.fx.empty-retry-ms:60000}")
+    public void retryWhileEmpty() {
+        if (usdKrwRateService.getCachedRate() != null) return;
+        log.info("[FX] rate still empty, retrying refresh");
+        usdKrwRateService.refresh(false);
+    }
+
+    // 히스토리는 하루 확정치 기준이라 장 마감 후/저녁에만 증분 확장
+    // - 공유 Redis 히스토리 블록을 다시 쓰므로 리더 한 대만 (환율 값 갱신은 노드별 메모리라 각자)
+    @LeaderOnly
+    @Scheduled(cron = "0 15 16,20 * * MON-FRI", zone = "Asia/Seoul")
+    public void extendHistory() {
+        usdKrwRateHistory.extend();
+    }
+
+    // 모든 노드: 리더가 확장한 블록 반영 (팔로워는 부팅 때만 읽으므로, 기본 30분 → 확장 후 늦어도 30분 안에 반영)
+    @Scheduled(fixedDelayString = "${fx.history.reload-ms:1800000}", initialDelayString = "${fx.history.reload-ms:1800000}")
+    public void reloadHistory() {
+        try {
+            usdKrwRateHistory.reload();
+        } catch (Exception e) {
+            log.warn("[FX-HISTORY] reload failed. keep current.", e);
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.stock.dashboard.backend.market.bok;
+
+import com.stock.dashboard.backend.market.cache.GorillaSeries;
+import com.stock.dashboard.backend.market.cache.RedisStringCache;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * USD/KRW 일별 환율 히스토리 (로컬 시계열)
+ *
+ * - 최초 1회: ECOS range 쿼리 한 번으로 bulk 적재 (history-start ~ 오늘)
+ * - 이후: 마지막 날짜 다음날부터만 증분 조회 후 append
+ * - 메모리: epochDay/rate primitive 배열 (불변 스냅샷, copy-on-write 교체)
+ * - 조회: 이진 탐색 O(log n), 해당일이 휴일이면 직전 영업일 환율
+ *   (마지막 날짜 + max-gap-days 를 넘는 날짜는 직전 값으로 때우지 않고 null → 호출 측 폴백/경고)
+ * - Redis: Gorilla 압축 블록으로 공유 (재시작/다른 인스턴스는 ECOS 없이 로드)
+ *   · 확장은 리더 한 대만 → 나머지는 reload() 로 주기적으로 다시 읽음 (FxRateRefreshScheduler)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UsdKrwRateHistory {
+
+    private static final String CACHE_KEY = "market:fx:usdkrw:history:g1";
+    private static final String LOCK_KEY = "market:fx:usdkrw:history:lock";
+    private static final Duration CACHE_TTL = Duration.ofDays(400);
+    private static final Duration LOCK_TTL = Duration.ofSeconds(60);
+
+    private final BokExchangeRateService bokExchangeRateService;
+    private final RedisStringCache redisStringCache;
+
+    @Value("${fx.history.start:2015-01-01}")
+    private String historyStart;
+
+    // 마지막 날짜 뒤로 직전 환율을 인정하는 일수 (주말 + 연휴 정도, 넘으면 아직 적재 안 된 날짜로 봄)
+    @Value("${fx.history.max-gap-days:5}")
+    private int maxGapDays;
+
+    private volatile Series series = Series.EMPTY;
+
+    /**
+     * ✅ 요청 경로용: 해당 날짜(없으면 직전 영업일) 환율, 범위 밖이면 null
+     * - 범위 밖: 첫 날짜 이전 / 마지막 날짜 + max-gap-days 이후
+     * - 네트워크 I/O 없음
+     */
+    public Double rateOn(LocalDate date) {
+        if (date == null) return null;
+        return series.rateOn(date.toEpochDay(), maxGapDays);
+    }
+
+    public int size() {
+        return series.days.length;
+    }
+
+    /**
+     * 부팅 시: Redis → 없으면 ECOS bulk 적재
+     */
+    public void loadOrBootstrap() {
+        if (loadFromRedis()) {
+            extend();
+            return;
+        }
+
+        LocalDate start = LocalDate.parse(historyStart);
+        withLock(() -> {
+            // 락 잡는 사이 다른 인스턴스가 적재했을 수 있음
+            if (loadFromRedis()) return;
+
+            List<FxRatePoint> points = bokExchangeRateService.fetchUsdKrwSeries(start, LocalDate.now());
+            if (points.isEmpty()) {
+                log.warn("[FX-HISTORY] bootstrap returned no rows. start={}", start);
+                return;
+            }
+
+            GorillaSeries block = new GorillaSeries(1);
+            for (FxRatePoint p : points) block.append(p.date().toEpochDay(), p.rate());
+
+            publish(block);
+            log.info("[FX-HISTORY] bootstrap done. rows={}, {} ~ {}",
+                    points.size(), points.get(0).date(), points.get(points.size() - 1).date());
+        });
+    }
+
+    /**
+     * ✅ 증분 확장: 마지막 날짜 이후만 ECOS 조회해서 블록 뒤에 append
+     * - Redis 블록이 없으면(만료/유실) bulk 적재부터
+     */
+    public void extend() {
+        if (!hasRedisBlock()) {
+            log.info("[FX-HISTORY] no shared block to extend. bootstrapping");
+            loadOrBootstrap();
+            return;
+        }
+
+        withLock(() -> {
+            byte[] bytes = redisStringCache.getBytes(CACHE_KEY);
+            if (bytes == null || bytes.length == 0) return;
+
+            GorillaSeries block = GorillaSeries.fromBytes(bytes);
+            if (block.count() == 0) return;
+
+            LocalDate from = LocalDate.ofEpochDay(block.lastTimestamp()).plusDays(1);
+            LocalDate to = LocalDate.now();
+            if (from.isAfter(to)) {
+                series = Series.of(block);
+                return;
+            }
+
+            List<FxRatePoint> points = bokExchangeRateService.fetchUsdKrwSeries(from, to);
+            int appended = 0;
+            for (FxRatePoint p : points) {
+                long day = p.date().toEpochDay();
+                if (day <= block.lastTimestamp()) continue;
+                block.append(day, p.rate());
+                appended++;
+            }
+
+            if (appended > 0) {
+                publish(block);
+            } else {
+                series = Series.of(block);
+            }
+            log.info("[FX-HISTORY] extend done. appended={}, size={}", appended, block.count());
+        });
+    }
+
+    /**
+     * ✅ 다른 인스턴스(리더)가 확장한 Redis 블록을 다시 읽음 (ECOS 호출 없음)
+     */
+    public void reload() {
+        int before = size();
+        if (loadFromRedis() && size() != before) {
+            log.info("[FX-HISTORY] reloaded from redis. size {} -> {}", before, size());
+        }
+    }
+
+    private boolean hasRedisBlock() {
+        byte[] bytes = redisStringCache.getBytes(CACHE_KEY);
+        return bytes != null && bytes.length > 0;
+    }
+
+    private boolean loadFromRedis() {
+        try {
+            byte[] bytes = redisStringCache.getBytes(CACHE_KEY);
+            if (bytes == null || bytes.length == 0) return false;
+
+            GorillaSeries block = GorillaSeries.fromBytes(bytes);
+            if (block.count() == 0) return false;
+
+            series = Series.of(block);
+            return true;
+        } catch (Exception e) {
+            log.warn("[FX-HISTORY] redis load failed ex={}", e.getClass().getSimpleName());
+            return false;
+        }
+    }
+
+    private void publish(GorillaSeries block) {
+        redisStringCache.setBytes(CACHE_KEY, block.toBytes(), CACHE_TTL);
+        series = Series.of(block);
+    }
+
+    private void withLock(Runnable task) {
+        String token = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(redisStringCache.setIfAbsent(LOCK_KEY, token, LOCK_TTL))) {
+            // 다른 인스턴스가 적재/확장 중 → Redis 값만 다시 읽음
+            loadFromRedis();
+            return;
+        }
+        try {
+            task.run();
+        } catch (Exception e) {
+            log.warn("[FX-HISTORY] update failed. keep current size={}", size(), e);
+        } finally {
+            redisStringCache.deleteIfValueMatches(LOCK_KEY, token);
+        }
+    }
+
+    /**
+     * 불변 시계열 스냅샷 (epochDay 오름차순)
+     */
+    private record Series(long[] days, double[] rates) {
+        static final Series EMPTY = new Series(new long[0], new double[0]);
+
+        static Series of(GorillaSeries block) {
+            GorillaSeries.Decoded d = block.decode();
+            return new Series(d.timestamps(), d.values()[0]);
+        }
+
+        Double rateOn(long epochDay, int maxGapDays) {
+            if (days.length == 0) return null;
+            if (epochDay > days[days.length - 1] + maxGapDays) return null;
+
+            int idx = Arrays.binarySearch(days, epochDay);
+            if (idx < 0) {
+                // 삽입 위치 - 1 = 직전 영업일
+                idx = -idx - 2;
+            }
+            return idx < 0 ? null : rates[idx];
+        }
+    }
+}
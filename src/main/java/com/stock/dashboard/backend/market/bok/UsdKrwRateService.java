@@ -0,0 +1,163 @@
+package com.stock.dashboard.backend.market.bok;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stock.dashboard.backend.market.cache.RedisStringCache;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * USD/KRW 환율 캐시 서비스
+ *
+ * - 요청 경로(getCachedRate)는 메모리 값만 반환 → ECOS 네트워크 I/O 없음
+ * - 갱신은 스케줄러(FxRateRefreshScheduler)에서만: ECOS 조회 → 메모리 + Redis 저장
+ * - 실패하면 마지막 성공 값(last-good)을 그대로 유지
+ * - stampede 방지: JVM 내 단일 실행(AtomicBoolean) + Redis 토큰 락(여러 인스턴스 간)
+ *   · 락을 놓친 인스턴스는 락 TTL 동안 Redis 값을 다시 확인해 승자가 쓴 새 값을 채택 (다음 cron 까지 옛 값으로 버티지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UsdKrwRateService {
+
+    private static final String CACHE_KEY = "market:fx:usdkrw";
+    private static final String LOCK_KEY = "market:fx:usdkrw:lock";
+
+    // last-good은 오래 들고 있는다 (연휴가 길어도 폴백 가능하게)
+    private static final Duration CACHE_TTL = Duration.ofDays(14);
+    private static final Duration LOCK_TTL = Duration.ofSeconds(30);
+
+    // 다른 인스턴스가 방금 갱신했으면 ECOS 재호출 없이 Redis 값 채택
+    private static final Duration SHARED_FRESH = Duration.ofMinutes(30);
+
+    private final BokExchangeRateService bokExchangeRateService;
+    private final RedisStringCache redisStringCache;
+    private final ObjectMapper objectMapper;
+
+    private volatile CachedFxRate current;
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
+
+    // 락을 놓친 뒤 Redis 재확인 마감 (0 = 확인할 것 없음)
+    private volatile long recheckUntilMs = 0L;
+
+    /**
+     * ✅ 요청 경로용: 메모리 값만 (없으면 null → 호출부에서 FX_RATE_UNAVAILABLE 처리)
+     */
+    public Double getCachedRate() {
+        CachedFxRate c = current;
+        return c == null ? null : c.rate();
+    }
+
+    public CachedFxRate getCached() {
+        return current;
+    }
+
+    /**
+     * 부팅 시 Redis의 last-good을 메모리로 올림 (네트워크는 Redis만)
+     */
+    public void loadFromRedis() {
+        CachedFxRate shared = readShared();
+        if (shared != null) {
+            current = shared;
+            log.info("[FX] loaded from redis. rate={}, date={}", shared.rate(), shared.date());
+        }
+    }
+
+    /**
+     * ✅ 스케줄러 전용 갱신
+     * - force=false면 Redis 값이 SHARED_FRESH 이내일 때 ECOS 호출 생략
+     */
+    public void refresh(boolean force) {
+        if (!refreshing.compareAndSet(false, true)) return; // 이미 이 JVM에서 갱신 중
+
+        try {
+            CachedFxRate shared = readShared();
+            if (!force && shared != null && isRecent(shared)) {
+                current = shared;
+                return;
+            }
+
+            String token = UUID.randomUUID().toString();
+            if (!Boolean.TRUE.equals(redisStringCache.setIfAbsent(LOCK_KEY, token, LOCK_TTL))) {
+                // 다른 인스턴스가 갱신 중 → 일단 Redis 값, 승자가 새 값을 쓰면 adoptSharedIfPending 에서 채택
+                if (shared != null) current = shared;
+                recheckUntilMs = System.currentTimeMillis() + LOCK_TTL.toMillis();
+                return;
+            }
+
+            try {
+                FxRatePoint latest = bokExchangeRateService.getLatestUsdKrw();
+                CachedFxRate fresh = new CachedFxRate(latest.rate(), latest.date().toString(), System.currentTimeMillis());
+
+                current = fresh;
+                writeShared(fresh);
+                log.info("[FX] refreshed. rate={}, date={}", fresh.rate(), fresh.date());
+            } finally {
+                redisStringCache.deleteIfValueMatches(LOCK_KEY, token);
+            }
+
+        } catch (Exception e) {
+            // ✅ 실패 시 last-good 유지
+            log.warn("[FX] refresh failed. keep last-good rate={}", current == null ? null : current.rate(), e);
+        } finally {
+            refreshing.set(false);
+        }
+    }
+
+    /**
+     * ✅ 락을 놓친 뒤 (락 TTL 동안) Redis 에 더 새 값이 올라왔으면 채택
+     * - 확인할 게 없으면 Redis 도 안 읽음 (짧은 주기로 불러도 됨)
+     */
+    public void adoptSharedIfPending() {
+        long until = recheckUntilMs;
+        if (until == 0L) return;
+
+        CachedFxRate shared = readShared();
+        CachedFxRate c = current;
+        if (shared != null && (c == null || shared.fetchedAtMs() > c.fetchedAtMs())) {
+            current = shared;
+            recheckUntilMs = 0L;
+            log.info("[FX] adopted rate refreshed by another instance. rate={}, date={}", shared.rate(), shared.date());
+            return;
+        }
+        // 승자가 락 TTL 안에 못 썼으면(실패/종료) 포기 → 다음 cron 에서 다시
+        if (System.currentTimeMillis() >= until) recheckUntilMs = 0L;
+    }
+
+    private boolean isRecent(CachedFxRate c) {
+        return System.currentTimeMillis() - c.fetchedAtMs() < SHARED_FRESH.toMillis();
+    }
+
+    private CachedFxRate readShared() {
+        try {
+            String json = redisStringCache.get(CACHE_KEY);
+            if (json == null || json.isBlank()) return null;
+            return objectMapper.readValue(json, CachedFxRate.class);
+        } catch (Exception e) {
+            log.debug("[FX] redis read failed ex={}", e.getClass().getSimpleName());
+            return null;
+        }
+    }
+
+    private void writeShared(CachedFxRate c) {
+        try {
+            redisStringCache.set(CACHE_KEY, objectMapper.writeValueAsString(c), CACHE_TTL);
+        } catch (Exception e) {
+            log.debug("[FX] redis write failed ex={}", e.getClass().getSimpleName());
+        }
+    }
+
+    public record CachedFxRate(
+            double rate,
+            String date,       // 환율 기준일 (yyyy-MM-dd)
+            long fetchedAtMs
+    ) {
+        public LocalDate localDate() {
+            return LocalDate.parse(date);
+        }
+    }
+}
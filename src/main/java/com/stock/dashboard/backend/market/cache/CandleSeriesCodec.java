@@ -0,0 +1,97 @@
+package com.stock.dashboard.backend.market.cache;
+
+import com.stock.dashboard.backend.market.dto.DailyCandleDTO;
+import com.stock.dashboard.backend.market.twelvedata.dto.SparklinePoint;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 캔들/스파크라인 ↔ GorillaSeries 변환
+ *
+ * - 캔들: ts = epochDay, 컬럼 = open/high/low/close/volume (volume은 2^53 미만이라 double로 무손실)
+ * - 스파크라인: ts = index(0..n-1, delta-of-delta가 전부 0이라 행당 1비트), 컬럼 = close
+ */
+public final class CandleSeriesCodec {
+
+    public static final int CANDLE_COLUMNS = 5;
+    public static final int SPARKLINE_COLUMNS = 1;
+
+    private CandleSeriesCodec() {}
+
+    public static GorillaSeries encodeCandles(List<DailyCandleDTO> candles) {
+        GorillaSeries series = new GorillaSeries(CANDLE_COLUMNS);
+        if (candles == null) return series;
+
+        for (DailyCandleDTO c : candles) {
+            appendCandle(series, c);
+        }
+        return series;
+    }
+
+    /**
+     * 새 봉을 블록 뒤에 이어 붙인다 (기존 비트 재인코딩 없음)
+     * - 날짜 파싱 실패 / 이미 있는 날짜 이하면 false
+     */
+    public static boolean appendCandle(GorillaSeries series, DailyCandleDTO c) {
+        if (c == null) return false;
+        Long day = epochDay(c.getDate());
+        if (day == null) return false;
+        if (series.count() > 0 && day <= series.lastTimestamp()) return false;
+
+        series.append(day, c.getOpen(), c.getHigh(), c.getLow(), c.getClose(), (double) c.getVolume());
+        return true;
+    }
+
+    public static List<DailyCandleDTO> decodeCandles(GorillaSeries series) {
+        if (series.columns() != CANDLE_COLUMNS) {
+            throw new IllegalArgumentException("not a candle series. columns=" + series.columns());
+        }
+
+        List<DailyCandleDTO> out = new ArrayList<>(series.count());
+        GorillaSeries.Reader r = series.reader();
+        while (r.next()) {
+            out.add(DailyCandleDTO.builder()
+                    .date(LocalDate.ofEpochDay(r.timestamp()).toString())
+                    .open(r.value(0))
+                    .high(r.value(1))
+                    .low(r.value(2))
+                    .close(r.value(3))
+                    .volume((long) r.value(4))
+                    .build());
+        }
+        return out;
+    }
+
+    public static GorillaSeries encodeSparkline(List<SparklinePoint> points) {
+        GorillaSeries series = new GorillaSeries(SPARKLINE_COLUMNS);
+        if (points == null) return series;
+
+        for (int i = 0; i < points.size(); i++) {
+            series.append(i, points.get(i).getClose());
+        }
+        return series;
+    }
+
+    public static List<SparklinePoint> decodeSparkline(GorillaSeries series) {
+        if (series.columns() != SPARKLINE_COLUMNS) {
+            throw new IllegalArgumentException("not a sparkline series. columns=" + series.columns());
+        }
+
+        double[] closes = series.decode().values()[0];
+        List<SparklinePoint> out = new ArrayList<>(closes.length);
+        for (int i = 0; i < closes.length; i++) {
+            out.add(new SparklinePoint(i, closes[i]));
+        }
+        return out;
+    }
+
+    private static Long epochDay(String date) {
+        if (date == null || date.length() < 10) return null;
+        try {
+            return LocalDate.parse(date.substring(0, 10)).toEpochDay();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,402 @@
+package com.stock.dashboard.backend.market.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Gorilla(Facebook TSDB) 방식 시계열 압축 블록
+ *
+ * - 타임스탬프: delta-of-delta (일봉이면 대부분 1비트)
+ * - 값(double): 직전 값과 XOR 후 의미 있는 비트만 기록
+ * - 컬럼별로 비트 스트림을 따로 두고, 인코더 상태(마지막 ts/delta/값/leading/trailing)를
+ *   블록 헤더에 같이 저장 → 새 봉 append 시 기존 비트를 다시 인코딩하지 않고 뒤에 이어 쓴다
+ *
+ * 직렬화 포맷 (big-endian):
+ *   byte version, int columns, int count,
+ *   long firstTs, long lastTs, long lastDelta,
+ *   [col] long lastBits, byte lastLeading, byte lastTrailing,
+ *   bitstream(ts), [col] bitstream
+ *   bitstream = long bitLength + bytes
+ */
+public final class GorillaSeries {
+
+    private static final byte VERSION = 1;
+
+    private final int columns;
+    private int count;
+
+    // 타임스탬프 인코더 상태
+    private long firstTs;
+    private long lastTs;
+    private long lastDelta;
+    private final BitWriter tsBits;
+
+    // 값 인코더 상태 (컬럼별)
+    private final long[] lastBits;
+    private final int[] lastLeading;
+    private final int[] lastTrailing;
+    private final BitWriter[] valueBits;
+
+    public GorillaSeries(int columns) {
+        if (columns <= 0) throw new IllegalArgumentException("columns must be > 0");
+        this.columns = columns;
+        this.tsBits = new BitWriter();
+        this.lastBits = new long[columns];
+        this.lastLeading = new int[columns];
+        this.lastTrailing = new int[columns];
+        this.valueBits = new BitWriter[columns];
+        for (int c = 0; c < columns; c++) {
+            valueBits[c] = new BitWriter();
+            lastLeading[c] = -1;
+        }
+    }
+
+    public int columns() {
+        return columns;
+    }
+
+    public int count() {
+        return count;
+    }
+
+    public long lastTimestamp() {
+        return lastTs;
+    }
+
+    /**
+     * 한 행(ts + 컬럼 값들)을 뒤에 이어 붙인다. ts는 직전 값보다 작으면 안 됨.
+     */
+    public void append(long ts, double... values) {
+        if (values == null || values.length != columns) {
+            throw new IllegalArgumentException("expected " + columns + " values");
+        }
+        if (count > 0 && ts < lastTs) {
+            throw new IllegalArgumentException("timestamp must be non-decreasing: " + ts + " < " + lastTs);
+        }
+
+        appendTimestamp(ts);
+        for (int c = 0; c < columns; c++) {
+            appendValue(c, Double.doubleToRawLongBits(values[c]));
+        }
+        count++;
+    }
+
+    private void appendTimestamp(long ts) {
+        if (count == 0) {
+            firstTs = ts;
+            lastTs = ts;
+            lastDelta = 0;
+            return;
+        }
+
+        long delta = ts - lastTs;
+        long dod = delta - lastDelta;
+
+        if (dod == 0) {
+            tsBits.writeBit(false);
+        } else if (dod >= -64 && dod <= 63) {
+            tsBits.writeBits(0b10, 2);
+            tsBits.writeBits(dod, 7);
+        } else if (dod >= -256 && dod <= 255) {
+            tsBits.writeBits(0b110, 3);
+            tsBits.writeBits(dod, 9);
+        } else if (dod >= -2048 && dod <= 2047) {
+            tsBits.writeBits(0b1110, 4);
+            tsBits.writeBits(dod, 12);
+        } else {
+            tsBits.writeBits(0b1111, 4);
+            tsBits.writeBits(dod, 64);
+        }
+
+        lastDelta = delta;
+        lastTs = ts;
+    }
+
+    private void appendValue(int c, long bits) {
+        BitWriter w = valueBits[c];
+
+        if (count == 0) {
+            w.writeBits(bits, 64);
+            lastBits[c] = bits;
+            return;
+        }
+
+        long xor = bits ^ lastBits[c];
+        lastBits[c] = bits;
+
+        if (xor == 0) {
+            w.writeBit(false);
+            return;
+        }
+        w.writeBit(true);
+
+        int leading = Math.min(31, Long.numberOfLeadingZeros(xor));
+        int trailing = Long.numberOfTrailingZeros(xor);
+
+        if (lastLeading[c] >= 0 && leading >= lastLeading[c] && trailing >= lastTrailing[c]) {
+            // 직전 의미 비트 구간 안에 들어가면 구간 재사용
+            w.writeBit(false);
+            int meaningful = 64 - lastLeading[c] - lastTrailing[c];
+            w.writeBits(xor >>> lastTrailing[c], meaningful);
+        } else {
+            w.writeBit(true);
+            int meaningful = 64 - leading - trailing;
+            w.writeBits(leading, 5);
+            w.writeBits(meaningful == 64 ? 0 : meaningful, 6);
+            w.writeBits(xor >>> trailing, meaningful);
+            lastLeading[c] = leading;
+            lastTrailing[c] = trailing;
+        }
+    }
+
+    /**
+     * ✅ 스트리밍 디코더: 행 단위로 primitive 배열에 바로 채워 넣는다
+     */
+    public Decoded decode() {
+        long[] ts = new long[count];
+        double[][] values = new double[columns][count];
+
+        Reader r = reader();
+        int i = 0;
+        while (r.next()) {
+            ts[i] = r.timestamp();
+            for (int c = 0; c < columns; c++) values[c][i] = r.value(c);
+            i++;
+        }
+        return new Decoded(ts, values);
+    }
+
+    public Reader reader() {
+        return new Reader(this);
+    }
+
+    public byte[] toBytes() {
+        try {
+            ByteArrayOutputStream bos = new ByteArrayOutputStream(64 + tsBits.byteSize() * (columns + 1));
+            DataOutputStream out = new DataOutputStream(bos);
+
+            out.writeByte(VERSION);
+            out.writeInt(columns);
+            out.writeInt(count);
+            out.writeLong(firstTs);
+            out.writeLong(lastTs);
+            out.writeLong(lastDelta);
+            for (int c = 0; c < columns; c++) {
+                out.writeLong(lastBits[c]);
+                out.writeByte(lastLeading[c]);
+                out.writeByte(lastTrailing[c]);
+            }
+
+            tsBits.writeTo(out);
+            for (int c = 0; c < columns; c++) valueBits[c].writeTo(out);
+
+            out.flush();
+            return bos.toByteArray();
+        } catch (IOException e) {
+            throw new IllegalStateException("gorilla encode failed", e);
+        }
+    }
+
+    public static GorillaSeries fromBytes(byte[] bytes) {
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+
+            byte version = in.readByte();
+            if (version != VERSION) throw new IllegalArgumentException("unsupported gorilla version: " + version);
+
+            GorillaSeries s = new GorillaSeries(in.readInt());
+            s.count = in.readInt();
+            s.firstTs = in.readLong();
+            s.lastTs = in.readLong();
+            s.lastDelta = in.readLong();
+            for (int c = 0; c < s.columns; c++) {
+                s.lastBits[c] = in.readLong();
+                s.lastLeading[c] = in.readByte();
+                s.lastTrailing[c] = in.readByte();
+            }
+
+            s.tsBits.readFrom(in);
+            for (int c = 0; c < s.columns; c++) s.valueBits[c].readFrom(in);
+            return s;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("gorilla decode failed", e);
+        }
+    }
+
+    public record Decoded(long[] timestamps, double[][] values) {
+        public int size() {
+            return timestamps.length;
+        }
+    }
+
+    /**
+     * 행 단위 순회용 디코더 (블록 상태는 건드리지 않음)
+     */
+    public static final class Reader {
+        private final GorillaSeries s;
+        private final BitReader tsIn;
+        private final BitReader[] valueIn;
+
+        private int index = -1;
+        private long ts;
+        private long delta;
+        private final long[] bits;
+        private final int[] leading;
+        private final int[] trailing;
+
+        private Reader(GorillaSeries s) {
+            this.s = s;
+            this.tsIn = s.tsBits.reader();
+            this.valueIn = new BitReader[s.columns];
+            this.bits = new long[s.columns];
+            this.leading = new int[s.columns];
+            this.trailing = new int[s.columns];
+            for (int c = 0; c < s.columns; c++) valueIn[c] = s.valueBits[c].reader();
+        }
+
+        public boolean next() {
+            if (index + 1 >= s.count) return false;
+            index++;
+
+            if (index == 0) {
+                ts = s.firstTs;
+                delta = 0;
+                for (int c = 0; c < s.columns; c++) bits[c] = valueIn[c].readBits(64);
+                return true;
+            }
+
+            ts = readTimestamp();
+            for (int c = 0; c < s.columns; c++) readValue(c);
+            return true;
+        }
+
+        public long timestamp() {
+            return ts;
+        }
+
+        public double value(int column) {
+            return Double.longBitsToDouble(bits[column]);
+        }
+
+        private long readTimestamp() {
+            long dod;
+            if (!tsIn.readBit()) {
+                dod = 0;
+            } else if (!tsIn.readBit()) {
+                dod = tsIn.readSigned(7);
+            } else if (!tsIn.readBit()) {
+                dod = tsIn.readSigned(9);
+            } else if (!tsIn.readBit()) {
+                dod = tsIn.readSigned(12);
+            } else {
+                dod = tsIn.readBits(64);
+            }
+            delta += dod;
+            return ts + delta;
+        }
+
+        private void readValue(int c) {
+            BitReader in = valueIn[c];
+            if (!in.readBit()) return; // 값 동일
+
+            if (in.readBit()) {
+                leading[c] = (int) in.readBits(5);
+                int meaningful = (int) in.readBits(6);
+                if (meaningful == 0) meaningful = 64;
+                trailing[c] = 64 - leading[c] - meaningful;
+            }
+            int meaningful = 64 - leading[c] - trailing[c];
+            long xor = in.readBits(meaningful) << trailing[c];
+            bits[c] ^= xor;
+        }
+    }
+
+    /**
+     * 길이가 늘어나는 비트 버퍼 (MSB부터 채움)
+     */
+    static final class BitWriter {
+        private byte[] buf = new byte[16];
+        private long bitLength;
+
+        void writeBit(boolean bit) {
+            ensure(bitLength + 1);
+            if (bit) {
+                int idx = (int) (bitLength >>> 3);
+                buf[idx] |= (byte) (0x80 >>> (int) (bitLength & 7));
+            }
+            bitLength++;
+        }
+
+        /** value의 하위 n비트를 기록 (n <= 64) */
+        void writeBits(long value, int n) {
+            ensure(bitLength + n);
+            for (int i = n - 1; i >= 0; i--) {
+                if (((value >>> i) & 1L) != 0) {
+                    int idx = (int) (bitLength >>> 3);
+                    buf[idx] |= (byte) (0x80 >>> (int) (bitLength & 7));
+                }
+                bitLength++;
+            }
+        }
+
+        int byteSize() {
+            return (int) ((bitLength + 7) >>> 3);
+        }
+
+        BitReader reader() {
+            return new BitReader(buf, bitLength);
+        }
+
+        void writeTo(DataOutputStream out) throws IOException {
+            out.writeLong(bitLength);
+            out.write(buf, 0, byteSize());
+        }
+
+        void readFrom(DataInputStream in) throws IOException {
+            bitLength = in.readLong();
+            int size = (int) ((bitLength + 7) >>> 3);
+            buf = new byte[Math.max(16, size)];
+            in.readFully(buf, 0, size);
+        }
+
+        private void ensure(long bits) {
+            int need = (int) ((bits + 7) >>> 3);
+            if (need > buf.length) buf = Arrays.copyOf(buf, Math.max(need, buf.length * 2));
+        }
+    }
+
+    static final class BitReader {
+        private final byte[] buf;
+        private final long bitLength;
+        private long pos;
+
+        BitReader(byte[] buf, long bitLength) {
+            this.buf = buf;
+            this.bitLength = bitLength;
+        }
+
+        boolean readBit() {
+            if (pos >= bitLength) throw new IllegalStateException("gorilla bitstream underflow");
+            int b = buf[(int) (pos >>> 3)] & (0x80 >>> (int) (pos & 7));
+            pos++;
+            return b != 0;
+        }
+
+        long readBits(int n) {
+            long v = 0;
+            for (int i = 0; i < n; i++) {
+                v = (v << 1) | (readBit() ? 1L : 0L);
+            }
+            return v;
+        }
+
+        long readSigned(int n) {
+            long v = readBits(n);
+            return (v << (64 - n)) >> (64 - n);
+        }
+    }
+}
@@ -1,11 +1,17 @@
 package com.stock.dashboard.backend.market.cache;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 @Component
@@ -31,6 +37,13 @@ public class RedisStringCache {
         return redis.opsForValue().get(key);
     }
 
+    //  추가: 여러 키 한 번에 (MGET, 왕복 1회) - 결과는 keys 순서, 없으면 null
+    public List<String> multiGet(List<String> keys) {
+        if (keys == null || keys.isEmpty()) return List.of();
+        List<String> values = redis.opsForValue().multiGet(keys);
+        return values != null ? values : Collections.nCopies(keys.size(), null);
+    }
+
     public void set(String key, String value, Duration ttl) {
         redis.opsForValue().set(key, value, ttl);
     }
@@ -48,4 +61,26 @@ public class RedisStringCache {
         Long res = redis.execute(DELETE_IF_MATCHES_SCRIPT, List.of(key), expectedValue);
         return res != null && res > 0;
     }
-}
\ No newline at end of file
+
+    //  추가: 바이너리 값 (압축 시계열 등) - Base64 없이 raw bytes로 저장
+    public byte[] getBytes(String key) {
+        byte[] k = key.getBytes(StandardCharsets.UTF_8);
+        return redis.execute((RedisCallback<byte[]>) conn -> conn.stringCommands().get(k));
+    }
+
+    public void setBytes(String key, byte[] value, Duration ttl) {
+        byte[] k = key.getBytes(StandardCharsets.UTF_8);
+        redis.execute((RedisCallback<Boolean>) conn -> conn.stringCommands()
+                .set(k, value, Expiration.from(ttl), RedisStringCommands.SetOption.upsert()));
+    }
+
+    public List<byte[]> multiGetBytes(List<String> keys) {
+        if (keys == null || keys.isEmpty()) return List.of();
+
+        byte[][] raw = new byte[keys.size()][];
+        for (int i = 0; i < keys.size(); i++) raw[i] = keys.get(i).getBytes(StandardCharsets.UTF_8);
+
+        List<byte[]> values = redis.execute((RedisCallback<List<byte[]>>) conn -> conn.stringCommands().mGet(raw));
+        return values != null ? values : new ArrayList<>(Collections.nCopies(keys.size(), null));
+    }
+}
@@ -0,0 +1,223 @@
+package com.stock.dashboard.backend.market.calendar;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Month;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 미국 정규장(NYSE/NASDAQ) 캘린더
+ *
+ * - 정규장: 09:30 ~ 16:00 (America/New_York, 서머타임은 ZoneId 가 처리)
+ * - 휴장일: NYSE 규칙으로 연도별 계산 (Good Friday 포함), 임시 휴장은 설정으로 추가
+ * - 조기 폐장(13:00): 독립기념일 전날, 추수감사절 다음날, 크리스마스 이브
+ *
+ * 캐시 TTL 을 "다음에 값이 바뀔 수 있는 시점" 까지로 잡는 데 사용한다.
+ * (장 마감 후/주말/휴일에는 외부 호출이 거의 0 이 되도록)
+ */
+@Component
+public class UsMarketCalendar {
+
+    public static final ZoneId NEW_YORK = ZoneId.of("America/New_York");
+
+    private static final LocalTime OPEN = LocalTime.of(9, 30);
+    private static final LocalTime CLOSE = LocalTime.of(16, 0);
+    private static final LocalTime EARLY_CLOSE = LocalTime.of(13, 0);
+
+    // 마감 직후엔 종가(클로징 옥션)가 확정될 때까지 짧게 갱신
+    private static final Duration CLOSE_SETTLE = Duration.ofMinutes(15);
+    private static final Duration CLOSE_SETTLE_TTL = Duration.ofMinutes(1);
+
+    // 업스트림 일봉이 확정되는 시점 (마감 + 여유)
+    private static final Duration DAILY_BAR_DELAY = Duration.ofMinutes(30);
+
+    private static final Duration MIN_TTL = Duration.ofSeconds(5);
+
+    private final Map<Integer, YearCalendar> years = new ConcurrentHashMap<>();
+
+    // 임시 휴장 (예: 국가 애도일) - "2025-01-09,..." 형식
+    private Set<LocalDate> extraClosures = Set.of();
+
+    private record YearCalendar(Set<LocalDate> holidays, Set<LocalDate> earlyCloses) {}
+
+    @Value("${market.calendar.extra-closures:}")
+    void setExtraClosures(String csv) {
+        Set<LocalDate> out = new HashSet<>();
+        if (csv != null) {
+            Arrays.stream(csv.split(","))
+                    .map(String::trim)
+                    .filter(s -> !s.isEmpty())
+                    .map(LocalDate::parse)
+                    .forEach(out::add);
+        }
+        this.extraClosures = Set.copyOf(out);
+    }
+
+    public boolean isTradingDay(LocalDate date) {
+        DayOfWeek dow = date.getDayOfWeek();
+        if (dow == DayOfWeek.SATURDAY || dow == DayOfWeek.SUNDAY) return false;
+        if (extraClosures.contains(date)) return false;
+        return !year(date.getYear()).holidays().contains(date);
+    }
+
+    public boolean isEarlyClose(LocalDate date) {
+        return isTradingDay(date) && year(date.getYear()).earlyCloses().contains(date);
+    }
+
+    public ZonedDateTime sessionOpen(LocalDate date) {
+        return date.atTime(OPEN).atZone(NEW_YORK);
+    }
+
+    public ZonedDateTime sessionClose(LocalDate date) {
+        return date.atTime(isEarlyClose(date) ? EARLY_CLOSE : CLOSE).atZone(NEW_YORK);
+    }
+
+    public boolean isOpen(Instant now) {
+        LocalDate today = now.atZone(NEW_YORK).toLocalDate();
+        if (!isTradingDay(today)) return false;
+        return !now.isBefore(sessionOpen(today).toInstant()) && now.isBefore(sessionClose(today).toInstant());
+    }
+
+    public boolean isOpen() {
+        return isOpen(Instant.now());
+    }
+
+    /**
+     * 지금 이후(또는 지금) 가장 가까운 정규장 시작 시각
+     */
+    public Instant nextOpen(Instant now) {
+        LocalDate d = now.atZone(NEW_YORK).toLocalDate();
+        while (true) {
+            if (isTradingDay(d)) {
+                Instant open = sessionOpen(d).toInstant();
+                if (!open.isBefore(now)) return open;
+            }
+            d = d.plusDays(1);
+        }
+    }
+
+    /**
+     * ✅ 실시간 시세 TTL
+     * - 장중: openTtl (초 단위)
+     * - 마감 직후: 종가 확정까지 1분
+     * - 그 외(장전/장후/주말/휴일): 다음 개장까지
+     */
+    public Duration quoteTtl(Instant now, Duration openTtl) {
+        if (isOpen(now)) return openTtl;
+
+        LocalDate today = now.atZone(NEW_YORK).toLocalDate();
+        if (isTradingDay(today)) {
+            Instant close = sessionClose(today).toInstant();
+            if (!now.isBefore(close) && now.isBefore(close.plus(CLOSE_SETTLE))) {
+                return CLOSE_SETTLE_TTL;
+            }
+        }
+        return atLeast(Duration.between(now, nextOpen(now)), openTtl);
+    }
+
+    public Duration quoteTtl(Duration openTtl) {
+        return quoteTtl(Instant.now(), openTtl);
+    }
+
+    /**
+     * ✅ 일봉/스파크라인 TTL: 다음 일봉이 확정되는 시점(마감 + 30분)까지
+     */
+    public Duration dailyBarTtl(Instant now) {
+        LocalDate d = now.atZone(NEW_YORK).toLocalDate();
+        while (true) {
+            if (isTradingDay(d)) {
+                Instant barFinal = sessionClose(d).toInstant().plus(DAILY_BAR_DELAY);
+                if (barFinal.isAfter(now)) return atLeast(Duration.between(now, barFinal), MIN_TTL);
+            }
+            d = d.plusDays(1);
+        }
+    }
+
+    public Duration dailyBarTtl() {
+        return dailyBarTtl(Instant.now());
+    }
+
+    private static Duration atLeast(Duration d, Duration min) {
+        return d.compareTo(min) < 0 ? min : d;
+    }
+
+    private YearCalendar year(int y) {
+        return years.computeIfAbsent(y, UsMarketCalendar::build);
+    }
+
+    private static YearCalendar build(int y) {
+        Set<LocalDate> h = new HashSet<>();
+
+        // 신정: 토요일이면 대체휴일 없음(NYSE 규칙), 일요일이면 월요일
+        LocalDate newYear = LocalDate.of(y, Month.JANUARY, 1);
+        if (newYear.getDayOfWeek() == DayOfWeek.SUNDAY) h.add(newYear.plusDays(1));
+        else if (newYear.getDayOfWeek() != DayOfWeek.SATURDAY) h.add(newYear);
+
+        h.add(nth(y, Month.JANUARY, DayOfWeek.MONDAY, 3));   // MLK
+        h.add(nth(y, Month.FEBRUARY, DayOfWeek.MONDAY, 3));  // Presidents' Day
+        h.add(easter(y).minusDays(2));                       // Good Friday
+        h.add(LocalDate.of(y, Month.MAY, 1).with(TemporalAdjusters.lastInMonth(DayOfWeek.MONDAY))); // Memorial
+        if (y >= 2022) h.add(observed(LocalDate.of(y, Month.JUNE, 19)));                         // Juneteenth
+        h.add(observed(LocalDate.of(y, Month.JULY, 4)));
+        h.add(nth(y, Month.SEPTEMBER, DayOfWeek.MONDAY, 1)); // Labor Day
+        LocalDate thanksgiving = nth(y, Month.NOVEMBER, DayOfWeek.THURSDAY, 4);
+        h.add(thanksgiving);
+        h.add(observed(LocalDate.of(y, Month.DECEMBER, 25)));
+
+        Set<LocalDate> early = new HashSet<>();
+        addIfWeekdayOpen(early, h, LocalDate.of(y, Month.JULY, 3));
+        early.add(thanksgiving.plusDays(1));
+        addIfWeekdayOpen(early, h, LocalDate.of(y, Month.DECEMBER, 24));
+
+        return new YearCalendar(Set.copyOf(h), Set.copyOf(early));
+    }
+
+    private static void addIfWeekdayOpen(Set<LocalDate> early, Set<LocalDate> holidays, LocalDate d) {
+        DayOfWeek dow = d.getDayOfWeek();
+        if (dow != DayOfWeek.SATURDAY && dow != DayOfWeek.SUNDAY && !holidays.contains(d)) early.add(d);
+    }
+
+    // 토요일 → 금요일, 일요일 → 월요일
+    private static LocalDate observed(LocalDate d) {
+        return switch (d.getDayOfWeek()) {
+            case SATURDAY -> d.minusDays(1);
+            case SUNDAY -> d.plusDays(1);
+            default -> d;
+        };
+    }
+
+    private static LocalDate nth(int y, Month m, DayOfWeek dow, int n) {
+        return LocalDate.of(y, m, 1).with(TemporalAdjusters.dayOfWeekInMonth(n, dow));
+    }
+
+    // 그레고리력 부활절 (Anonymous Gregorian algorithm)
+    private static LocalDate easter(int y) {
+        int a = y % 19;
+        int b = y / 100;
+        int c = y % 100;
+        int d = b / 4;
+        int e = b % 4;
+        int f = (b + 8) / 25;
+        int g = (b - f + 1) / 3;
+        int h = (19 * a + b - d - g + 15) % 30;
+        int i = c / 4;
+        int k = c % 4;
+        int l = (32 + 2 * e + 2 * i - h - k) % 7;
+        int m = (a + 11 * h + 22 * l) / 451;
+        int month = (h + l - 7 * m + 114) / 31;
+        int day = ((h + l - 7 * m + 114) % 31) + 1;
+        return LocalDate.of(y, month, day);
+    }
+}
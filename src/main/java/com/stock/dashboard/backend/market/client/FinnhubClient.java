@@ -12,6 +12,7 @@ import org.springframework.web.util.UriComponentsBuilder;
 import org.springframework.http.HttpHeaders;
 
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -63,13 +64,39 @@ public class FinnhubClient {
         return restTemplate.getForObject(url, List.class);
     }
     public List<FinnhubNewsItemDTO> getMarketNews(String category) {
-        String url = UriComponentsBuilder
+        return getMarketNews(category, 0L);
+    }
+
+    /**
+     * minId 보다 큰 id 의 뉴스만 (증분 조회, 0 이면 전체)
+     */
+    public List<FinnhubNewsItemDTO> getMarketNews(String category, long minId) {
+        UriComponentsBuilder b = UriComponentsBuilder
                 .fromHttpUrl(baseUrl)
                 .path("/news")
-                .queryParam("category", category)
+                .queryParam("category", category);
+        if (minId > 0) b.queryParam("minId", minId);
+
+        return getNewsArray(b.build().toUriString(), "market news " + category);
+    }
+
+    /**
+     * 종목 뉴스 (from~to, 날짜 단위)
+     */
+    public List<FinnhubNewsItemDTO> getCompanyNews(String symbol, LocalDate from, LocalDate to) {
+        String url = UriComponentsBuilder
+                .fromHttpUrl(baseUrl)
+                .path("/company-news")
+                .queryParam("symbol", symbol)
+                .queryParam("from", from.toString())
+                .queryParam("to", to.toString())
                 .build()
                 .toUriString();
 
+        return getNewsArray(url, "company news " + symbol);
+    }
+
+    private List<FinnhubNewsItemDTO> getNewsArray(String url, String what) {
         HttpHeaders headers = new HttpHeaders();
         headers.set("X-Finnhub-Token", apiKey);
         HttpEntity<Void> entity = new HttpEntity<>(headers);
@@ -78,7 +105,7 @@ public class FinnhubClient {
                 restTemplate.exchange(url, HttpMethod.GET, entity, FinnhubNewsItemDTO[].class);
 
         if (!res.getStatusCode().is2xxSuccessful() || res.getBody() == null) {
-            throw new IllegalStateException("Finnhub market news fetch failed: " + category);
+            throw new IllegalStateException("Finnhub " + what + " fetch failed");
         }
 
         return Arrays.asList(res.getBody());
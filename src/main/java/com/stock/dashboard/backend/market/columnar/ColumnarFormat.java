@@ -0,0 +1,76 @@
+package com.stock.dashboard.backend.market.columnar;
+
+import com.stock.dashboard.backend.market.twelvedata.dto.SparklinePoint;
+import java.util.List;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * 컬럼형(columnar) 응답 포맷 공통 유틸
+ * - 기본 응답은 기존 JSON(객체 배열) 그대로 유지
+ * - ?format=columnar 또는 Accept: application/vnd.stock.columnar+json 일 때만 병렬 배열로 내려준다
+ * - 모바일에서 키 반복이 사라져 payload/파싱 비용이 줄어드는 게 목적
+ */
+public final class ColumnarFormat {
+
+    public static final String FORMAT_PARAM_VALUE = "columnar";
+    public static final String MEDIA_TYPE_VALUE = "application/vnd.stock.columnar+json";
+    public static final MediaType MEDIA_TYPE = MediaType.parseMediaType(MEDIA_TYPE_VALUE);
+
+    private ColumnarFormat() {}
+
+    /**
+     * ✅ 쿼리 파라미터가 우선, 없으면 Accept 헤더로 판단
+     */
+    public static boolean isRequested(String format, String accept) {
+        if (format != null && !format.isBlank()) {
+            return FORMAT_PARAM_VALUE.equalsIgnoreCase(format.trim());
+        }
+        if (accept == null || accept.isBlank()) return false;
+
+        try {
+            for (MediaType mt : MediaType.parseMediaTypes(accept)) {
+                if (MEDIA_TYPE.isCompatibleWith(mt) && !mt.isWildcardType() && !mt.isWildcardSubtype()) {
+                    return true;
+                }
+            }
+        } catch (Exception ignored) {
+            // 잘못된 Accept는 기본 JSON으로 처리
+        }
+        return false;
+    }
+
+    /**
+     * ✅ 컬럼형 응답은 Content-Type을 명시하고, 캐시가 섞이지 않게 Vary: Accept 추가
+     */
+    public static <T> ResponseEntity<T> ok(T body) {
+        return ResponseEntity.ok()
+                .contentType(MEDIA_TYPE)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                .body(body);
+    }
+
+    /**
+     * SparklinePoint.index는 항상 0..n-1 이라 종가 배열만 있으면 충분하다.
+     */
+    public static double[] closes(List<SparklinePoint> points) {
+        if (points == null || points.isEmpty()) return new double[0];
+        double[] out = new double[points.size()];
+        for (int i = 0; i < out.length; i++) {
+            SparklinePoint p = points.get(i);
+            out[i] = (p == null) ? 0d : p.getClose();
+        }
+        return out;
+    }
+
+    public static double[] toArray(List<Double> values) {
+        if (values == null || values.isEmpty()) return new double[0];
+        double[] out = new double[values.size()];
+        for (int i = 0; i < out.length; i++) {
+            Double v = values.get(i);
+            out[i] = (v == null) ? 0d : v;
+        }
+        return out;
+    }
+}
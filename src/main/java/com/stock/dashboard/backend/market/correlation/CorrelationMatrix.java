@@ -0,0 +1,98 @@
+package com.stock.dashboard.backend.market.correlation;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Pearson 상관계수 행렬 계산 (primitive 배열 + fork-join)
+ *
+ * - 각 행(수익률 시계열)을 평균 0, 노름 1 로 정규화해 두면 상관계수 = 내적
+ * - 상삼각만 계산하고 대칭으로 채움
+ * - 행 블록 단위로 분할 (윗줄일수록 계산량이 많아서 블록을 작게 잡음)
+ */
+final class CorrelationMatrix {
+
+    private static final int ROWS_PER_TASK = 4;
+
+    private CorrelationMatrix() {}
+
+    /**
+     * @param returns [심볼][시점] 수익률, 모든 행 길이 동일
+     * @return [i][j] 상관계수, 분산 0 이 낀 칸은 NaN
+     */
+    static double[][] pearson(double[][] returns) {
+        int m = returns.length;
+        double[][] z = new double[m][];
+        for (int i = 0; i < m; i++) z[i] = normalize(returns[i]);
+
+        double[][] out = new double[m][m];
+        ForkJoinPool.commonPool().invoke(new RowBlock(z, out, 0, m));
+        return out;
+    }
+
+    // 평균 0, 노름 1 (분산 0 이면 null)
+    private static double[] normalize(double[] row) {
+        int n = row.length;
+        double mean = 0;
+        for (double v : row) mean += v;
+        mean /= n;
+
+        double[] z = new double[n];
+        double ss = 0;
+        for (int t = 0; t < n; t++) {
+            double d = row[t] - mean;
+            z[t] = d;
+            ss += d * d;
+        }
+        if (ss <= 0) return null;
+
+        double inv = 1.0 / Math.sqrt(ss);
+        for (int t = 0; t < n; t++) z[t] *= inv;
+        return z;
+    }
+
+    private static final class RowBlock extends RecursiveAction {
+        private final double[][] z;
+        private final double[][] out;
+        private final int lo;
+        private final int hi;
+
+        RowBlock(double[][] z, double[][] out, int lo, int hi) {
+            this.z = z;
+            this.out = out;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo <= ROWS_PER_TASK) {
+                for (int i = lo; i < hi; i++) computeRow(i);
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new RowBlock(z, out, lo, mid), new RowBlock(z, out, mid, hi));
+        }
+
+        private void computeRow(int i) {
+            double[] a = z[i];
+            int m = z.length;
+            for (int j = i; j < m; j++) {
+                double[] b = z[j];
+                double r;
+                if (a == null || b == null) {
+                    r = Double.NaN;
+                } else if (i == j) {
+                    r = 1.0;
+                } else {
+                    double dot = 0;
+                    for (int t = 0; t < a.length; t++) dot += a[t] * b[t];
+                    // 부동소수 오차로 ±1 을 살짝 넘는 것 방지
+                    r = Math.max(-1.0, Math.min(1.0, dot));
+                }
+                out[i][j] = r;
+                out[j][i] = r;
+            }
+        }
+    }
+}
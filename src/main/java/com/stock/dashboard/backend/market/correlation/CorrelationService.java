@@ -0,0 +1,204 @@
+package com.stock.dashboard.backend.market.correlation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stock.dashboard.backend.exception.BadRequestException;
+import com.stock.dashboard.backend.market.cache.RedisStringCache;
+import com.stock.dashboard.backend.market.dto.CorrelationResponse;
+import com.stock.dashboard.backend.market.dto.DailyCandleDTO;
+import com.stock.dashboard.backend.market.service.MarketCandleService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 종목 간 일간 로그수익률 상관계수 행렬
+ *
+ * - 데이터: MarketCandleService 일봉 캐시만 (MGET 1회, 업스트림 호출 없음 → 캐시 미스는 unavailableSymbols)
+ * - 정렬: 모든 심볼에 공통으로 있는 거래일만 사용
+ *   → 한 심볼이 듬성하면 교집합이 통째로 줄어듦: 공통 거래일이 목표(min-common-days / window / 심볼 중앙값 중 최소)에
+ *     못 미치면 가장 듬성한 심볼부터 빼서 unavailableSymbols 로 (최소 2개는 남김)
+ * - 계산: CorrelationMatrix (fork-join)
+ * - 캐시: 심볼 집합(정렬) + days 기준 Redis (일봉 기반이라 길게)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CorrelationService {
+
+    private static final String KEY_PREFIX = "market:correlation:v1:";
+    private static final Duration TTL = Duration.ofHours(1);
+
+    private final MarketCandleService marketCandleService;
+    private final RedisStringCache redisStringCache;
+    private final ObjectMapper objectMapper;
+
+    @Value("${market.correlation.max-symbols:100}")
+    private int maxSymbols;
+
+    @Value("${market.correlation.min-common-days:20}")
+    private int minCommonDays;
+
+    public CorrelationResponse getCorrelation(String symbolsCsv, int days) {
+        List<String> symbols = parseSymbols(symbolsCsv);
+
+        // 수익률 days 개 = 종가 days+1 개 필요, 캐시가 MAX_DAYS 종가까지라 상한도 그에 맞춤
+        int window = Math.max(2, Math.min(days, marketCandleService.maxDays() - 1));
+
+        String key = cacheKey(symbols, window);
+        CorrelationResponse cached = readCache(key);
+        if (cached != null) return cached;
+
+        Map<String, List<DailyCandleDTO>> series = marketCandleService.getCachedDailyCandles(symbols);
+
+        List<String> available = new ArrayList<>();
+        List<String> unavailable = new ArrayList<>();
+        for (String s : symbols) {
+            if (series.getOrDefault(s, List.of()).size() >= 2) available.add(s);
+            else unavailable.add(s);
+        }
+
+        List<String> dates = commonDates(available, unavailable, series, window + 1);
+        if (available.isEmpty() || dates.size() < 3) {
+            // 데이터 부족은 캐시하지 않음 (다음 호출에서 채워질 수 있음)
+            return new CorrelationResponse(available, 0, null, null, new Double[0][0], unavailable);
+        }
+
+        double[][] returns = logReturns(available, series, dates);
+        double[][] raw = CorrelationMatrix.pearson(returns);
+
+        Double[][] matrix = new Double[raw.length][raw.length];
+        for (int i = 0; i < raw.length; i++) {
+            for (int j = 0; j < raw.length; j++) {
+                double r = raw[i][j];
+                matrix[i][j] = Double.isNaN(r) ? null : Math.round(r * 10_000d) / 10_000d;
+            }
+        }
+
+        CorrelationResponse res = new CorrelationResponse(
+                available,
+                dates.size() - 1,
+                dates.get(1),
+                dates.get(dates.size() - 1),
+                matrix,
+                unavailable
+        );
+
+        // 일부 심볼이 빠진 결과는 짧게만 들고 감 (다른 경로에서 일봉 캐시가 채워지면 반영)
+        writeCache(key, res, unavailable.isEmpty() ? TTL : Duration.ofMinutes(1));
+        return res;
+    }
+
+    // 남은 심볼 모두에 있는 날짜 중 최근 limit 개 (오름차순)
+    // 공통 거래일이 목표에 못 미치면 가장 듬성한 심볼을 symbols → excluded 로 옮기고 다시 교집합
+    private List<String> commonDates(List<String> symbols, List<String> excluded,
+                                     Map<String, List<DailyCandleDTO>> series, int limit) {
+        if (symbols.isEmpty()) return List.of();
+
+        Map<String, TreeSet<String>> datesBySymbol = new HashMap<>();
+        for (String s : symbols) {
+            TreeSet<String> dates = new TreeSet<>();
+            for (DailyCandleDTO c : series.get(s)) {
+                if (c.getClose() > 0) dates.add(c.getDate());
+            }
+            datesBySymbol.put(s, dates);
+        }
+
+        // 목표: 설정값 / 창 / 심볼별 거래일 수 중앙값 중 최소 (캐시가 전반적으로 짧으면 그만큼만 요구)
+        int[] counts = symbols.stream().mapToInt(s -> datesBySymbol.get(s).size()).sorted().toArray();
+        int target = Math.min(Math.min(minCommonDays, limit), counts[counts.length / 2]);
+
+        TreeSet<String> common = intersect(symbols, datesBySymbol);
+        while (common.size() < target && symbols.size() > 2) {
+            String sparsest = symbols.get(0);
+            for (String s : symbols) {
+                if (datesBySymbol.get(s).size() < datesBySymbol.get(sparsest).size()) sparsest = s;
+            }
+            symbols.remove(sparsest);
+            excluded.add(sparsest);
+            common = intersect(symbols, datesBySymbol);
+        }
+
+        List<String> all = new ArrayList<>(common);
+        return all.size() <= limit ? all : all.subList(all.size() - limit, all.size());
+    }
+
+    private static TreeSet<String> intersect(List<String> symbols, Map<String, TreeSet<String>> datesBySymbol) {
+        TreeSet<String> common = new TreeSet<>(datesBySymbol.get(symbols.get(0)));
+        for (int i = 1; i < symbols.size(); i++) common.retainAll(datesBySymbol.get(symbols.get(i)));
+        return common;
+    }
+
+    private static double[][] logReturns(List<String> symbols, Map<String, List<DailyCandleDTO>> series, List<String> dates) {
+        int n = dates.size() - 1;
+        double[][] out = new double[symbols.size()][n];
+
+        for (int i = 0; i < symbols.size(); i++) {
+            Map<String, Double> closeByDate = new HashMap<>();
+            for (DailyCandleDTO c : series.get(symbols.get(i))) closeByDate.put(c.getDate(), c.getClose());
+
+            double prev = closeByDate.get(dates.get(0));
+            for (int t = 0; t < n; t++) {
+                double cur = closeByDate.get(dates.get(t + 1));
+                out[i][t] = Math.log(cur / prev);
+                prev = cur;
+            }
+        }
+        return out;
+    }
+
+    private List<String> parseSymbols(String csv) {
+        if (csv == null || csv.isBlank()) throw new BadRequestException("symbols는 필수입니다.");
+
+        // 정렬된 집합 → 같은 심볼 조합이면 순서와 무관하게 같은 캐시 키
+        TreeSet<String> set = new TreeSet<>();
+        for (String raw : csv.split(",")) {
+            String s = raw.trim().toUpperCase();
+            if (s.isEmpty()) continue;
+            if (s.length() > 20) throw new BadRequestException("symbol 형식이 올바르지 않습니다. symbol=" + s);
+            set.add(s);
+        }
+
+        if (set.size() < 2) throw new BadRequestException("symbols는 2개 이상이어야 합니다.");
+        if (set.size() > maxSymbols) throw new BadRequestException("symbols는 최대 " + maxSymbols + "개까지 가능합니다.");
+        return new ArrayList<>(set);
+    }
+
+    private static String cacheKey(List<String> sortedSymbols, int window) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-1");
+            byte[] hash = md.digest(String.join(",", sortedSymbols).getBytes(StandardCharsets.UTF_8));
+            return KEY_PREFIX + window + ":" + HexFormat.of().formatHex(hash);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private CorrelationResponse readCache(String key) {
+        String json = redisStringCache.get(key);
+        if (json == null || json.isBlank()) return null;
+        try {
+            return objectMapper.readValue(json, CorrelationResponse.class);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private void writeCache(String key, CorrelationResponse res, Duration ttl) {
+        try {
+            redisStringCache.set(key, objectMapper.writeValueAsString(res), ttl);
+        } catch (Exception e) {
+            log.warn("[CORRELATION] cache write failed ex={}", e.getClass().getSimpleName());
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.stock.dashboard.backend.market.dto;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 일봉 캔들 컬럼형 응답
+ * - 날짜는 startEpochDay + dayDeltas(직전 봉과의 일수 차이, 첫 값은 0)로 delta 인코딩
+ * - 가격/거래량은 병렬 배열 (index i가 같은 봉)
+ */
+public record ColumnarCandlesResponse(
+        String symbol,
+        long startEpochDay,
+        int[] dayDeltas,
+        double[] open,
+        double[] high,
+        double[] low,
+        double[] close,
+        long[] volume
+) {
+    public static ColumnarCandlesResponse from(String symbol, List<DailyCandleDTO> candles) {
+        String s = (symbol == null) ? "" : symbol.trim().toUpperCase();
+
+        // 날짜 파싱 실패한 봉은 컬럼형에서 제외 (delta 인코딩이 깨지지 않게)
+        List<DailyCandleDTO> rows = new ArrayList<>();
+        List<Long> epochDays = new ArrayList<>();
+        if (candles != null) {
+            for (DailyCandleDTO c : candles) {
+                Long epochDay = parseEpochDay(c == null ? null : c.getDate());
+                if (epochDay == null) continue;
+                rows.add(c);
+                epochDays.add(epochDay);
+            }
+        }
+
+        int n = rows.size();
+        int[] deltas = new int[n];
+        double[] o = new double[n];
+        double[] h = new double[n];
+        double[] l = new double[n];
+        double[] cl = new double[n];
+        long[] v = new long[n];
+
+        long start = n == 0 ? 0L : epochDays.get(0);
+        long prev = start;
+        for (int i = 0; i < n; i++) {
+            DailyCandleDTO c = rows.get(i);
+            long day = epochDays.get(i);
+            deltas[i] = (int) (day - prev);
+            prev = day;
+
+            o[i] = c.getOpen();
+            h[i] = c.getHigh();
+            l[i] = c.getLow();
+            cl[i] = c.getClose();
+            v[i] = c.getVolume();
+        }
+
+        return new ColumnarCandlesResponse(s, start, deltas, o, h, l, cl, v);
+    }
+
+    private static Long parseEpochDay(String date) {
+        if (date == null || date.length() < 10) return null;
+        try {
+            // TwelveData 1day는 "yyyy-MM-dd" (혹시 시간이 붙어도 앞 10자리만 사용)
+            return LocalDate.parse(date.substring(0, 10)).toEpochDay();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.stock.dashboard.backend.market.dto;
+
+import com.stock.dashboard.backend.model.vo.MarketSummaryVO;
+
+public record ColumnarMarketSummaryResponse(
+        MarketSummaryVO quote,
+        ColumnarCandlesResponse candles
+) {
+    public static ColumnarMarketSummaryResponse from(String symbol, MarketSummaryResponse res) {
+        return new ColumnarMarketSummaryResponse(
+                res.quote(),
+                ColumnarCandlesResponse.from(symbol, res.candles())
+        );
+    }
+}
@@ -0,0 +1,16 @@
+package com.stock.dashboard.backend.market.dto;
+
+import java.util.List;
+
+/**
+ * 상관계수 행렬 (symbols 순서 = 행/열 순서)
+ * - 분산 0 (가격 변동 없음) 인 심볼이 낀 칸은 null
+ */
+public record CorrelationResponse(
+        List<String> symbols,
+        int days,               // 실제 사용한 수익률 개수 (공통 거래일 기준)
+        String from,            // 첫 수익률의 날짜
+        String to,
+        Double[][] matrix,
+        List<String> unavailableSymbols
+) {}
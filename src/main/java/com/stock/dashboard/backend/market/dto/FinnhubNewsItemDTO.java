@@ -6,6 +6,9 @@ import lombok.Setter;
 @Getter
 @Setter
 public class FinnhubNewsItemDTO {
+    private long id;         // Finnhub 뉴스 id (증가값, minId 증분 조회용)
+    private String category;
+    private String related;  // company-news 의 심볼
     private long datetime;   // seconds
     private String headline;
     private String source;
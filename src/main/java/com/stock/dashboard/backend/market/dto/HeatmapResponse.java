@@ -0,0 +1,23 @@
+package com.stock.dashboard.backend.market.dto;
+
+import java.util.List;
+
+public record HeatmapResponse(
+        long asOf,
+        List<Group> groups
+) {
+    public record Group(
+            String name,
+            int count,          // 시세가 있는 종목 수
+            Double avgChangePct,
+            int up,
+            int down,
+            List<Tile> tiles
+    ) {}
+
+    public record Tile(
+            String symbol,
+            double price,
+            double changePct
+    ) {}
+}
@@ -0,0 +1,13 @@
+package com.stock.dashboard.backend.market.dto;
+
+/**
+ * 인트라데이 봉 (time = 봉 시작 epoch millis, UTC)
+ */
+public record IntradayBarDTO(
+        long time,
+        double open,
+        double high,
+        double low,
+        double close,
+        int ticks
+) {}
@@ -0,0 +1,9 @@
+package com.stock.dashboard.backend.market.dto;
+
+import java.util.List;
+
+public record IntradayCandlesResponse(
+        String symbol,
+        String interval,
+        List<IntradayBarDTO> bars
+) {}
@@ -0,0 +1,17 @@
+package com.stock.dashboard.backend.market.dto;
+
+import java.util.List;
+
+public record MoversResponse(
+        long asOf,
+        List<Item> gainers,
+        List<Item> losers,
+        List<Item> mostActive
+) {
+    public record Item(
+            String symbol,
+            double price,
+            double changePct,
+            Long volume // 최근 일봉 거래량, 모르면 null
+    ) {}
+}
@@ -0,0 +1,10 @@
+package com.stock.dashboard.backend.market.dto;
+
+import com.stock.dashboard.backend.home.vo.NewsItemVO;
+import java.util.List;
+
+public record NewsPageResponse(
+        String symbol,          // null 이면 general(시장 전체) 뉴스
+        List<NewsItemVO> items, // 최신순
+        String nextCursor       // 다음 페이지 cursor (없으면 null)
+) {}
@@ -0,0 +1,10 @@
+package com.stock.dashboard.backend.market.dto;
+
+import com.stock.dashboard.backend.home.vo.NewsItemVO;
+import java.util.List;
+
+public record NewsSearchResponse(
+        String query,
+        int total,              // 조건에 맞는 전체 기사 수
+        List<NewsItemVO> items  // 최신순 상위 size 개
+) {}
@@ -0,0 +1,18 @@
+package com.stock.dashboard.backend.market.dto;
+
+import java.util.List;
+
+public record ScreenerResponse(
+        long asOf,          // 스냅샷 생성 시각 (epoch millis)
+        int universeSize,
+        int matched,        // 필터 통과 (정렬 키 있는 것) 개수
+        List<Row> rows
+) {
+    public record Row(
+            String symbol,
+            Double price,
+            Double changePct,
+            Long volume,
+            Double momentum30d
+    ) {}
+}
@@ -0,0 +1,195 @@
+package com.stock.dashboard.backend.market.export;
+
+import com.stock.dashboard.backend.exception.BadRequestException;
+import com.stock.dashboard.backend.exception.TwelveDataRateLimitException;
+import com.stock.dashboard.backend.market.dto.DailyCandleDTO;
+import com.stock.dashboard.backend.market.service.MarketCandleService;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.DateDayVector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ipc.ArrowStreamWriter;
+import org.apache.arrow.vector.types.DateUnit;
+import org.apache.arrow.vector.types.FloatingPointPrecision;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.Schema;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 다종목 일봉 히스토리 bulk export (Arrow IPC stream)
+ *
+ * - 심볼을 chunk 단위로 나눠 chunk 하나당 record batch 하나를 바로 스트림에 쓴다
+ * - VectorSchemaRoot를 재사용하므로 요청 크기와 무관하게 메모리는 "chunk 1개" 분량으로 고정
+ * - 데이터 소스는 MarketCandleService 캐시 우선, 캐시 미스만 업스트림으로 채움
+ *   (TwelveData rate limit을 맞으면 남은 심볼은 캐시 전용으로 전환)
+ * - 비로그인 요청은 처음부터 캐시 전용 (익명 요청 하나가 업스트림 호출 수백 건을 만들지 않도록)
+ * - 심볼 하나가 실패하면 그 심볼만 건너뜀 (스트림 중간에 끊겨 본문이 잘리지 않도록)
+ */
+@Slf4j
+@Service
+public class CandleArrowExportService {
+
+    public static final String MEDIA_TYPE_VALUE = "application/vnd.apache.arrow.stream";
+
+    // 요청당 allocator 상한 (chunk 1개 분량 + 여유)
+    private static final long PER_REQUEST_LIMIT_BYTES = 32L * 1024 * 1024;
+
+    private static final Schema SCHEMA = new Schema(List.of(
+            Field.notNullable("symbol", new ArrowType.Utf8()),
+            Field.notNullable("date", new ArrowType.Date(DateUnit.DAY)),
+            Field.notNullable("open", new ArrowType.FloatingPoint(FloatingPointPrecision.DOUBLE)),
+            Field.notNullable("high", new ArrowType.FloatingPoint(FloatingPointPrecision.DOUBLE)),
+            Field.notNullable("low", new ArrowType.FloatingPoint(FloatingPointPrecision.DOUBLE)),
+            Field.notNullable("close", new ArrowType.FloatingPoint(FloatingPointPrecision.DOUBLE)),
+            Field.notNullable("volume", new ArrowType.Int(64, true))
+    ));
+
+    private final MarketCandleService marketCandleService;
+    private final BufferAllocator rootAllocator = new RootAllocator();
+
+    @Value("${market.export.chunk-size:50}")
+    private int chunkSize;
+
+    @Value("${market.export.max-symbols:1000}")
+    private int maxSymbols;
+
+    public CandleArrowExportService(MarketCandleService marketCandleService) {
+        this.marketCandleService = marketCandleService;
+    }
+
+    /**
+     * symbols CSV 정규화 (대문자, 중복 제거, 최대 개수 제한)
+     */
+    public List<String> parseSymbols(String symbolsCsv) {
+        if (symbolsCsv == null || symbolsCsv.isBlank()) {
+            throw new BadRequestException("symbols는 필수입니다.");
+        }
+
+        Set<String> unique = new LinkedHashSet<>();
+        Arrays.stream(symbolsCsv.split(","))
+                .map(s -> s.trim().toUpperCase())
+                .filter(s -> !s.isEmpty())
+                .forEach(unique::add);
+
+        if (unique.isEmpty()) throw new BadRequestException("symbols는 필수입니다.");
+        if (unique.size() > maxSymbols) {
+            throw new BadRequestException("symbols는 최대 " + maxSymbols + "개까지 가능합니다.");
+        }
+        return new ArrayList<>(unique);
+    }
+
+    /**
+     * @param allowUpstream false 면 캐시에 있는 심볼만 (비로그인 요청)
+     */
+    public void writeArrowStream(List<String> symbols, LocalDate from, LocalDate to, boolean allowUpstream,
+                                 OutputStream out) throws IOException {
+        long fromDay = (from == null) ? Long.MIN_VALUE : from.toEpochDay();
+        long toDay = (to == null) ? Long.MAX_VALUE : to.toEpochDay();
+
+        boolean cacheOnly = !allowUpstream;
+        int written = 0;
+        int skipped = 0;
+
+        try (BufferAllocator allocator = rootAllocator.newChildAllocator("candle-export", 0, PER_REQUEST_LIMIT_BYTES);
+             VectorSchemaRoot root = VectorSchemaRoot.create(SCHEMA, allocator);
+             ArrowStreamWriter writer = new ArrowStreamWriter(root, null, Channels.newChannel(out))) {
+
+            VarCharVector symbolVec = (VarCharVector) root.getVector("symbol");
+            DateDayVector dateVec = (DateDayVector) root.getVector("date");
+            Float8Vector openVec = (Float8Vector) root.getVector("open");
+            Float8Vector highVec = (Float8Vector) root.getVector("high");
+            Float8Vector lowVec = (Float8Vector) root.getVector("low");
+            Float8Vector closeVec = (Float8Vector) root.getVector("close");
+            BigIntVector volumeVec = (BigIntVector) root.getVector("volume");
+
+            writer.start();
+
+            for (int start = 0; start < symbols.size(); start += chunkSize) {
+                List<String> chunk = symbols.subList(start, Math.min(symbols.size(), start + chunkSize));
+
+                root.allocateNew();
+                int row = 0;
+
+                for (String symbol : chunk) {
+                    List<DailyCandleDTO> series;
+                    try {
+                        if (cacheOnly) {
+                            series = marketCandleService.getCachedDailyCandles(symbol);
+                        } else {
+                            try {
+                                series = marketCandleService.getDailyCandles(symbol, marketCandleService.maxDays());
+                            } catch (TwelveDataRateLimitException e) {
+                                log.warn("[EXPORT] rate limited, switching to cache-only. symbol={}", symbol);
+                                cacheOnly = true;
+                                series = marketCandleService.getCachedDailyCandles(symbol);
+                            }
+                        }
+                    } catch (RuntimeException e) {
+                        // 상장폐지/잘못된 심볼 등은 그 심볼만 건너뜀
+                        log.warn("[EXPORT] skip symbol={} ex={}", symbol, e.getClass().getSimpleName());
+                        skipped++;
+                        continue;
+                    }
+
+                    byte[] symbolBytes = symbol.getBytes(StandardCharsets.UTF_8);
+                    for (DailyCandleDTO c : series) {
+                        long day = epochDay(c.getDate());
+                        if (day == Long.MIN_VALUE || day < fromDay || day > toDay) continue;
+
+                        symbolVec.setSafe(row, symbolBytes);
+                        dateVec.setSafe(row, (int) day);
+                        openVec.setSafe(row, c.getOpen());
+                        highVec.setSafe(row, c.getHigh());
+                        lowVec.setSafe(row, c.getLow());
+                        closeVec.setSafe(row, c.getClose());
+                        volumeVec.setSafe(row, c.getVolume());
+                        row++;
+                    }
+                }
+
+                root.setRowCount(row);
+                writer.writeBatch();
+                written += row;
+
+                // 다음 chunk에서 버퍼 재할당 (이전 chunk 메모리 반환)
+                root.clear();
+            }
+
+            writer.end();
+        }
+
+        log.info("[EXPORT] arrow export done. symbols={}, rows={}, skipped={}, cacheOnly={}",
+                symbols.size(), written, skipped, cacheOnly);
+    }
+
+    @PreDestroy
+    public void close() {
+        rootAllocator.close();
+    }
+
+    private static long epochDay(String date) {
+        if (date == null || date.length() < 10) return Long.MIN_VALUE;
+        try {
+            return LocalDate.parse(date.substring(0, 10)).toEpochDay();
+        } catch (Exception e) {
+            return Long.MIN_VALUE;
+        }
+    }
+}
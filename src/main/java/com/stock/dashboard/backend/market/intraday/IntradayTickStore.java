@@ -0,0 +1,105 @@
+package com.stock.dashboard.backend.market.intraday;
+
+import com.stock.dashboard.backend.event.OnQuoteUpdatedEvent;
+import com.stock.dashboard.backend.market.dto.IntradayBarDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 인트라데이 틱 저장소 (인스턴스 메모리)
+ *
+ * - MarketRealtimePriceService 가 upstream 에서 새 시세를 받을 때마다 (OnQuoteUpdatedEvent) 1틱 기록
+ * - 심볼별 고정 크기 링 버퍼 → 메모리 상한 = max-symbols * capacity * 16B
+ * - 읽을 때만 1분/5분 봉으로 집계 → 인트라데이 차트에 추가 upstream 호출 없음
+ * - 틱은 이 인스턴스가 받은 시세만 (재시작 시 초기화)
+ */
+@Slf4j
+@Component
+public class IntradayTickStore {
+
+    private final Map<String, TickRing> rings = new ConcurrentHashMap<>();
+
+    @Value("${intraday.ring-capacity:2048}")
+    private int capacity;
+
+    @Value("${intraday.max-symbols:500}")
+    private int maxSymbols;
+
+    @Value("${intraday.window-hours:24}")
+    private int windowHours;
+
+    @EventListener
+    public void onQuoteUpdated(OnQuoteUpdatedEvent event) {
+        record(event.getSymbol(), event.getUpdatedAtMs(), event.getPrice());
+    }
+
+    public void record(String symbol, long ts, double price) {
+        if (symbol == null || Double.isNaN(price) || price <= 0) return;
+
+        TickRing ring = rings.get(symbol);
+        if (ring == null) {
+            if (rings.size() >= maxSymbols) evictIdlest();
+            ring = rings.computeIfAbsent(symbol, s -> new TickRing(capacity));
+        }
+        ring.add(ts, price);
+    }
+
+    /**
+     * ✅ 최근 window-hours 안의 틱을 intervalMinutes 봉으로 집계 (시간 오름차순)
+     */
+    public List<IntradayBarDTO> getBars(String symbol, int intervalMinutes) {
+        TickRing ring = rings.get(symbol);
+        if (ring == null) return List.of();
+
+        long fromMs = System.currentTimeMillis() - windowHours * 3_600_000L;
+        TickRing.Snapshot snap = ring.snapshotSince(fromMs);
+        return aggregate(snap.timestamps(), snap.prices(), intervalMinutes * 60_000L);
+    }
+
+    static List<IntradayBarDTO> aggregate(long[] ts, double[] px, long intervalMs) {
+        List<IntradayBarDTO> bars = new ArrayList<>();
+        if (ts.length == 0) return bars;
+
+        long bucket = ts[0] - Math.floorMod(ts[0], intervalMs);
+        double open = px[0], high = px[0], low = px[0], close = px[0];
+        int ticks = 1;
+
+        for (int i = 1; i < ts.length; i++) {
+            long b = ts[i] - Math.floorMod(ts[i], intervalMs);
+            if (b != bucket) {
+                bars.add(new IntradayBarDTO(bucket, open, high, low, close, ticks));
+                bucket = b;
+                open = high = low = close = px[i];
+                ticks = 1;
+                continue;
+            }
+            high = Math.max(high, px[i]);
+            low = Math.min(low, px[i]);
+            close = px[i];
+            ticks++;
+        }
+        bars.add(new IntradayBarDTO(bucket, open, high, low, close, ticks));
+        return bars;
+    }
+
+    // 심볼 수 상한 초과 시 가장 오래 갱신 안 된 심볼 제거 (새 심볼 등록 때만 O(n))
+    private void evictIdlest() {
+        String idlest = null;
+        long min = Long.MAX_VALUE;
+        for (Map.Entry<String, TickRing> e : rings.entrySet()) {
+            long t = e.getValue().lastUpdatedMs();
+            if (t < min) {
+                min = t;
+                idlest = e.getKey();
+            }
+        }
+        if (idlest != null) rings.remove(idlest);
+    }
+}
@@ -0,0 +1,67 @@
+package com.stock.dashboard.backend.market.intraday;
+
+/**
+ * 고정 크기 (timestamp, price) 링 버퍼 - primitive 배열, 객체 할당 없음
+ * - 가득 차면 가장 오래된 틱부터 덮어씀
+ * - 쓰기/스냅샷 모두 짧은 synchronized (심볼당 10초에 1번 수준이라 경합 거의 없음)
+ */
+final class TickRing {
+
+    private final long[] timestamps;
+    private final double[] prices;
+
+    private int head;   // 다음에 쓸 위치
+    private int size;
+    private volatile long lastUpdatedMs;
+
+    TickRing(int capacity) {
+        this.timestamps = new long[capacity];
+        this.prices = new double[capacity];
+    }
+
+    synchronized void add(long ts, double price) {
+        // 같은 시각/역순 틱은 무시 (여러 경로에서 같은 시세가 들어와도 중복 저장 안 함)
+        if (size > 0) {
+            int last = (head - 1 + timestamps.length) % timestamps.length;
+            if (ts <= timestamps[last]) return;
+        }
+
+        timestamps[head] = ts;
+        prices[head] = price;
+        head = (head + 1) % timestamps.length;
+        if (size < timestamps.length) size++;
+        lastUpdatedMs = ts;
+    }
+
+    /**
+     * fromMs 이후 틱을 시간순으로 복사 (읽는 쪽은 락 밖에서 집계)
+     */
+    synchronized Snapshot snapshotSince(long fromMs) {
+        int cap = timestamps.length;
+        int start = (head - size + cap) % cap;
+
+        // 시간순이라 앞에서부터 fromMs 이전 구간만 건너뜀
+        int skip = 0;
+        while (skip < size && timestamps[(start + skip) % cap] < fromMs) skip++;
+
+        int n = size - skip;
+        long[] ts = new long[n];
+        double[] px = new double[n];
+        for (int i = 0; i < n; i++) {
+            int idx = (start + skip + i) % cap;
+            ts[i] = timestamps[idx];
+            px[i] = prices[idx];
+        }
+        return new Snapshot(ts, px);
+    }
+
+    long lastUpdatedMs() {
+        return lastUpdatedMs;
+    }
+
+    record Snapshot(long[] timestamps, double[] prices) {
+        int size() {
+            return timestamps.length;
+        }
+    }
+}
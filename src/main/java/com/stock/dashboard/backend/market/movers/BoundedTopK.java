@@ -0,0 +1,97 @@
+package com.stock.dashboard.backend.market.movers;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 값이 계속 바뀌는 심볼들 중 상위 K 유지 (증분 갱신)
+ *
+ * - 정렬 집합은 capacity(= K 의 여유분 포함) 개까지만 유지 → 갱신 O(log capacity)
+ * - 불변식: 추적 안 하는 심볼의 값은 전부 집합의 최솟값보다 약함 → top() 이 정확
+ *   · 한 번이라도 밀어낸 적이 있으면(lossy) 최솟값보다 약한 값은 추적하지 않음
+ *   · 멤버의 값이 최솟값 아래로 떨어지면 퇴출 (바깥 후보가 더 나을 수 있으므로)
+ * - 퇴출이 쌓여 K 아래로 줄면 needsRebuild() → 전체 상태에서 rebuild (드물게, O(n log capacity))
+ * - 외부에서 동기화 (MoversService 단일 락)
+ */
+final class BoundedTopK {
+
+    private final int k;
+    private final int capacity;
+    private final boolean desc;
+
+    private final TreeSet<Entry> set = new TreeSet<>();
+    private final Map<String, Entry> bySymbol = new HashMap<>();
+
+    // 추적 밖으로 밀어낸 심볼이 있음 (clear 전까지)
+    private boolean lossy = false;
+    // lossy 상태에서 K 아래로 줄었음 → rebuild 전까지 top() 을 믿을 수 없음
+    private boolean shrunk = false;
+
+    BoundedTopK(int k, boolean desc) {
+        this.k = k;
+        this.capacity = k * 2;
+        this.desc = desc;
+    }
+
+    void update(String symbol, double value) {
+        Entry old = bySymbol.remove(symbol);
+        if (old != null) set.remove(old);
+
+        if (!Double.isNaN(value)) {
+            Entry e = new Entry(desc ? -value : value, symbol);
+            if (lossy && !set.isEmpty() && e.compareTo(set.last()) > 0) {
+                // 최솟값보다 약함 → 바깥 후보가 더 나을 수 있어 추적 안 함 (멤버였으면 퇴출)
+            } else if (set.size() < capacity) {
+                insert(e);
+            } else {
+                // 가득 참: 가장 약한 멤버보다 나을 때만 교체, 어느 쪽이든 하나는 밖으로
+                lossy = true;
+                Entry weakest = set.last();
+                if (e.compareTo(weakest) < 0) {
+                    set.pollLast();
+                    bySymbol.remove(weakest.symbol);
+                    insert(e);
+                }
+            }
+        }
+
+        if (lossy && set.size() < k) shrunk = true;
+    }
+
+    boolean needsRebuild() {
+        return shrunk;
+    }
+
+    void clear() {
+        set.clear();
+        bySymbol.clear();
+        lossy = false;
+        shrunk = false;
+    }
+
+    List<String> top() {
+        List<String> out = new ArrayList<>(k);
+        for (Entry e : set) {
+            if (out.size() >= k) break;
+            out.add(e.symbol);
+        }
+        return out;
+    }
+
+    private void insert(Entry e) {
+        set.add(e);
+        bySymbol.put(e.symbol, e);
+    }
+
+    // key 오름차순 = 강한 순 (desc 면 부호 반전해서 저장)
+    private record Entry(double key, String symbol) implements Comparable<Entry> {
+        @Override
+        public int compareTo(Entry o) {
+            int c = Double.compare(key, o.key);
+            return c != 0 ? c : symbol.compareTo(o.symbol);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.stock.dashboard.backend.market.movers;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 히트맵 그룹 정의 (카탈로그에 섹터 정보가 없어서 설정으로 관리)
+ * - market.heatmap.groups.Semiconductors=NVDA,AMD,AVGO ...
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "market.heatmap")
+public class MarketHeatmapProperties {
+
+    private int moversSize = 20;
+
+    private Map<String, List<String>> groups = new LinkedHashMap<>(Map.of(
+            "Big Tech", List.of("AAPL", "MSFT", "GOOGL", "AMZN", "META"),
+            "Semiconductors", List.of("NVDA", "AMD", "AVGO", "INTC", "QCOM", "MU", "TXN"),
+            "EV & Auto", List.of("TSLA", "RIVN", "LCID"),
+            "Software", List.of("ADBE", "CRM", "ORCL", "INTU", "NOW"),
+            "Consumer", List.of("COST", "PEP", "SBUX", "NFLX", "BKNG"),
+            "Biotech", List.of("AMGN", "GILD", "VRTX", "REGN", "MRNA")
+    ));
+}
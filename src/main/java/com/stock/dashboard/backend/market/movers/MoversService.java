@@ -0,0 +1,219 @@
+package com.stock.dashboard.backend.market.movers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stock.dashboard.backend.event.OnQuoteUpdatedEvent;
+import com.stock.dashboard.backend.market.dto.HeatmapResponse;
+import com.stock.dashboard.backend.market.dto.MoversResponse;
+import com.stock.dashboard.backend.market.screener.ScreenerService;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상승/하락/거래량 상위 + 그룹 히트맵
+ *
+ * - 시세가 캐시에 써질 때마다 (OnQuoteUpdatedEvent) 해당 심볼만 반영
+ *   top-K: O(log K), 그룹 집계: 이전 기여분 빼고 새 값 더하기 O(1)
+ * - 스크리너 스냅샷이 새로 만들어지면 전 종목으로 재시드 (캐시 기준 값, 이벤트보다 오래된 것만 덮어씀)
+ * - 응답 JSON 은 최대 1초에 1번만 미리 직렬화 → 읽기는 byte[] 반환만
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MoversService {
+
+    private final ScreenerService screenerService;
+    private final MarketHeatmapProperties properties;
+    private final ObjectMapper objectMapper;
+
+    private final Object lock = new Object();
+
+    // guarded by lock
+    private final Map<String, State> states = new HashMap<>();
+    private final Map<String, String> groupOf = new HashMap<>();
+    private final Map<String, GroupAgg> groupAggs = new HashMap<>();
+    private BoundedTopK gainers;
+    private BoundedTopK losers;
+    private BoundedTopK mostActive;
+    private long seededFromMs;
+
+    private volatile boolean dirty = true;
+    private volatile byte[] moversJson = "{}".getBytes(StandardCharsets.UTF_8);
+    private volatile byte[] heatmapJson = "{}".getBytes(StandardCharsets.UTF_8);
+
+    @PostConstruct
+    void init() {
+        int k = properties.getMoversSize();
+        gainers = new BoundedTopK(k, true);
+        losers = new BoundedTopK(k, false);
+        mostActive = new BoundedTopK(k, true);
+
+        properties.getGroups().forEach((group, symbols) -> {
+            groupAggs.put(group, new GroupAgg());
+            for (String s : symbols) groupOf.put(s.trim().toUpperCase(), group);
+        });
+        publish();
+    }
+
+    public byte[] getMoversJson() {
+        return moversJson;
+    }
+
+    public byte[] getHeatmapJson() {
+        return heatmapJson;
+    }
+
+    @EventListener
+    public void onQuoteUpdated(OnQuoteUpdatedEvent event) {
+        synchronized (lock) {
+            apply(event.getSymbol(), event.getPrice(), event.getChangePercent(), Double.NaN, event.getUpdatedAtMs());
+        }
+        dirty = true;
+    }
+
+    /**
+     * ✅ 1초마다: (필요 시) 재시드/재구성 후 변경이 있을 때만 직렬화
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void publish() {
+        long builtAt = screenerService.snapshotBuiltAtMs();
+
+        MoversResponse movers;
+        HeatmapResponse heatmap;
+        synchronized (lock) {
+            if (builtAt != seededFromMs) {
+                screenerService.forEachRow((symbol, price, changePct, volume) -> {
+                    State old = states.get(symbol);
+                    if (old != null && old.updatedAtMs >= builtAt) {
+                        // 이벤트로 받은 값이 더 최신 → 거래량만 채움
+                        if (!Double.isNaN(volume)) apply(symbol, old.price, old.changePct, volume, old.updatedAtMs);
+                        return;
+                    }
+                    if (price > 0 && !Double.isNaN(changePct)) apply(symbol, price, changePct, volume, builtAt);
+                });
+                seededFromMs = builtAt;
+                dirty = true;
+            }
+
+            if (!dirty) return;
+            dirty = false;
+
+            rebuildIfShrunk();
+            movers = buildMovers();
+            heatmap = buildHeatmap();
+        }
+
+        try {
+            moversJson = objectMapper.writeValueAsBytes(movers);
+            heatmapJson = objectMapper.writeValueAsBytes(heatmap);
+        } catch (Exception e) {
+            log.warn("[MOVERS] serialize failed ex={}", e.getClass().getSimpleName());
+        }
+    }
+
+    private void apply(String symbol, double price, double changePct, double volume, long updatedAtMs) {
+        State old = states.get(symbol);
+        double vol = !Double.isNaN(volume) ? volume : (old != null ? old.volume : Double.NaN);
+
+        State next = new State(price, changePct, vol, updatedAtMs);
+        states.put(symbol, next);
+
+        gainers.update(symbol, changePct);
+        losers.update(symbol, changePct);
+        mostActive.update(symbol, vol);
+
+        String group = groupOf.get(symbol);
+        if (group != null) groupAggs.get(group).replace(old, next);
+    }
+
+    // 멤버가 밀려나서 K 아래로 줄었으면 전체 상태에서 다시 채움
+    private void rebuildIfShrunk() {
+        int n = states.size();
+        int k = properties.getMoversSize();
+        if (n <= k) return;
+        if (!gainers.needsRebuild() && !losers.needsRebuild() && !mostActive.needsRebuild()) return;
+
+        gainers.clear();
+        losers.clear();
+        mostActive.clear();
+        states.forEach((s, st) -> {
+            gainers.update(s, st.changePct);
+            losers.update(s, st.changePct);
+            mostActive.update(s, st.volume);
+        });
+    }
+
+    private MoversResponse buildMovers() {
+        return new MoversResponse(
+                System.currentTimeMillis(),
+                items(gainers.top()),
+                items(losers.top()),
+                items(mostActive.top())
+        );
+    }
+
+    private List<MoversResponse.Item> items(List<String> symbols) {
+        List<MoversResponse.Item> out = new ArrayList<>(symbols.size());
+        for (String s : symbols) {
+            State st = states.get(s);
+            if (st == null) continue;
+            out.add(new MoversResponse.Item(s, st.price, st.changePct,
+                    Double.isNaN(st.volume) ? null : (long) st.volume));
+        }
+        return out;
+    }
+
+    private HeatmapResponse buildHeatmap() {
+        List<HeatmapResponse.Group> groups = new ArrayList<>();
+        properties.getGroups().forEach((group, symbols) -> {
+            GroupAgg agg = groupAggs.get(group);
+
+            List<HeatmapResponse.Tile> tiles = new ArrayList<>();
+            for (String raw : symbols) {
+                String s = raw.trim().toUpperCase();
+                State st = states.get(s);
+                if (st != null) tiles.add(new HeatmapResponse.Tile(s, st.price, st.changePct));
+            }
+
+            groups.add(new HeatmapResponse.Group(
+                    group,
+                    agg.count,
+                    agg.count == 0 ? null : Math.round(agg.sumChange / agg.count * 100d) / 100d,
+                    agg.up,
+                    agg.down,
+                    tiles
+            ));
+        });
+        return new HeatmapResponse(System.currentTimeMillis(), groups);
+    }
+
+    private record State(double price, double changePct, double volume, long updatedAtMs) {}
+
+    private static final class GroupAgg {
+        private int count;
+        private double sumChange;
+        private int up;
+        private int down;
+
+        void replace(State old, State next) {
+            if (old != null) add(old.changePct, -1);
+            add(next.changePct, +1);
+        }
+
+        private void add(double change, int sign) {
+            count += sign;
+            sumChange += sign * change;
+            if (change > 0) up += sign;
+            else if (change < 0) down += sign;
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.stock.dashboard.backend.market.news;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 뉴스 Redis 저장소 (scope = "general" / "sym:AAPL")
+ *
+ * - {scope}:z  ZSET  member=dedupe 키, score=기사 시각(epoch sec) → 최신순 페이지/증분 기준
+ * - {scope}:h  HASH  dedupe 키 → 기사 JSON
+ * - ZADD NX 로 이미 있는 기사는 건너뜀 (중복 제거)
+ * - 보관: 개수 상한 + 기간 상한, 넘치면 오래된 것부터 ZSET/HASH 같이 삭제
+ */
+@Repository
+@RequiredArgsConstructor
+public class NewsCacheRepository {
+
+    private static final String PREFIX = "market:news:v1:";
+
+    private final StringRedisTemplate redis;
+
+    public record Row(String member, long epochSec, String json) {}
+
+    private String zKey(String scope)     { return PREFIX + scope + ":z"; }
+    private String hKey(String scope)     { return PREFIX + scope + ":h"; }
+    private String maxIdKey(String scope) { return PREFIX + scope + ":max-id"; }
+    private String fetchKey(String scope) { return PREFIX + scope + ":fetch"; }
+
+    /**
+     * 가장 최신 기사 시각 (없으면 -1)
+     */
+    public long newestEpochSec(String scope) {
+        Set<ZSetOperations.TypedTuple<String>> top = redis.opsForZSet().reverseRangeWithScores(zKey(scope), 0, 0);
+        if (top == null || top.isEmpty()) return -1L;
+        Double score = top.iterator().next().getScore();
+        return score == null ? -1L : score.longValue();
+    }
+
+    /**
+     * 새 기사만 추가 → 보관 정책 적용. 실제로 추가된 개수 반환
+     */
+    public long addAll(String scope, List<Row> rows, int maxItems, Duration retention) {
+        if (rows.isEmpty()) return 0;
+
+        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+        Map<String, String> bodies = new LinkedHashMap<>();
+        for (Row r : rows) {
+            tuples.add(new DefaultTypedTuple<>(r.member(), (double) r.epochSec()));
+            bodies.put(r.member(), r.json());
+        }
+
+        redis.opsForHash().putAll(hKey(scope), bodies);
+        Long added = redis.opsForZSet().addIfAbsent(zKey(scope), tuples);
+
+        trim(scope, maxItems, retention);
+        redis.expire(zKey(scope), retention);
+        redis.expire(hKey(scope), retention);
+        return added == null ? 0 : added;
+    }
+
+    /**
+     * 최신순 페이지 (순서: 시각 내림차순, 같은 시각이면 member 내림차순 = ZSET 역순)
+     * - cursor 기사가 아직 있으면 그 다음 순위부터, 보관 정책으로 지워졌으면 (시각, member) 기준으로 이어서
+     */
+    public List<Row> page(String scope, String cursorMember, long cursorEpochSec, int limit) {
+        String z = zKey(scope);
+        Set<ZSetOperations.TypedTuple<String>> tuples;
+
+        if (cursorMember == null) {
+            tuples = redis.opsForZSet().reverseRangeWithScores(z, 0, limit - 1);
+        } else {
+            Long rank = redis.opsForZSet().reverseRank(z, cursorMember);
+            tuples = (rank != null)
+                    ? redis.opsForZSet().reverseRangeWithScores(z, rank + 1, rank + limit)
+                    : after(z, cursorMember, cursorEpochSec, limit);
+        }
+        if (tuples == null || tuples.isEmpty()) return List.of();
+
+        List<String> members = new ArrayList<>(tuples.size());
+        List<Long> scores = new ArrayList<>(tuples.size());
+        for (ZSetOperations.TypedTuple<String> t : tuples) {
+            members.add(t.getValue());
+            scores.add(t.getScore() == null ? 0L : t.getScore().longValue());
+        }
+
+        List<Object> bodies = redis.opsForHash().multiGet(hKey(scope), new ArrayList<>(members));
+        List<Row> out = new ArrayList<>(members.size());
+        for (int i = 0; i < members.size(); i++) {
+            Object json = bodies.get(i);
+            if (json != null) out.add(new Row(members.get(i), scores.get(i), json.toString()));
+        }
+        return out;
+    }
+
+    // 지워진 cursor 다음: 같은 초에서 member 가 더 작은 것 → 그보다 이전 초 (같은 초 기사가 빠지거나 겹치지 않게)
+    private Set<ZSetOperations.TypedTuple<String>> after(String z, String cursorMember, long cursorEpochSec, int limit) {
+        Set<ZSetOperations.TypedTuple<String>> out = new LinkedHashSet<>();
+
+        Set<ZSetOperations.TypedTuple<String>> sameSecond =
+                redis.opsForZSet().reverseRangeByScoreWithScores(z, cursorEpochSec, cursorEpochSec);
+        if (sameSecond != null) {
+            for (ZSetOperations.TypedTuple<String> t : sameSecond) {
+                if (out.size() == limit) return out;
+                if (t.getValue() != null && t.getValue().compareTo(cursorMember) < 0) out.add(t);
+            }
+        }
+
+        // score 는 초 단위 정수라 -0.5 로 "미만" 조회
+        Set<ZSetOperations.TypedTuple<String>> older = redis.opsForZSet()
+                .reverseRangeByScoreWithScores(z, Double.NEGATIVE_INFINITY, cursorEpochSec - 0.5, 0, limit - out.size());
+        if (older != null) out.addAll(older);
+        return out;
+    }
+
+    /**
+     * 캐시된 scope 목록 (SCAN, 검색 색인 부트스트랩용)
+     */
+    public List<String> scopes() {
+        List<String> out = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions().match(PREFIX + "*:z").count(200).build();
+        try (Cursor<String> c = redis.scan(options)) {
+            while (c.hasNext()) {
+                String key = c.next();
+                out.add(key.substring(PREFIX.length(), key.length() - 2));
+            }
+        }
+        return out;
+    }
+
+    /**
+     * scope 전체 (오래된 순)
+     */
+    public List<Row> all(String scope) {
+        Set<ZSetOperations.TypedTuple<String>> tuples = redis.opsForZSet().rangeWithScores(zKey(scope), 0, -1);
+        if (tuples == null || tuples.isEmpty()) return List.of();
+
+        Map<Object, Object> bodies = redis.opsForHash().entries(hKey(scope));
+        List<Row> out = new ArrayList<>(tuples.size());
+        for (ZSetOperations.TypedTuple<String> t : tuples) {
+            Object json = bodies.get(t.getValue());
+            if (json != null && t.getScore() != null) out.add(new Row(t.getValue(), t.getScore().longValue(), json.toString()));
+        }
+        return out;
+    }
+
+    /**
+     * members 의 기사 JSON (members 순서, 없으면 null)
+     */
+    public List<String> bodies(String scope, List<String> members) {
+        if (members.isEmpty()) return List.of();
+        List<Object> raw = redis.opsForHash().multiGet(hKey(scope), new ArrayList<>(members));
+        List<String> out = new ArrayList<>(members.size());
+        for (int i = 0; i < members.size(); i++) {
+            Object json = (raw == null || i >= raw.size()) ? null : raw.get(i);
+            out.add(json == null ? null : json.toString());
+        }
+        return out;
+    }
+
+    /**
+     * 증분 조회 throttle 겸 락 (인스턴스 간 공유)
+     * - interval 동안 한 번만 true
+     */
+    public boolean tryStartFetch(String scope, Duration interval) {
+        return Boolean.TRUE.equals(redis.opsForValue().setIfAbsent(fetchKey(scope), "1", interval));
+    }
+
+    /**
+     * throttle 을 짧게 줄임 (캐시가 빈 scope 의 첫 조회가 실패했을 때 → 전체 interval 동안 빈 응답이 되지 않도록)
+     */
+    public void retryFetchAfter(String scope, Duration retryAfter) {
+        redis.opsForValue().set(fetchKey(scope), "1", retryAfter);
+    }
+
+    public long maxId(String scope) {
+        String v = redis.opsForValue().get(maxIdKey(scope));
+        if (v == null) return 0L;
+        try { return Long.parseLong(v); } catch (Exception e) { return 0L; }
+    }
+
+    public void setMaxId(String scope, long id, Duration retention) {
+        redis.opsForValue().set(maxIdKey(scope), String.valueOf(id), retention);
+    }
+
+    private void trim(String scope, int maxItems, Duration retention) {
+        String z = zKey(scope);
+        long cutoff = System.currentTimeMillis() / 1000 - retention.toSeconds();
+
+        Set<String> remove = new HashSet<>();
+        Set<String> expired = redis.opsForZSet().rangeByScore(z, Double.NEGATIVE_INFINITY, cutoff);
+        if (expired != null) remove.addAll(expired);
+
+        Long size = redis.opsForZSet().zCard(z);
+        if (size != null && size > maxItems) {
+            Set<String> overflow = redis.opsForZSet().range(z, 0, size - maxItems - 1);
+            if (overflow != null) remove.addAll(overflow);
+        }
+        if (remove.isEmpty()) return;
+
+        Object[] ids = remove.toArray();
+        redis.opsForZSet().remove(z, ids);
+        redis.opsForHash().delete(hKey(scope), ids);
+    }
+}
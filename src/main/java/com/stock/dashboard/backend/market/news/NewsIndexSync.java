@@ -0,0 +1,152 @@
+package com.stock.dashboard.backend.market.news;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stock.dashboard.backend.config.FetchExecutor;
+import com.stock.dashboard.backend.home.vo.NewsItemVO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 뉴스 검색 색인 인스턴스 간 동기화
+ *
+ * - 업스트림 조회는 throttle 을 잡은 인스턴스 한 대만 → 수집한 인스턴스가 {scope, dedupe 키, 시각} 을 채널로 알림
+ * - 다른 인스턴스는 알림을 받으면 공유 캐시(HASH)에서 본문만 읽어 자기 색인에 추가 (업스트림 호출 없음)
+ * - pub/sub 은 유실될 수 있음 (구독 전 기동/연결 끊김) → 기동 시 + resync 주기마다 Redis 전체로 재색인
+ *   (이미 색인된 기사는 add 가 건너뜀)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NewsIndexSync implements MessageListener {
+
+    private static final String CHANNEL = "market:news:v1:ingested";
+
+    private final StringRedisTemplate redis;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final NewsCacheRepository newsCacheRepository;
+    private final NewsSearchIndex newsSearchIndex;
+    private final FetchExecutor fetchExecutor;
+    private final ObjectMapper objectMapper;
+
+    // 내가 보낸 알림은 이미 색인했으므로 건너뜀
+    private final String origin = UUID.randomUUID().toString();
+
+    public record Ref(String member, long epochSec) {}
+
+    public record Ingested(String origin, String scope, List<Ref> refs) {}
+
+    /**
+     * 기동 시: 구독 등록 + Redis 에 캐시된 뉴스로 색인 재구성 (백그라운드)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+        fetchExecutor.supply(() -> {
+            int indexed = reindexAll();
+            log.info("[NEWS] search index bootstrapped docs={}", indexed);
+            return null;
+        });
+    }
+
+    /**
+     * 놓친 알림 보정 (새로 색인된 게 있을 때만 로그)
+     */
+    @Scheduled(fixedDelayString = "${news.search.resync-ms:900000}", initialDelayString = "${news.search.resync-ms:900000}")
+    public void resync() {
+        int indexed = reindexAll();
+        if (indexed > 0) log.info("[NEWS] search index resynced docs={}", indexed);
+    }
+
+    /**
+     * ✅ 수집한 인스턴스: 로컬 색인 후 다른 인스턴스에 알림 (실패해도 resync 가 보정)
+     */
+    public void announce(String scope, List<NewsCacheRepository.Row> rows) {
+        if (rows.isEmpty()) return;
+        try {
+            List<Ref> refs = new ArrayList<>(rows.size());
+            for (NewsCacheRepository.Row r : rows) refs.add(new Ref(r.member(), r.epochSec()));
+            redis.convertAndSend(CHANNEL, objectMapper.writeValueAsString(new Ingested(origin, scope, refs)));
+        } catch (Exception e) {
+            log.warn("[NEWS] ingest announce failed scope={} ex={} msg={}", scope, e.getClass().getSimpleName(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Ingested ingested;
+        try {
+            ingested = objectMapper.readValue(new String(message.getBody(), StandardCharsets.UTF_8), Ingested.class);
+        } catch (Exception e) {
+            return;
+        }
+        if (origin.equals(ingested.origin()) || ingested.refs() == null || ingested.refs().isEmpty()) return;
+
+        // 구독 스레드에서 Redis 를 읽지 않음
+        fetchExecutor.supply(() -> {
+            index(ingested);
+            return null;
+        });
+    }
+
+    int index(Ingested ingested) {
+        try {
+            List<String> members = ingested.refs().stream().map(Ref::member).toList();
+            List<String> bodies = newsCacheRepository.bodies(ingested.scope(), members);
+            String symbol = symbolOf(ingested.scope());
+
+            int indexed = 0;
+            for (int i = 0; i < members.size(); i++) {
+                NewsItemVO vo = parse(bodies.get(i));
+                if (vo != null && newsSearchIndex.add(members.get(i), ingested.refs().get(i).epochSec(), vo, symbol)) indexed++;
+            }
+            return indexed;
+        } catch (Exception e) {
+            log.warn("[NEWS] ingest index failed scope={} ex={} msg={}", ingested.scope(), e.getClass().getSimpleName(), e.getMessage());
+            return 0;
+        }
+    }
+
+    int reindexAll() {
+        try {
+            int indexed = 0;
+            for (String scope : newsCacheRepository.scopes()) {
+                String symbol = symbolOf(scope);
+                for (NewsCacheRepository.Row r : newsCacheRepository.all(scope)) {
+                    NewsItemVO vo = parse(r.json());
+                    if (vo != null && newsSearchIndex.add(r.member(), r.epochSec(), vo, symbol)) indexed++;
+                }
+            }
+            return indexed;
+        } catch (Exception e) {
+            log.warn("[NEWS] search index reindex failed ex={} msg={}", e.getClass().getSimpleName(), e.getMessage());
+            return 0;
+        }
+    }
+
+    private static String symbolOf(String scope) {
+        return scope.startsWith("sym:") ? scope.substring(4) : null;
+    }
+
+    private NewsItemVO parse(String json) {
+        if (json == null) return null;
+        try {
+            return objectMapper.readValue(json, NewsItemVO.class);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
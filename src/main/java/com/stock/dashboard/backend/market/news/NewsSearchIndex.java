@@ -0,0 +1,256 @@
+package com.stock.dashboard.backend.market.news;
+
+import com.stock.dashboard.backend.home.vo.NewsItemVO;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 캐시된 뉴스 headline/summary 인메모리 역색인
+ *
+ * - 문서 id(int)는 추가 순서대로 증가 → posting list 는 append 만으로 정렬된 int 배열 유지
+ * - 검색: 모든 토큰 AND (가장 짧은 posting 부터 galloping 교집합) → 기사 시각 기준 top-N
+ * - 삭제는 tombstone(BitSet), 일정 비율 넘으면 살아있는 문서만으로 재색인 (시각 오름차순으로 id 재부여)
+ * - 같은 기사(dedupe 키 동일)는 한 번만 색인, 종목 뉴스로 들어온 심볼만 추가 기록
+ */
+@Component
+public class NewsSearchIndex {
+
+    private static final Set<String> STOPWORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "has", "have",
+            "in", "is", "it", "its", "of", "on", "or", "that", "the", "to", "was", "were", "will", "with"
+    );
+
+    // 삭제 문서가 이 비율을 넘으면 compact
+    private static final double COMPACT_RATIO = 0.25;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<String, Integer> docIdByKey = new HashMap<>();
+    private final List<Doc> docs = new ArrayList<>();
+    private final BitSet deleted = new BitSet();
+    private int deletedCount;
+
+    private static final class Doc {
+        final String key;
+        final long epochSec;
+        final NewsItemVO item;
+        final Set<String> symbols = new HashSet<>(2);
+
+        Doc(String key, long epochSec, NewsItemVO item) {
+            this.key = key;
+            this.epochSec = epochSec;
+            this.item = item;
+        }
+    }
+
+    // 정렬된 int 배열 (doc id 오름차순, 뒤에 append)
+    private static final class Postings {
+        int[] ids = new int[4];
+        int size;
+
+        void add(int id) {
+            if (size == ids.length) ids = Arrays.copyOf(ids, size * 2);
+            ids[size++] = id;
+        }
+    }
+
+    public record Hit(String key, long epochSec, NewsItemVO item) {}
+
+    public record Result(int total, List<Hit> hits) {}
+
+    /**
+     * 기사 색인 (이미 있으면 심볼만 추가). 새로 색인했으면 true
+     */
+    public boolean add(String key, long epochSec, NewsItemVO item, String symbol) {
+        lock.writeLock().lock();
+        try {
+            Integer existing = docIdByKey.get(key);
+            if (existing != null) {
+                if (symbol != null) docs.get(existing).symbols.add(symbol);
+                return false;
+            }
+            index(new Doc(key, epochSec, item), symbol);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 보관 기간 지난 문서 + 개수 상한 초과분(오래된 순) 제거
+     */
+    public int prune(long cutoffEpochSec, int maxDocs) {
+        lock.writeLock().lock();
+        try {
+            int removed = 0;
+            int live = docs.size() - deletedCount;
+
+            Integer[] order = liveIdsByTime();
+            for (Integer id : order) {
+                Doc d = docs.get(id);
+                if (d.epochSec >= cutoffEpochSec && live <= maxDocs) break;
+                deleted.set(id);
+                docIdByKey.remove(d.key);
+                deletedCount++;
+                live--;
+                removed++;
+            }
+
+            if (deletedCount > docs.size() * COMPACT_RATIO) compact();
+            return removed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * AND 검색 + 최신순 top-N
+     * - symbol 이 있으면 그 종목 뉴스로 들어온 기사만
+     */
+    public Result search(String query, String symbol, int limit) {
+        Set<String> terms = tokenize(query);
+        if (terms.isEmpty()) return new Result(0, List.of());
+
+        lock.readLock().lock();
+        try {
+            List<Postings> lists = new ArrayList<>(terms.size());
+            for (String t : terms) {
+                Postings p = postings.get(t);
+                if (p == null) return new Result(0, List.of());
+                lists.add(p);
+            }
+            lists.sort(Comparator.comparingInt(p -> p.size));
+
+            int[] cur = Arrays.copyOf(lists.get(0).ids, lists.get(0).size);
+            int n = cur.length;
+            for (int i = 1; i < lists.size() && n > 0; i++) {
+                n = intersect(cur, n, lists.get(i));
+            }
+
+            // 최신순 top-N (min-heap)
+            PriorityQueue<Doc> heap = new PriorityQueue<>(limit + 1, Comparator.comparingLong(d -> d.epochSec));
+            int total = 0;
+            for (int i = 0; i < n; i++) {
+                int id = cur[i];
+                if (deleted.get(id)) continue;
+                Doc d = docs.get(id);
+                if (symbol != null && !d.symbols.contains(symbol)) continue;
+
+                total++;
+                if (heap.size() < limit) {
+                    heap.add(d);
+                } else if (d.epochSec > heap.peek().epochSec) {
+                    heap.poll();
+                    heap.add(d);
+                }
+            }
+
+            Hit[] hits = new Hit[heap.size()];
+            for (int i = hits.length - 1; i >= 0; i--) {
+                Doc d = heap.poll();
+                hits[i] = new Hit(d.key, d.epochSec, d.item);
+            }
+            return new Result(total, List.of(hits));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docs.size() - deletedCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static Set<String> tokenize(String text) {
+        Set<String> out = new LinkedHashSet<>();
+        if (text == null || text.isBlank()) return out;
+        for (String t : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (t.length() < 2 || STOPWORDS.contains(t)) continue;
+            out.add(t);
+        }
+        return out;
+    }
+
+    // cur[0..n) ∩ p → cur 앞쪽에 덮어씀, 새 길이 반환 (p 에서 galloping 탐색)
+    private static int intersect(int[] cur, int n, Postings p) {
+        int out = 0;
+        int lo = 0;
+        for (int i = 0; i < n && lo < p.size; i++) {
+            int target = cur[i];
+
+            int step = 1;
+            int hi = lo;
+            while (hi < p.size && p.ids[hi] < target) {
+                lo = hi + 1;
+                hi += step;
+                step <<= 1;
+            }
+            int pos = Arrays.binarySearch(p.ids, lo, Math.min(hi + 1, p.size), target);
+            if (pos >= 0) {
+                cur[out++] = target;
+                lo = pos + 1;
+            } else {
+                lo = -pos - 1;
+            }
+        }
+        return out;
+    }
+
+    private void index(Doc d, String symbol) {
+        int id = docs.size();
+        docs.add(d);
+        docIdByKey.put(d.key, id);
+        if (symbol != null) d.symbols.add(symbol);
+
+        Set<String> terms = tokenize(d.item.getHeadline());
+        terms.addAll(tokenize(d.item.getSummary()));
+        for (String t : terms) {
+            postings.computeIfAbsent(t, k -> new Postings()).add(id);
+        }
+    }
+
+    private Integer[] liveIdsByTime() {
+        List<Integer> ids = new ArrayList<>(docs.size() - deletedCount);
+        for (int i = 0; i < docs.size(); i++) {
+            if (!deleted.get(i)) ids.add(i);
+        }
+        ids.sort(Comparator.comparingLong(i -> docs.get(i).epochSec));
+        return ids.toArray(new Integer[0]);
+    }
+
+    // 살아있는 문서만 시각 오름차순으로 재색인 (id 순서 ≈ 시간 순서)
+    private void compact() {
+        List<Doc> live = new ArrayList<>(docs.size() - deletedCount);
+        for (Integer id : liveIdsByTime()) live.add(docs.get(id));
+
+        postings.clear();
+        docIdByKey.clear();
+        docs.clear();
+        deleted.clear();
+        deletedCount = 0;
+
+        for (Doc d : live) {
+            Doc copy = new Doc(d.key, d.epochSec, d.item);
+            copy.symbols.addAll(d.symbols);
+            index(copy, null);
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package com.stock.dashboard.backend.market.news;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stock.dashboard.backend.config.FetchExecutor;
+import com.stock.dashboard.backend.exception.BadRequestException;
+import com.stock.dashboard.backend.home.vo.NewsItemVO;
+import com.stock.dashboard.backend.market.client.FinnhubClient;
+import com.stock.dashboard.backend.market.dto.FinnhubNewsItemDTO;
+import com.stock.dashboard.backend.market.dto.NewsPageResponse;
+import com.stock.dashboard.backend.market.dto.NewsSearchResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * 시장/종목 뉴스 (Redis ZSET 캐시 + 증분 조회)
+ *
+ * - 읽기는 항상 캐시에서 (최신순 cursor 페이지)
+ * - refresh 간격마다 한 번만 업스트림 증분 조회 (인스턴스 간 공유 throttle)
+ *   · general: Finnhub minId 이후만
+ *   · 종목: 캐시된 최신 기사 날짜 ~ 오늘 (비어 있으면 backfill-days 만큼)
+ * - 캐시가 비어 있으면 요청 스레드에서 채우고, 있으면 백그라운드에서 채움 (응답 지연 없음)
+ *   · 빈 캐시 첫 조회가 실패하면 throttle 을 cold-retry-seconds 로 줄여 곧 다시 시도
+ * - 수집한 기사는 NewsSearchIndex 에도 색인 → NewsIndexSync 로 다른 인스턴스에 알림 (기동 시/주기적으로 Redis 에서 재구성)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NewsService {
+
+    private static final String GENERAL = "general";
+    private static final int MAX_PAGE_SIZE = 50;
+
+    private final FinnhubClient finnhubClient;
+    private final NewsCacheRepository newsCacheRepository;
+    private final NewsSearchIndex newsSearchIndex;
+    private final NewsIndexSync newsIndexSync;
+    private final FetchExecutor fetchExecutor;
+    private final ObjectMapper objectMapper;
+
+    @Value("${home.news-category:general}")
+    private String generalCategory;
+
+    @Value("${news.general.refresh-seconds:120}")
+    private long generalRefreshSeconds;
+
+    @Value("${news.company.refresh-seconds:600}")
+    private long companyRefreshSeconds;
+
+    @Value("${news.cold-retry-seconds:15}")
+    private long coldRetrySeconds;
+
+    @Value("${news.company.backfill-days:7}")
+    private int backfillDays;
+
+    @Value("${news.max-items:300}")
+    private int maxItems;
+
+    @Value("${news.retention-days:30}")
+    private int retentionDays;
+
+    @Value("${news.page-size:20}")
+    private int defaultPageSize;
+
+    @Value("${news.search.max-docs:50000}")
+    private int searchMaxDocs;
+
+    /**
+     * ✅ /api/market/news
+     * - symbol 없으면 general
+     * - cursor: 이전 응답의 nextCursor
+     */
+    public NewsPageResponse getNews(String symbol, String cursor, Integer size) {
+        String sym = normalizeSymbol(symbol);
+        String scope = (sym == null) ? GENERAL : "sym:" + sym;
+        int limit = Math.max(1, Math.min(MAX_PAGE_SIZE, size == null ? defaultPageSize : size));
+
+        // 첫 페이지일 때만 refresh 판단 (다음 페이지는 이미 캐시된 구간)
+        if (cursor == null || cursor.isBlank()) refreshIfDue(scope, sym);
+
+        String cursorMember = null;
+        long cursorEpochSec = 0L;
+        if (cursor != null && !cursor.isBlank()) {
+            int sep = cursor.indexOf(':');
+            try {
+                cursorEpochSec = Long.parseLong(cursor.substring(0, sep));
+                cursorMember = cursor.substring(sep + 1);
+            } catch (Exception e) {
+                throw new BadRequestException("cursor 형식이 올바르지 않습니다.");
+            }
+        }
+
+        List<NewsCacheRepository.Row> rows = newsCacheRepository.page(scope, cursorMember, cursorEpochSec, limit);
+        List<NewsItemVO> items = new ArrayList<>(rows.size());
+        for (NewsCacheRepository.Row r : rows) {
+            NewsItemVO vo = parse(r.json());
+            if (vo != null) items.add(vo);
+        }
+
+        String next = null;
+        if (rows.size() == limit) {
+            NewsCacheRepository.Row last = rows.get(rows.size() - 1);
+            next = last.epochSec() + ":" + last.member();
+        }
+        return new NewsPageResponse(sym, items, next);
+    }
+
+    /**
+     * ✅ 홈 스냅샷용 general 뉴스 최신 N개
+     */
+    public List<NewsItemVO> latestGeneral(int limit) {
+        return getNews(null, null, limit).items();
+    }
+
+    /**
+     * ✅ /api/market/news/search (토큰 AND, 최신순)
+     */
+    public NewsSearchResponse search(String q, String symbol, Integer size) {
+        if (q == null || q.isBlank()) throw new BadRequestException("q는 필수입니다.");
+        if (q.length() > 200) throw new BadRequestException("q는 200자 이하로 입력해주세요.");
+
+        int limit = Math.max(1, Math.min(MAX_PAGE_SIZE, size == null ? defaultPageSize : size));
+        NewsSearchIndex.Result result = newsSearchIndex.search(q, normalizeSymbol(symbol), limit);
+        return new NewsSearchResponse(
+                q,
+                result.total(),
+                result.hits().stream().map(NewsSearchIndex.Hit::item).toList()
+        );
+    }
+
+    /**
+     * 검색 색인 보관 정책 (Redis 와 같은 보관 기간 + 문서 수 상한)
+     */
+    @Scheduled(fixedDelayString = "${news.search.prune-ms:600000}", initialDelayString = "${news.search.prune-ms:600000}")
+    public void pruneSearchIndex() {
+        long cutoff = System.currentTimeMillis() / 1000 - Duration.ofDays(retentionDays).toSeconds();
+        int removed = newsSearchIndex.prune(cutoff, searchMaxDocs);
+        if (removed > 0) log.info("[NEWS] search index pruned removed={} size={}", removed, newsSearchIndex.size());
+    }
+
+    private void refreshIfDue(String scope, String symbol) {
+        Duration interval = Duration.ofSeconds(symbol == null ? generalRefreshSeconds : companyRefreshSeconds);
+        if (!newsCacheRepository.tryStartFetch(scope, interval)) return;
+
+        boolean cold = newsCacheRepository.newestEpochSec(scope) < 0;
+        if (cold) {
+            if (!refresh(scope, symbol)) {
+                newsCacheRepository.retryFetchAfter(scope, Duration.ofSeconds(coldRetrySeconds));
+            }
+        } else {
+            fetchExecutor.supply(() -> {
+                refresh(scope, symbol);
+                return null;
+            });
+        }
+    }
+
+    // 성공 여부 반환 (업스트림/저장 실패면 false)
+    private boolean refresh(String scope, String symbol) {
+        Duration retention = Duration.ofDays(retentionDays);
+        try {
+            List<FinnhubNewsItemDTO> fetched;
+            if (symbol == null) {
+                fetched = finnhubClient.getMarketNews(generalCategory, newsCacheRepository.maxId(scope));
+            } else {
+                long newest = newsCacheRepository.newestEpochSec(scope);
+                LocalDate today = LocalDate.now(ZoneOffset.UTC);
+                LocalDate from = (newest < 0)
+                        ? today.minusDays(backfillDays)
+                        : Instant.ofEpochSecond(newest).atZone(ZoneOffset.UTC).toLocalDate();
+                fetched = finnhubClient.getCompanyNews(symbol, from, today);
+            }
+
+            long maxId = 0L;
+            List<NewsCacheRepository.Row> rows = new ArrayList<>();
+            for (FinnhubNewsItemDTO n : fetched) {
+                if (n == null || n.getHeadline() == null || n.getDatetime() <= 0) continue;
+                maxId = Math.max(maxId, n.getId());
+
+                String key = dedupeKey(n);
+                NewsItemVO vo = toItem(n);
+                rows.add(new NewsCacheRepository.Row(key, n.getDatetime(), objectMapper.writeValueAsString(vo)));
+                newsSearchIndex.add(key, n.getDatetime(), vo, symbol);
+            }
+
+            long added = newsCacheRepository.addAll(scope, rows, maxItems, retention);
+            if (maxId > 0) newsCacheRepository.setMaxId(scope, maxId, retention);
+            if (added > 0) newsIndexSync.announce(scope, rows);
+
+            log.info("[NEWS] refreshed scope={} fetched={} added={}", scope, fetched.size(), added);
+            return true;
+        } catch (Exception e) {
+            // 캐시가 있는 scope 는 throttle 키를 그대로 둠 → 실패 시에도 interval 동안 재호출 안 함
+            log.warn("[NEWS] refresh failed scope={} ex={} msg={}", scope, e.getClass().getSimpleName(), e.getMessage());
+            return false;
+        }
+    }
+
+    // URL 이 같으면 같은 기사 (general/company 에 id 가 달라도 중복 제거), 없으면 id
+    private static String dedupeKey(FinnhubNewsItemDTO n) {
+        String url = n.getUrl();
+        if (url == null || url.isBlank()) {
+            return n.getId() > 0 ? "id" + n.getId() : sha1Hex(n.getHeadline() + "|" + n.getDatetime());
+        }
+        return sha1Hex(url.trim());
+    }
+
+    private static NewsItemVO toItem(FinnhubNewsItemDTO n) {
+        return NewsItemVO.builder()
+                .headline(n.getHeadline())
+                .source(n.getSource())
+                .datetime(n.getDatetime() * 1000L)
+                .url(n.getUrl())
+                .summary(n.getSummary())
+                .image(n.getImage())
+                .build();
+    }
+
+    private NewsItemVO parse(String json) {
+        try {
+            return objectMapper.readValue(json, NewsItemVO.class);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static String sha1Hex(String s) {
+        try {
+            byte[] d = MessageDigest.getInstance("SHA-1").digest(s.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(d, 0, 10);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String normalizeSymbol(String symbol) {
+        if (symbol == null || symbol.isBlank()) return null;
+        String s = symbol.trim().toUpperCase();
+        if (!s.matches("^[A-Z0-9.\\-]{1,20}$")) throw new BadRequestException("symbol 형식이 올바르지 않습니다.");
+        return s;
+    }
+}
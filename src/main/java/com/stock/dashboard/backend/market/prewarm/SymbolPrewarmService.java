@@ -0,0 +1,128 @@
+package com.stock.dashboard.backend.market.prewarm;
+
+import com.stock.dashboard.backend.cluster.ClusterMembership;
+import com.stock.dashboard.backend.config.FetchExecutor;
+import com.stock.dashboard.backend.exception.TwelveDataRateLimitException;
+import com.stock.dashboard.backend.home.recommendation.pool.RecommendationPoolRepository;
+import com.stock.dashboard.backend.market.service.MarketCandleService;
+import com.stock.dashboard.backend.market.service.MarketRealtimePriceService;
+import com.stock.dashboard.backend.market.twelvedata.service.SparklineService;
+import com.stock.dashboard.backend.watchlist.WatchlistItemRepository;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 자주 보는 심볼 캐시 사전 갱신 (시세/스파크라인/일봉)
+ *
+ * - 대상: 홈 고정 심볼 + 오늘 추천 풀 + 관심종목 심볼
+ * - 각 노드는 일관 해시 링에서 자기 몫 심볼만 (ClusterMembership) → 레플리카가 늘면 처리량도 같이 늘고 중복 호출 없음
+ * - 캐시에 없는 것만 채움 (있으면 calendar TTL 대로 두면 됨)
+ * - TwelveData(스파크라인/일봉)는 한 번에 max-upstream-per-run 개까지, rate limit 맞으면 이번 회차 중단
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SymbolPrewarmService {
+
+    private final ClusterMembership clusterMembership;
+    private final MarketRealtimePriceService marketRealtimePriceService;
+    private final SparklineService sparklineService;
+    private final MarketCandleService marketCandleService;
+    private final RecommendationPoolRepository poolRepository;
+    private final WatchlistItemRepository watchlistItemRepository;
+    private final FetchExecutor fetchExecutor;
+
+    @Value("${home.symbols:AAPL,TSLA,NVDA,AMZN}")
+    private String homeSymbolsCsv;
+
+    @Value("${market.prewarm.max-upstream-per-run:8}")
+    private int maxUpstreamPerRun;
+
+    @Value("${market.prewarm.quote-budget-ms:5000}")
+    private long quoteBudgetMs;
+
+    @Scheduled(fixedDelayString = "${market.prewarm.interval-ms:60000}", initialDelayString = "${market.prewarm.interval-ms:60000}")
+    public void prewarm() {
+        try {
+            List<String> owned = clusterMembership.ownedOf(hotSymbols());
+            if (owned.isEmpty()) return;
+
+            int quotes = prewarmQuotes(owned);
+            int series = prewarmSeries(owned);
+
+            if (quotes > 0 || series > 0) {
+                log.info("[PREWARM] node={} owned={} quotesFilled={} seriesFilled={}",
+                        clusterMembership.nodeId(), owned.size(), quotes, series);
+            }
+        } catch (Exception e) {
+            log.warn("[PREWARM] failed ex={} msg={}", e.getClass().getSimpleName(), e.getMessage());
+        }
+    }
+
+    private Set<String> hotSymbols() {
+        Set<String> out = new LinkedHashSet<>();
+        Arrays.stream(homeSymbolsCsv.split(","))
+                .map(String::trim)
+                .filter(s -> !s.isBlank())
+                .forEach(s -> out.add(s.toUpperCase()));
+
+        String version = poolRepository.todayVersion();
+        out.addAll(poolRepository.range(version, 0, Math.max(0, poolRepository.size(version))));
+
+        for (String s : watchlistItemRepository.findDistinctSymbols()) {
+            if (s != null && !s.isBlank()) out.add(s.trim().toUpperCase());
+        }
+        return out;
+    }
+
+    // 시세: 캐시(fresh/stale)에 아예 없는 것만 병렬로 (Finnhub)
+    private int prewarmQuotes(List<String> owned) {
+        Map<String, ?> cached = marketRealtimePriceService.getCachedQuotes(owned);
+
+        List<CompletableFuture<?>> futures = new ArrayList<>();
+        for (String s : owned) {
+            if (cached.containsKey(s)) continue;
+            futures.add(fetchExecutor.supply(() -> marketRealtimePriceService.getRealtimePrice(s)));
+        }
+        if (futures.isEmpty()) return 0;
+
+        // 늦거나 실패한 심볼은 다음 회차에
+        fetchExecutor.awaitUntil(futures, FetchExecutor.deadlineAfter(quoteBudgetMs));
+        return (int) futures.stream().filter(f -> f.isDone() && !f.isCompletedExceptionally()).count();
+    }
+
+    // 스파크라인/일봉: TwelveData 라 순차 + 회차당 상한
+    private int prewarmSeries(List<String> owned) {
+        Set<String> sparkCached = sparklineService.getCachedSparklines(owned).keySet();
+        Set<String> candleCached = marketCandleService.getCachedDailyCandles(owned).keySet();
+
+        int calls = 0;
+        try {
+            for (String s : owned) {
+                if (calls >= maxUpstreamPerRun) break;
+                if (!sparkCached.contains(s)) {
+                    sparklineService.getSparklineOnly(s);
+                    calls++;
+                }
+                if (calls >= maxUpstreamPerRun) break;
+                if (!candleCached.contains(s)) {
+                    marketCandleService.getDailyCandles(s, marketCandleService.maxDays());
+                    calls++;
+                }
+            }
+        } catch (TwelveDataRateLimitException e) {
+            log.info("[PREWARM] twelvedata rate limited. stop this round. calls={}", calls);
+        }
+        return calls;
+    }
+}
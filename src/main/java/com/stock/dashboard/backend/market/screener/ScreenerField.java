@@ -0,0 +1,30 @@
+package com.stock.dashboard.backend.market.screener;
+
+import java.util.Arrays;
+
+/**
+ * 스크리너 컬럼 (ordinal = 스냅샷 컬럼 인덱스)
+ */
+public enum ScreenerField {
+    PRICE("price"),
+    CHANGE_PCT("changePct"),
+    VOLUME("volume"),
+    MOMENTUM_30D("momentum30d");
+
+    private final String param;
+
+    ScreenerField(String param) {
+        this.param = param;
+    }
+
+    public String param() {
+        return param;
+    }
+
+    public static ScreenerField fromParam(String p) {
+        return Arrays.stream(values())
+                .filter(f -> f.param.equalsIgnoreCase(p))
+                .findFirst()
+                .orElse(null);
+    }
+}
@@ -0,0 +1,169 @@
+package com.stock.dashboard.backend.market.screener;
+
+import com.stock.dashboard.backend.exception.BadRequestException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 스크리너 쿼리 파싱 + 평가
+ *
+ * filters: "price>10,changePct<=-2,volume>=1000000,momentum30d>5" (AND)
+ * sort:    "volume" (오름차순) / "-volume" (내림차순)
+ *
+ * 평가는 컬럼 배열을 필터 하나씩 순차 스캔하며 후보 인덱스를 압축
+ * (분기 적은 단순 루프라 JIT 가 벡터화/언롤하기 좋음)
+ */
+final class ScreenerQuery {
+
+    private static final Pattern FILTER = Pattern.compile("^([A-Za-z0-9]+)\\s*(>=|<=|>|<)\\s*(-?[0-9]+(?:\\.[0-9]+)?)$");
+    private static final int MAX_FILTERS = 8;
+
+    private final List<Filter> filters;
+    private final ScreenerField sortField;
+    private final boolean sortDesc;
+    private final int limit;
+
+    private ScreenerQuery(List<Filter> filters, ScreenerField sortField, boolean sortDesc, int limit) {
+        this.filters = filters;
+        this.sortField = sortField;
+        this.sortDesc = sortDesc;
+        this.limit = limit;
+    }
+
+    static ScreenerQuery parse(String filtersParam, String sortParam, int limit) {
+        List<Filter> filters = new ArrayList<>();
+        if (filtersParam != null && !filtersParam.isBlank()) {
+            for (String raw : filtersParam.split(",")) {
+                String f = raw.trim();
+                if (f.isEmpty()) continue;
+
+                Matcher m = FILTER.matcher(f);
+                if (!m.matches()) throw new BadRequestException("filter 형식이 올바르지 않습니다. filter=" + f);
+
+                ScreenerField field = ScreenerField.fromParam(m.group(1));
+                if (field == null) throw new BadRequestException("지원하지 않는 필드입니다. field=" + m.group(1));
+
+                filters.add(new Filter(field, Op.of(m.group(2)), Double.parseDouble(m.group(3))));
+            }
+        }
+        if (filters.size() > MAX_FILTERS) throw new BadRequestException("filter는 최대 " + MAX_FILTERS + "개까지 가능합니다.");
+
+        String sort = (sortParam == null || sortParam.isBlank()) ? "-volume" : sortParam.trim();
+        boolean desc = sort.startsWith("-");
+        ScreenerField sortField = ScreenerField.fromParam(desc ? sort.substring(1) : sort);
+        if (sortField == null) throw new BadRequestException("지원하지 않는 정렬 필드입니다. sort=" + sort);
+
+        return new ScreenerQuery(filters, sortField, desc, limit);
+    }
+
+    record Result(int[] rows, int matched) {}
+
+    Result evaluate(ScreenerSnapshot snap) {
+        int n = snap.size();
+
+        // 1) 후보 인덱스 (처음엔 전체)
+        int[] sel = new int[n];
+        for (int i = 0; i < n; i++) sel[i] = i;
+        int count = n;
+
+        // 2) 필터마다 한 컬럼만 훑으며 압축
+        for (Filter f : filters) {
+            double[] col = snap.column(f.field);
+            double v = f.value;
+            int w = 0;
+            switch (f.op) {
+                case GT -> { for (int k = 0; k < count; k++) { int i = sel[k]; if (col[i] > v) sel[w++] = i; } }
+                case GTE -> { for (int k = 0; k < count; k++) { int i = sel[k]; if (col[i] >= v) sel[w++] = i; } }
+                case LT -> { for (int k = 0; k < count; k++) { int i = sel[k]; if (col[i] < v) sel[w++] = i; } }
+                case LTE -> { for (int k = 0; k < count; k++) { int i = sel[k]; if (col[i] <= v) sel[w++] = i; } }
+            }
+            count = w;
+        }
+
+        // 3) 정렬 키가 없는(NaN) 행은 뒤로 빠지도록 제외
+        double[] key = snap.column(sortField);
+        int w = 0;
+        for (int k = 0; k < count; k++) {
+            int i = sel[k];
+            if (!Double.isNaN(key[i])) sel[w++] = i;
+        }
+        int matched = w;
+
+        // 4) 상위 limit 개만 (크기 limit 의 heap → O(m log limit))
+        return new Result(topK(sel, matched, key, Math.min(limit, matched), sortDesc), matched);
+    }
+
+    /**
+     * rows[0..m) 중 key 기준 상위 k 개 (desc=true 면 큰 값 우선), 정렬된 결과
+     */
+    static int[] topK(int[] rows, int m, double[] key, int k, boolean desc) {
+        if (k <= 0) return new int[0];
+
+        // heap 루트 = 현재 top-k 중 "가장 약한" 행
+        int[] heap = new int[k];
+        int size = 0;
+        for (int idx = 0; idx < m; idx++) {
+            int r = rows[idx];
+            if (size < k) {
+                heap[size] = r;
+                siftUp(heap, size++, key, desc);
+            } else if (better(key[r], key[heap[0]], desc)) {
+                heap[0] = r;
+                siftDown(heap, size, key, desc);
+            }
+        }
+
+        // 약한 것부터 꺼내서 뒤에서부터 채우면 강한 순 정렬
+        int[] out = new int[size];
+        for (int i = size - 1; i >= 0; i--) {
+            out[i] = heap[0];
+            heap[0] = heap[--size];
+            siftDown(heap, size, key, desc);
+        }
+        return out;
+    }
+
+    private static boolean better(double a, double b, boolean desc) {
+        return desc ? a > b : a < b;
+    }
+
+    private static void siftUp(int[] h, int i, double[] key, boolean desc) {
+        while (i > 0) {
+            int p = (i - 1) >>> 1;
+            if (!better(key[h[p]], key[h[i]], desc)) break;
+            int t = h[p]; h[p] = h[i]; h[i] = t;
+            i = p;
+        }
+    }
+
+    private static void siftDown(int[] h, int size, double[] key, boolean desc) {
+        int i = 0;
+        while (true) {
+            int l = 2 * i + 1;
+            if (l >= size) break;
+            int r = l + 1;
+            int weakest = (r < size && better(key[h[l]], key[h[r]], desc)) ? r : l;
+            if (!better(key[h[i]], key[h[weakest]], desc)) break;
+            int t = h[i]; h[i] = h[weakest]; h[weakest] = t;
+            i = weakest;
+        }
+    }
+
+    private enum Op {
+        GT, GTE, LT, LTE;
+
+        static Op of(String s) {
+            return switch (s) {
+                case ">" -> GT;
+                case ">=" -> GTE;
+                case "<" -> LT;
+                default -> LTE;
+            };
+        }
+    }
+
+    private record Filter(ScreenerField field, Op op, double value) {}
+}
@@ -0,0 +1,170 @@
+package com.stock.dashboard.backend.market.screener;
+
+import com.stock.dashboard.backend.market.dto.DailyCandleDTO;
+import com.stock.dashboard.backend.market.dto.ScreenerResponse;
+import com.stock.dashboard.backend.market.service.MarketCandleService;
+import com.stock.dashboard.backend.market.service.MarketRealtimePriceService;
+import com.stock.dashboard.backend.market.twelvedata.service.StockCatalogService;
+import com.stock.dashboard.backend.model.vo.MarketSummaryVO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 유니버스 스크리너
+ *
+ * - 스냅샷: 카탈로그 유니버스 × (price, changePct, volume, momentum30d) primitive 컬럼
+ * - 갱신: quote/일봉 캐시만 MGET 으로 읽어서 주기적으로 재구성 (upstream 호출 없음)
+ * - 조회: 스냅샷 배열 스캔 + top-K, 요청 경로에서 Redis/네트워크 I/O 없음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ScreenerService {
+
+    private static final int MGET_CHUNK = 500;
+    private static final int MOMENTUM_DAYS = 30;
+
+    private final StockCatalogService stockCatalogService;
+    private final MarketRealtimePriceService marketRealtimePriceService;
+    private final MarketCandleService marketCandleService;
+
+    @Value("${market.screener.max-limit:500}")
+    private int maxLimit;
+
+    private volatile ScreenerSnapshot snapshot = ScreenerSnapshot.EMPTY;
+
+    public ScreenerResponse screen(String filters, String sort, int limit) {
+        ScreenerQuery query = ScreenerQuery.parse(filters, sort, Math.max(1, Math.min(limit, maxLimit)));
+
+        ScreenerSnapshot snap = snapshot;
+        ScreenerQuery.Result result = query.evaluate(snap);
+
+        double[] price = snap.column(ScreenerField.PRICE);
+        double[] change = snap.column(ScreenerField.CHANGE_PCT);
+        double[] volume = snap.column(ScreenerField.VOLUME);
+        double[] momentum = snap.column(ScreenerField.MOMENTUM_30D);
+
+        List<ScreenerResponse.Row> rows = new ArrayList<>(result.rows().length);
+        for (int i : result.rows()) {
+            rows.add(new ScreenerResponse.Row(
+                    snap.symbols()[i],
+                    nullable(price[i]),
+                    nullable(change[i]),
+                    Double.isNaN(volume[i]) ? null : (long) volume[i],
+                    nullable(momentum[i])
+            ));
+        }
+        return new ScreenerResponse(snap.builtAtMs(), snap.size(), result.matched(), rows);
+    }
+
+    public long snapshotBuiltAtMs() {
+        return snapshot.builtAtMs();
+    }
+
+    /**
+     * 스냅샷 전체 행 순회 (movers/heatmap 재시드용), 값 없으면 NaN
+     */
+    public void forEachRow(RowVisitor visitor) {
+        ScreenerSnapshot snap = snapshot;
+        double[] price = snap.column(ScreenerField.PRICE);
+        double[] change = snap.column(ScreenerField.CHANGE_PCT);
+        double[] volume = snap.column(ScreenerField.VOLUME);
+        for (int i = 0; i < snap.size(); i++) {
+            visitor.visit(snap.symbols()[i], price[i], change[i], volume[i]);
+        }
+    }
+
+    @FunctionalInterface
+    public interface RowVisitor {
+        void visit(String symbol, double price, double changePct, double volume);
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${market.screener.refresh-ms:60000}", initialDelayString = "${market.screener.refresh-ms:60000}")
+    public void refresh() {
+        try {
+            List<String> universe = stockCatalogService.getUniverseSymbols();
+            if (universe.isEmpty()) return;
+
+            long started = System.currentTimeMillis();
+            ScreenerSnapshot next = build(universe);
+            snapshot = next;
+
+            log.info("[SCREENER] snapshot rebuilt size={}, tookMs={}", next.size(), System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            log.warn("[SCREENER] refresh failed. keep last size={}", snapshot.size(), e);
+        }
+    }
+
+    private ScreenerSnapshot build(List<String> universe) {
+        int n = universe.size();
+        String[] symbols = universe.toArray(new String[0]);
+
+        double[][] cols = new double[ScreenerField.values().length][n];
+        for (double[] c : cols) Arrays.fill(c, Double.NaN);
+
+        double[] price = cols[ScreenerField.PRICE.ordinal()];
+        double[] change = cols[ScreenerField.CHANGE_PCT.ordinal()];
+        double[] volume = cols[ScreenerField.VOLUME.ordinal()];
+        double[] momentum = cols[ScreenerField.MOMENTUM_30D.ordinal()];
+
+        for (int from = 0; from < n; from += MGET_CHUNK) {
+            List<String> chunk = universe.subList(from, Math.min(n, from + MGET_CHUNK));
+
+            Map<String, MarketSummaryVO> quotes = marketRealtimePriceService.getCachedQuotes(chunk);
+            Map<String, List<DailyCandleDTO>> candles = marketCandleService.getCachedDailyCandles(chunk);
+
+            for (int k = 0; k < chunk.size(); k++) {
+                int i = from + k;
+                String s = chunk.get(k);
+                List<DailyCandleDTO> c = candles.getOrDefault(s, List.of());
+                MarketSummaryVO q = quotes.get(s);
+
+                // 가격/등락률: 실시간 quote 우선, 없으면 일봉 마지막 두 개로
+                if (q != null && q.getPrice() > 0) {
+                    price[i] = q.getPrice();
+                    change[i] = q.getChangePercent();
+                } else if (c.size() >= 2) {
+                    double last = c.get(c.size() - 1).getClose();
+                    double prev = c.get(c.size() - 2).getClose();
+                    if (last > 0) price[i] = last;
+                    if (last > 0 && prev > 0) change[i] = (last / prev - 1) * 100;
+                }
+
+                // 거래량: quote 에는 없어서 최근 일봉 거래량
+                if (!c.isEmpty()) {
+                    volume[i] = c.get(c.size() - 1).getVolume();
+                }
+
+                // 30거래일 모멘텀(%)
+                if (c.size() > MOMENTUM_DAYS) {
+                    double last = c.get(c.size() - 1).getClose();
+                    double base = c.get(c.size() - 1 - MOMENTUM_DAYS).getClose();
+                    if (last > 0 && base > 0) momentum[i] = (last / base - 1) * 100;
+                }
+            }
+        }
+
+        return new ScreenerSnapshot(symbols, cols, System.currentTimeMillis());
+    }
+
+    private static Double nullable(double v) {
+        return Double.isNaN(v) ? null : v;
+    }
+}
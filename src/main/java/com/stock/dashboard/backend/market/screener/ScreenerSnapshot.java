@@ -0,0 +1,23 @@
+package com.stock.dashboard.backend.market.screener;
+
+/**
+ * 유니버스 컬럼형 스냅샷 (불변)
+ * - row i = symbols[i]
+ * - columns[field.ordinal()][i] = 값, 데이터 없으면 NaN (NaN 은 어떤 비교도 통과 못 함)
+ */
+record ScreenerSnapshot(
+        String[] symbols,
+        double[][] columns,
+        long builtAtMs
+) {
+    static final ScreenerSnapshot EMPTY =
+            new ScreenerSnapshot(new String[0], new double[ScreenerField.values().length][0], 0L);
+
+    int size() {
+        return symbols.length;
+    }
+
+    double[] column(ScreenerField field) {
+        return columns[field.ordinal()];
+    }
+}
@@ -1,14 +1,16 @@
 package com.stock.dashboard.backend.market.service;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stock.dashboard.backend.market.cache.CandleSeriesCodec;
+import com.stock.dashboard.backend.market.cache.GorillaSeries;
 import com.stock.dashboard.backend.market.cache.RedisStringCache;
+import com.stock.dashboard.backend.market.calendar.UsMarketCalendar;
 import com.stock.dashboard.backend.market.client.TwelveDataTimeSeriesClient;
 import com.stock.dashboard.backend.market.dto.DailyCandleDTO;
 import com.stock.dashboard.backend.market.twelvedata.dto.TwelveDataTimeSeriesResponse;
-import java.time.Duration;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -20,16 +22,14 @@ public class MarketCandleService {
 
     private final TwelveDataTimeSeriesClient timeSeriesClient;
     private final RedisStringCache cache;
-    private final ObjectMapper om;
+    private final UsMarketCalendar marketCalendar;
 
-    private static final String KEY_PREFIX = "market:candles:1day:";
+    // ✅ Gorilla 압축 바이너리 (JSON 대비 약 1/3) - 포맷이 달라서 prefix 분리
+    private static final String KEY_PREFIX = "market:candles:1day:g1:";
 
     // ✅ 외부 호출은 딱 이 만큼만(7/30/90 버튼용이면 90 추천)
     private static final int MAX_DAYS = 90;
 
-    // ✅ 캐시는 넉넉히 (원하는대로 조절)
-    private static final Duration TTL = Duration.ofHours(12);
-
     private String key(String symbol) {
         return KEY_PREFIX + symbol.toUpperCase(); // ✅ days 제거
     }
@@ -39,14 +39,9 @@ public class MarketCandleService {
         String k = key(symbol);
 
         // ✅ 1) 캐시 HIT: 전체(MAX_DAYS) 데이터 로드 후 slice
-        String cached = cache.get(k);
-        if (cached != null && !cached.isBlank()) {
-            try {
-                List<DailyCandleDTO> all = om.readValue(cached, new TypeReference<List<DailyCandleDTO>>() {});
-                return sliceTail(all, days);
-            } catch (Exception e) {
-                cache.delete(k); // 캐시 포맷 꼬이면 삭제 후 재조회
-            }
+        List<DailyCandleDTO> cachedAll = readCache(k);
+        if (cachedAll != null) {
+            return sliceTail(cachedAll, days);
         }
 
         // ✅ 2) 캐시 MISS: TwelveData를 MAX_DAYS로 "한 번만" 호출
@@ -68,15 +63,61 @@ public class MarketCandleService {
                 .sorted(Comparator.comparing(DailyCandleDTO::getDate))
                 .toList();
 
-        // ✅ 3) 캐시에 MAX_DAYS 전체를 저장
+        // ✅ 3) 캐시에 MAX_DAYS 전체를 저장 (Gorilla 압축, 다음 일봉 확정 시점까지)
         try {
-            cache.set(k, om.writeValueAsString(all), TTL);
+            cache.setBytes(k, CandleSeriesCodec.encodeCandles(all).toBytes(), marketCalendar.dailyBarTtl());
         } catch (Exception ignore) {}
 
         // ✅ 4) 요청 days만큼만 잘라서 반환
         return sliceTail(all, days);
     }
 
+    /**
+     * ✅ 캐시에 있는 전체(MAX_DAYS) 시리즈만 반환 (외부 호출 없음)
+     * - 캐시 미스/깨진 캐시면 빈 리스트
+     * - bulk export 등 대량 조회에서 업스트림 fan-out을 피하기 위함
+     */
+    public List<DailyCandleDTO> getCachedDailyCandles(String symbol) {
+        List<DailyCandleDTO> all = readCache(key(symbol));
+        return all == null ? List.of() : all;
+    }
+
+    /**
+     * ✅ 여러 심볼 캐시만 일괄 조회 (MGET 1회, 외부 호출 없음)
+     * - 캐시에 없는 심볼은 결과에서 빠짐
+     */
+    public Map<String, List<DailyCandleDTO>> getCachedDailyCandles(List<String> symbols) {
+        Map<String, List<DailyCandleDTO>> out = new HashMap<>();
+        if (symbols == null || symbols.isEmpty()) return out;
+
+        List<byte[]> values = cache.multiGetBytes(symbols.stream().map(this::key).toList());
+        for (int i = 0; i < symbols.size(); i++) {
+            byte[] bytes = values.get(i);
+            if (bytes == null || bytes.length == 0) continue;
+            try {
+                out.put(symbols.get(i), CandleSeriesCodec.decodeCandles(GorillaSeries.fromBytes(bytes)));
+            } catch (Exception e) {
+                // 깨진 값은 miss 취급 (단건 조회 경로에서 정리됨)
+            }
+        }
+        return out;
+    }
+
+    private List<DailyCandleDTO> readCache(String k) {
+        byte[] cached = cache.getBytes(k);
+        if (cached == null || cached.length == 0) return null;
+        try {
+            return CandleSeriesCodec.decodeCandles(GorillaSeries.fromBytes(cached));
+        } catch (Exception e) {
+            cache.delete(k); // 캐시 포맷 꼬이면 삭제 후 재조회
+            return null;
+        }
+    }
+
+    public int maxDays() {
+        return MAX_DAYS;
+    }
+
     private List<DailyCandleDTO> sliceTail(List<DailyCandleDTO> all, int days) {
         if (all == null || all.isEmpty()) return List.of();
         if (days <= 0) return all;
@@ -2,22 +2,32 @@ package com.stock.dashboard.backend.market.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stock.dashboard.backend.event.OnQuoteUpdatedEvent;
 import com.stock.dashboard.backend.market.cache.RedisStringCache;
+import com.stock.dashboard.backend.market.calendar.UsMarketCalendar;
 import com.stock.dashboard.backend.market.client.FinnhubClient;
 import com.stock.dashboard.backend.model.vo.MarketSummaryVO;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID; // ✅ [추가] 락 토큰(내 락인지 판별)용
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class MarketRealtimePriceService {
 
     // ✅ TTL 정책
-    private static final Duration FRESH_TTL = Duration.ofSeconds(10);     // 실시간 화면용
+    // - fresh 는 장중에만 10초, 장 마감/주말/휴일엔 다음 개장까지 (UsMarketCalendar)
+    private static final Duration FRESH_TTL = Duration.ofSeconds(10);     // 실시간 화면용 (장중)
     private static final Duration STALE_TTL = Duration.ofMinutes(10);     // 장애/레이트리밋 폴백용
     private static final Duration LOCK_TTL  = Duration.ofSeconds(10);      //
 
@@ -29,6 +39,8 @@ public class MarketRealtimePriceService {
     private final FinnhubClient finnhubClient;
     private final RedisStringCache redisStringCache;
     private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UsMarketCalendar marketCalendar;
 
     public MarketSummaryVO getRealtimePrice(String symbol) {
         String s = normalizeSymbol(symbol);
@@ -56,9 +68,13 @@ public class MarketRealtimePriceService {
 
                 // fetched가 null이면 의미 없으니 fallback 시도
                 if (fetched != null) {
-                    // ✅ 정상 데이터면 fresh + stale 둘 다 저장
-                    setCached(freshKey, fetched, FRESH_TTL);
-                    setCached(staleKey, fetched, STALE_TTL);
+                    // ✅ 정상 데이터면 fresh + stale 둘 다 저장 (stale 은 fresh 보다 먼저 만료되지 않게)
+                    Duration freshTtl = marketCalendar.quoteTtl(FRESH_TTL);
+                    setCached(freshKey, fetched, freshTtl);
+                    setCached(staleKey, fetched, freshTtl.compareTo(STALE_TTL) > 0 ? freshTtl : STALE_TTL);
+
+                    // ✅ 새 시세일 때만 이벤트 발행 (가격 알림 등 구독자)
+                    publishQuoteUpdated(fetched);
                 }
 
                 // 반환은 fetched 우선
@@ -103,6 +119,34 @@ public class MarketRealtimePriceService {
         throw new IllegalStateException("시세 캐시 미스/갱신중 및 stale 없음. symbol=" + s);
     }
 
+    /**
+     * ✅ 여러 심볼 캐시만 일괄 조회 (외부 호출 없음)
+     * - fresh MGET 1회 → 빠진 심볼만 stale MGET 1회
+     * - 결과에 없는 심볼은 호출 측에서 getRealtimePrice 로 개별 채움
+     */
+    public Map<String, MarketSummaryVO> getCachedQuotes(Collection<String> symbols) {
+        Map<String, MarketSummaryVO> out = new LinkedHashMap<>();
+        if (symbols == null || symbols.isEmpty()) return out;
+
+        List<String> normalized = symbols.stream().map(MarketRealtimePriceService::normalizeSymbol).distinct().toList();
+
+        List<String> misses = new ArrayList<>();
+        List<String> fresh = redisStringCache.multiGet(normalized.stream().map(s -> FRESH_KEY_PREFIX + s).toList());
+        for (int i = 0; i < normalized.size(); i++) {
+            MarketSummaryVO vo = parse(fresh.get(i));
+            if (vo != null) out.put(normalized.get(i), vo);
+            else misses.add(normalized.get(i));
+        }
+        if (misses.isEmpty()) return out;
+
+        List<String> stale = redisStringCache.multiGet(misses.stream().map(s -> STALE_KEY_PREFIX + s).toList());
+        for (int i = 0; i < misses.size(); i++) {
+            MarketSummaryVO vo = parse(stale.get(i));
+            if (vo != null) out.put(misses.get(i), vo);
+        }
+        return out;
+    }
+
     private MarketSummaryVO fetchFromFinnhub(String symbol) {
         Map<String, Object> raw = finnhubClient.getQuoteRaw(symbol);
 
@@ -127,8 +171,21 @@ public class MarketRealtimePriceService {
                 .build();
     }
 
+    private void publishQuoteUpdated(MarketSummaryVO vo) {
+        if (vo.getPrice() <= 0) return;
+        try {
+            eventPublisher.publishEvent(new OnQuoteUpdatedEvent(this, vo.getSymbol(), vo.getPrice(), vo.getChangePercent()));
+        } catch (Exception e) {
+            // 구독자 실패가 시세 응답을 깨면 안 됨
+            log.warn("[QUOTE] event listener failed symbol={}", vo.getSymbol(), e);
+        }
+    }
+
     private MarketSummaryVO getCached(String key) {
-        String json = redisStringCache.get(key);
+        return parse(redisStringCache.get(key));
+    }
+
+    private MarketSummaryVO parse(String json) {
         if (json == null || json.isBlank()) return null;
         try {
             return objectMapper.readValue(json, MarketSummaryVO.class);
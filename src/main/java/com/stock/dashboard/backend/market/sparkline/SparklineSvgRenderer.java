@@ -0,0 +1,71 @@
+package com.stock.dashboard.backend.market.sparkline;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 종가 배열 → 미니 차트 SVG (polyline 1개)
+ * - 좌표는 소수 1자리로 반올림 (30포인트 기준 ~0.5KB)
+ * - 색상: 첫 값 대비 마지막 값 상승이면 초록, 아니면 빨강
+ */
+final class SparklineSvgRenderer {
+
+    static final int WIDTH = 120;
+    static final int HEIGHT = 32;
+    private static final double PAD = 2.0;
+
+    private static final String UP = "#16a34a";
+    private static final String DOWN = "#dc2626";
+
+    private SparklineSvgRenderer() {}
+
+    static String render(double[] closes) {
+        return "<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"" + WIDTH + "\" height=\"" + HEIGHT
+                + "\" viewBox=\"0 0 " + WIDTH + " " + HEIGHT + "\">"
+                + polyline(closes)
+                + "</svg>";
+    }
+
+    /**
+     * 여러 심볼을 <symbol id="spark-SYM"> 으로 묶은 sprite
+     * - 클라이언트: <svg><use href="...sprite.svg#spark-AAPL"/></svg>
+     */
+    static String renderSprite(List<String> symbols, List<double[]> closes) {
+        StringBuilder sb = new StringBuilder(256 + symbols.size() * 600);
+        sb.append("<svg xmlns=\"http://www.w3.org/2000/svg\" style=\"display:none\">");
+        for (int i = 0; i < symbols.size(); i++) {
+            sb.append("<symbol id=\"spark-").append(symbols.get(i))
+                    .append("\" viewBox=\"0 0 ").append(WIDTH).append(' ').append(HEIGHT).append("\">")
+                    .append(polyline(closes.get(i)))
+                    .append("</symbol>");
+        }
+        return sb.append("</svg>").toString();
+    }
+
+    private static String polyline(double[] c) {
+        if (c == null || c.length < 2) return "";
+
+        double min = Double.POSITIVE_INFINITY, max = Double.NEGATIVE_INFINITY;
+        for (double v : c) {
+            min = Math.min(min, v);
+            max = Math.max(max, v);
+        }
+        double range = max - min;
+
+        double stepX = (WIDTH - 2 * PAD) / (c.length - 1);
+        double h = HEIGHT - 2 * PAD;
+
+        StringBuilder pts = new StringBuilder(c.length * 10);
+        for (int i = 0; i < c.length; i++) {
+            double x = PAD + i * stepX;
+            // 변동이 없으면 가운데 수평선
+            double y = range == 0 ? HEIGHT / 2.0 : PAD + (max - c[i]) / range * h;
+            if (i > 0) pts.append(' ');
+            pts.append(String.format(Locale.ROOT, "%.1f,%.1f", x, y));
+        }
+
+        String color = c[c.length - 1] >= c[0] ? UP : DOWN;
+        return "<polyline fill=\"none\" stroke=\"" + color + "\" stroke-width=\"1.5\" stroke-linejoin=\"round\" stroke-linecap=\"round\" points=\""
+                + pts + "\"/>";
+    }
+}
@@ -0,0 +1,147 @@
+package com.stock.dashboard.backend.market.sparkline;
+
+import com.stock.dashboard.backend.exception.BadRequestException;
+import com.stock.dashboard.backend.market.twelvedata.dto.SparklinePoint;
+import com.stock.dashboard.backend.market.twelvedata.service.SparklineService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 서버 렌더링 스파크라인 SVG
+ *
+ * - 데이터: SparklineService 캐시 (단건은 miss 시 채움, sprite 는 캐시만)
+ * - 캐시: 렌더 결과를 "데이터 해시" 로 인메모리 LRU 에 보관 (같은 데이터면 다시 렌더 안 함)
+ * - URL 에 해시(v)를 넣어두면 내용이 바뀔 때 URL 도 바뀜 → 브라우저/CDN 에 immutable 로 캐시 가능
+ */
+@Service
+@RequiredArgsConstructor
+public class SparklineSvgService {
+
+    // 렌더 방식이 바뀌면 올려서 기존 해시/URL 무효화
+    private static final byte RENDER_VERSION = 1;
+    private static final int MAX_SPRITE_SYMBOLS = 50;
+
+    private final SparklineService sparklineService;
+
+    @Value("${sparkline.svg.cache-entries:2000}")
+    private int cacheEntries;
+
+    private final Map<String, byte[]> rendered = Collections.synchronizedMap(
+            new LinkedHashMap<>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, byte[]> eldest) {
+                    return size() > cacheEntries;
+                }
+            });
+
+    public record Svg(String hash, byte[] body) {}
+
+    /**
+     * ✅ 홈/추천 응답에 넣을 URL (이미 가진 포인트로 해시만 계산, 렌더는 요청 시)
+     */
+    public String urlFor(String symbol, List<SparklinePoint> points) {
+        if (points == null || points.size() < 2) return null;
+        return "/api/market/sparkline.svg?symbol=" + symbol + "&v=" + hash(closes(points, 0));
+    }
+
+    public Svg single(String symbol, int days) {
+        String s = normalize(symbol);
+        double[] closes = closes(sparklineService.getSparklineOnly(s), days);
+
+        String hash = hash(closes);
+        byte[] body = rendered.get(hash);
+        if (body == null) {
+            body = SparklineSvgRenderer.render(closes).getBytes(StandardCharsets.UTF_8);
+            rendered.put(hash, body);
+        }
+        return new Svg(hash, body);
+    }
+
+    /**
+     * ✅ 여러 심볼 sprite (MGET 1회, 캐시에 없는 심볼은 빠짐)
+     */
+    public Svg sprite(String symbolsCsv, int days) {
+        Set<String> set = new LinkedHashSet<>();
+        if (symbolsCsv != null) {
+            for (String raw : symbolsCsv.split(",")) {
+                if (!raw.isBlank()) set.add(normalize(raw));
+            }
+        }
+        if (set.isEmpty()) throw new BadRequestException("symbols는 필수입니다.");
+        if (set.size() > MAX_SPRITE_SYMBOLS) throw new BadRequestException("symbols는 최대 " + MAX_SPRITE_SYMBOLS + "개까지 가능합니다.");
+
+        Map<String, List<SparklinePoint>> cached = sparklineService.getCachedSparklines(set);
+
+        List<String> symbols = new ArrayList<>();
+        List<double[]> series = new ArrayList<>();
+        MessageDigest md = sha256();
+        md.update(RENDER_VERSION);
+        for (String s : set) {
+            List<SparklinePoint> points = cached.get(s);
+            if (points == null || points.size() < 2) continue;
+
+            double[] c = closes(points, days);
+            symbols.add(s);
+            series.add(c);
+            md.update(s.getBytes(StandardCharsets.UTF_8));
+            md.update(doubles(c));
+        }
+
+        String hash = "s" + HexFormat.of().formatHex(md.digest(), 0, 8);
+        byte[] body = rendered.get(hash);
+        if (body == null) {
+            body = SparklineSvgRenderer.renderSprite(symbols, series).getBytes(StandardCharsets.UTF_8);
+            rendered.put(hash, body);
+        }
+        return new Svg(hash, body);
+    }
+
+    private static double[] closes(List<SparklinePoint> points, int days) {
+        if (points == null) return new double[0];
+        int from = (days > 0 && days < points.size()) ? points.size() - days : 0;
+
+        double[] out = new double[points.size() - from];
+        for (int i = from; i < points.size(); i++) out[i - from] = points.get(i).getClose();
+        return out;
+    }
+
+    private static String hash(double[] closes) {
+        MessageDigest md = sha256();
+        md.update(RENDER_VERSION);
+        md.update(doubles(closes));
+        return HexFormat.of().formatHex(md.digest(), 0, 8);
+    }
+
+    private static byte[] doubles(double[] v) {
+        ByteBuffer buf = ByteBuffer.allocate(v.length * Double.BYTES);
+        for (double d : v) buf.putDouble(d);
+        return buf.array();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String normalize(String symbol) {
+        String s = symbol == null ? "" : symbol.trim().toUpperCase();
+        if (!s.matches("^[A-Z0-9.\\-]{1,20}$")) throw new BadRequestException("symbol 형식이 올바르지 않습니다.");
+        return s;
+    }
+}
@@ -2,8 +2,10 @@ package com.stock.dashboard.backend.market.twelvedata.dto;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
+@NoArgsConstructor
 @AllArgsConstructor
 public class SparklinePoint {
     private int index;
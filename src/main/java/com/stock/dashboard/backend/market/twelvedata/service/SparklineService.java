@@ -1,14 +1,18 @@
 package com.stock.dashboard.backend.market.twelvedata.service;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.stock.dashboard.backend.exception.TwelveDataRateLimitException;
+import com.stock.dashboard.backend.market.cache.CandleSeriesCodec;
+import com.stock.dashboard.backend.market.cache.GorillaSeries;
 import com.stock.dashboard.backend.market.cache.RedisStringCache;
+import com.stock.dashboard.backend.market.calendar.UsMarketCalendar;
 import com.stock.dashboard.backend.market.client.TwelveDataTimeSeriesClient;
 import com.stock.dashboard.backend.market.twelvedata.dto.SparklinePoint;
 import com.stock.dashboard.backend.market.twelvedata.dto.TwelveDataTimeSeriesResponse;
 import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.stream.IntStream;
 import lombok.RequiredArgsConstructor;
@@ -23,23 +27,43 @@ public class SparklineService {
 
     private final TwelveDataTimeSeriesClient timeSeriesClient;
     private final RedisStringCache cache;
-    private final ObjectMapper objectMapper;
+    private final UsMarketCalendar marketCalendar;
 
     @Value("${home.sparkline-days:30}")
     private int sparklineDays;
 
-    @Value("${sparkline.cache-ttl-seconds:21600}") // 6h
-    private long sparklineTtlSeconds;
+    /**
+     * 조회 결과 구분
+     * - OK: 포인트 있음
+     * - EMPTY: 업스트림이 빈 시리즈를 줌 (네거티브 캐시 포함) → 종목 문제로 봐도 됨
+     * - DEFERRED: 다른 인스턴스가 조회 중(락)이거나 조회 중 예외 → 아직 모름, 나중에 다시
+     */
+    public enum Status { OK, EMPTY, DEFERRED }
+
+    public record Fetched(Status status, List<SparklinePoint> points) {
+        static Fetched of(List<SparklinePoint> points) {
+            return new Fetched(points.isEmpty() ? Status.EMPTY : Status.OK, points);
+        }
 
-    private static final TypeReference<List<SparklinePoint>> SPARKLINE_LIST =
-            new TypeReference<>() {};
+        static Fetched deferred() {
+            return new Fetched(Status.DEFERRED, List.of());
+        }
+    }
 
     public List<SparklinePoint> getSparklineOnly(String symbol) {
+        return fetchSparkline(symbol).points();
+    }
+
+    /**
+     * ✅ getSparklineOnly 와 같지만 빈 결과의 이유를 구분 (실패 누적 판단용)
+     * - rate limit 은 그대로 던짐
+     */
+    public Fetched fetchSparkline(String symbol) {
         String cacheKey = sparklineKey(symbol, sparklineDays);
 
         // 1) 캐시 히트
         List<SparklinePoint> cached = readCache(cacheKey);
-        if (cached != null) return cached;
+        if (cached != null) return Fetched.of(cached);
 
         // 2) stampede 방지 락
         String lockKey = cacheKey + ":lock";
@@ -48,10 +72,10 @@ public class SparklineService {
         if (!locked) {
             sleep(80);
             cached = readCache(cacheKey);
-            if (cached != null) return cached;
+            if (cached != null) return Fetched.of(cached);
 
             log.warn("sparkline cache miss but locked by others symbol={}", symbol);
-            return List.of();
+            return Fetched.deferred();
         }
 
         try {
@@ -59,12 +83,14 @@ public class SparklineService {
             List<SparklinePoint> points = toSparkline(res);
 
             if (points.isEmpty()) {
-                cache.set(cacheKey, "[]", Duration.ofSeconds(60));
-                return List.of();
+                // 빈 시리즈도 짧게 캐시 (네거티브 캐시)
+                cache.setBytes(cacheKey, CandleSeriesCodec.encodeSparkline(List.of()).toBytes(), Duration.ofSeconds(60));
+                return Fetched.of(List.of());
             }
 
-            cache.set(cacheKey, objectMapper.writeValueAsString(points), Duration.ofSeconds(sparklineTtlSeconds));
-            return points;
+            // 일봉 기반이라 다음 일봉 확정(마감 + 30분)까지 캐시
+            cache.setBytes(cacheKey, CandleSeriesCodec.encodeSparkline(points).toBytes(), marketCalendar.dailyBarTtl());
+            return Fetched.of(points);
 
         } catch (TwelveDataRateLimitException e) {
             throw e;
@@ -72,18 +98,41 @@ public class SparklineService {
         } catch (Exception e) {
             log.warn("getSparklineOnly failed symbol={} ex={} msg={}",
                     symbol, e.getClass().getSimpleName(), e.getMessage());
-            return List.of();
+            return Fetched.deferred();
         } finally {
             cache.delete(lockKey);
         }
 
     }
 
+    /**
+     * ✅ 여러 심볼 캐시만 일괄 조회 (MGET 1회, 외부 호출 없음)
+     * - 결과에 없는 심볼은 호출 측에서 getSparklineOnly 로 개별 채움
+     */
+    public Map<String, List<SparklinePoint>> getCachedSparklines(Collection<String> symbols) {
+        Map<String, List<SparklinePoint>> out = new LinkedHashMap<>();
+        if (symbols == null || symbols.isEmpty()) return out;
+
+        List<String> list = symbols.stream().distinct().toList();
+        List<byte[]> values = cache.multiGetBytes(list.stream().map(s -> sparklineKey(s, sparklineDays)).toList());
+
+        for (int i = 0; i < list.size(); i++) {
+            byte[] bytes = values.get(i);
+            if (bytes == null || bytes.length == 0) continue;
+            try {
+                out.put(list.get(i), CandleSeriesCodec.decodeSparkline(GorillaSeries.fromBytes(bytes)));
+            } catch (Exception e) {
+                // 깨진 값은 miss 취급 (개별 조회 경로에서 정리됨)
+            }
+        }
+        return out;
+    }
+
     private List<SparklinePoint> readCache(String key) {
         try {
-            String json = cache.get(key);
-            if (json == null) return null;
-            return objectMapper.readValue(json, SPARKLINE_LIST);
+            byte[] bytes = cache.getBytes(key);
+            if (bytes == null || bytes.length == 0) return null;
+            return CandleSeriesCodec.decodeSparkline(GorillaSeries.fromBytes(bytes));
         } catch (Exception e) {
             log.warn("sparkline cache parse failed key={} ex={}", key, e.getClass().getSimpleName());
             cache.delete(key);
@@ -92,7 +141,8 @@ public class SparklineService {
     }
 
     private String sparklineKey(String symbol, int days) {
-        return "sparkline:" + symbol + ":" + days;
+        // g1 = Gorilla 압축 포맷 (기존 JSON 키와 분리)
+        return "sparkline:g1:" + symbol + ":" + days;
     }
 
     private void sleep(long ms) {
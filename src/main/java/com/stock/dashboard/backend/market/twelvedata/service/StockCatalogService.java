@@ -1,12 +1,18 @@
 package com.stock.dashboard.backend.market.twelvedata.service;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stock.dashboard.backend.market.cache.RedisStringCache;
 import com.stock.dashboard.backend.market.client.TwelveDataStocksClient;
 import com.stock.dashboard.backend.market.twelvedata.dto.TwelveDataStockItem;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
-import java.util.stream.Collectors;
+import java.util.Random;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -16,43 +22,89 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class StockCatalogService {
 
+    // 종목 목록은 하루 단위로만 바뀜 → 심볼 목록만 Redis 에 공유
+    private static final String UNIVERSE_KEY = "market:catalog:nasdaq:universe:v1";
+    private static final Duration UNIVERSE_TTL = Duration.ofHours(24);
+    // 추천 풀 version 과 같은 날짜 기준
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
     private final TwelveDataStocksClient stocksClient;
+    private final RedisStringCache redisStringCache;
+    private final ObjectMapper objectMapper;
 
-    public List<TwelveDataStockItem> getCandidatePool(int poolSize) {
-        var all = stocksClient.fetchNasdaqStocks().getData();
-        if (all == null || all.isEmpty()) {
-            return List.of();
-        }
+    private volatile List<String> universe = List.of();
+    private volatile long universeLoadedAtMs;
 
-        log.info("nasdaq total={}", all.size());
+    /**
+     * ✅ 스크리너 등 전 종목 스캔용 유니버스 (NASDAQ 안전 보통주 심볼, 정렬)
+     * - 메모리 → Redis → upstream 순, 실패 시 직전 값 유지
+     */
+    public List<String> getUniverseSymbols() {
+        if (!universe.isEmpty() && System.currentTimeMillis() - universeLoadedAtMs < UNIVERSE_TTL.toMillis()) {
+            return universe;
+        }
 
-        // 1) Common Stock만
-        List<TwelveDataStockItem> common = all.stream()
-                .filter(s -> isCommonStock(s.getType()))
-                .collect(Collectors.toList());
+        try {
+            String json = redisStringCache.get(UNIVERSE_KEY);
+            if (json != null && !json.isBlank()) {
+                List<String> cached = objectMapper.readValue(json, new TypeReference<List<String>>() {});
+                if (!cached.isEmpty()) return setUniverse(cached);
+            }
+        } catch (Exception e) {
+            log.warn("universe cache read failed ex={}", e.getClass().getSimpleName());
+        }
 
-        log.info("nasdaq common total={}", common.size());
+        try {
+            var all = stocksClient.fetchNasdaqStocks().getData();
+            if (all == null || all.isEmpty()) return universe;
 
-        // 2) 안전 심볼만 (너가 이미 추천쪽에서 쓰는 정책과 통일)
-        List<TwelveDataStockItem> safe = common.stream()
-                .filter(s -> isSafeCommonStockSymbol(s.getSymbol()))
-                .collect(Collectors.toList());
+            List<String> symbols = all.stream()
+                    .filter(s -> isCommonStock(s.getType()))
+                    .map(TwelveDataStockItem::getSymbol)
+                    .filter(this::isSafeCommonStockSymbol)
+                    .map(s -> s.trim().toUpperCase(Locale.US))
+                    .distinct()
+                    .sorted()
+                    .toList();
 
-        log.info("nasdaq safe common total={}", safe.size());
+            redisStringCache.set(UNIVERSE_KEY, objectMapper.writeValueAsString(symbols), UNIVERSE_TTL);
+            log.info("universe loaded size={}", symbols.size());
+            return setUniverse(symbols);
+        } catch (Exception e) {
+            log.warn("universe load failed. keep last size={} ex={}", universe.size(), e.getClass().getSimpleName());
+            return universe;
+        }
+    }
 
-        // 3) 전체에서 섞어서 샘플링
-        List<TwelveDataStockItem> shuffled = new ArrayList<>(safe);
-        Collections.shuffle(shuffled);
+    private List<String> setUniverse(List<String> symbols) {
+        this.universe = List.copyOf(symbols);
+        this.universeLoadedAtMs = System.currentTimeMillis();
+        return this.universe;
+    }
 
-        int end = Math.min(poolSize, shuffled.size());
-        List<TwelveDataStockItem> picked = shuffled.subList(0, end);
+    /**
+     * ✅ 오늘의 추천 후보 창 (유니버스에서 날짜 seed 로 뽑은 무작위 표본)
+     * - seed 가 날짜라 같은 날엔 모든 노드가 같은 후보 → 랭킹 결과가 결정적
+     * - 연속 구간(알파벳 순)이 아니라서 특정 이니셜/섹터에 몰리지 않음, 날마다 다른 표본
+     */
+    public List<String> getCandidatePool(int poolSize) {
+        List<String> symbols = getUniverseSymbols();
+        int n = symbols.size();
+        if (n == 0 || poolSize <= 0) return List.of();
+        if (poolSize >= n) return symbols;
 
-        // 디버그: 샘플이 진짜 섞였는지 앞 30개만 찍기
-        picked.stream().limit(30).forEach(s ->
-                log.info("picked sym={} type={}", s.getSymbol(), s.getType())
-        );
+        return sample(symbols, poolSize, LocalDate.now(KST).toEpochDay());
+    }
 
-        return picked;
+    // 앞 k 칸만 Fisher-Yates (java.util.Random 은 seed 가 같으면 JVM 이 달라도 같은 수열)
+    static List<String> sample(List<String> symbols, int k, long seed) {
+        List<String> copy = new ArrayList<>(symbols);
+        Random random = new Random(seed);
+        for (int i = 0; i < k; i++) {
+            int j = i + random.nextInt(copy.size() - i);
+            Collections.swap(copy, i, j);
+        }
+        return List.copyOf(copy.subList(0, k));
     }
 
     private boolean isCommonStock(String type) {
@@ -1,7 +1,8 @@
 package com.stock.dashboard.backend.portfolio;
 
 import com.stock.dashboard.backend.exception.BadRequestException;
-import com.stock.dashboard.backend.market.bok.BokExchangeRateService;
+import com.stock.dashboard.backend.market.bok.UsdKrwRateHistory;
+import com.stock.dashboard.backend.market.bok.UsdKrwRateService;
 import com.stock.dashboard.backend.market.service.MarketRealtimePriceService;
 import com.stock.dashboard.backend.model.User;
 import com.stock.dashboard.backend.model.vo.MarketSummaryVO;
@@ -21,7 +22,8 @@ public class PortfolioService {
 
     private final TradeRepository tradeRepository;
     private final MarketRealtimePriceService marketRealtimePriceService;
-    private final BokExchangeRateService bokExchangeRateService;
+    private final UsdKrwRateService usdKrwRateService;
+    private final UsdKrwRateHistory usdKrwRateHistory;
 
 
 
@@ -45,9 +47,19 @@ public class PortfolioService {
         BigDecimal totalRealizedUsd = BigDecimal.ZERO;
         BigDecimal totalCostUsd = BigDecimal.ZERO;
 
+        // =========================
+        // ✅ 현재 환율 (캐시 값만 사용, 요청 경로에서 ECOS 호출 없음)
+        // - 과거 거래일 환율이 없을 때의 fallback 으로도 사용
+        // =========================
+        BigDecimal usdKrwRate = currentUsdKrwRate();
+
+        BigDecimal totalCostKrw = BigDecimal.ZERO;
+        BigDecimal totalRealizedKrw = BigDecimal.ZERO;
+        List<String> fxHistoryMissing = new ArrayList<>();
+
         for (String symbol : bySymbol.keySet()) {
 
-            PositionCalc calc = calculate(bySymbol.get(symbol));
+            PositionCalc calc = calculate(bySymbol.get(symbol), usdKrwRate);
             if (calc.quantity <= 0) continue;
 
             BigDecimal costUsd = calc.avgCost.multiply(bd(calc.quantity));
@@ -107,6 +119,14 @@ public class PortfolioService {
             totalMarketValueUsd = totalMarketValueUsd.add(marketValueUsd);
             totalUnrealizedUsd = totalUnrealizedUsd.add(unrealizedUsd);
             totalRealizedUsd = totalRealizedUsd.add(calc.realized);
+
+            if (calc.costKrw != null) {
+                totalCostKrw = totalCostKrw.add(calc.costKrw);
+                totalRealizedKrw = totalRealizedKrw.add(calc.realizedKrw);
+            }
+            if (calc.fxHistoryMissing) {
+                fxHistoryMissing.add(symbol);
+            }
         }
 
         BigDecimal totalPnlUsd = totalUnrealizedUsd.add(totalRealizedUsd);
@@ -120,25 +140,32 @@ public class PortfolioService {
 
         // =========================
         // ✅ KRW 환산 (Partial 정책)
-        // - 환율 실패하면: KRW 관련 필드만 null
+        // - 현재 환율 실패하면: KRW 관련 필드만 null
+        // - 원가/실현손익은 거래일 환율 기준 (trade.usdKrwRate → 히스토리 → 현재 환율 순)
+        // - 평가손익(KRW)은 환차손익 포함: 현재 평가액(KRW) - 원가(KRW)
         // - USD summary는 정상 유지
-        // - warnings에 (FX_RATE_UNAVAILABLE, null) 기록
+        // - warnings에 (FX_RATE_UNAVAILABLE, null) / (FX_HISTORY_UNAVAILABLE, symbol) 기록
         // =========================
-        BigDecimal usdKrwRate = null;
         BigDecimal totalMarketValueKrw = null;
         BigDecimal totalPnlKrw = null;
+        BigDecimal totalCostKrwOut = null;
+        BigDecimal totalRealizedKrwOut = null;
 
-        try {
-            Double rateRaw = bokExchangeRateService.getUsdKrwRate();
-            if (rateRaw == null || rateRaw <= 0) {
-                warnings.add(new WarningResponse(FX_RATE_UNAVAILABLE, null));
-            } else {
-                usdKrwRate = scale2(BigDecimal.valueOf(rateRaw));
-                totalMarketValueKrw = scale0(totalMarketValueUsd.multiply(usdKrwRate));
-                totalPnlKrw = scale0(totalPnlUsd.multiply(usdKrwRate));
-            }
-        } catch (Exception e) {
+        if (usdKrwRate == null) {
             warnings.add(new WarningResponse(FX_RATE_UNAVAILABLE, null));
+        } else {
+            totalMarketValueKrw = scale0(totalMarketValueUsd.multiply(usdKrwRate));
+            totalCostKrwOut = scale0(totalCostKrw);
+            totalRealizedKrwOut = scale0(totalRealizedKrw);
+            totalPnlKrw = scale0(
+                    totalMarketValueUsd.multiply(usdKrwRate)
+                            .subtract(totalCostKrw)
+                            .add(totalRealizedKrw)
+            );
+
+            for (String symbol : fxHistoryMissing) {
+                warnings.add(new WarningResponse(FX_HISTORY_UNAVAILABLE, symbol));
+            }
         }
 
         SummaryResponse summary = new SummaryResponse(
@@ -152,7 +179,10 @@ public class PortfolioService {
 
                 usdKrwRate,            // ✅ 실패 시 null
                 totalMarketValueKrw,   // ✅ 실패 시 null
-                totalPnlKrw            // ✅ 실패 시 null
+                totalPnlKrw,           // ✅ 실패 시 null
+
+                totalCostKrwOut,       // ✅ 거래일 환율 기준, 실패 시 null
+                totalRealizedKrwOut    // ✅ 거래일 환율 기준, 실패 시 null
         );
 
         // ✅ 정렬 NPE 방어
@@ -167,22 +197,59 @@ public class PortfolioService {
         return new PortfolioResponse(positions, summary, warnings);
     }
 
-    private PositionCalc calculate(List<Trade> trades) {
+    private BigDecimal currentUsdKrwRate() {
+        try {
+            Double rateRaw = usdKrwRateService.getCachedRate();
+            if (rateRaw == null || rateRaw <= 0) return null;
+            return scale2(BigDecimal.valueOf(rateRaw));
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * 거래일 환율: 거래 시 저장된 값 우선, 없으면 로컬 히스토리(직전 영업일), 둘 다 없으면 null
+     */
+    private BigDecimal tradeDateRate(Trade t) {
+        BigDecimal stored = t.getUsdKrwRate();
+        if (stored != null && stored.signum() > 0) return stored;
+
+        if (t.getTradedAt() == null) return null;
+        Double historical = usdKrwRateHistory.rateOn(t.getTradedAt().toLocalDate());
+        return (historical == null || historical <= 0) ? null : BigDecimal.valueOf(historical);
+    }
+
+    private PositionCalc calculate(List<Trade> trades, BigDecimal currentRate) {
 
         int quantity = 0;
         BigDecimal costAmount = BigDecimal.ZERO;
         BigDecimal realized = BigDecimal.ZERO;
 
+        // KRW: 이동평균 원가를 거래일 환율로 환산해 따로 누적
+        BigDecimal costKrw = BigDecimal.ZERO;
+        BigDecimal realizedKrw = BigDecimal.ZERO;
+        boolean fxHistoryMissing = false;
+
         for (Trade t : trades) {
 
             int q = t.getQuantity();
             BigDecimal price = t.getPriceUsd();
 
+            BigDecimal rate = tradeDateRate(t);
+            if (rate == null) {
+                fxHistoryMissing = true;
+                rate = currentRate;
+            }
+
             if (t.getSide() == TradeSide.BUY) {
 
                 quantity += q;
                 costAmount = costAmount.add(price.multiply(bd(q)));
 
+                if (rate != null) {
+                    costKrw = costKrw.add(price.multiply(bd(q)).multiply(rate));
+                }
+
             } else {
 
                 if (q > quantity) {
@@ -200,6 +267,16 @@ public class PortfolioService {
 
                 realized = realized.add(pnl);
 
+                if (rate != null) {
+                    BigDecimal avgKrw =
+                            costKrw.divide(bd(quantity), 10, RoundingMode.HALF_UP);
+
+                    realizedKrw = realizedKrw.add(
+                            price.multiply(rate).subtract(avgKrw).multiply(bd(q))
+                    );
+                    costKrw = costKrw.subtract(avgKrw.multiply(bd(q)));
+                }
+
                 quantity -= q;
                 costAmount =
                         costAmount.subtract(avg.multiply(bd(q)));
@@ -211,13 +288,26 @@ public class PortfolioService {
                         ? BigDecimal.ZERO
                         : costAmount.divide(bd(quantity), 10, RoundingMode.HALF_UP);
 
-        return new PositionCalc(quantity, avgCost, realized);
+        // 현재 환율까지 없으면 KRW 원가는 계산 불가
+        boolean krwAvailable = currentRate != null || !fxHistoryMissing;
+
+        return new PositionCalc(
+                quantity,
+                avgCost,
+                realized,
+                krwAvailable ? costKrw : null,
+                krwAvailable ? realizedKrw : null,
+                fxHistoryMissing
+        );
     }
 
     private record PositionCalc(
             int quantity,
             BigDecimal avgCost,
-            BigDecimal realized
+            BigDecimal realized,
+            BigDecimal costKrw,
+            BigDecimal realizedKrw,
+            boolean fxHistoryMissing
     ) {}
 
     private static BigDecimal bd(double v) {
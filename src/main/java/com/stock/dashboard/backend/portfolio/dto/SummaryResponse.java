@@ -13,5 +13,9 @@ public record SummaryResponse(
 
         BigDecimal usdKrwRate,
         BigDecimal totalMarketValueKrw,
-        BigDecimal totalPnlKrw
+        BigDecimal totalPnlKrw,
+
+        // 거래일 환율 기준 원가/실현손익
+        BigDecimal totalCostKrw,
+        BigDecimal totalRealizedPnlKrw
 ) {}
\ No newline at end of file
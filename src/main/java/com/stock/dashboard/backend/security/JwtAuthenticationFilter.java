@@ -48,7 +48,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             "/api/home",
             "/api/market",
             "/health",
-            "/actuator"
+            "/actuator/health"    // 나머지 actuator(homeschedule 등)는 JWT 로 ADMIN 확인 (SecurityConfig)
+    );
+
+    /**
+     * 제외 prefix 아래지만 토큰이 있으면 인증을 세팅할 경로 (비로그인도 허용, 로그인 여부로 동작만 달라짐)
+     * - export: 로그인 사용자만 업스트림으로 캐시 미스를 채움
+     */
+    private static final List<String> OPTIONAL_AUTH_PREFIXES = List.of(
+            "/api/market/export"
     );
 
     @Override
@@ -60,7 +68,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // OPTIONS preflight는 무조건 패스
         if ("OPTIONS".equalsIgnoreCase(method)) return true;
 
-        boolean skip = EXCLUDED_PREFIXES.stream().anyMatch(uri::startsWith);
+        boolean skip = EXCLUDED_PREFIXES.stream().anyMatch(uri::startsWith)
+                && OPTIONAL_AUTH_PREFIXES.stream().noneMatch(uri::startsWith);
         log.info("[JwtFilter] shouldNotFilter? {} {} -> {}", method, uri, skip);
         return skip;
     }
@@ -0,0 +1,46 @@
+package com.stock.dashboard.backend.watchlist;
+
+import com.stock.dashboard.backend.security.model.CustomUserDetails;
+import com.stock.dashboard.backend.watchlist.dto.AddWatchlistRequest;
+import com.stock.dashboard.backend.watchlist.dto.WatchlistQuotesResponse;
+import com.stock.dashboard.backend.watchlist.dto.WatchlistResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/watchlist")
+@SecurityRequirement(name = "BearerAuth")
+public class WatchlistController {
+
+    private final WatchlistService watchlistService;
+
+    @GetMapping
+    public WatchlistResponse get(@AuthenticationPrincipal CustomUserDetails principal) {
+        return watchlistService.getWatchlist(principal.getId());
+    }
+
+    @PostMapping
+    public WatchlistResponse add(
+            @AuthenticationPrincipal CustomUserDetails principal,
+            @RequestBody AddWatchlistRequest req
+    ) {
+        return watchlistService.add(principal.getUser(), req == null ? null : req.getSymbol());
+    }
+
+    @DeleteMapping("/{symbol}")
+    public WatchlistResponse remove(
+            @AuthenticationPrincipal CustomUserDetails principal,
+            @PathVariable String symbol
+    ) {
+        return watchlistService.remove(principal.getId(), symbol);
+    }
+
+    // 관심종목 시세 + 스파크라인 일괄 (종목별 폴링 대체)
+    @GetMapping("/quotes")
+    public WatchlistQuotesResponse quotes(@AuthenticationPrincipal CustomUserDetails principal) {
+        return watchlistService.getQuotes(principal.getId());
+    }
+}
@@ -0,0 +1,43 @@
+package com.stock.dashboard.backend.watchlist;
+
+import com.stock.dashboard.backend.model.User;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(
+        name = "WATCHLIST_ITEMS",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_watchlist_user_symbol", columnNames = {"USER_ID", "SYMBOL"})
+        }
+)
+@Getter
+@NoArgsConstructor
+public class WatchlistItem {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "WATCHLIST_ITEM_ID")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "USER_ID", nullable = false)
+    private User user;
+
+    @Column(name = "SYMBOL", nullable = false, length = 20)
+    private String symbol;
+
+    @Column(name = "CREATED_AT", nullable = false)
+    private LocalDateTime createdAt;
+
+    public static WatchlistItem of(User user, String symbol) {
+        WatchlistItem w = new WatchlistItem();
+        w.user = user;
+        w.symbol = symbol;
+        w.createdAt = LocalDateTime.now();
+        return w;
+    }
+}
@@ -0,0 +1,24 @@
+package com.stock.dashboard.backend.watchlist;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface WatchlistItemRepository extends JpaRepository<WatchlistItem, Long> {
+
+    // ✅ 캐시 적재용: 심볼만 (등록순)
+    @Query("SELECT w.symbol FROM WatchlistItem w WHERE w.user.id = :userId ORDER BY w.createdAt ASC")
+    List<String> findSymbolsByUserId(@Param("userId") Long userId);
+
+    // ✅ 사전 갱신(prewarm)용: 누군가의 관심종목인 심볼 전체
+    @Query("SELECT DISTINCT w.symbol FROM WatchlistItem w")
+    List<String> findDistinctSymbols();
+
+    boolean existsByUser_IdAndSymbol(Long userId, String symbol);
+
+    long countByUser_Id(Long userId);
+
+    long deleteByUser_IdAndSymbol(Long userId, String symbol);
+}
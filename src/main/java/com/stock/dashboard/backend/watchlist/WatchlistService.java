@@ -0,0 +1,202 @@
+package com.stock.dashboard.backend.watchlist;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stock.dashboard.backend.config.FetchExecutor;
+import com.stock.dashboard.backend.exception.BadRequestException;
+import com.stock.dashboard.backend.market.cache.RedisStringCache;
+import com.stock.dashboard.backend.market.service.MarketRealtimePriceService;
+import com.stock.dashboard.backend.market.twelvedata.dto.SparklinePoint;
+import com.stock.dashboard.backend.market.twelvedata.service.SparklineService;
+import com.stock.dashboard.backend.model.User;
+import com.stock.dashboard.backend.model.vo.MarketSummaryVO;
+import com.stock.dashboard.backend.watchlist.dto.WatchlistQuoteItem;
+import com.stock.dashboard.backend.watchlist.dto.WatchlistQuotesResponse;
+import com.stock.dashboard.backend.watchlist.dto.WatchlistResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WatchlistService {
+
+    private static final String CACHE_KEY_PREFIX = "watchlist:user:";
+    private static final Duration CACHE_TTL = Duration.ofDays(1);
+
+    private final WatchlistItemRepository watchlistItemRepository;
+    private final RedisStringCache redisStringCache;
+    private final ObjectMapper objectMapper;
+    private final MarketRealtimePriceService marketRealtimePriceService;
+    private final SparklineService sparklineService;
+    private final FetchExecutor fetchExecutor;
+
+    @Value("${watchlist.max-items:50}")
+    private int maxItems;
+
+    @Value("${watchlist.fill-timeout-ms:3000}")
+    private long fillTimeoutMs;
+
+    /**
+     * ✅ 핫패스: Redis 캐시 우선, miss 일 때만 DB
+     */
+    public WatchlistResponse getWatchlist(Long userId) {
+        return new WatchlistResponse(getSymbols(userId));
+    }
+
+    @Transactional
+    public WatchlistResponse add(User user, String rawSymbol) {
+        String symbol = normalize(rawSymbol);
+        Long userId = user.getId();
+
+        if (watchlistItemRepository.existsByUser_IdAndSymbol(userId, symbol)) {
+            return new WatchlistResponse(getSymbols(userId));
+        }
+        if (watchlistItemRepository.countByUser_Id(userId) >= maxItems) {
+            throw new BadRequestException("관심종목은 최대 " + maxItems + "개까지 등록할 수 있습니다.");
+        }
+
+        watchlistItemRepository.save(WatchlistItem.of(user, symbol));
+        return writeThroughAfterCommit(userId);
+    }
+
+    @Transactional
+    public WatchlistResponse remove(Long userId, String rawSymbol) {
+        String symbol = normalize(rawSymbol);
+        watchlistItemRepository.deleteByUser_IdAndSymbol(userId, symbol);
+        return writeThroughAfterCommit(userId);
+    }
+
+    /**
+     * ✅ 관심종목 시세 + 스파크라인 한 번에
+     * 1) 캐시 일괄 조회 (quote: MGET fresh/stale, sparkline: MGET)
+     * 2) 빠진 심볼만 bounded 풀에서 병렬로 upstream 채움 (전체 타임아웃)
+     * 3) 그래도 못 채운 시세는 unavailableSymbols 로 (Partial 성공)
+     */
+    public WatchlistQuotesResponse getQuotes(Long userId) {
+        List<String> symbols = getSymbols(userId);
+        if (symbols.isEmpty()) return new WatchlistQuotesResponse(List.of(), List.of());
+
+        Map<String, MarketSummaryVO> quotes = new HashMap<>(marketRealtimePriceService.getCachedQuotes(symbols));
+        Map<String, List<SparklinePoint>> sparklines = new HashMap<>(sparklineService.getCachedSparklines(symbols));
+
+        Map<String, CompletableFuture<MarketSummaryVO>> quoteFills = new HashMap<>();
+        Map<String, CompletableFuture<List<SparklinePoint>>> sparkFills = new HashMap<>();
+
+        for (String s : symbols) {
+            if (!quotes.containsKey(s)) {
+                quoteFills.put(s, fetchExecutor.supply(() -> marketRealtimePriceService.getRealtimePrice(s))
+                        .exceptionally(e -> null));
+            }
+            if (!sparklines.containsKey(s)) {
+                sparkFills.put(s, fetchExecutor.supply(() -> sparklineService.getSparklineOnly(s))
+                        .exceptionally(e -> List.of()));
+            }
+        }
+
+        if (!quoteFills.isEmpty() || !sparkFills.isEmpty()) {
+            List<CompletableFuture<?>> all = new ArrayList<>(quoteFills.values());
+            all.addAll(sparkFills.values());
+            if (!fetchExecutor.awaitUntil(all, FetchExecutor.deadlineAfter(fillTimeoutMs))) {
+                // 타임아웃: 끝난 것만 사용 (나머지는 백그라운드에서 캐시를 채움)
+                log.warn("[WATCHLIST] fill timeout userId={}, quoteMiss={}, sparkMiss={}",
+                        userId, quoteFills.size(), sparkFills.size());
+            }
+            quoteFills.forEach((s, f) -> {
+                MarketSummaryVO vo = f.getNow(null);
+                if (vo != null) quotes.put(s, vo);
+            });
+            sparkFills.forEach((s, f) -> sparklines.put(s, f.getNow(List.of())));
+        }
+
+        List<WatchlistQuoteItem> items = new ArrayList<>(symbols.size());
+        List<String> unavailable = new ArrayList<>();
+
+        for (String s : symbols) {
+            MarketSummaryVO q = quotes.get(s);
+            List<SparklinePoint> spark = sparklines.getOrDefault(s, List.of());
+
+            if (q == null || q.getPrice() <= 0) {
+                unavailable.add(s);
+                items.add(new WatchlistQuoteItem(s, null, null, null, spark));
+                continue;
+            }
+            items.add(new WatchlistQuoteItem(s, q.getPrice(), q.getChange(), q.getChangePercent(), spark));
+        }
+
+        return new WatchlistQuotesResponse(items, unavailable);
+    }
+
+    private List<String> getSymbols(Long userId) {
+        String key = CACHE_KEY_PREFIX + userId;
+
+        String json = redisStringCache.get(key);
+        if (json != null && !json.isBlank()) {
+            try {
+                return objectMapper.readValue(json, new TypeReference<List<String>>() {});
+            } catch (Exception e) {
+                // 깨진 캐시는 DB로 재적재
+            }
+        }
+
+        List<String> symbols = watchlistItemRepository.findSymbolsByUserId(userId);
+        populateCache(key, symbols);
+        return symbols;
+    }
+
+    // miss 재적재는 SET NX: 읽는 사이 커밋된 add/remove 가 먼저 쓴 목록을 옛 DB 스냅샷으로 덮지 않음
+    private void populateCache(String key, List<String> symbols) {
+        try {
+            redisStringCache.setIfAbsent(key, objectMapper.writeValueAsString(symbols), CACHE_TTL);
+        } catch (Exception e) {
+            log.warn("[WATCHLIST] cache populate failed key={} ex={}", key, e.getClass().getSimpleName());
+        }
+    }
+
+    // 변경 후 목록을 DB 기준으로 다시 읽고, 커밋된 뒤에만 캐시에 씀
+    private WatchlistResponse writeThroughAfterCommit(Long userId) {
+        List<String> symbols = watchlistItemRepository.findSymbolsByUserId(userId);
+        String key = CACHE_KEY_PREFIX + userId;
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    writeCache(key, symbols);
+                }
+            });
+        } else {
+            writeCache(key, symbols);
+        }
+        return new WatchlistResponse(symbols);
+    }
+
+    private void writeCache(String key, List<String> symbols) {
+        try {
+            redisStringCache.set(key, objectMapper.writeValueAsString(symbols), CACHE_TTL);
+        } catch (Exception e) {
+            // 캐시 저장 실패는 무시 (다음 조회에서 DB로 재적재)
+            log.warn("[WATCHLIST] cache write failed key={} ex={}", key, e.getClass().getSimpleName());
+        }
+    }
+
+    private static String normalize(String symbol) {
+        if (!StringUtils.hasText(symbol)) throw new BadRequestException("symbol 필수");
+        String s = symbol.trim().toUpperCase();
+        if (s.length() > 20) throw new BadRequestException("symbol 형식이 올바르지 않습니다.");
+        return s;
+    }
+}
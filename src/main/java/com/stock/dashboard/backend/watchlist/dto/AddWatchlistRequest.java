@@ -0,0 +1,8 @@
+package com.stock.dashboard.backend.watchlist.dto;
+
+import lombok.Data;
+
+@Data
+public class AddWatchlistRequest {
+    private String symbol;
+}
@@ -0,0 +1,13 @@
+package com.stock.dashboard.backend.watchlist.dto;
+
+import com.stock.dashboard.backend.market.twelvedata.dto.SparklinePoint;
+
+import java.util.List;
+
+public record WatchlistQuoteItem(
+        String symbol,
+        Double price,          // 시세 실패 시 null
+        Double change,
+        Double changePercent,
+        List<SparklinePoint> sparkline // 실패 시 빈 리스트
+) {}
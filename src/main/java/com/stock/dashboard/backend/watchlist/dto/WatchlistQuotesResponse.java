@@ -0,0 +1,8 @@
+package com.stock.dashboard.backend.watchlist.dto;
+
+import java.util.List;
+
+public record WatchlistQuotesResponse(
+        List<WatchlistQuoteItem> items,
+        List<String> unavailableSymbols // 시세를 못 채운 심볼 (Partial 성공)
+) {}
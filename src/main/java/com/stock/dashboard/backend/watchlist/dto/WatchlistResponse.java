@@ -0,0 +1,7 @@
+package com.stock.dashboard.backend.watchlist.dto;
+
+import java.util.List;
+
+public record WatchlistResponse(
+        List<String> symbols
+) {}
@@ -0,0 +1,80 @@
+package com.stock.dashboard.backend.alert;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PriceAlertIndexTest {
+
+    private static PriceAlertRow row(long id, AlertDirection dir, String threshold) {
+        return new PriceAlertRow(id, "AAPL", dir, new BigDecimal(threshold));
+    }
+
+    @Test
+    void pollCrossed_should_return_only_crossed_alerts_once() {
+        PriceAlertIndex index = new PriceAlertIndex();
+        index.add(row(1, AlertDirection.ABOVE, "200"));
+        index.add(row(2, AlertDirection.ABOVE, "210"));
+        index.add(row(3, AlertDirection.BELOW, "180"));
+        index.add(row(4, AlertDirection.BELOW, "150"));
+
+        // 🔹 205 → ABOVE 200 만 발동
+        List<PriceAlertRow> crossed = index.pollCrossed("AAPL", 205);
+        assertEquals(List.of(1L), crossed.stream().map(PriceAlertRow::id).toList());
+
+        // 🔹 one-shot: 같은 가격으로 다시 와도 발동 안 됨
+        assertTrue(index.pollCrossed("AAPL", 205).isEmpty());
+
+        // 🔹 threshold 와 같은 가격도 발동 (BELOW 180)
+        crossed = index.pollCrossed("AAPL", 180);
+        assertEquals(List.of(3L), crossed.stream().map(PriceAlertRow::id).toList());
+
+        assertEquals(2, index.size());
+        assertTrue(index.pollCrossed("MSFT", 1000).isEmpty());
+    }
+
+    @Test
+    void remove_should_drop_alert_from_index() {
+        PriceAlertIndex index = new PriceAlertIndex();
+        PriceAlertRow r = row(1, AlertDirection.ABOVE, "200");
+        index.add(r);
+        index.remove(r);
+
+        assertTrue(index.pollCrossed("AAPL", 250).isEmpty());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void rebuild_should_keep_alerts_added_or_removed_while_loading() {
+        PriceAlertIndex index = new PriceAlertIndex();
+        PriceAlertRow cancelled = row(2, AlertDirection.BELOW, "150");
+
+        // 🔹 DB 스냅샷을 읽는 사이에 새 알림 등록 + 기존 알림 취소
+        index.rebuild(() -> {
+            List<PriceAlertRow> snapshot = List.of(row(1, AlertDirection.ABOVE, "200"), cancelled);
+            index.add(row(3, AlertDirection.ABOVE, "210"));
+            index.remove(cancelled);
+            return snapshot;
+        });
+
+        assertEquals(2, index.size());
+        assertEquals(List.of(1L, 3L), index.pollCrossed("AAPL", 250).stream().map(PriceAlertRow::id).toList());
+        assertTrue(index.pollCrossed("AAPL", 100).isEmpty());
+
+        // 🔹 재구성이 끝난 뒤의 add 는 기록 없이 바로 반영
+        index.add(row(4, AlertDirection.BELOW, "120"));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void alert_already_past_threshold_should_fire_on_next_price() {
+        PriceAlertIndex index = new PriceAlertIndex();
+        index.add(row(1, AlertDirection.ABOVE, "100"));
+
+        // 등록 시점 가격(150)이 이미 threshold 이상 → 다음 틱에서 발동
+        assertEquals(List.of(1L), index.pollCrossed("AAPL", 150).stream().map(PriceAlertRow::id).toList());
+    }
+}
@@ -0,0 +1,107 @@
+package com.stock.dashboard.backend.cluster;
+
+import com.stock.dashboard.backend.leader.LeaderElection;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@SuppressWarnings("unchecked")
+class ClusterMembershipTest {
+
+    private static final String MEMBERS_KEY = "cluster:v1:members";
+
+    private final StringRedisTemplate redis = mock(StringRedisTemplate.class);
+    private final LeaderElection leaderElection = mock(LeaderElection.class);
+
+    private ClusterMembership membership;
+
+    @BeforeEach
+    void setUp() {
+        when(leaderElection.nodeId()).thenReturn("n1");
+
+        membership = new ClusterMembership(redis, leaderElection);
+        ReflectionTestUtils.setField(membership, "memberTtlMs", 10_000L);
+        ReflectionTestUtils.setField(membership, "vnodes", 256);
+        ReflectionTestUtils.setField(membership, "maxHeartbeatFailures", 3);
+    }
+
+    private void aliveAre(List<String> members) {
+        when(redis.execute(any(RedisScript.class), eq(List.of(MEMBERS_KEY)), eq("n1"), eq("10000"))).thenReturn(members);
+    }
+
+    @Test
+    void heartbeat_should_build_ring_from_members_returned_by_redis() {
+        aliveAre(List.of("n2", "n1", "n3"));
+
+        membership.heartbeat();
+
+        assertEquals(List.of("n1", "n2", "n3"), membership.members());
+        List<String> symbols = List.of("AAPL", "MSFT", "NVDA", "AMZN", "TSLA", "GOOGL", "META", "SPY");
+        assertTrue(membership.ownedOf(symbols).size() < symbols.size());
+        // 🔹 시각은 스크립트 안에서 Redis TIME 으로 → 로컬 시계로 만든 점수/컷오프를 넘기지 않음
+        verify(redis, never()).opsForZSet();
+    }
+
+    @Test
+    void heartbeat_should_include_self_when_redis_returns_nothing() {
+        aliveAre(List.of());
+
+        membership.heartbeat();
+
+        assertEquals(List.of("n1"), membership.members());
+        assertTrue(membership.owns("AAPL"));
+    }
+
+    @Test
+    void short_redis_failure_should_keep_previous_ring() {
+        aliveAre(List.of("n1", "n2"));
+        membership.heartbeat();
+
+        when(redis.execute(any(RedisScript.class), anyList(), any(), any()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+        membership.heartbeat();
+        membership.heartbeat();
+
+        assertEquals(List.of("n1", "n2"), membership.members());
+    }
+
+    @Test
+    void repeated_redis_failure_should_fall_back_to_single_node_ring() {
+        aliveAre(List.of("n1", "n2"));
+        membership.heartbeat();
+
+        when(redis.execute(any(RedisScript.class), anyList(), any(), any()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+        membership.heartbeat();
+        membership.heartbeat();
+        membership.heartbeat();
+
+        assertEquals(List.of("n1"), membership.members());
+        assertTrue(membership.owns("AAPL"));
+        assertTrue(membership.owns("MSFT"));
+    }
+
+    @Test
+    void success_between_failures_should_reset_failure_count() {
+        when(redis.execute(any(RedisScript.class), anyList(), any(), any()))
+                .thenReturn(List.of("n1", "n2"))
+                .thenThrow(new RedisConnectionFailureException("down"))
+                .thenThrow(new RedisConnectionFailureException("down"))
+                .thenReturn(List.of("n1", "n2"))
+                .thenThrow(new RedisConnectionFailureException("down"))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        for (int i = 0; i < 6; i++) membership.heartbeat();
+
+        assertEquals(List.of("n1", "n2"), membership.members());
+    }
+}
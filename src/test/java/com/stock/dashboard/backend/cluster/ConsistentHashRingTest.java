@@ -0,0 +1,69 @@
+package com.stock.dashboard.backend.cluster;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConsistentHashRingTest {
+
+    private static final int KEYS = 20_000;
+
+    private static String key(int i) {
+        return "SYM" + i;
+    }
+
+    @Test
+    void keys_should_spread_evenly_across_nodes() {
+        ConsistentHashRing ring = new ConsistentHashRing(List.of("a", "b", "c", "d"), 256);
+
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < KEYS; i++) counts.merge(ring.owner(key(i)), 1, Integer::sum);
+
+        assertEquals(4, counts.size());
+        for (int c : counts.values()) {
+            assertTrue(Math.abs(c - KEYS / 4) < KEYS / 4 * 0.2, "unbalanced: " + counts);
+        }
+    }
+
+    @Test
+    void join_should_move_only_keys_to_new_node() {
+        ConsistentHashRing before = new ConsistentHashRing(List.of("a", "b", "c", "d"), 256);
+        ConsistentHashRing after = new ConsistentHashRing(List.of("a", "b", "c", "d", "e"), 256);
+
+        int moved = 0;
+        for (int i = 0; i < KEYS; i++) {
+            String o1 = before.owner(key(i));
+            String o2 = after.owner(key(i));
+            if (!o1.equals(o2)) {
+                assertEquals("e", o2);
+                moved++;
+            }
+        }
+        // 이상적으로는 1/5
+        assertTrue(moved > KEYS / 5 * 0.7 && moved < KEYS / 5 * 1.3, "moved=" + moved);
+    }
+
+    @Test
+    void leave_should_move_only_keys_of_leaving_node() {
+        ConsistentHashRing before = new ConsistentHashRing(List.of("a", "b", "c", "d"), 256);
+        ConsistentHashRing after = new ConsistentHashRing(List.of("a", "b", "d"), 256);
+
+        for (int i = 0; i < KEYS; i++) {
+            String o1 = before.owner(key(i));
+            if (!o1.equals("c")) assertEquals(o1, after.owner(key(i)));
+        }
+    }
+
+    @Test
+    void ring_should_not_depend_on_member_order() {
+        ConsistentHashRing r1 = new ConsistentHashRing(List.of("a", "b", "c"), 64);
+        ConsistentHashRing r2 = new ConsistentHashRing(List.of("c", "a", "b"), 64);
+        for (int i = 0; i < 1000; i++) assertEquals(r1.owner(key(i)), r2.owner(key(i)));
+
+        assertNull(new ConsistentHashRing(List.of(), 64).owner("AAPL"));
+    }
+}
@@ -0,0 +1,78 @@
+package com.stock.dashboard.backend.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FetchExecutorTest {
+
+    private final FetchExecutor executor = new FetchExecutor(1, 1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdown();
+    }
+
+    private CompletableFuture<String> blocking() {
+        return executor.supply(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "done";
+        });
+    }
+
+    @Test
+    void saturated_pool_should_fail_future_instead_of_running_on_caller() {
+        blocking(); // 스레드 1개 점유
+        blocking(); // 큐 1칸 점유
+
+        AtomicReference<Thread> ranOn = new AtomicReference<>();
+        CompletableFuture<String> rejected = executor.supply(() -> {
+            ranOn.set(Thread.currentThread());
+            return "caller";
+        });
+
+        assertTrue(rejected.isCompletedExceptionally());
+        CompletionException e = assertThrows(CompletionException.class, rejected::join);
+        assertInstanceOf(RejectedExecutionException.class, e.getCause());
+        assertNull(ranOn.get());
+    }
+
+    @Test
+    void awaitUntil_should_stop_at_deadline() {
+        CompletableFuture<String> slow = blocking();
+
+        long started = System.nanoTime();
+        boolean allDone = executor.awaitUntil(List.of(slow), FetchExecutor.deadlineAfter(100));
+        long elapsedMs = (System.nanoTime() - started) / 1_000_000;
+
+        assertFalse(allDone);
+        assertFalse(slow.isDone());
+        assertTrue(elapsedMs < 1_000, "elapsedMs=" + elapsedMs);
+    }
+
+    @Test
+    void awaitUntil_should_count_failed_futures_as_done() {
+        CompletableFuture<String> ok = executor.supply(() -> "ok");
+        CompletableFuture<String> failed = executor.supply(() -> {
+            throw new IllegalStateException("boom");
+        });
+
+        assertTrue(executor.awaitUntil(List.of(ok, failed), FetchExecutor.deadlineAfter(2_000)));
+        assertEquals("ok", ok.getNow(null));
+        assertTrue(failed.isCompletedExceptionally());
+    }
+}
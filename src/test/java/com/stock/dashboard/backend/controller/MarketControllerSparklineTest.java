@@ -0,0 +1,69 @@
+package com.stock.dashboard.backend.controller;
+
+import com.stock.dashboard.backend.market.bok.UsdKrwRateService;
+import com.stock.dashboard.backend.market.correlation.CorrelationService;
+import com.stock.dashboard.backend.market.export.CandleArrowExportService;
+import com.stock.dashboard.backend.market.intraday.IntradayTickStore;
+import com.stock.dashboard.backend.market.movers.MoversService;
+import com.stock.dashboard.backend.market.news.NewsService;
+import com.stock.dashboard.backend.market.screener.ScreenerService;
+import com.stock.dashboard.backend.market.service.MarketCandleService;
+import com.stock.dashboard.backend.market.service.MarketRealtimePriceService;
+import com.stock.dashboard.backend.market.service.MarketSummaryFacadeService;
+import com.stock.dashboard.backend.market.sparkline.SparklineSvgService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class MarketControllerSparklineTest {
+
+    private final SparklineSvgService sparklineSvgService = mock(SparklineSvgService.class);
+    private MockMvc mvc;
+
+    @BeforeEach
+    void setUp() {
+        MarketController controller = new MarketController(
+                mock(MarketCandleService.class), mock(MarketRealtimePriceService.class), mock(UsdKrwRateService.class),
+                mock(MarketSummaryFacadeService.class), mock(CandleArrowExportService.class), mock(IntradayTickStore.class),
+                mock(CorrelationService.class), mock(ScreenerService.class), mock(MoversService.class),
+                sparklineSvgService, mock(NewsService.class));
+        mvc = MockMvcBuilders.standaloneSetup(controller).build();
+
+        when(sparklineSvgService.single("AAPL", 0))
+                .thenReturn(new SparklineSvgService.Svg("abc123", "<svg/>".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void versioned_url_should_be_immutable() throws Exception {
+        mvc.perform(get("/api/market/sparkline.svg").param("symbol", "AAPL").param("v", "abc123"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"abc123\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, public, immutable"))
+                .andExpect(content().contentType("image/svg+xml"))
+                .andExpect(content().string("<svg/>"));
+    }
+
+    @Test
+    void stale_or_missing_version_should_get_short_cache() throws Exception {
+        mvc.perform(get("/api/market/sparkline.svg").param("symbol", "AAPL").param("v", "old"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=300, public"));
+    }
+
+    @Test
+    void matching_etag_should_return_304_without_body() throws Exception {
+        mvc.perform(get("/api/market/sparkline.svg").param("symbol", "AAPL")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"abc123\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"abc123\""))
+                .andExpect(content().bytes(new byte[0]));
+    }
+}
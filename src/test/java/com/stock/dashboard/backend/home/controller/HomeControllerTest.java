@@ -0,0 +1,77 @@
+package com.stock.dashboard.backend.home.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.stock.dashboard.backend.home.service.HomeCacheStore;
+import com.stock.dashboard.backend.home.service.HomeService;
+import com.stock.dashboard.backend.home.service.RecommendationPoolService;
+import com.stock.dashboard.backend.home.vo.HomeResponseVO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.ByteArrayHttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class HomeControllerTest {
+
+    private final HomeService homeService = mock(HomeService.class);
+    private MockMvc mvc;
+
+    @BeforeEach
+    void setUp() {
+        HomeController controller = new HomeController(homeService, mock(RecommendationPoolService.class));
+        mvc = MockMvcBuilders.standaloneSetup(controller)
+                .setMessageConverters(
+                        new ByteArrayHttpMessageConverter(),
+                        new MappingJackson2HttpMessageConverter(),
+                        new MappingJackson2CborHttpMessageConverter(new ObjectMapper(new CBORFactory())))
+                .build();
+
+        byte[] json = "{\"recommendationVersion\":\"v1\"}".getBytes(StandardCharsets.UTF_8);
+        when(homeService.getRenderedHome(false)).thenReturn(new HomeCacheStore.Rendered("\"h\"", "\"h-gz\"", json, new byte[0]));
+        when(homeService.getHome()).thenReturn(HomeResponseVO.builder().recommendationVersion("v1").build());
+    }
+
+    @Test
+    void default_accept_should_serve_prerendered_json() throws Exception {
+        mvc.perform(get("/api/home"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"h\""))
+                .andExpect(content().string("{\"recommendationVersion\":\"v1\"}"));
+        verify(homeService, never()).getHome();
+    }
+
+    @Test
+    void cbor_accept_should_serialize_response_as_cbor() throws Exception {
+        byte[] body = mvc.perform(get("/api/home").header(HttpHeaders.ACCEPT, "application/cbor"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andExpect(header().string(HttpHeaders.VARY, "Accept, Accept-Encoding"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        Map<?, ?> decoded = new ObjectMapper(new CBORFactory()).readValue(body, Map.class);
+        assertEquals("v1", decoded.get("recommendationVersion"));
+        verify(homeService, never()).getRenderedHome(anyBoolean());
+    }
+
+    @Test
+    void cbor_with_zero_quality_should_fall_back_to_json() throws Exception {
+        mvc.perform(get("/api/home").header(HttpHeaders.ACCEPT, "application/cbor;q=0, application/json"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+    }
+}
@@ -0,0 +1,70 @@
+package com.stock.dashboard.backend.home.recommendation.service;
+
+import com.stock.dashboard.backend.market.dto.DailyCandleDTO;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecommendationCandidateRankerTest {
+
+    private static List<DailyCandleDTO> series(int days, double start, double dailyGrowth, double wobble, long volume) {
+        List<DailyCandleDTO> out = new ArrayList<>();
+        double close = start;
+        for (int i = 0; i < days; i++) {
+            close *= 1 + dailyGrowth + (i % 2 == 0 ? wobble : -wobble);
+            out.add(DailyCandleDTO.builder()
+                    .date("d" + i).open(close).high(close).low(close).close(close).volume(volume)
+                    .build());
+        }
+        return out;
+    }
+
+    @Test
+    void features_should_need_momentum_window() {
+        assertNull(RecommendationCandidateRanker.features("A", series(30, 10, 0.01, 0, 1000)));
+        assertNotNull(RecommendationCandidateRanker.features("A", series(31, 10, 0.01, 0, 1000)));
+    }
+
+    @Test
+    void features_should_measure_momentum_and_volatility() {
+        RecommendationCandidateRanker.Features calm = RecommendationCandidateRanker.features("A", series(60, 10, 0.01, 0, 1000));
+        RecommendationCandidateRanker.Features wild = RecommendationCandidateRanker.features("B", series(60, 10, 0.01, 0.05, 1000));
+
+        assertEquals(Math.pow(1.01, 30) - 1, calm.momentum(), 1e-9);
+        assertEquals(0, calm.volatility(), 1e-9);
+        assertTrue(wild.volatility() > 0.04);
+    }
+
+    @Test
+    void score_should_prefer_momentum_and_liquidity_over_volatility() {
+        List<RecommendationCandidateRanker.Features> fs = List.of(
+                RecommendationCandidateRanker.features("UP", series(60, 10, 0.01, 0, 1_000_000)),
+                RecommendationCandidateRanker.features("FLAT", series(60, 10, 0, 0, 1_000_000)),
+                RecommendationCandidateRanker.features("WILD", series(60, 10, 0.01, 0.05, 1_000_000)),
+                RecommendationCandidateRanker.features("THIN", series(60, 10, 0.01, 0, 1_000))
+        );
+
+        List<RecommendationCandidateRanker.Scored> top = RecommendationCandidateRanker.topK(
+                RecommendationCandidateRanker.score(fs, 1.0, 0.5, 0.5), 4,
+                Comparator.comparingDouble(RecommendationCandidateRanker.Scored::score));
+
+        assertEquals("UP", top.get(0).symbol());
+        assertEquals(4, top.size());
+    }
+
+    @Test
+    void topK_should_match_full_sort() {
+        List<Integer> xs = IntStream.range(0, 1000).map(i -> (i * 7919) % 1000).boxed().toList();
+
+        List<Integer> top = RecommendationCandidateRanker.topK(xs, 10, Comparator.naturalOrder());
+
+        assertEquals(List.of(999, 998, 997, 996, 995, 994, 993, 992, 991, 990), top);
+        assertEquals(List.of(), RecommendationCandidateRanker.topK(xs, 0, Comparator.naturalOrder()));
+        assertEquals(3, RecommendationCandidateRanker.topK(List.of(1, 2, 3), 10, Comparator.<Integer>naturalOrder()).size());
+    }
+}
@@ -0,0 +1,87 @@
+package com.stock.dashboard.backend.home.recommendation.service;
+
+import com.stock.dashboard.backend.cluster.ClusterMembership;
+import com.stock.dashboard.backend.config.FetchExecutor;
+import com.stock.dashboard.backend.exception.TwelveDataRateLimitException;
+import com.stock.dashboard.backend.home.recommendation.pool.RecommendationPageRepository;
+import com.stock.dashboard.backend.home.recommendation.pool.RecommendationPoolRepository;
+import com.stock.dashboard.backend.home.service.HomeRecommendationProperties;
+import com.stock.dashboard.backend.market.service.MarketRealtimePriceService;
+import com.stock.dashboard.backend.market.sparkline.SparklineSvgService;
+import com.stock.dashboard.backend.market.twelvedata.service.SparklineService;
+import com.stock.dashboard.backend.model.vo.MarketSummaryVO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class RecommendationPageMaterializerTest {
+
+    private static final String V = "20260101";
+
+    private final RecommendationPoolRepository poolRepository = mock(RecommendationPoolRepository.class);
+    private final RecommendationPageRepository pageRepository = mock(RecommendationPageRepository.class);
+    private final MarketRealtimePriceService priceService = mock(MarketRealtimePriceService.class);
+    private final SparklineService sparklineService = mock(SparklineService.class);
+    private final FetchExecutor fetchExecutor = new FetchExecutor(2, 10);
+
+    private RecommendationPageMaterializer materializer;
+
+    @BeforeEach
+    void setUp() {
+        materializer = new RecommendationPageMaterializer(
+                poolRepository, pageRepository, priceService, sparklineService,
+                mock(SparklineSvgService.class), fetchExecutor, mock(ClusterMembership.class),
+                new HomeRecommendationProperties());
+
+        when(poolRepository.size(V)).thenReturn(5);
+        when(poolRepository.range(V, 0, 5)).thenReturn(List.of("GONE", "LIMIT", "EMPTY", "BUSY", "FLAKY"));
+        when(pageRepository.items(V)).thenReturn(Map.of());
+        when(pageRepository.rejected(eq(V), anyInt())).thenReturn(Set.of());
+        when(pageRepository.resolvedPrefix(eq(V), anyList(), anyInt()))
+                .thenReturn(new RecommendationPageRepository.Resolved(List.of(), false));
+    }
+
+    @AfterEach
+    void tearDown() {
+        fetchExecutor.shutdown();
+    }
+
+    @Test
+    void upstream_errors_should_count_as_failures_but_rate_limit_and_unresolved_sparkline_should_not() {
+        MarketSummaryVO quote = mock(MarketSummaryVO.class);
+
+        // 🔹 상장폐지/4xx 같은 예외 → 실패 누적
+        when(priceService.getRealtimePrice("GONE")).thenThrow(new IllegalStateException("404 not found"));
+        // 🔹 rate limit → 미판정 (다음 회차 재시도)
+        when(priceService.getRealtimePrice("LIMIT")).thenReturn(quote);
+        when(sparklineService.fetchSparkline("LIMIT")).thenThrow(new TwelveDataRateLimitException("429"));
+        // 🔹 업스트림이 빈 시리즈를 줌 → 실패 누적
+        when(priceService.getRealtimePrice("EMPTY")).thenReturn(quote);
+        when(sparklineService.fetchSparkline("EMPTY"))
+                .thenReturn(new SparklineService.Fetched(SparklineService.Status.EMPTY, List.of()));
+        // 🔹 다른 인스턴스가 조회 중(락) / 조회 중 예외 → 미판정
+        when(priceService.getRealtimePrice("BUSY")).thenReturn(quote);
+        when(priceService.getRealtimePrice("FLAKY")).thenReturn(quote);
+        when(sparklineService.fetchSparkline("BUSY"))
+                .thenReturn(new SparklineService.Fetched(SparklineService.Status.DEFERRED, List.of()));
+        when(sparklineService.fetchSparkline("FLAKY"))
+                .thenReturn(new SparklineService.Fetched(SparklineService.Status.DEFERRED, List.of()));
+
+        materializer.materialize(V, false, System.nanoTime() + TimeUnit.SECONDS.toNanos(5));
+
+        verify(pageRepository).reject(V, "GONE");
+        verify(pageRepository).reject(V, "EMPTY");
+        verify(pageRepository, never()).reject(V, "LIMIT");
+        verify(pageRepository, never()).reject(V, "BUSY");
+        verify(pageRepository, never()).reject(V, "FLAKY");
+        verify(pageRepository, never()).putItem(eq(V), any());
+    }
+}
@@ -0,0 +1,70 @@
+package com.stock.dashboard.backend.home.scheduler;
+
+import com.stock.dashboard.backend.home.scheduler.HomeRefreshPlanner.Phase;
+import com.stock.dashboard.backend.home.scheduler.HomeRefreshPlanner.Task;
+import com.stock.dashboard.backend.market.calendar.UsMarketCalendar;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HomeRefreshPlannerTest {
+
+    private final HomeRefreshPlanner planner = new HomeRefreshPlanner(new UsMarketCalendar());
+
+    private static Instant ny(String localDateTime) {
+        return LocalDateTime.parse(localDateTime).atZone(UsMarketCalendar.NEW_YORK).toInstant();
+    }
+
+    @Test
+    void phase_should_follow_session_and_early_close() {
+        assertEquals(Phase.CLOSED, planner.phase(ny("2024-03-11T03:00")));
+        assertEquals(Phase.PRE_MARKET, planner.phase(ny("2024-03-11T08:00")));
+        assertEquals(Phase.OPENING, planner.phase(ny("2024-03-11T09:20")));
+        assertEquals(Phase.REGULAR, planner.phase(ny("2024-03-11T10:30")));
+        assertEquals(Phase.CLOSING, planner.phase(ny("2024-03-11T15:50")));
+        assertEquals(Phase.CLOSING, planner.phase(ny("2024-03-11T16:20")));
+        assertEquals(Phase.AFTER_HOURS, planner.phase(ny("2024-03-11T16:40")));
+        assertEquals(Phase.CLOSED, planner.phase(ny("2024-03-29T12:00"))); // Good Friday
+        assertEquals(Phase.CLOSING, planner.phase(ny("2024-11-29T12:50"))); // 13:00 조기 폐장
+    }
+
+    @Test
+    void cadence_should_be_dense_around_open_and_sparse_off_hours() {
+        assertEquals(Duration.ofSeconds(10), planner.cadence(Task.TICKERS, ny("2024-03-11T09:35")));
+        assertEquals(Duration.ofSeconds(30), planner.cadence(Task.TICKERS, ny("2024-03-11T12:00")));
+        assertEquals(Duration.ofMinutes(30), planner.cadence(Task.TICKERS, ny("2024-03-09T12:00"))); // 토요일
+        assertEquals(Duration.ofMinutes(2), planner.cadence(Task.NEWS, ny("2024-03-11T12:00")));
+    }
+
+    @Test
+    void next_should_snap_to_phase_boundary() {
+        // 프리마켓(5분 주기) 09:12 → 09:17 예정이지만 개장 구간(09:15) 시작 직후로 당김
+        Instant next = planner.next(Task.TICKERS, ny("2024-03-11T09:12"), 0.5);
+        assertFalse(next.isBefore(ny("2024-03-11T09:15")));
+        assertTrue(next.isBefore(ny("2024-03-11T09:15:02")));
+
+        // 주말은 경계 없이 30분 뒤
+        assertEquals(ny("2024-03-09T12:30"), planner.next(Task.TICKERS, ny("2024-03-09T12:00"), 0.5));
+    }
+
+    @Test
+    void jitter_should_stay_within_ratio() {
+        Instant now = ny("2024-03-11T12:00");
+        assertEquals(now.plusSeconds(27), planner.next(Task.TICKERS, now, 0.0));
+        assertEquals(now.plusSeconds(30), planner.next(Task.TICKERS, now, 0.5));
+        assertTrue(planner.next(Task.TICKERS, now, 0.999).isBefore(now.plusSeconds(33)));
+    }
+
+    @Test
+    void full_rebuild_should_track_dst_and_holidays() {
+        // 금요일 장 마감 후 → 월요일 개장 5분 전 (서머타임 시작 후라 UTC 로는 한 시간 당겨짐)
+        assertEquals(ny("2024-03-11T09:25"), planner.nextFullRebuild(ny("2024-03-08T17:00")));
+        // 목요일 장중 → 같은 날 마감 + 35분, 그 다음은 Good Friday 건너뛰고 월요일
+        assertEquals(ny("2024-03-28T16:35"), planner.nextFullRebuild(ny("2024-03-28T12:00")));
+        assertEquals(ny("2024-04-01T09:25"), planner.nextFullRebuild(ny("2024-03-28T16:40")));
+    }
+}
@@ -0,0 +1,164 @@
+package com.stock.dashboard.backend.home.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stock.dashboard.backend.home.vo.HomeSnapshot;
+import com.stock.dashboard.backend.leader.LeaderElection;
+import com.stock.dashboard.backend.market.cache.RedisStringCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@SuppressWarnings("unchecked")
+class HomeSnapshotSyncTest {
+
+    private static final String DATA_KEY = "home:snapshot:v1:data";
+    private static final String WRITE_LOCK_KEY = "home:snapshot:v1:write-lock";
+    private static final List<String> PUBLISH_KEYS =
+            List.of("home:snapshot:v1:seq", DATA_KEY, "home:snapshot:v1:fence");
+    private static final String CHANNEL = "home:snapshot:v1:changed";
+
+    private final StringRedisTemplate redis = mock(StringRedisTemplate.class);
+    private final RedisStringCache redisStringCache = mock(RedisStringCache.class);
+    private final HomeCacheStore homeCacheStore = mock(HomeCacheStore.class);
+    private final LeaderElection leaderElection = mock(LeaderElection.class);
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private HomeSnapshotSync sync;
+
+    @BeforeEach
+    void setUp() {
+        sync = new HomeSnapshotSync(redis, redisStringCache, mock(RedisMessageListenerContainer.class),
+                homeCacheStore, objectMapper, leaderElection);
+        when(leaderElection.fencingToken()).thenReturn(7L);
+        when(redisStringCache.setIfAbsent(eq(WRITE_LOCK_KEY), anyString(), any())).thenReturn(true);
+    }
+
+    private static HomeSnapshot snapshot(String id, Instant generatedAt) {
+        return HomeSnapshot.builder().snapshotId(id).generatedAt(generatedAt).build();
+    }
+
+    private void publishReturns(Long version) {
+        when(redis.execute(any(RedisScript.class), eq(PUBLISH_KEYS), eq("7"), anyString(), eq("86400"))).thenReturn(version);
+    }
+
+    private void sharedIs(long version, HomeSnapshot snap) throws Exception {
+        when(redisStringCache.get(DATA_KEY))
+                .thenReturn(objectMapper.writeValueAsString(new HomeSnapshotSync.Published(version, snap)));
+    }
+
+    @Test
+    void publish_should_pass_fencing_token_and_notify_version() {
+        publishReturns(12L);
+
+        assertEquals(12L, sync.publish(snapshot("a", Instant.now())));
+        verify(redis).convertAndSend(CHANNEL, "12");
+    }
+
+    @Test
+    void stale_fencing_token_should_not_publish_or_apply_locally() {
+        publishReturns(-1L);
+
+        long version = sync.update(current -> snapshot("late", Instant.now()));
+
+        assertEquals(-1L, version);
+        verify(redis, never()).convertAndSend(anyString(), anyString());
+        verify(homeCacheStore, never()).set(any(), anyLong());
+        verify(redisStringCache).deleteIfValueMatches(eq(WRITE_LOCK_KEY), anyString());
+    }
+
+    @Test
+    void redis_failure_should_fall_back_to_local_only() {
+        when(redis.execute(any(RedisScript.class), anyList(), any(), any(), any()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        HomeSnapshot next = snapshot("local", Instant.now());
+        assertEquals(0L, sync.update(current -> next));
+        verify(homeCacheStore).set(next, 0L);
+    }
+
+    @Test
+    void update_without_change_should_not_publish() {
+        HomeSnapshot current = snapshot("a", Instant.now());
+        when(homeCacheStore.get()).thenReturn(current);
+
+        assertEquals(-1L, sync.update(c -> c));
+        verify(redis, never()).execute(any(RedisScript.class), anyList(), any(), any(), any());
+    }
+
+    @Test
+    void loadIntoLocal_should_apply_newer_shared_snapshot() throws Exception {
+        Instant t = Instant.parse("2026-01-01T00:00:00Z");
+        when(homeCacheStore.version()).thenReturn(3L);
+        when(homeCacheStore.get()).thenReturn(snapshot("old", t));
+        sharedIs(4, snapshot("new", t.plusSeconds(60)));
+
+        assertTrue(sync.loadIntoLocal());
+        verify(homeCacheStore).set(argThat(s -> "new".equals(s.getSnapshotId())), eq(4L));
+    }
+
+    @Test
+    void loadIntoLocal_should_skip_same_version_or_older_snapshot() throws Exception {
+        Instant t = Instant.parse("2026-01-01T00:00:00Z");
+        when(homeCacheStore.get()).thenReturn(snapshot("local", t));
+
+        when(homeCacheStore.version()).thenReturn(4L);
+        sharedIs(4, snapshot("same", t.plusSeconds(60)));
+        assertFalse(sync.loadIntoLocal());
+
+        // 🔹 Redis 초기화로 seq 가 되감겨 version 은 달라도, 생성 시각이 더 오래됐으면 무시
+        sharedIs(1, snapshot("older", t.minusSeconds(60)));
+        assertFalse(sync.loadIntoLocal());
+
+        when(redisStringCache.get(DATA_KEY)).thenReturn("{broken");
+        assertFalse(sync.loadIntoLocal());
+
+        verify(homeCacheStore, never()).set(any(), anyLong());
+    }
+
+    @Test
+    void onMessage_should_ignore_own_version_and_load_others() throws Exception {
+        Instant t = Instant.parse("2026-01-01T00:00:00Z");
+        when(homeCacheStore.version()).thenReturn(5L);
+        when(homeCacheStore.get()).thenReturn(snapshot("local", t));
+
+        sync.onMessage(new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8), "5".getBytes(StandardCharsets.UTF_8)), null);
+        verify(redisStringCache, never()).get(DATA_KEY);
+
+        sharedIs(6, snapshot("remote", t.plusSeconds(1)));
+        sync.onMessage(new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8), "6".getBytes(StandardCharsets.UTF_8)), null);
+        verify(homeCacheStore).set(argThat(s -> "remote".equals(s.getSnapshotId())), eq(6L));
+    }
+
+    @Test
+    void demand_mark_should_write_at_most_once_per_interval() {
+        ReflectionTestUtils.setField(sync, "demandIdleMs", 120_000L);
+
+        sync.markRequested();
+        sync.markRequested();
+        sync.markRequested();
+
+        verify(redisStringCache, times(1)).set(eq("home:snapshot:v1:requested"), anyString(), eq(Duration.ofMinutes(2)));
+    }
+
+    @Test
+    void requested_recently_should_follow_shared_demand_key() {
+        when(redisStringCache.get("home:snapshot:v1:requested")).thenReturn(null).thenReturn("1");
+
+        assertFalse(sync.requestedRecently());
+        assertTrue(sync.requestedRecently());
+    }
+}
@@ -0,0 +1,143 @@
+package com.stock.dashboard.backend.leader;
+
+import com.stock.dashboard.backend.event.OnLeadershipAcquiredEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@SuppressWarnings("unchecked")
+class LeaderElectionTest {
+
+    private static final String LEASE_KEY = "leader:v1:lease";
+    private static final String FENCE_KEY = "leader:v1:fence";
+
+    private final StringRedisTemplate redis = mock(StringRedisTemplate.class);
+    private final ValueOperations<String, String> ops = mock(ValueOperations.class);
+    private final ApplicationEventPublisher publisher = mock(ApplicationEventPublisher.class);
+
+    private LeaderElection election;
+
+    @BeforeEach
+    void setUp() {
+        when(redis.opsForValue()).thenReturn(ops);
+
+        election = new LeaderElection(redis, publisher);
+        ReflectionTestUtils.setField(election, "leaseMs", 15_000L);
+        ReflectionTestUtils.setField(election, "renewMs", 0L); // 매 tick 연장
+    }
+
+    private void leaseIsFree(long token) {
+        when(redis.hasKey(LEASE_KEY)).thenReturn(false);
+        when(ops.increment(FENCE_KEY)).thenReturn(token);
+        when(ops.setIfAbsent(eq(LEASE_KEY), anyString(), eq(15_000L), eq(TimeUnit.MILLISECONDS))).thenReturn(true);
+    }
+
+    private void renewReturns(long result) {
+        when(redis.execute(any(RedisScript.class), eq(List.of(LEASE_KEY)), anyString(), anyString())).thenReturn(result);
+    }
+
+    @Test
+    void free_lease_should_be_acquired_with_new_fencing_token() {
+        leaseIsFree(7);
+
+        election.tick();
+
+        assertTrue(election.isLeader());
+        assertEquals(7, election.fencingToken());
+        verify(ops).setIfAbsent(LEASE_KEY, election.nodeId() + ":7", 15_000L, TimeUnit.MILLISECONDS);
+        verify(publisher).publishEvent(any(OnLeadershipAcquiredEvent.class));
+    }
+
+    @Test
+    void held_lease_should_not_be_acquired() {
+        when(redis.hasKey(LEASE_KEY)).thenReturn(true);
+
+        election.tick();
+
+        assertFalse(election.isLeader());
+        assertEquals(0, election.fencingToken());
+        verify(ops, never()).increment(anyString());
+        verify(publisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void lost_set_nx_race_should_stay_follower() {
+        leaseIsFree(3);
+        when(ops.setIfAbsent(eq(LEASE_KEY), anyString(), anyLong(), any(TimeUnit.class))).thenReturn(false);
+
+        election.tick();
+
+        assertFalse(election.isLeader());
+        verify(publisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void successful_renew_should_keep_leadership() {
+        leaseIsFree(1);
+        election.tick();
+
+        renewReturns(1L);
+        election.tick();
+
+        assertTrue(election.isLeader());
+        verify(redis).execute(any(RedisScript.class), eq(List.of(LEASE_KEY)), eq(election.nodeId() + ":1"), eq("15000"));
+    }
+
+    @Test
+    void failed_renew_should_drop_leadership_but_keep_token() {
+        leaseIsFree(5);
+        election.tick();
+
+        // 🔹 lease 가 만료돼 다른 노드가 가져감 → CAS 연장 실패
+        renewReturns(0L);
+        election.tick();
+
+        assertFalse(election.isLeader());
+        assertEquals(5, election.fencingToken());
+
+        // 🔹 다음 tick 은 다시 획득 시도 (lease 가 차 있으면 팔로워 유지)
+        when(redis.hasKey(LEASE_KEY)).thenReturn(true);
+        election.tick();
+        assertFalse(election.isLeader());
+    }
+
+    @Test
+    void leadership_should_expire_locally_before_lease_when_redis_is_unreachable() throws InterruptedException {
+        ReflectionTestUtils.setField(election, "leaseMs", 50L);
+        when(redis.hasKey(LEASE_KEY)).thenReturn(false);
+        when(ops.increment(FENCE_KEY)).thenReturn(9L);
+        when(ops.setIfAbsent(eq(LEASE_KEY), anyString(), eq(50L), eq(TimeUnit.MILLISECONDS))).thenReturn(true);
+        election.tick();
+        assertTrue(election.isLeader());
+
+        // 🔹 연장 호출이 실패해도(예외) 상태는 그대로 → lease 의 90% 가 지나면 리더 아님
+        when(redis.execute(any(RedisScript.class), anyList(), anyString(), anyString()))
+                .thenThrow(new IllegalStateException("redis down"));
+        Thread.sleep(60);
+        election.tick();
+
+        assertFalse(election.isLeader());
+    }
+
+    @Test
+    void release_should_delete_only_own_lease() {
+        leaseIsFree(2);
+        election.tick();
+
+        election.release();
+
+        assertFalse(election.isLeader());
+        verify(redis).execute(any(RedisScript.class), eq(List.of(LEASE_KEY)), eq(election.nodeId() + ":2"));
+    }
+}
@@ -0,0 +1,74 @@
+package com.stock.dashboard.backend.leader;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class LeaderOnlyAspectTest {
+
+    static class Job {
+        int leaderRuns;
+        int anyRuns;
+
+        @LeaderOnly
+        public void onLeader() {
+            leaderRuns++;
+        }
+
+        public void everywhere() {
+            anyRuns++;
+        }
+    }
+
+    private static Job proxied(Job target, LeaderElection election) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new LeaderOnlyAspect(election));
+        return factory.getProxy();
+    }
+
+    @Test
+    void follower_should_skip_leader_only_methods() {
+        LeaderElection election = mock(LeaderElection.class);
+        when(election.isLeader()).thenReturn(false);
+        when(election.nodeId()).thenReturn("node-b");
+
+        Job job = new Job();
+        Job proxy = proxied(job, election);
+        proxy.onLeader();
+        proxy.everywhere();
+
+        assertEquals(0, job.leaderRuns);
+        assertEquals(1, job.anyRuns);
+    }
+
+    @Test
+    void leader_should_run_leader_only_methods() {
+        LeaderElection election = mock(LeaderElection.class);
+        when(election.isLeader()).thenReturn(true);
+
+        Job job = new Job();
+        Job proxy = proxied(job, election);
+        proxy.onLeader();
+        proxy.onLeader();
+
+        assertEquals(2, job.leaderRuns);
+    }
+
+    @Test
+    void leadership_should_be_checked_on_every_call() {
+        LeaderElection election = mock(LeaderElection.class);
+        when(election.isLeader()).thenReturn(true, false, true);
+        when(election.nodeId()).thenReturn("node-a");
+
+        Job job = new Job();
+        Job proxy = proxied(job, election);
+        proxy.onLeader();
+        proxy.onLeader();
+        proxy.onLeader();
+
+        assertEquals(2, job.leaderRuns);
+    }
+}
@@ -0,0 +1,87 @@
+package com.stock.dashboard.backend.market.bok;
+
+import com.stock.dashboard.backend.market.cache.GorillaSeries;
+import com.stock.dashboard.backend.market.cache.RedisStringCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class UsdKrwRateHistoryTest {
+
+    private static final String CACHE_KEY = "market:fx:usdkrw:history:g1";
+
+    private final BokExchangeRateService bok = mock(BokExchangeRateService.class);
+    private final RedisStringCache redisStringCache = mock(RedisStringCache.class);
+
+    private UsdKrwRateHistory history;
+
+    @BeforeEach
+    void setUp() {
+        history = new UsdKrwRateHistory(bok, redisStringCache);
+        ReflectionTestUtils.setField(history, "historyStart", "2024-01-01");
+        ReflectionTestUtils.setField(history, "maxGapDays", 5);
+        when(redisStringCache.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+    }
+
+    private static byte[] block(LocalDate... days) {
+        GorillaSeries block = new GorillaSeries(1);
+        for (int i = 0; i < days.length; i++) block.append(days[i].toEpochDay(), 1300.0 + i);
+        return block.toBytes();
+    }
+
+    @Test
+    void rateOn_should_use_previous_business_day_within_gap() {
+        LocalDate fri = LocalDate.of(2024, 3, 1);
+        when(redisStringCache.getBytes(CACHE_KEY)).thenReturn(block(fri.minusDays(1), fri));
+        history.reload();
+
+        assertEquals(1301.0, history.rateOn(fri.plusDays(3)));
+        assertEquals(1301.0, history.rateOn(fri.plusDays(5)));
+    }
+
+    @Test
+    void rateOn_should_return_null_outside_series() {
+        LocalDate fri = LocalDate.of(2024, 3, 1);
+        when(redisStringCache.getBytes(CACHE_KEY)).thenReturn(block(fri.minusDays(1), fri));
+        history.reload();
+
+        assertNull(history.rateOn(fri.plusDays(6)));
+        assertNull(history.rateOn(fri.minusDays(2)));
+    }
+
+    @Test
+    void reload_should_pick_up_block_extended_elsewhere() {
+        LocalDate d = LocalDate.of(2024, 3, 1);
+        when(redisStringCache.getBytes(CACHE_KEY))
+                .thenReturn(block(d))
+                .thenReturn(block(d, d.plusDays(10)));
+
+        history.reload();
+        assertNull(history.rateOn(d.plusDays(10)));
+
+        history.reload();
+        assertEquals(1301.0, history.rateOn(d.plusDays(10)));
+        verifyNoInteractions(bok);
+    }
+
+    @Test
+    void extend_should_bootstrap_when_shared_block_is_missing() {
+        LocalDate d = LocalDate.of(2024, 3, 1);
+        when(redisStringCache.getBytes(CACHE_KEY)).thenReturn(null);
+        when(bok.fetchUsdKrwSeries(eq(LocalDate.of(2024, 1, 1)), any()))
+                .thenReturn(List.of(new FxRatePoint(d, 1333.0)));
+
+        history.extend();
+
+        assertEquals(1333.0, history.rateOn(d));
+        verify(redisStringCache).setBytes(eq(CACHE_KEY), any(byte[].class), any(Duration.class));
+    }
+}
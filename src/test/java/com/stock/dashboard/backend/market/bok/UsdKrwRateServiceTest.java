@@ -0,0 +1,68 @@
+package com.stock.dashboard.backend.market.bok;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stock.dashboard.backend.market.cache.RedisStringCache;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class UsdKrwRateServiceTest {
+
+    private static final String CACHE_KEY = "market:fx:usdkrw";
+
+    private final BokExchangeRateService bok = mock(BokExchangeRateService.class);
+    private final RedisStringCache redisStringCache = mock(RedisStringCache.class);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final UsdKrwRateService service = new UsdKrwRateService(bok, redisStringCache, objectMapper);
+
+    private String shared(double rate, long fetchedAtMs) throws Exception {
+        return objectMapper.writeValueAsString(new UsdKrwRateService.CachedFxRate(rate, "2026-01-02", fetchedAtMs));
+    }
+
+    @Test
+    void lock_loser_should_adopt_winner_value_without_waiting_for_next_cron() throws Exception {
+        long stale = System.currentTimeMillis() - Duration.ofHours(5).toMillis();
+        when(redisStringCache.get(CACHE_KEY))
+                .thenReturn(shared(1300.0, stale))
+                .thenReturn(shared(1350.0, System.currentTimeMillis()));
+        when(redisStringCache.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+
+        service.refresh(false);
+        assertEquals(1300.0, service.getCachedRate());
+
+        service.adoptSharedIfPending();
+
+        assertEquals(1350.0, service.getCachedRate());
+        verifyNoInteractions(bok);
+    }
+
+    @Test
+    void recheck_should_stop_after_lock_ttl_when_winner_never_writes() throws Exception {
+        long stale = System.currentTimeMillis() - Duration.ofHours(5).toMillis();
+        when(redisStringCache.get(CACHE_KEY)).thenReturn(shared(1300.0, stale));
+        when(redisStringCache.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+
+        service.refresh(false);
+        ReflectionTestUtils.setField(service, "recheckUntilMs", System.currentTimeMillis() - 1);
+        service.adoptSharedIfPending();
+        clearInvocations(redisStringCache);
+
+        service.adoptSharedIfPending();
+
+        verifyNoInteractions(redisStringCache);
+        assertEquals(1300.0, service.getCachedRate());
+    }
+
+    @Test
+    void idle_recheck_should_not_touch_redis() {
+        service.adoptSharedIfPending();
+
+        verifyNoInteractions(redisStringCache);
+    }
+}
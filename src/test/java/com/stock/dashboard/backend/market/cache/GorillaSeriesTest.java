@@ -0,0 +1,87 @@
+package com.stock.dashboard.backend.market.cache;
+
+import com.stock.dashboard.backend.market.dto.DailyCandleDTO;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GorillaSeriesTest {
+
+    @Test
+    void candles_should_round_trip_exactly() {
+        List<DailyCandleDTO> candles = randomCandles(new Random(1), 90);
+
+        byte[] bytes = CandleSeriesCodec.encodeCandles(candles).toBytes();
+        List<DailyCandleDTO> decoded = CandleSeriesCodec.decodeCandles(GorillaSeries.fromBytes(bytes));
+
+        // DailyCandleDTO는 @Data라 equals로 필드 전체 비교
+        assertEquals(candles, decoded);
+    }
+
+    @Test
+    void append_should_extend_block_without_reencoding() {
+        List<DailyCandleDTO> candles = randomCandles(new Random(2), 31);
+        List<DailyCandleDTO> head = candles.subList(0, 30);
+        DailyCandleDTO last = candles.get(30);
+
+        GorillaSeries series = GorillaSeries.fromBytes(CandleSeriesCodec.encodeCandles(head).toBytes());
+        assertTrue(CandleSeriesCodec.appendCandle(series, last));
+
+        // 같은 날짜 재-append는 무시
+        assertFalse(CandleSeriesCodec.appendCandle(series, last));
+
+        // 처음부터 한 번에 인코딩한 결과와 바이트까지 동일해야 함
+        assertArrayEquals(CandleSeriesCodec.encodeCandles(candles).toBytes(), series.toBytes());
+        assertEquals(candles, CandleSeriesCodec.decodeCandles(series));
+    }
+
+    @Test
+    void encoded_candles_should_be_much_smaller_than_json() {
+        List<DailyCandleDTO> candles = randomCandles(new Random(3), 90);
+
+        int encoded = CandleSeriesCodec.encodeCandles(candles).toBytes().length;
+        int json = candles.size() * 95; // {"date":"2025-01-02","open":187.44,...} 한 봉 ≈ 90~100 bytes
+
+        assertTrue(encoded * 2 < json, "encoded=" + encoded + " json~" + json);
+    }
+
+    @Test
+    void empty_series_should_round_trip() {
+        byte[] bytes = CandleSeriesCodec.encodeSparkline(List.of()).toBytes();
+        assertTrue(CandleSeriesCodec.decodeSparkline(GorillaSeries.fromBytes(bytes)).isEmpty());
+    }
+
+    private static List<DailyCandleDTO> randomCandles(Random rnd, int n) {
+        List<DailyCandleDTO> out = new ArrayList<>();
+        LocalDate d = LocalDate.of(2025, 1, 2);
+        double price = 187.44;
+
+        while (out.size() < n) {
+            if (d.getDayOfWeek() != DayOfWeek.SATURDAY && d.getDayOfWeek() != DayOfWeek.SUNDAY) {
+                double open = round2(price);
+                double close = round2(price * (1 + rnd.nextGaussian() * 0.02));
+                out.add(DailyCandleDTO.builder()
+                        .date(d.toString())
+                        .open(open)
+                        .high(round2(Math.max(open, close) * 1.005))
+                        .low(round2(Math.min(open, close) * 0.995))
+                        .close(close)
+                        .volume(1_000_000L + rnd.nextInt(40_000_000))
+                        .build());
+                price = close;
+            }
+            d = d.plusDays(1);
+        }
+        return out;
+    }
+
+    private static double round2(double v) {
+        return Math.round(v * 100) / 100.0;
+    }
+}
@@ -0,0 +1,61 @@
+package com.stock.dashboard.backend.market.calendar;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UsMarketCalendarTest {
+
+    private final UsMarketCalendar calendar = new UsMarketCalendar();
+
+    private static Instant ny(String localDateTime) {
+        return LocalDateTime.parse(localDateTime).atZone(UsMarketCalendar.NEW_YORK).toInstant();
+    }
+
+    @Test
+    void holidays_should_follow_nyse_rules() {
+        assertFalse(calendar.isTradingDay(LocalDate.parse("2024-03-29"))); // Good Friday
+        assertFalse(calendar.isTradingDay(LocalDate.parse("2024-06-19"))); // Juneteenth
+        assertFalse(calendar.isTradingDay(LocalDate.parse("2026-07-03"))); // 7/4 토요일 → 금요일 대체
+        assertFalse(calendar.isTradingDay(LocalDate.parse("2023-01-02"))); // 1/1 일요일 → 월요일 대체
+        assertTrue(calendar.isTradingDay(LocalDate.parse("2021-12-31")));  // 1/1 토요일은 대체휴일 없음
+        assertTrue(calendar.isTradingDay(LocalDate.parse("2024-03-28")));
+    }
+
+    @Test
+    void early_close_should_end_session_at_13() {
+        assertTrue(calendar.isEarlyClose(LocalDate.parse("2024-11-29"))); // 추수감사절 다음날
+        assertTrue(calendar.isEarlyClose(LocalDate.parse("2024-07-03")));
+        assertTrue(calendar.isEarlyClose(LocalDate.parse("2024-12-24")));
+
+        assertTrue(calendar.isOpen(ny("2024-11-29T12:59")));
+        assertFalse(calendar.isOpen(ny("2024-11-29T13:00")));
+    }
+
+    @Test
+    void quote_ttl_should_be_short_while_open_and_span_until_next_open_when_closed() {
+        Duration open = Duration.ofSeconds(10);
+
+        assertEquals(open, calendar.quoteTtl(ny("2024-03-28T10:00"), open));
+        assertEquals(Duration.ofMinutes(1), calendar.quoteTtl(ny("2024-03-28T16:05"), open)); // 종가 확정 구간
+
+        // 목요일 밤 → Good Friday + 주말 건너뛰고 월요일 09:30 까지
+        Instant thursdayNight = ny("2024-03-28T20:00");
+        assertEquals(ny("2024-04-01T09:30"), calendar.nextOpen(thursdayNight));
+        assertEquals(Duration.between(thursdayNight, ny("2024-04-01T09:30")), calendar.quoteTtl(thursdayNight, open));
+    }
+
+    @Test
+    void daily_bar_ttl_should_expire_shortly_after_next_close() {
+        assertEquals(Duration.ofHours(6).plusMinutes(30), calendar.dailyBarTtl(ny("2024-03-28T10:00")));
+        // 조기 폐장일은 13:30 에 만료
+        assertEquals(Duration.ofHours(3).plusMinutes(30), calendar.dailyBarTtl(ny("2024-11-29T10:00")));
+        // 금요일 마감 후 → 월요일 16:30
+        assertEquals(Duration.between(ny("2024-04-05T17:00"), ny("2024-04-08T16:30")), calendar.dailyBarTtl(ny("2024-04-05T17:00")));
+    }
+}
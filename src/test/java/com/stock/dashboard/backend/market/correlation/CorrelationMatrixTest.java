@@ -0,0 +1,45 @@
+package com.stock.dashboard.backend.market.correlation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CorrelationMatrixTest {
+
+    @Test
+    void pearson_should_match_known_values() {
+        double[][] r = {
+                {0.01, 0.02, -0.01, 0.03},
+                {0.02, 0.04, -0.02, 0.06},   // 첫 행의 2배 → +1
+                {-0.01, -0.02, 0.01, -0.03}, // 첫 행의 부호 반대 → -1
+                {0.0, 0.0, 0.0, 0.0}         // 분산 0 → NaN
+        };
+
+        double[][] c = CorrelationMatrix.pearson(r);
+
+        assertEquals(1.0, c[0][0], 1e-12);
+        assertEquals(1.0, c[0][1], 1e-12);
+        assertEquals(-1.0, c[0][2], 1e-12);
+        assertTrue(Double.isNaN(c[0][3]));
+        assertTrue(Double.isNaN(c[3][3]));
+    }
+
+    @Test
+    void pearson_should_be_symmetric_for_large_matrix() {
+        Random rnd = new Random(7);
+        double[][] r = new double[100][250];
+        for (double[] row : r) for (int t = 0; t < row.length; t++) row[t] = rnd.nextGaussian() * 0.02;
+
+        double[][] c = CorrelationMatrix.pearson(r);
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(1.0, c[i][i], 1e-12);
+            for (int j = 0; j < 100; j++) {
+                assertEquals(c[i][j], c[j][i], 0.0);
+                assertTrue(c[i][j] >= -1.0 && c[i][j] <= 1.0);
+            }
+        }
+    }
+}
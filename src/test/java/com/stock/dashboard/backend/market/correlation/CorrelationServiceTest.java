@@ -0,0 +1,72 @@
+package com.stock.dashboard.backend.market.correlation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stock.dashboard.backend.market.cache.RedisStringCache;
+import com.stock.dashboard.backend.market.dto.CorrelationResponse;
+import com.stock.dashboard.backend.market.dto.DailyCandleDTO;
+import com.stock.dashboard.backend.market.service.MarketCandleService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class CorrelationServiceTest {
+
+    private final MarketCandleService candleService = mock(MarketCandleService.class);
+    private final RedisStringCache cache = mock(RedisStringCache.class);
+    private CorrelationService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new CorrelationService(candleService, cache, new ObjectMapper());
+        ReflectionTestUtils.setField(service, "maxSymbols", 100);
+        ReflectionTestUtils.setField(service, "minCommonDays", 20);
+        when(candleService.maxDays()).thenReturn(90);
+    }
+
+    private static List<DailyCandleDTO> series(double step) {
+        List<DailyCandleDTO> out = new ArrayList<>();
+        double close = 100;
+        for (int i = 1; i <= 10; i++) {
+            close *= 1 + (i % 2 == 0 ? step : -step / 2);
+            out.add(DailyCandleDTO.builder().date(String.format("2026-01-%02d", i)).close(close).build());
+        }
+        return out;
+    }
+
+    @Test
+    void cache_misses_should_be_unavailable_without_upstream_calls() {
+        when(candleService.getCachedDailyCandles(anyList())).thenReturn(Map.of(
+                "AAPL", series(0.01), "MSFT", series(0.02)));
+
+        CorrelationResponse res = service.getCorrelation("MSFT,AAPL,MISS", 30);
+
+        assertEquals(List.of("AAPL", "MSFT"), res.symbols());
+        assertEquals(List.of("MISS"), res.unavailableSymbols());
+        assertEquals(9, res.days());
+        assertEquals(1.0, res.matrix()[0][1], 1e-4);
+        verify(candleService, never()).getDailyCandles(anyString(), anyInt());
+    }
+
+    @Test
+    void sparse_symbol_should_be_excluded_instead_of_emptying_matrix() {
+        // 3거래일만 있는 신규 상장 종목
+        List<DailyCandleDTO> sparse = series(0.03).subList(7, 10);
+        when(candleService.getCachedDailyCandles(anyList())).thenReturn(Map.of(
+                "AAPL", series(0.01), "MSFT", series(0.02), "NVDA", series(0.04), "NEW", sparse));
+
+        CorrelationResponse res = service.getCorrelation("AAPL,MSFT,NVDA,NEW", 30);
+
+        assertEquals(List.of("AAPL", "MSFT", "NVDA"), res.symbols());
+        assertEquals(List.of("NEW"), res.unavailableSymbols());
+        assertEquals(9, res.days());
+        assertEquals(3, res.matrix().length);
+    }
+}
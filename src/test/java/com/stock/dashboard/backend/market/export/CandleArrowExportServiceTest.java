@@ -0,0 +1,100 @@
+package com.stock.dashboard.backend.market.export;
+
+import com.stock.dashboard.backend.exception.TwelveDataRateLimitException;
+import com.stock.dashboard.backend.market.dto.DailyCandleDTO;
+import com.stock.dashboard.backend.market.service.MarketCandleService;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ipc.ArrowStreamReader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class CandleArrowExportServiceTest {
+
+    private final MarketCandleService candleService = mock(MarketCandleService.class);
+    private CandleArrowExportService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new CandleArrowExportService(candleService);
+        ReflectionTestUtils.setField(service, "chunkSize", 2);
+        ReflectionTestUtils.setField(service, "maxSymbols", 10);
+        when(candleService.maxDays()).thenReturn(365);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.close();
+    }
+
+    private static List<DailyCandleDTO> candles(String... dates) {
+        List<DailyCandleDTO> out = new ArrayList<>();
+        for (String d : dates) {
+            out.add(DailyCandleDTO.builder().date(d).open(1).high(2).low(0.5).close(1.5).volume(100).build());
+        }
+        return out;
+    }
+
+    // 스트림을 다시 읽어 심볼 컬럼만 모음
+    private static List<String> readSymbols(byte[] bytes) throws Exception {
+        List<String> out = new ArrayList<>();
+        try (RootAllocator allocator = new RootAllocator();
+             ArrowStreamReader reader = new ArrowStreamReader(new ByteArrayInputStream(bytes), allocator)) {
+            VectorSchemaRoot root = reader.getVectorSchemaRoot();
+            while (reader.loadNextBatch()) {
+                VarCharVector symbols = (VarCharVector) root.getVector("symbol");
+                for (int i = 0; i < root.getRowCount(); i++) out.add(symbols.getObject(i).toString());
+            }
+        }
+        return out;
+    }
+
+    @Test
+    void anonymous_export_should_read_cache_only() throws Exception {
+        when(candleService.getCachedDailyCandles("AAPL")).thenReturn(candles("2026-01-02", "2026-01-05"));
+        when(candleService.getCachedDailyCandles("MSFT")).thenReturn(List.of());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.writeArrowStream(List.of("AAPL", "MSFT"), null, null, false, out);
+
+        assertEquals(List.of("AAPL", "AAPL"), readSymbols(out.toByteArray()));
+        verify(candleService, never()).getDailyCandles(anyString(), anyInt());
+    }
+
+    @Test
+    void failing_symbol_should_be_skipped_without_truncating_stream() throws Exception {
+        when(candleService.getDailyCandles("AAPL", 365)).thenReturn(candles("2026-01-02"));
+        when(candleService.getDailyCandles("GONE", 365)).thenThrow(new IllegalStateException("404"));
+        when(candleService.getDailyCandles("MSFT", 365)).thenReturn(candles("2026-01-02"));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.writeArrowStream(List.of("AAPL", "GONE", "MSFT"), null, null, true, out);
+
+        assertEquals(List.of("AAPL", "MSFT"), readSymbols(out.toByteArray()));
+    }
+
+    @Test
+    void rate_limit_should_switch_remaining_symbols_to_cache() throws Exception {
+        when(candleService.getDailyCandles("AAPL", 365)).thenThrow(new TwelveDataRateLimitException("429"));
+        when(candleService.getCachedDailyCandles("AAPL")).thenReturn(candles("2026-01-02"));
+        when(candleService.getCachedDailyCandles("MSFT")).thenReturn(candles("2026-01-02"));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.writeArrowStream(List.of("AAPL", "MSFT"), null, null, true, out);
+
+        assertEquals(List.of("AAPL", "MSFT"), readSymbols(out.toByteArray()));
+        verify(candleService, never()).getDailyCandles(eq("MSFT"), anyInt());
+    }
+}
@@ -0,0 +1,65 @@
+package com.stock.dashboard.backend.market.intraday;
+
+import com.stock.dashboard.backend.market.dto.IntradayBarDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntradayTickStoreTest {
+
+    private static final long MIN = 60_000L;
+
+    @Test
+    void aggregate_should_build_ohlc_bars_per_bucket() {
+        long t0 = 1_700_000_000_000L - Math.floorMod(1_700_000_000_000L, MIN);
+        long[] ts = {t0 + 1_000, t0 + 20_000, t0 + 40_000, t0 + MIN + 5_000, t0 + 3 * MIN};
+        double[] px = {10, 12, 9, 11, 13};
+
+        List<IntradayBarDTO> bars = IntradayTickStore.aggregate(ts, px, MIN);
+
+        assertEquals(List.of(
+                new IntradayBarDTO(t0, 10, 12, 9, 9, 3),
+                new IntradayBarDTO(t0 + MIN, 11, 11, 11, 11, 1),
+                new IntradayBarDTO(t0 + 3 * MIN, 13, 13, 13, 13, 1)   // 틱 없는 봉은 만들지 않음
+        ), bars);
+        assertTrue(IntradayTickStore.aggregate(new long[0], new double[0], MIN).isEmpty());
+    }
+
+    @Test
+    void getBars_should_aggregate_recent_ticks() {
+        IntradayTickStore store = store(2);
+        long now = System.currentTimeMillis();
+        store.record("AAPL", now - 2 * MIN, 100);
+        store.record("AAPL", now - 2 * MIN + 1, 101);
+        store.record("AAPL", now, 0);          // 가격 0 은 무시
+
+        List<IntradayBarDTO> bars = store.getBars("AAPL", 5);
+
+        assertEquals(2, bars.stream().mapToInt(IntradayBarDTO::ticks).sum());
+        assertTrue(store.getBars("MSFT", 1).isEmpty());
+    }
+
+    @Test
+    void new_symbol_over_limit_should_evict_idlest() {
+        IntradayTickStore store = store(2);
+        long now = System.currentTimeMillis();
+        store.record("OLD", now - 10 * MIN, 1);
+        store.record("NEW", now - MIN, 1);
+        store.record("NEXT", now, 1);
+
+        assertTrue(store.getBars("OLD", 1).isEmpty());
+        assertFalse(store.getBars("NEW", 1).isEmpty());
+        assertFalse(store.getBars("NEXT", 1).isEmpty());
+    }
+
+    private static IntradayTickStore store(int maxSymbols) {
+        IntradayTickStore store = new IntradayTickStore();
+        ReflectionTestUtils.setField(store, "capacity", 16);
+        ReflectionTestUtils.setField(store, "maxSymbols", maxSymbols);
+        ReflectionTestUtils.setField(store, "windowHours", 24);
+        return store;
+    }
+}
@@ -0,0 +1,42 @@
+package com.stock.dashboard.backend.market.intraday;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TickRingTest {
+
+    @Test
+    void snapshot_should_return_ticks_in_time_order_after_wraparound() {
+        TickRing ring = new TickRing(4);
+        for (int i = 1; i <= 6; i++) ring.add(i * 1000L, i);
+
+        TickRing.Snapshot snap = ring.snapshotSince(0);
+
+        // 🔹 용량 4 → 가장 오래된 1, 2 는 덮어써짐
+        assertArrayEquals(new long[]{3000, 4000, 5000, 6000}, snap.timestamps());
+        assertArrayEquals(new double[]{3, 4, 5, 6}, snap.prices());
+        assertEquals(6000, ring.lastUpdatedMs());
+    }
+
+    @Test
+    void duplicate_or_older_ticks_should_be_ignored() {
+        TickRing ring = new TickRing(4);
+        ring.add(2000, 10);
+        ring.add(2000, 11);
+        ring.add(1000, 12);
+        ring.add(3000, 13);
+
+        assertArrayEquals(new double[]{10, 13}, ring.snapshotSince(0).prices());
+    }
+
+    @Test
+    void snapshotSince_should_skip_older_ticks() {
+        TickRing ring = new TickRing(8);
+        for (int i = 1; i <= 5; i++) ring.add(i * 1000L, i);
+
+        assertArrayEquals(new long[]{3000, 4000, 5000}, ring.snapshotSince(3000).timestamps());
+        assertEquals(0, ring.snapshotSince(6000).size());
+        assertEquals(0, new TickRing(4).snapshotSince(0).size());
+    }
+}
@@ -0,0 +1,107 @@
+package com.stock.dashboard.backend.market.movers;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedTopKTest {
+
+    // k=2 → capacity 4, A..F = 10..5 → E, F 는 추적 밖
+    private static Map<String, Double> seed(BoundedTopK topK) {
+        Map<String, Double> state = new LinkedHashMap<>();
+        String[] symbols = {"A", "B", "C", "D", "E", "F"};
+        for (int i = 0; i < symbols.length; i++) {
+            state.put(symbols[i], 10.0 - i);
+            topK.update(symbols[i], 10.0 - i);
+        }
+        return state;
+    }
+
+    private static void set(BoundedTopK topK, Map<String, Double> state, String symbol, double value) {
+        state.put(symbol, value);
+        topK.update(symbol, value);
+    }
+
+    // MoversService.rebuildIfShrunk 와 같은 방식
+    private static void rebuild(BoundedTopK topK, Map<String, Double> state) {
+        topK.clear();
+        state.forEach(topK::update);
+    }
+
+    @Test
+    void top_should_follow_direction() {
+        BoundedTopK desc = new BoundedTopK(2, true);
+        BoundedTopK asc = new BoundedTopK(2, false);
+        seed(desc);
+        seed(asc);
+
+        assertEquals(List.of("A", "B"), desc.top());
+        assertEquals(List.of("F", "E"), asc.top());
+    }
+
+    @Test
+    void falling_member_should_be_evicted_not_kept_above_outsiders() {
+        BoundedTopK topK = new BoundedTopK(2, true);
+        Map<String, Double> state = seed(topK);
+
+        set(topK, state, "A", 1);
+        set(topK, state, "B", 2);
+
+        // 🔹 C(8), D(7) 가 바깥 E(6) 보다 강함 → 아직 정확, rebuild 불필요
+        assertEquals(List.of("C", "D"), topK.top());
+        assertFalse(topK.needsRebuild());
+
+        set(topK, state, "C", 3);
+        set(topK, state, "D", 4);
+
+        // 🔹 K 아래로 줄었음 → rebuild 후 바깥에 있던 E, F 가 올라옴
+        assertTrue(topK.needsRebuild());
+        rebuild(topK, state);
+        assertFalse(topK.needsRebuild());
+        assertEquals(List.of("E", "F"), topK.top());
+    }
+
+    @Test
+    void rising_outsider_should_enter() {
+        BoundedTopK topK = new BoundedTopK(2, true);
+        seed(topK);
+
+        topK.update("F", 100);
+
+        assertEquals(List.of("F", "A"), topK.top());
+        assertFalse(topK.needsRebuild());
+    }
+
+    @Test
+    void member_drop_should_be_kept_when_nothing_is_outside() {
+        BoundedTopK topK = new BoundedTopK(2, true);
+        topK.update("A", 10);
+        topK.update("B", 9);
+        topK.update("C", 8);
+        topK.update("D", 7);
+
+        // 🔹 capacity 안에 전부 있음 → 밖에 더 나은 후보가 없으니 퇴출하지 않음
+        topK.update("A", 1);
+        topK.update("B", 2);
+        topK.update("C", 3);
+
+        assertEquals(List.of("D", "C"), topK.top());
+        assertFalse(topK.needsRebuild());
+    }
+
+    @Test
+    void nan_should_remove_symbol() {
+        BoundedTopK topK = new BoundedTopK(2, true);
+        topK.update("A", 10);
+        topK.update("B", 9);
+        topK.update("C", 8);
+
+        topK.update("A", Double.NaN);
+
+        assertEquals(List.of("B", "C"), topK.top());
+    }
+}
@@ -0,0 +1,97 @@
+package com.stock.dashboard.backend.market.movers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stock.dashboard.backend.event.OnQuoteUpdatedEvent;
+import com.stock.dashboard.backend.market.dto.HeatmapResponse;
+import com.stock.dashboard.backend.market.dto.MoversResponse;
+import com.stock.dashboard.backend.market.screener.ScreenerService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class MoversServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ScreenerService screenerService = mock(ScreenerService.class);
+
+    private MoversService service;
+
+    @BeforeEach
+    void setUp() {
+        MarketHeatmapProperties properties = new MarketHeatmapProperties();
+        properties.setMoversSize(2);
+        Map<String, List<String>> groups = new LinkedHashMap<>();
+        groups.put("G", List.of("A", "B"));
+        properties.setGroups(groups);
+
+        // 스크리너 스냅샷: A..F 등락률 10..5, 거래량 1000..6000
+        when(screenerService.snapshotBuiltAtMs()).thenReturn(1L);
+        doAnswer(inv -> {
+            ScreenerService.RowVisitor v = inv.getArgument(0);
+            String[] symbols = {"A", "B", "C", "D", "E", "F"};
+            for (int i = 0; i < symbols.length; i++) v.visit(symbols[i], 100, 10 - i, 1000 * (i + 1));
+            return null;
+        }).when(screenerService).forEachRow(any());
+
+        service = new MoversService(screenerService, properties, objectMapper);
+        service.init();
+    }
+
+    private MoversResponse movers() throws Exception {
+        return objectMapper.readValue(service.getMoversJson(), MoversResponse.class);
+    }
+
+    private static List<String> symbols(List<MoversResponse.Item> items) {
+        return items.stream().map(MoversResponse.Item::symbol).toList();
+    }
+
+    private void quote(String symbol, double changePct) {
+        service.onQuoteUpdated(new OnQuoteUpdatedEvent(this, symbol, 100, changePct));
+    }
+
+    @Test
+    void seed_should_rank_from_screener_snapshot() throws Exception {
+        MoversResponse res = movers();
+
+        assertEquals(List.of("A", "B"), symbols(res.gainers()));
+        assertEquals(List.of("F", "E"), symbols(res.losers()));
+        assertEquals(List.of("F", "E"), symbols(res.mostActive()));
+    }
+
+    @Test
+    void falling_gainers_should_be_replaced_by_outsiders() throws Exception {
+        quote("A", -1);
+        quote("B", -2);
+        quote("C", -3);
+        quote("D", -4);
+        service.publish();
+
+        MoversResponse res = movers();
+        assertEquals(List.of("E", "F"), symbols(res.gainers()));
+        assertEquals(List.of("D", "C"), symbols(res.losers()));
+        // 🔹 이벤트엔 거래량이 없음 → 스냅샷 거래량 유지
+        assertEquals(List.of("F", "E"), symbols(res.mostActive()));
+    }
+
+    @Test
+    void heatmap_should_replace_group_contribution() throws Exception {
+        quote("A", -4);
+        service.publish();
+
+        HeatmapResponse res = objectMapper.readValue(service.getHeatmapJson(), HeatmapResponse.class);
+        assertEquals(1, res.groups().size());
+
+        HeatmapResponse.Group g = res.groups().get(0);
+        assertEquals(2, g.count());
+        assertEquals(2.5, g.avgChangePct(), 1e-9); // (-4 + 9) / 2
+        assertEquals(1, g.up());
+        assertEquals(1, g.down());
+    }
+}
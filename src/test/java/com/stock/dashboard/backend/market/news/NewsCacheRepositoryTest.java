@@ -0,0 +1,82 @@
+package com.stock.dashboard.backend.market.news;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class NewsCacheRepositoryTest {
+
+    private static final String Z = "market:news:v1:general:z";
+    private static final String H = "market:news:v1:general:h";
+
+    private final StringRedisTemplate redis = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ZSetOperations<String, String> zset = mock(ZSetOperations.class);
+    @SuppressWarnings("unchecked")
+    private final HashOperations<String, Object, Object> hash = mock(HashOperations.class);
+
+    private final NewsCacheRepository repository = new NewsCacheRepository(redis);
+
+    @BeforeEach
+    void setUp() {
+        when(redis.opsForZSet()).thenReturn(zset);
+        when(redis.opsForHash()).thenReturn(hash);
+        when(hash.multiGet(eq(H), anyCollection()))
+                .thenAnswer(inv -> ((Collection<?>) inv.getArgument(1)).stream().map(m -> (Object) ("{}" + m)).toList());
+    }
+
+    private static Set<ZSetOperations.TypedTuple<String>> tuples(Object... memberScore) {
+        Set<ZSetOperations.TypedTuple<String>> out = new LinkedHashSet<>();
+        for (int i = 0; i < memberScore.length; i += 2) {
+            out.add(new DefaultTypedTuple<>((String) memberScore[i], ((Number) memberScore[i + 1]).doubleValue()));
+        }
+        return out;
+    }
+
+    @Test
+    void page_should_continue_after_live_cursor_by_rank() {
+        when(zset.reverseRank(Z, "m5")).thenReturn(4L);
+        when(zset.reverseRangeWithScores(Z, 5, 6)).thenReturn(tuples("m4", 100, "m3", 99));
+
+        List<NewsCacheRepository.Row> rows = repository.page("general", "m5", 100, 2);
+
+        assertEquals(List.of("m4", "m3"), rows.stream().map(NewsCacheRepository.Row::member).toList());
+        assertEquals("{}m4", rows.get(0).json());
+    }
+
+    @Test
+    void page_should_keep_same_second_articles_after_evicted_cursor() {
+        // 🔹 cursor(m5@100) 가 보관 정책으로 지워짐 → 같은 초의 m4, m2 를 건너뛰면 안 됨
+        when(zset.reverseRank(Z, "m5")).thenReturn(null);
+        when(zset.reverseRangeByScoreWithScores(Z, 100.0, 100.0)).thenReturn(tuples("m9", 100, "m4", 100, "m2", 100));
+        when(zset.reverseRangeByScoreWithScores(Z, Double.NEGATIVE_INFINITY, 99.5, 0L, 1L)).thenReturn(tuples("x", 99));
+
+        List<NewsCacheRepository.Row> rows = repository.page("general", "m5", 100, 3);
+
+        assertEquals(List.of("m4", "m2", "x"), rows.stream().map(NewsCacheRepository.Row::member).toList());
+        assertEquals(List.of(100L, 100L, 99L), rows.stream().map(NewsCacheRepository.Row::epochSec).toList());
+    }
+
+    @Test
+    void page_should_not_query_older_when_same_second_fills_limit() {
+        when(zset.reverseRank(Z, "m5")).thenReturn(null);
+        when(zset.reverseRangeByScoreWithScores(Z, 100.0, 100.0)).thenReturn(tuples("m4", 100, "m3", 100, "m2", 100));
+
+        List<NewsCacheRepository.Row> rows = repository.page("general", "m5", 100, 2);
+
+        assertEquals(List.of("m4", "m3"), rows.stream().map(NewsCacheRepository.Row::member).toList());
+        verify(zset, never()).reverseRangeByScoreWithScores(eq(Z), anyDouble(), eq(99.5), anyLong(), anyLong());
+    }
+}
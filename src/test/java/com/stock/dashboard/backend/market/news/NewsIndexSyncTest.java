@@ -0,0 +1,61 @@
+package com.stock.dashboard.backend.market.news;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stock.dashboard.backend.config.FetchExecutor;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class NewsIndexSyncTest {
+
+    private final StringRedisTemplate redis = mock(StringRedisTemplate.class);
+    private final NewsCacheRepository repository = mock(NewsCacheRepository.class);
+    private final FetchExecutor fetchExecutor = mock(FetchExecutor.class);
+    private final NewsSearchIndex index = new NewsSearchIndex();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final NewsIndexSync sync = new NewsIndexSync(
+            redis, mock(RedisMessageListenerContainer.class), repository, index, fetchExecutor, objectMapper);
+
+    @Test
+    void ingested_refs_should_be_indexed_from_shared_bodies() {
+        when(repository.bodies("sym:AAPL", List.of("k1", "k2")))
+                .thenReturn(Arrays.asList("{\"headline\":\"Apple earnings beat\"}", null));
+
+        int indexed = sync.index(new NewsIndexSync.Ingested("other", "sym:AAPL",
+                List.of(new NewsIndexSync.Ref("k1", 100), new NewsIndexSync.Ref("k2", 101))));
+
+        assertEquals(1, indexed);
+        assertEquals(1, index.search("earnings", "AAPL", 10).total());
+    }
+
+    @Test
+    void own_announcement_should_be_ignored() throws Exception {
+        String origin = (String) ReflectionTestUtils.getField(sync, "origin");
+        String body = objectMapper.writeValueAsString(new NewsIndexSync.Ingested(origin, "general",
+                List.of(new NewsIndexSync.Ref("k1", 100))));
+
+        sync.onMessage(new DefaultMessage("market:news:v1:ingested".getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8)), null);
+
+        verifyNoInteractions(fetchExecutor);
+    }
+
+    @Test
+    void announce_should_publish_refs_without_bodies() {
+        sync.announce("general", List.of(new NewsCacheRepository.Row("k1", 100, "{\"headline\":\"x\"}")));
+
+        verify(redis).convertAndSend(eq("market:news:v1:ingested"), argThat((String s) ->
+                s.contains("\"member\":\"k1\"") && s.contains("\"scope\":\"general\"") && !s.contains("headline")));
+    }
+}
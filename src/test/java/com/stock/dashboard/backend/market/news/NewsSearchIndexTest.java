@@ -0,0 +1,58 @@
+package com.stock.dashboard.backend.market.news;
+
+import com.stock.dashboard.backend.home.vo.NewsItemVO;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NewsSearchIndexTest {
+
+    private static NewsItemVO item(String headline, String summary) {
+        return NewsItemVO.builder().headline(headline).summary(summary).build();
+    }
+
+    @Test
+    void search_should_require_all_terms_and_rank_by_recency() {
+        NewsSearchIndex index = new NewsSearchIndex();
+        index.add("a", 100, item("Apple raises earnings guidance", "iPhone demand"), "AAPL");
+        index.add("b", 300, item("Nvidia beats on earnings", "Data center guidance strong"), "NVDA");
+        index.add("c", 200, item("FOMC holds rates", "Powell signals patience"), null);
+        index.add("d", 400, item("Earnings season preview", null), null);
+
+        NewsSearchIndex.Result r = index.search("earnings guidance", null, 10);
+
+        assertEquals(2, r.total());
+        assertEquals(List.of("b", "a"), r.hits().stream().map(NewsSearchIndex.Hit::key).toList());
+        assertEquals(1, index.search("FOMC", null, 10).total());   // 대소문자 무시
+        assertEquals(0, index.search("earnings fomc", null, 10).total());
+        assertEquals(0, index.search("the", null, 10).total());    // 불용어만
+    }
+
+    @Test
+    void search_should_filter_by_symbol_and_merge_duplicates() {
+        NewsSearchIndex index = new NewsSearchIndex();
+        assertTrue(index.add("a", 100, item("Apple earnings", null), null));
+        assertFalse(index.add("a", 100, item("Apple earnings", null), "AAPL")); // 같은 기사 → 심볼만 추가
+
+        assertEquals(1, index.size());
+        assertEquals(1, index.search("earnings", "AAPL", 10).total());
+        assertEquals(0, index.search("earnings", "MSFT", 10).total());
+    }
+
+    @Test
+    void prune_should_drop_expired_and_overflow_docs() {
+        NewsSearchIndex index = new NewsSearchIndex();
+        for (int i = 0; i < 10; i++) {
+            index.add("k" + i, 100 + i, item("market update " + i, null), null);
+        }
+
+        int removed = index.prune(103, 5); // 100~102 만료, 나머지 7개 중 오래된 2개 초과
+
+        assertEquals(5, removed);
+        assertEquals(5, index.size());
+        NewsSearchIndex.Result r = index.search("market update", null, 10);
+        assertEquals(List.of("k9", "k8", "k7", "k6", "k5"), r.hits().stream().map(NewsSearchIndex.Hit::key).toList());
+    }
+}
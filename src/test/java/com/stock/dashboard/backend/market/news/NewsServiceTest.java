@@ -0,0 +1,96 @@
+package com.stock.dashboard.backend.market.news;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stock.dashboard.backend.config.FetchExecutor;
+import com.stock.dashboard.backend.market.client.FinnhubClient;
+import com.stock.dashboard.backend.market.dto.FinnhubNewsItemDTO;
+import com.stock.dashboard.backend.market.dto.NewsPageResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class NewsServiceTest {
+
+    private static final String SCOPE = "sym:AAPL";
+
+    private final FinnhubClient finnhubClient = mock(FinnhubClient.class);
+    private final NewsCacheRepository repository = mock(NewsCacheRepository.class);
+    private final NewsIndexSync newsIndexSync = mock(NewsIndexSync.class);
+    private final FetchExecutor fetchExecutor = new FetchExecutor(2, 10);
+
+    private NewsService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new NewsService(finnhubClient, repository, new NewsSearchIndex(), newsIndexSync, fetchExecutor, new ObjectMapper());
+        ReflectionTestUtils.setField(service, "companyRefreshSeconds", 600L);
+        ReflectionTestUtils.setField(service, "coldRetrySeconds", 15L);
+        ReflectionTestUtils.setField(service, "backfillDays", 7);
+        ReflectionTestUtils.setField(service, "maxItems", 300);
+        ReflectionTestUtils.setField(service, "retentionDays", 30);
+        ReflectionTestUtils.setField(service, "defaultPageSize", 20);
+
+        when(repository.tryStartFetch(eq(SCOPE), any())).thenReturn(true);
+        when(repository.newestEpochSec(SCOPE)).thenReturn(-1L);
+        when(repository.page(eq(SCOPE), any(), anyLong(), anyInt())).thenReturn(List.of());
+    }
+
+    @AfterEach
+    void tearDown() {
+        fetchExecutor.shutdown();
+    }
+
+    private static FinnhubNewsItemDTO article(long id, long epochSec) {
+        FinnhubNewsItemDTO n = new FinnhubNewsItemDTO();
+        n.setId(id);
+        n.setDatetime(epochSec);
+        n.setHeadline("Apple headline " + id);
+        n.setUrl("https://example.com/" + id);
+        return n;
+    }
+
+    @Test
+    void failed_cold_fetch_should_shorten_throttle() {
+        when(finnhubClient.getCompanyNews(eq("AAPL"), any(LocalDate.class), any(LocalDate.class)))
+                .thenThrow(new IllegalStateException("429"));
+
+        service.getNews("AAPL", null, 10);
+
+        verify(repository).retryFetchAfter(SCOPE, Duration.ofSeconds(15));
+    }
+
+    @Test
+    void successful_cold_fetch_should_keep_full_throttle() {
+        when(finnhubClient.getCompanyNews(eq("AAPL"), any(LocalDate.class), any(LocalDate.class)))
+                .thenReturn(List.of(article(1, 1_700_000_000L)));
+        when(repository.addAll(eq(SCOPE), anyList(), anyInt(), any())).thenReturn(1L);
+
+        service.getNews("AAPL", null, 10);
+
+        verify(repository).addAll(eq(SCOPE), argThat(rows -> rows.size() == 1), eq(300), eq(Duration.ofDays(30)));
+        verify(repository, never()).retryFetchAfter(any(), any());
+        verify(newsIndexSync).announce(eq(SCOPE), argThat(rows -> rows.size() == 1));
+    }
+
+    @Test
+    void cursor_page_should_skip_refresh_and_chain_next_cursor() {
+        when(repository.page(SCOPE, "m5", 100L, 2)).thenReturn(List.of(
+                new NewsCacheRepository.Row("m4", 100, "{\"headline\":\"a\"}"),
+                new NewsCacheRepository.Row("m3", 99, "{\"headline\":\"b\"}")));
+
+        NewsPageResponse res = service.getNews("aapl", "100:m5", 2);
+
+        assertEquals(2, res.items().size());
+        assertEquals("99:m3", res.nextCursor());
+        verify(repository, never()).tryStartFetch(any(), any());
+    }
+}
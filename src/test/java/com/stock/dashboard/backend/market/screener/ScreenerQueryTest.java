@@ -0,0 +1,74 @@
+package com.stock.dashboard.backend.market.screener;
+
+import com.stock.dashboard.backend.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScreenerQueryTest {
+
+    // 비교용: 전체 정렬 후 앞에서 k 개의 key
+    private static double[] sortedKeys(double[] key, int k, boolean desc) {
+        Comparator<Integer> order = Comparator.comparingDouble(i -> key[i]);
+        return IntStream.range(0, key.length).boxed()
+                .sorted(desc ? order.reversed() : order)
+                .limit(k)
+                .mapToDouble(i -> key[i])
+                .toArray();
+    }
+
+    private static double[] keysOf(int[] rows, double[] key) {
+        return Arrays.stream(rows).mapToDouble(i -> key[i]).toArray();
+    }
+
+    @Test
+    void topK_should_match_full_sort_in_both_directions() {
+        Random rnd = new Random(42);
+        double[] key = new double[2_000];
+        for (int i = 0; i < key.length; i++) key[i] = Math.floor(rnd.nextDouble() * 500); // 중복 값 포함
+        int[] rows = IntStream.range(0, key.length).toArray();
+
+        for (int k : new int[]{1, 7, 50, 2_000}) {
+            assertArrayEquals(sortedKeys(key, k, true), keysOf(ScreenerQuery.topK(rows.clone(), rows.length, key, k, true), key));
+            assertArrayEquals(sortedKeys(key, k, false), keysOf(ScreenerQuery.topK(rows.clone(), rows.length, key, k, false), key));
+        }
+    }
+
+    @Test
+    void topK_should_only_consider_first_m_rows() {
+        double[] key = {5, 1, 9, 3, 100};
+        int[] rows = {0, 1, 2, 3, 4};
+
+        assertArrayEquals(new int[]{2, 0}, ScreenerQuery.topK(rows, 4, key, 2, true));
+        assertArrayEquals(new int[0], ScreenerQuery.topK(rows, 4, key, 0, true));
+        assertArrayEquals(new int[0], ScreenerQuery.topK(rows, 0, key, 0, true));
+    }
+
+    @Test
+    void evaluate_should_filter_then_sort_and_skip_nan_keys() {
+        double[][] cols = new double[ScreenerField.values().length][];
+        cols[ScreenerField.PRICE.ordinal()] = new double[]{50, 5, 120, 30, 80};
+        cols[ScreenerField.CHANGE_PCT.ordinal()] = new double[]{-3, -5, 1, -2.5, -4};
+        cols[ScreenerField.VOLUME.ordinal()] = new double[]{1_000, 9_000, 5_000, Double.NaN, 3_000};
+        cols[ScreenerField.MOMENTUM_30D.ordinal()] = new double[]{0, 0, 0, 0, 0};
+        ScreenerSnapshot snap = new ScreenerSnapshot(new String[]{"A", "B", "C", "D", "E"}, cols, 0L);
+
+        ScreenerQuery.Result r = ScreenerQuery.parse("price>10, changePct<=-2", "-volume", 10).evaluate(snap);
+
+        // 🔹 B 는 가격, C 는 등락률 조건에서 빠지고, D 는 정렬 키가 NaN
+        assertEquals(2, r.matched());
+        assertArrayEquals(new int[]{4, 0}, r.rows());
+    }
+
+    @Test
+    void parse_should_reject_unknown_fields_and_bad_syntax() {
+        assertThrows(BadRequestException.class, () -> ScreenerQuery.parse("pe>10", null, 10));
+        assertThrows(BadRequestException.class, () -> ScreenerQuery.parse("price=10", null, 10));
+        assertThrows(BadRequestException.class, () -> ScreenerQuery.parse(null, "-marketCap", 10));
+    }
+}
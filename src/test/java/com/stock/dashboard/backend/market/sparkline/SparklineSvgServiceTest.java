@@ -0,0 +1,97 @@
+package com.stock.dashboard.backend.market.sparkline;
+
+import com.stock.dashboard.backend.exception.BadRequestException;
+import com.stock.dashboard.backend.market.twelvedata.dto.SparklinePoint;
+import com.stock.dashboard.backend.market.twelvedata.service.SparklineService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class SparklineSvgServiceTest {
+
+    private final SparklineService sparklineService = mock(SparklineService.class);
+    private SparklineSvgService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new SparklineSvgService(sparklineService);
+        ReflectionTestUtils.setField(service, "cacheEntries", 2);
+    }
+
+    private static List<SparklinePoint> points(double... closes) {
+        List<SparklinePoint> out = new ArrayList<>();
+        for (int i = 0; i < closes.length; i++) out.add(new SparklinePoint(i, closes[i]));
+        return out;
+    }
+
+    @Test
+    void url_version_should_match_rendered_hash() {
+        List<SparklinePoint> p = points(1, 2, 3);
+        when(sparklineService.getSparklineOnly("AAPL")).thenReturn(p);
+
+        SparklineSvgService.Svg svg = service.single("aapl", 0);
+
+        // 🔹 홈 응답의 URL(v) 과 응답 ETag 가 같아야 immutable 캐시가 맞음
+        assertEquals("/api/market/sparkline.svg?symbol=AAPL&v=" + svg.hash(), service.urlFor("AAPL", p));
+        assertNull(service.urlFor("AAPL", points(1)));
+    }
+
+    @Test
+    void same_data_should_reuse_rendered_body_and_changed_data_should_rehash() {
+        when(sparklineService.getSparklineOnly("AAPL")).thenReturn(points(1, 2, 3), points(1, 2, 3), points(1, 2, 4));
+
+        SparklineSvgService.Svg first = service.single("AAPL", 0);
+        SparklineSvgService.Svg again = service.single("AAPL", 0);
+        SparklineSvgService.Svg changed = service.single("AAPL", 0);
+
+        assertSame(first.body(), again.body());
+        assertNotEquals(first.hash(), changed.hash());
+    }
+
+    @Test
+    void lru_should_evict_least_recently_used_entry() {
+        when(sparklineService.getSparklineOnly("A")).thenReturn(points(1, 2));
+        when(sparklineService.getSparklineOnly("B")).thenReturn(points(2, 1));
+        when(sparklineService.getSparklineOnly("C")).thenReturn(points(3, 3));
+
+        byte[] a = service.single("A", 0).body();
+        byte[] b = service.single("B", 0).body();
+        assertSame(a, service.single("A", 0).body()); // A 최근 사용
+        service.single("C", 0);                       // 용량 2 → B 제거
+
+        assertSame(a, service.single("A", 0).body());
+        assertNotSame(b, service.single("B", 0).body());
+    }
+
+    @Test
+    void sprite_should_skip_uncached_symbols_and_limit_size() {
+        when(sparklineService.getCachedSparklines(anyCollection())).thenReturn(Map.of("AAPL", points(1, 2, 3)));
+
+        SparklineSvgService.Svg svg = service.sprite("AAPL, MISS", 0);
+        String body = new String(svg.body(), StandardCharsets.UTF_8);
+
+        assertTrue(body.contains("id=\"spark-AAPL\""));
+        assertFalse(body.contains("spark-MISS"));
+        assertEquals(svg.hash(), service.sprite("aapl,miss", 0).hash());
+
+        String tooMany = String.join(",", java.util.stream.IntStream.range(0, 51).mapToObj(i -> "S" + i).toList());
+        assertThrows(BadRequestException.class, () -> service.sprite(tooMany, 0));
+    }
+
+    @Test
+    void renderer_should_color_by_direction_and_draw_flat_line_in_middle() {
+        assertTrue(SparklineSvgRenderer.render(new double[]{1, 2}).contains("#16a34a"));
+        assertTrue(SparklineSvgRenderer.render(new double[]{2, 1}).contains("#dc2626"));
+        assertTrue(SparklineSvgRenderer.render(new double[]{5, 5}).contains("points=\"2.0,16.0 118.0,16.0\""));
+        assertFalse(SparklineSvgRenderer.render(new double[]{5}).contains("polyline"));
+    }
+}
@@ -0,0 +1,93 @@
+package com.stock.dashboard.backend.market.twelvedata.service;
+
+import com.stock.dashboard.backend.exception.TwelveDataRateLimitException;
+import com.stock.dashboard.backend.market.cache.CandleSeriesCodec;
+import com.stock.dashboard.backend.market.cache.RedisStringCache;
+import com.stock.dashboard.backend.market.calendar.UsMarketCalendar;
+import com.stock.dashboard.backend.market.client.TwelveDataTimeSeriesClient;
+import com.stock.dashboard.backend.market.twelvedata.dto.SparklinePoint;
+import com.stock.dashboard.backend.market.twelvedata.dto.TwelveDataTimeSeriesResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class SparklineServiceTest {
+
+    private final TwelveDataTimeSeriesClient client = mock(TwelveDataTimeSeriesClient.class);
+    private final RedisStringCache cache = mock(RedisStringCache.class);
+    private final UsMarketCalendar calendar = mock(UsMarketCalendar.class);
+
+    private SparklineService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new SparklineService(client, cache, calendar);
+        ReflectionTestUtils.setField(service, "sparklineDays", 30);
+        when(calendar.dailyBarTtl()).thenReturn(Duration.ofHours(1));
+        when(cache.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+    }
+
+    private static TwelveDataTimeSeriesResponse closes(String... closes) {
+        TwelveDataTimeSeriesResponse res = new TwelveDataTimeSeriesResponse();
+        res.setValues(Arrays.stream(closes).map(c -> {
+            TwelveDataTimeSeriesResponse.Value v = new TwelveDataTimeSeriesResponse.Value();
+            v.setClose(c);
+            return v;
+        }).toList());
+        return res;
+    }
+
+    @Test
+    void upstream_points_should_be_ok() {
+        when(client.fetchSparkline("AAPL")).thenReturn(closes("2", "1"));
+
+        SparklineService.Fetched fetched = service.fetchSparkline("AAPL");
+
+        assertEquals(SparklineService.Status.OK, fetched.status());
+        assertEquals(2, fetched.points().size());
+    }
+
+    @Test
+    void upstream_empty_series_should_be_definitive_empty() {
+        when(client.fetchSparkline("GONE")).thenReturn(closes());
+
+        assertEquals(SparklineService.Status.EMPTY, service.fetchSparkline("GONE").status());
+    }
+
+    @Test
+    void lock_contention_should_be_deferred() {
+        when(cache.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+
+        SparklineService.Fetched fetched = service.fetchSparkline("BUSY");
+
+        assertEquals(SparklineService.Status.DEFERRED, fetched.status());
+        assertTrue(service.getSparklineOnly("BUSY").isEmpty());
+        verifyNoInteractions(client);
+    }
+
+    @Test
+    void upstream_error_should_be_deferred_but_rate_limit_should_propagate() {
+        when(client.fetchSparkline("FLAKY")).thenThrow(new IllegalStateException("502"));
+        when(client.fetchSparkline("LIMIT")).thenThrow(new TwelveDataRateLimitException("429"));
+
+        assertEquals(SparklineService.Status.DEFERRED, service.fetchSparkline("FLAKY").status());
+        assertThrows(TwelveDataRateLimitException.class, () -> service.fetchSparkline("LIMIT"));
+    }
+
+    @Test
+    void cached_points_should_be_ok_without_upstream() {
+        when(cache.getBytes("sparkline:g1:AAPL:30")).thenReturn(
+                CandleSeriesCodec.encodeSparkline(List.of(new SparklinePoint(0, 1.0), new SparklinePoint(1, 2.0))).toBytes());
+
+        assertEquals(SparklineService.Status.OK, service.fetchSparkline("AAPL").status());
+        verifyNoInteractions(client);
+    }
+}
@@ -0,0 +1,48 @@
+package com.stock.dashboard.backend.market.twelvedata.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StockCatalogServiceTest {
+
+    private static List<String> universe(int n) {
+        List<String> out = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) out.add(String.format("S%04d", i));
+        return out;
+    }
+
+    @Test
+    void sample_should_be_deterministic_for_same_day() {
+        List<String> symbols = universe(3000);
+
+        assertEquals(StockCatalogService.sample(symbols, 120, 20_000L), StockCatalogService.sample(symbols, 120, 20_000L));
+    }
+
+    @Test
+    void sample_should_pick_distinct_symbols_from_universe() {
+        List<String> symbols = universe(3000);
+
+        List<String> pool = StockCatalogService.sample(symbols, 120, 20_000L);
+
+        assertEquals(120, pool.size());
+        assertEquals(120, new HashSet<>(pool).size());
+        assertTrue(symbols.containsAll(pool));
+    }
+
+    @Test
+    void sample_should_not_be_a_contiguous_slice_and_should_change_daily() {
+        List<String> symbols = universe(3000);
+
+        List<String> today = StockCatalogService.sample(symbols, 120, 20_000L);
+        List<String> tomorrow = StockCatalogService.sample(symbols, 120, 20_001L);
+
+        int first = symbols.indexOf(today.get(0));
+        assertNotEquals(symbols.subList(first, Math.min(symbols.size(), first + 120)), today);
+        assertNotEquals(today, tomorrow);
+    }
+}
@@ -1,6 +1,7 @@
 package com.stock.dashboard.backend.portfolio;
 
-import com.stock.dashboard.backend.market.bok.BokExchangeRateService;
+import com.stock.dashboard.backend.market.bok.UsdKrwRateHistory;
+import com.stock.dashboard.backend.market.bok.UsdKrwRateService;
 import com.stock.dashboard.backend.market.service.MarketRealtimePriceService;
 import com.stock.dashboard.backend.model.User;
 import com.stock.dashboard.backend.model.vo.MarketSummaryVO;
@@ -17,6 +18,8 @@ import java.util.List;
 
 import static com.stock.dashboard.backend.portfolio.PortfolioWarningCodes.QUOTE_UNAVAILABLE;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -24,7 +27,8 @@ class PortfolioServiceUnitTest {
 
     @Mock TradeRepository tradeRepository;
     @Mock MarketRealtimePriceService marketRealtimePriceService;
-    @Mock BokExchangeRateService bokExchangeRateService;
+    @Mock UsdKrwRateService usdKrwRateService;
+    @Mock UsdKrwRateHistory usdKrwRateHistory;
 
     @InjectMocks PortfolioService portfolioService;
 
@@ -52,7 +56,8 @@ class PortfolioServiceUnitTest {
         when(marketRealtimePriceService.getRealtimePrice("AAPL"))
                 .thenReturn(MarketSummaryVO.builder().symbol("AAPL").price(110).build());
 
-        when(bokExchangeRateService.getUsdKrwRate()).thenReturn(1300.0);
+        when(usdKrwRateService.getCachedRate()).thenReturn(1300.0);
+        when(usdKrwRateHistory.rateOn(any())).thenReturn(1250.0);
 
         var res = portfolioService.getPortfolio(userId);
 
@@ -77,8 +82,10 @@ class PortfolioServiceUnitTest {
         when(marketRealtimePriceService.getRealtimePrice("AAPL"))
                 .thenReturn(MarketSummaryVO.builder().symbol("AAPL").price(110).build());
 
-        when(bokExchangeRateService.getUsdKrwRate())
+        when(usdKrwRateService.getCachedRate())
                 .thenReturn(1300.0);
+        when(usdKrwRateHistory.rateOn(any()))
+                .thenReturn(1250.0);
 
         var res = portfolioService.getPortfolio(userId);
         var summary = res.summary();
@@ -115,7 +122,7 @@ class PortfolioServiceUnitTest {
         when(marketRealtimePriceService.getRealtimePrice("AAPL"))
                 .thenThrow(new RuntimeException("quote api down"));
 
-        when(bokExchangeRateService.getUsdKrwRate())
+        when(usdKrwRateService.getCachedRate())
                 .thenReturn(1300.0);
 
         var res = portfolioService.getPortfolio(userId);
@@ -130,4 +137,39 @@ class PortfolioServiceUnitTest {
         assertEquals(QUOTE_UNAVAILABLE, warning.code());
         assertEquals("AAPL", warning.symbol());
     }
-}
\ No newline at end of file
+
+    @Test
+    void portfolio_krw_should_use_trade_date_rates() {
+        Long userId = 1L;
+        User user = new User("p@test.com", "pw", "tester", 20, "010", "local", true);
+
+        // 거래 시 저장된 환율이 있으면 히스토리 조회 없이 그 값을 사용
+        Trade buy = Trade.of(user, "AAPL", TradeSide.BUY, OrderKind.MARKET, 2,
+                new BigDecimal("100.00"), new BigDecimal("1200"));
+
+        Trade sell = Trade.of(user, "AAPL", TradeSide.SELL, OrderKind.MARKET, 1,
+                new BigDecimal("120.00"), new BigDecimal("1300"));
+
+        when(tradeRepository.findByUser_IdOrderByTradedAtAsc(userId))
+                .thenReturn(List.of(buy, sell));
+
+        when(marketRealtimePriceService.getRealtimePrice("AAPL"))
+                .thenReturn(MarketSummaryVO.builder().symbol("AAPL").price(110).build());
+
+        when(usdKrwRateService.getCachedRate())
+                .thenReturn(1400.0);
+
+        var summary = portfolioService.getPortfolio(userId).summary();
+
+        // 🔹 남은 1주 원가 = 100 * 1200
+        assertEquals(new BigDecimal("120000"), summary.totalCostKrw());
+
+        // 🔹 실현 손익 = 120 * 1300 - 120000
+        assertEquals(new BigDecimal("36000"), summary.totalRealizedPnlKrw());
+
+        // 🔹 총 손익 = (110 * 1400 - 120000) + 36000 (환차익 포함)
+        assertEquals(new BigDecimal("70000"), summary.totalPnlKrw());
+
+        verifyNoInteractions(usdKrwRateHistory);
+    }
+}
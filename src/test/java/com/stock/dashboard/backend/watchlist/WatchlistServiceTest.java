@@ -0,0 +1,129 @@
+package com.stock.dashboard.backend.watchlist;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stock.dashboard.backend.config.FetchExecutor;
+import com.stock.dashboard.backend.market.cache.RedisStringCache;
+import com.stock.dashboard.backend.market.service.MarketRealtimePriceService;
+import com.stock.dashboard.backend.market.twelvedata.dto.SparklinePoint;
+import com.stock.dashboard.backend.market.twelvedata.service.SparklineService;
+import com.stock.dashboard.backend.model.vo.MarketSummaryVO;
+import com.stock.dashboard.backend.watchlist.dto.WatchlistQuoteItem;
+import com.stock.dashboard.backend.watchlist.dto.WatchlistQuotesResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class WatchlistServiceTest {
+
+    private static final long USER_ID = 1L;
+
+    private final WatchlistItemRepository repository = mock(WatchlistItemRepository.class);
+    private final RedisStringCache cache = mock(RedisStringCache.class);
+    private final MarketRealtimePriceService priceService = mock(MarketRealtimePriceService.class);
+    private final SparklineService sparklineService = mock(SparklineService.class);
+    private final FetchExecutor fetchExecutor = new FetchExecutor(4, 10);
+
+    private WatchlistService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new WatchlistService(repository, cache, new ObjectMapper(), priceService, sparklineService, fetchExecutor);
+        ReflectionTestUtils.setField(service, "fillTimeoutMs", 2_000L);
+
+        // 캐시 miss → DB 목록
+        when(repository.findSymbolsByUserId(USER_ID)).thenReturn(List.of("AAPL", "MSFT", "GONE"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        fetchExecutor.shutdown();
+    }
+
+    private static MarketSummaryVO quote(String symbol, double price) {
+        return MarketSummaryVO.builder().symbol(symbol).price(price).change(1).changePercent(0.5).build();
+    }
+
+    private static List<SparklinePoint> spark() {
+        return List.of(new SparklinePoint(0, 1.0), new SparklinePoint(1, 2.0));
+    }
+
+    @Test
+    void cached_symbols_should_not_call_upstream() {
+        when(priceService.getCachedQuotes(anyCollection())).thenReturn(Map.of(
+                "AAPL", quote("AAPL", 200), "MSFT", quote("MSFT", 400), "GONE", quote("GONE", 10)));
+        when(sparklineService.getCachedSparklines(anyCollection())).thenReturn(Map.of(
+                "AAPL", spark(), "MSFT", spark(), "GONE", spark()));
+
+        WatchlistQuotesResponse res = service.getQuotes(USER_ID);
+
+        assertEquals(List.of("AAPL", "MSFT", "GONE"), res.items().stream().map(WatchlistQuoteItem::symbol).toList());
+        assertTrue(res.unavailableSymbols().isEmpty());
+        verify(priceService, never()).getRealtimePrice(anyString());
+        verify(sparklineService, never()).getSparklineOnly(anyString());
+    }
+
+    @Test
+    void misses_should_be_filled_and_failures_reported_as_unavailable() {
+        when(priceService.getCachedQuotes(anyCollection())).thenReturn(Map.of("AAPL", quote("AAPL", 200)));
+        when(sparklineService.getCachedSparklines(anyCollection())).thenReturn(Map.of("AAPL", spark(), "MSFT", spark()));
+
+        when(priceService.getRealtimePrice("MSFT")).thenReturn(quote("MSFT", 400));
+        when(priceService.getRealtimePrice("GONE")).thenThrow(new IllegalStateException("404"));
+        when(sparklineService.getSparklineOnly("GONE")).thenReturn(List.of());
+
+        WatchlistQuotesResponse res = service.getQuotes(USER_ID);
+
+        assertEquals(List.of("GONE"), res.unavailableSymbols());
+        WatchlistQuoteItem msft = res.items().get(1);
+        assertEquals("MSFT", msft.symbol());
+        assertEquals(400.0, msft.price());
+        assertEquals(2, msft.sparkline().size());
+
+        WatchlistQuoteItem gone = res.items().get(2);
+        assertNull(gone.price());
+        assertTrue(gone.sparkline().isEmpty());
+
+        // 🔹 캐시에 있던 건 다시 부르지 않음
+        verify(priceService, never()).getRealtimePrice("AAPL");
+        verify(sparklineService, never()).getSparklineOnly("AAPL");
+        verify(sparklineService, never()).getSparklineOnly("MSFT");
+    }
+
+    @Test
+    void empty_watchlist_should_skip_lookups() {
+        when(repository.findSymbolsByUserId(USER_ID)).thenReturn(List.of());
+
+        WatchlistQuotesResponse res = service.getQuotes(USER_ID);
+
+        assertTrue(res.items().isEmpty());
+        verifyNoInteractions(priceService, sparklineService);
+    }
+
+    @Test
+    void cache_miss_should_populate_without_overwriting() {
+        service.getWatchlist(USER_ID);
+
+        verify(cache).setIfAbsent(eq("watchlist:user:1"), eq("[\"AAPL\",\"MSFT\",\"GONE\"]"), any(Duration.class));
+        verify(cache, never()).set(anyString(), anyString(), any(Duration.class));
+    }
+
+    @Test
+    void remove_should_write_through_after_change() {
+        when(repository.findSymbolsByUserId(USER_ID)).thenReturn(List.of("AAPL"));
+
+        service.remove(USER_ID, "msft");
+
+        verify(repository).deleteByUser_IdAndSymbol(USER_ID, "MSFT");
+        verify(cache).set(eq("watchlist:user:1"), eq("[\"AAPL\"]"), any(Duration.class));
+        verify(cache, never()).setIfAbsent(anyString(), anyString(), any(Duration.class));
+    }
+}